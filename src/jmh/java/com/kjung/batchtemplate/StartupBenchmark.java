@@ -0,0 +1,62 @@
+package com.kjung.batchtemplate;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 애플리케이션 기동(context refresh 완료까지) 시간을 기본 설정과 {@code fast-startup} profile로 비교합니다.
+ *
+ * <p>MySQL 대신 매 실행마다 새 H2 인메모리 DB를 사용하므로 두 경우 모두 BATCH_*, QRTZ_* 스키마를 생성하며,
+ * 차이는 지연 초기화, JPA {@code ddl-auto}, Swagger/JMX 비활성화에서 발생합니다. (스키마가 이미 있는 운영 DB에서는
+ * {@code StartupConfig}가 초기화 스크립트를 생략하므로 차이가 더 커집니다.) 각 fork는 새 JVM이므로 클래스 로딩 비용이 포함되며, CDS 효과는 {@code ./gradlew cdsArchive} 후
+ * {@code -XX:SharedArchiveFile}로 실행하여 로그의 "Started ... in N seconds"로 비교합니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(3)
+public class StartupBenchmark {
+
+    @Param({"default", "fast-startup"})
+    public String profile;
+
+    private ConfigurableApplicationContext context;
+
+    @Benchmark
+    public ConfigurableApplicationContext start() {
+        String database = "startup-" + UUID.randomUUID();
+        boolean fastStartup = "fast-startup".equals(profile);
+
+        SpringApplication application = new SpringApplication(BatchTemplateApplication.class);
+        if (fastStartup) {
+            application.setAdditionalProfiles(profile);
+        }
+
+        context = application.run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:" + database + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.quartz.auto-startup=false",
+                // 새 DB이므로 fast-startup에서도 메타데이터 스키마는 생성한다.
+                "--spring.batch.jdbc.initialize-schema=always",
+                "--spring.quartz.jdbc.initialize-schema=always");
+        return context;
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDown() {
+        if (context != null) {
+            context.close();
+            context = null;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.kjung.batchtemplate.core.batch;
+
+import com.kjung.batchtemplate.core.batch.param.JobIdentityResolver;
+import com.kjung.batchtemplate.core.batch.param.JobParametersFactory;
+import com.kjung.batchtemplate.core.property.BatchLauncherProperties;
+import com.kjung.batchtemplate.core.property.JobIdentityStrategy;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.support.JobRepositoryFactoryBean;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 파라미터 변환부터 JobRepository 저장까지 포함한 {@code jobLauncher.run} 1회 비용을 측정합니다.
+ *
+ * <p>SampleJob과 같은 단일 tasklet Step Job을 H2 임베디드 DB의 JobRepository로 실행합니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JobLaunchBenchmark {
+
+    private final JobParametersFactory jobParametersFactory = new JobParametersFactory();
+
+    private JobIdentityResolver jobIdentityResolver;
+
+    private final Map<String, Object> params = Map.of("isFullLoad", "false");
+
+    private EmbeddedDatabase dataSource;
+
+    private TaskExecutorJobLauncher jobLauncher;
+
+    private Job job;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("org/springframework/batch/core/schema-h2.sql")
+                .build();
+
+        JdbcTransactionManager transactionManager = new JdbcTransactionManager(dataSource);
+
+        JobRepositoryFactoryBean jobRepositoryFactory = new JobRepositoryFactoryBean();
+        jobRepositoryFactory.setDataSource(dataSource);
+        jobRepositoryFactory.setTransactionManager(transactionManager);
+        jobRepositoryFactory.afterPropertiesSet();
+        JobRepository jobRepository = jobRepositoryFactory.getObject();
+
+        jobLauncher = new TaskExecutorJobLauncher();
+        jobLauncher.setJobRepository(jobRepository);
+        jobLauncher.afterPropertiesSet();
+
+        Step step = new StepBuilder("step1", jobRepository)
+                .tasklet((contribution, chunkContext) -> RepeatStatus.FINISHED, transactionManager)
+                .build();
+
+        job = new JobBuilder("benchmarkJob", jobRepository)
+                .start(step)
+                .build();
+
+        // 매 실행이 새 JobInstance가 되도록 UNIQUE 식별 방식을 사용한다.
+        BatchLauncherProperties launcherProperties = new BatchLauncherProperties();
+        launcherProperties.getIdentity().setDefaultStrategy(JobIdentityStrategy.UNIQUE);
+        jobIdentityResolver = new JobIdentityResolver(launcherProperties, null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.shutdown();
+    }
+
+    @Benchmark
+    public JobExecution launch() throws Exception {
+        return jobLauncher.run(job, jobIdentityResolver.resolve(job, jobParametersFactory.create(params)));
+    }
+}
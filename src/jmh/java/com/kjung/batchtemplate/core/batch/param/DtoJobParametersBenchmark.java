@@ -0,0 +1,85 @@
+package com.kjung.batchtemplate.core.batch.param;
+
+import com.kjung.batchtemplate.api.dto.SampleDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DTO → JobParameters 변환 비용을 기존 리플렉션 방식과 {@link DtoJobParametersConverter} 캐싱 방식으로 비교합니다.
+ *
+ * <pre>
+ * ./gradlew jmh -Pjmh.includes=DtoJobParametersBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoJobParametersBenchmark {
+
+    private final DtoJobParametersConverter converter = new DtoJobParametersConverter();
+
+    private SampleDto dto;
+
+    @Setup
+    public void setUp() {
+        dto = new SampleDto();
+        dto.setName("test");
+        dto.setAge(5);
+    }
+
+    @Benchmark
+    public JobParameters reflection() {
+        JobParametersBuilder builder = new JobParametersBuilder();
+
+        // 기존 BatchJobRunner#buildJobParametersFromDto 구현
+        for (Field field : dto.getClass().getDeclaredFields()) {
+            field.setAccessible(true);
+            try {
+                applyJobParameter(builder, field.getName(), field.get(dto));
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException("Failed to access field in DTO", e);
+            }
+        }
+
+        return builder.toJobParameters();
+    }
+
+    @Benchmark
+    public JobParameters cachedConverter() {
+        JobParametersBuilder builder = new JobParametersBuilder();
+
+        converter.convert(dto, builder);
+
+        return builder.toJobParameters();
+    }
+
+    // 기존 BatchJobRunner#applyJobParameter 구현
+    private static void applyJobParameter(JobParametersBuilder builder, String key, Object value) {
+        if (value instanceof String) {
+            builder.addString(key, (String) value);
+        } else if (value instanceof Float || value instanceof Double) {
+            builder.addDouble(key, ((Number) value).doubleValue());
+        } else if (value instanceof Integer || value instanceof Long) {
+            builder.addLong(key, ((Number) value).longValue());
+        } else if (value instanceof Date) {
+            builder.addDate(key, (Date) value);
+        } else if (value instanceof LinkedHashMap<?, ?> map) {
+            builder.addJobParameter(key, new ArrayList<>(map.values()), List.class);
+        } else if (value instanceof ArrayList<?> list) {
+            builder.addJobParameter(key, list, List.class);
+        } else {
+            builder.addJobParameter(key, value, Object.class);
+        }
+    }
+}
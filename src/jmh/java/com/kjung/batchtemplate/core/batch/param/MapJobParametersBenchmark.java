@@ -0,0 +1,40 @@
+package com.kjung.batchtemplate.core.batch.param;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.batch.core.JobParameters;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Quartz JobDataMap 형태의 Map → JobParameters 변환 비용을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapJobParametersBenchmark {
+
+    private final JobParametersFactory factory = new JobParametersFactory();
+
+    private Map<String, Object> params;
+
+    @Setup
+    public void setUp() {
+        params = new HashMap<>();
+        params.put("isFullLoad", "false");
+        params.put("targetDate", "2025-01-01");
+        params.put("chunkSize", 1000L);
+        params.put("ratio", 0.5d);
+        params.put("codes", List.of("A", "B", "C"));
+    }
+
+    @Benchmark
+    public JobParameters fromMap() {
+        return factory.create(params);
+    }
+}
@@ -0,0 +1,201 @@
+package com.kjung.batchtemplate.core.batch.repository;
+
+import com.kjung.batchtemplate.core.property.BatchRepositoryProperties;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.support.JobRepositoryFactoryBean;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 10,000건 chunk Job 1회 실행 시 JobRepository가 실행하는 SQL 수를 기본 JobRepository와
+ * {@link CachingJobRepositoryFactoryBean}으로 비교하는 벤치마크입니다.
+ *
+ * <p>{@code metadataStatements} 보조 카운터가 Job 1회당 실행된 메타데이터 SQL 수입니다.
+ * {@code stateful=true}는 chunk마다 read count를 저장하는 reader(JdbcPagingItemReader 등),
+ * {@code false}는 상태를 저장하지 않는 reader(파티션 worker 등)를 흉내냅니다.</p>
+ * <pre>
+ * ./gradlew jmh -Pjmh.includes=JobRepositoryStatementBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JobRepositoryStatementBenchmark {
+
+    private static final int ITEM_COUNT = 10_000;
+
+    private static final int CHUNK_SIZE = 100;
+
+    @Param({"false", "true"})
+    public boolean cached;
+
+    @Param({"false", "true"})
+    public boolean stateful;
+
+    private EmbeddedDatabase database;
+
+    private StatementCountingDataSource dataSource;
+
+    private JdbcTransactionManager transactionManager;
+
+    private JobRepository jobRepository;
+
+    private TaskExecutorJobLauncher jobLauncher;
+
+    private long run;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+        public long metadataStatements;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("org/springframework/batch/core/schema-h2.sql")
+                .build();
+        dataSource = new StatementCountingDataSource(database);
+        transactionManager = new JdbcTransactionManager(dataSource);
+
+        JobRepositoryFactoryBean factory = cached
+                ? new CachingJobRepositoryFactoryBean(new BatchRepositoryProperties.Cache())
+                : new JobRepositoryFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setTransactionManager(transactionManager);
+        factory.afterPropertiesSet();
+        jobRepository = factory.getObject();
+
+        jobLauncher = new TaskExecutorJobLauncher();
+        jobLauncher.setJobRepository(jobRepository);
+        jobLauncher.afterPropertiesSet();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.shutdown();
+    }
+
+    @Benchmark
+    public JobExecution chunkJob(Counters counters) throws Exception {
+        Step step = new StepBuilder("chunkStep", jobRepository)
+                .<Integer, Integer>chunk(CHUNK_SIZE, transactionManager)
+                .reader(new RangeReader(ITEM_COUNT, stateful))
+                .writer(chunk -> {
+                })
+                .build();
+
+        Job job = new JobBuilder("statementBenchmarkJob", jobRepository)
+                .start(step)
+                .build();
+
+        long before = dataSource.count();
+        JobExecution execution = jobLauncher.run(job, new JobParametersBuilder().addLong("run", ++run).toJobParameters());
+        counters.metadataStatements = dataSource.count() - before;
+        return execution;
+    }
+
+    /**
+     * 0부터 순서대로 정수를 반환하는 reader (saveState에 따라 chunk마다 read count를 ExecutionContext에 저장)
+     */
+    static class RangeReader extends AbstractItemCountingItemStreamItemReader<Integer> {
+
+        RangeReader(int itemCount, boolean saveState) {
+            setName("rangeReader");
+            setMaxItemCount(itemCount);
+            setSaveState(saveState);
+        }
+
+        @Override
+        protected Integer doRead() {
+            return getCurrentItemCount();
+        }
+
+        @Override
+        protected void doOpen() {
+        }
+
+        @Override
+        protected void doClose() {
+        }
+    }
+
+    /**
+     * Statement의 execute* 호출 수를 세는 DataSource
+     */
+    static class StatementCountingDataSource extends DelegatingDataSource {
+
+        private final AtomicLong executed = new AtomicLong();
+
+        StatementCountingDataSource(DataSource target) {
+            super(target);
+        }
+
+        long count() {
+            return executed.get();
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection connection = super.getConnection();
+            return proxy(Connection.class, connection, (proxy, method, args) -> {
+                Object result = invoke(connection, method, args);
+                return switch (result) {
+                    case CallableStatement statement -> countingStatement(CallableStatement.class, statement);
+                    case PreparedStatement statement -> countingStatement(PreparedStatement.class, statement);
+                    case Statement statement -> countingStatement(Statement.class, statement);
+                    case null, default -> result;
+                };
+            });
+        }
+
+        private <T extends Statement> T countingStatement(Class<T> type, T statement) {
+            return proxy(type, statement, (proxy, method, args) -> {
+                if (method.getName().startsWith("execute")) executed.incrementAndGet();
+                return invoke(statement, method, args);
+            });
+        }
+
+        private static <T> T proxy(Class<T> type, T target, InvocationHandler handler) {
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
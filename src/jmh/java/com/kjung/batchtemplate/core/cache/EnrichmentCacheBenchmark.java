@@ -0,0 +1,72 @@
+package com.kjung.batchtemplate.core.cache;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 참조 데이터 조회 비용을 {@code HashMap<Long, V>}와 {@link EnrichmentCache}로 비교합니다.
+ *
+ * <p>조회 key는 임의 순서로 미리 만들어 두고, 한 번의 호출에서 {@code lookups}개를 조회합니다.
+ * 적재 후 heap 사용량은 {@code -prof gc} 또는 {@code EnrichmentCache#estimatedBytes}로 비교합니다.
+ * (HashMap은 항목당 Long + Node 객체로 약 48byte, EnrichmentCache는 load factor 0.5 기준 약 24byte)</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EnrichmentCacheBenchmark {
+
+    @Param({"1000000"})
+    public int entries;
+
+    @Param({"10000"})
+    public int lookups;
+
+    private Map<Long, String> hashMap;
+
+    private EnrichmentCache<String> enrichmentCache;
+
+    private long[] keys;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        hashMap = new HashMap<>();
+        EnrichmentCache.Builder<String> builder = new EnrichmentCache.Builder<>("benchmark", entries);
+        for (long id = 1; id <= entries; id++) {
+            String value = "product-" + id;
+            hashMap.put(id, value);
+            builder.put(id, value);
+        }
+        enrichmentCache = builder.build(new LongAdder(), new LongAdder());
+
+        keys = new long[lookups];
+        for (int i = 0; i < lookups; i++) {
+            keys[i] = ThreadLocalRandom.current().nextLong(1, entries + 1);
+        }
+    }
+
+    @Benchmark
+    public int hashMap() {
+        int found = 0;
+        for (long key : keys) {
+            if (hashMap.get(key) != null) found++;
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int enrichmentCache() {
+        int found = 0;
+        for (long key : keys) {
+            if (enrichmentCache.get(key) != null) found++;
+        }
+        return found;
+    }
+}
@@ -0,0 +1,127 @@
+package com.kjung.batchtemplate.core.file;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.file.FlatFileItemReader;
+import org.springframework.batch.item.file.builder.FlatFileItemReaderBuilder;
+import org.springframework.batch.item.file.mapping.PassThroughFieldSetMapper;
+import org.springframework.batch.item.file.transform.DelimitedLineTokenizer;
+import org.springframework.batch.item.file.transform.FieldSet;
+import org.springframework.core.io.FileSystemResource;
+
+import java.io.BufferedWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CSV 파일 전체를 읽는 비용을 {@code FlatFileItemReader}와 {@link MappedFileItemReader}로 비교합니다.
+ *
+ * <ul>
+ *   <li>{@code flatFileItemReader} - BufferedReader + DelimitedLineTokenizer (기존 방식)</li>
+ *   <li>{@code mappedReaderTokenized} - memory-mapped 읽기 + 같은 DelimitedLineTokenizer</li>
+ *   <li>{@code mappedReaderBytes} - memory-mapped 읽기 + 문자열 변환 없이 첫 필드(id)만 파싱</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class FlatFileReadBenchmark {
+
+    @Param({"1000000"})
+    public int lines;
+
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        file = Files.createTempFile("flat-file-benchmark", ".csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < lines; i++) {
+                writer.write(i + ",customer-" + i + "," + (i % 1000) + ".50,2025-01-01,서울\n");
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long flatFileItemReader() throws Exception {
+        FlatFileItemReader<FieldSet> reader = new FlatFileItemReaderBuilder<FieldSet>()
+                .name("flatFileReader")
+                .resource(new FileSystemResource(file))
+                .lineTokenizer(new DelimitedLineTokenizer())
+                .fieldSetMapper(new PassThroughFieldSetMapper())
+                .build();
+
+        return sumIds(reader::read, reader::open, reader::close);
+    }
+
+    @Benchmark
+    public long mappedReaderTokenized() throws Exception {
+        DelimitedLineTokenizer tokenizer = new DelimitedLineTokenizer();
+        MappedFileItemReader<FieldSet> reader = new MappedFileItemReader<>("mappedReader", file,
+                (line, lineNumber) -> tokenizer.tokenize(ByteLineMapper.decode(line, StandardCharsets.UTF_8)));
+
+        return sumIds(reader::read, reader::open, reader::close);
+    }
+
+    @Benchmark
+    public long mappedReaderBytes() throws Exception {
+        MappedFileItemReader<Long> reader = new MappedFileItemReader<>("mappedReader", file,
+                (line, lineNumber) -> parseFirstField(line));
+
+        ExecutionContext executionContext = new ExecutionContext();
+        reader.open(executionContext);
+        try {
+            long sum = 0;
+            for (Long id = reader.read(); id != null; id = reader.read()) {
+                sum += id;
+            }
+            return sum;
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static long parseFirstField(ByteBuffer line) {
+        long value = 0;
+        for (int i = line.position(); i < line.limit(); i++) {
+            byte b = line.get(i);
+            if (b == ',') break;
+            value = value * 10 + (b - '0');
+        }
+        return value;
+    }
+
+    private long sumIds(ItemSupplier<FieldSet> read, Opener open, Runnable close) throws Exception {
+        open.open(new ExecutionContext());
+        try {
+            long sum = 0;
+            for (FieldSet fieldSet = read.get(); fieldSet != null; fieldSet = read.get()) {
+                sum += fieldSet.readLong(0);
+            }
+            return sum;
+        } finally {
+            close.run();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ItemSupplier<T> {
+        T get() throws Exception;
+    }
+
+    @FunctionalInterface
+    private interface Opener {
+        void open(ExecutionContext executionContext);
+    }
+}
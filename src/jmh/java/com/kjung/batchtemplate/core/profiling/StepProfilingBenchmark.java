@@ -0,0 +1,85 @@
+package com.kjung.batchtemplate.core.profiling;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.item.Chunk;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * chunk 1개에 대한 {@link StepProfilingListener} 호출 비용을 측정합니다.
+ *
+ * <p>chunk Step이 chunk마다 호출하는 순서(beforeChunk → item별 read/process → write → afterChunk)대로 리스너를 호출하며,
+ * {@code profiled=false}는 같은 item 처리를 리스너 없이 수행한 기준값입니다.
+ * 두 값의 차이를 chunk 크기로 나누면 item당 추가 비용이 됩니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StepProfilingBenchmark {
+
+    @Param({"1000"})
+    public int chunkSize;
+
+    @Param({"false", "true"})
+    public boolean profiled;
+
+    @Param({"false", "true"})
+    public boolean allocation;
+
+    private StepProfilingListener listener;
+
+    private ChunkContext chunkContext;
+
+    private Chunk<Object> chunk;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        listener = new StepProfilingListener(new SimpleMeterRegistry(), true, allocation);
+
+        JobExecution jobExecution = new JobExecution(new JobInstance(1L, "benchmarkJob"), 1L, new JobParameters());
+        chunkContext = new ChunkContext(new StepContext(new StepExecution("benchmarkStep", jobExecution, 1L)));
+
+        List<Object> items = new ArrayList<>(chunkSize);
+        for (int i = 0; i < chunkSize; i++) {
+            items.add(i);
+        }
+        chunk = new Chunk<>(items);
+    }
+
+    @Benchmark
+    public void chunk(Blackhole blackhole) {
+        if (profiled) listener.beforeChunk(chunkContext);
+
+        for (Object item : chunk) {
+            if (profiled) listener.beforeRead();
+            blackhole.consume(item);
+            if (profiled) listener.afterRead(item);
+        }
+
+        for (Object item : chunk) {
+            if (profiled) listener.beforeProcess(item);
+            blackhole.consume(item);
+            if (profiled) listener.afterProcess(item, item);
+        }
+
+        if (profiled) listener.beforeWrite(chunk);
+        blackhole.consume(chunk);
+        if (profiled) {
+            listener.afterWrite(chunk);
+            listener.afterChunk(chunkContext);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.kjung.batchtemplate.quartz;
+
+import org.openjdk.jmh.annotations.*;
+import org.quartz.*;
+import org.quartz.impl.StdSchedulerFactory;
+
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Quartz 트리거 등록부터 Job 실행 시작까지의 dispatch 지연을 측정합니다.
+ *
+ * <p>JobStore 영향을 배제하기 위해 RAMJobStore를 사용하며, Job은 실행 즉시 latch만 해제합니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QuartzDispatchBenchmark {
+
+    private static final String LATCH_KEY = "latch";
+
+    private Scheduler scheduler;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SchedulerException {
+        Properties properties = new Properties();
+        properties.setProperty(StdSchedulerFactory.PROP_SCHED_INSTANCE_NAME, "QuartzDispatchBenchmark");
+        properties.setProperty(StdSchedulerFactory.PROP_SCHED_SKIP_UPDATE_CHECK, "true");
+        properties.setProperty(StdSchedulerFactory.PROP_JOB_STORE_CLASS, "org.quartz.simpl.RAMJobStore");
+        properties.setProperty(StdSchedulerFactory.PROP_THREAD_POOL_CLASS, "org.quartz.simpl.SimpleThreadPool");
+        properties.setProperty("org.quartz.threadPool.threadCount", "4");
+
+        scheduler = new StdSchedulerFactory(properties).getScheduler();
+        scheduler.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SchedulerException {
+        scheduler.shutdown(true);
+    }
+
+    @Benchmark
+    public void triggerToJob() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        JobDataMap jobDataMap = new JobDataMap();
+        jobDataMap.put(LATCH_KEY, latch);
+
+        JobDetail jobDetail = JobBuilder.newJob(LatchJob.class)
+                .usingJobData(jobDataMap)
+                .build();
+
+        Trigger trigger = TriggerBuilder.newTrigger()
+                .startNow()
+                .build();
+
+        scheduler.scheduleJob(jobDetail, trigger);
+
+        if (!latch.await(10, TimeUnit.SECONDS)) {
+            throw new TimeoutException("Quartz job was not dispatched within 10 seconds");
+        }
+    }
+
+    public static class LatchJob implements Job {
+
+        @Override
+        public void execute(JobExecutionContext context) {
+            ((CountDownLatch) context.getMergedJobDataMap().get(LATCH_KEY)).countDown();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.kjung.batchtemplate.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 일괄 실행 요청의 항목별 결과입니다. {@code index}는 요청 배열에서의 위치입니다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkLaunchResult(int index, boolean accepted, Long executionId, String error) {
+
+    public static BulkLaunchResult accepted(int index, Long executionId) {
+        return new BulkLaunchResult(index, true, executionId, null);
+    }
+
+    public static BulkLaunchResult rejected(int index, String error) {
+        return new BulkLaunchResult(index, false, null, error);
+    }
+}
@@ -0,0 +1,42 @@
+package com.kjung.batchtemplate.api.dto;
+
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+
+import java.time.LocalDateTime;
+
+/**
+ * Job 실행 상태 응답입니다. 읽기/쓰기 건수는 모든 Step의 합계입니다.
+ */
+public record JobExecutionResponse(
+        Long executionId,
+        String jobName,
+        String status,
+        String exitCode,
+        LocalDateTime createTime,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        long readCount,
+        long writeCount
+) {
+
+    public static JobExecutionResponse from(JobExecution execution) {
+        long readCount = 0;
+        long writeCount = 0;
+        for (StepExecution stepExecution : execution.getStepExecutions()) {
+            readCount += stepExecution.getReadCount();
+            writeCount += stepExecution.getWriteCount();
+        }
+
+        return new JobExecutionResponse(
+                execution.getId(),
+                execution.getJobInstance().getJobName(),
+                execution.getStatus().name(),
+                execution.getExitStatus().getExitCode(),
+                execution.getCreateTime(),
+                execution.getStartTime(),
+                execution.getEndTime(),
+                readCount,
+                writeCount);
+    }
+}
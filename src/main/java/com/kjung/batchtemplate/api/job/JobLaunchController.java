@@ -0,0 +1,134 @@
+package com.kjung.batchtemplate.api.job;
+
+import com.kjung.batchtemplate.api.dto.BulkLaunchResult;
+import com.kjung.batchtemplate.api.dto.JobExecutionResponse;
+import com.kjung.batchtemplate.core.batch.BatchJobRegistry;
+import com.kjung.batchtemplate.core.batch.BatchJobRunner;
+import com.kjung.batchtemplate.core.batch.InvalidJobParametersException;
+import com.kjung.batchtemplate.core.batch.JobDescriptor;
+import com.kjung.batchtemplate.core.batch.JobLaunchRejectedException;
+import com.kjung.batchtemplate.core.property.BatchApiProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이름으로 Batch Job을 실행하고 실행 상태를 조회하는 API입니다.
+ *
+ * <p>모든 실행은 {@link BatchJobRunner#submit}으로 비동기 실행되며 Job별 요청 수 제한과 동시 실행 수 제한이 적용됩니다.
+ * 응답의 {@code executionId}로 {@code GET /api/v1/jobs/{name}/executions/{executionId}}를 호출하여 상태를 조회합니다.</p>
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/jobs")
+public class JobLaunchController {
+
+    private final BatchJobRunner runner;
+
+    private final BatchJobRegistry jobRegistry;
+
+    private final JobExplorer jobExplorer;
+
+    private final BatchApiProperties apiProperties;
+
+    /**
+     * 실행 가능한 Job 목록과 Job별 파라미터 명세, 기본 chunk 크기, 동시 실행 수 상한을 조회합니다.
+     */
+    @GetMapping
+    public List<JobDescriptor> jobs() {
+        return jobRegistry.getDescriptors().stream()
+                .sorted(Comparator.comparing(JobDescriptor::name))
+                .toList();
+    }
+
+    /**
+     * Job을 1회 실행합니다.
+     *
+     * @param params Job 파라미터 (없으면 빈 객체)
+     * @return 202 Accepted, Location: 상태 조회 URL
+     */
+    @PostMapping("/{name}")
+    public ResponseEntity<JobExecutionResponse> launch(@PathVariable String name,
+                                                      @RequestBody(required = false) Map<String, Object> params) {
+        requireJob(name);
+
+        JobExecution execution = runner.submit(name, params != null ? params : Map.of());
+
+        return ResponseEntity.accepted()
+                .location(statusUri(name, execution.getId()))
+                .body(JobExecutionResponse.from(execution));
+    }
+
+    /**
+     * 여러 파라미터 세트로 Job을 한 번에 실행 요청합니다.
+     *
+     * <p>각 파라미터 세트는 독립적으로 처리되며, 제한에 걸린 항목은 {@code rejected}로 응답하므로 해당 항목만 다시 요청합니다.
+     * 필수 파라미터가 누락된 항목도 {@code rejected}로 응답합니다. 하나라도 실행되면 202, 모두 거부되면 429를 반환합니다.</p>
+     */
+    @PostMapping("/{name}/bulk")
+    public ResponseEntity<List<BulkLaunchResult>> launchBulk(@PathVariable String name,
+                                                             @RequestBody List<Map<String, Object>> paramSets) {
+        requireJob(name);
+        if (paramSets.size() > apiProperties.getBulkMaxSize()) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                    "Bulk size " + paramSets.size() + " exceeds " + apiProperties.getBulkMaxSize());
+        }
+
+        List<BulkLaunchResult> results = new ArrayList<>(paramSets.size());
+        boolean anyAccepted = false;
+
+        for (int i = 0; i < paramSets.size(); i++) {
+            Map<String, Object> params = paramSets.get(i);
+            try {
+                JobExecution execution = runner.submit(name, params != null ? params : Map.of());
+                results.add(BulkLaunchResult.accepted(i, execution.getId()));
+                anyAccepted = true;
+            } catch (JobLaunchRejectedException | InvalidJobParametersException e) {
+                results.add(BulkLaunchResult.rejected(i, e.getMessage()));
+            }
+        }
+
+        return ResponseEntity.status(anyAccepted ? HttpStatus.ACCEPTED : HttpStatus.TOO_MANY_REQUESTS).body(results);
+    }
+
+    /**
+     * Job 실행 상태를 조회합니다.
+     */
+    @GetMapping("/{name}/executions/{executionId}")
+    public JobExecutionResponse status(@PathVariable String name, @PathVariable long executionId) {
+        JobExecution execution = jobExplorer.getJobExecution(executionId);
+        if (execution == null || !name.equals(execution.getJobInstance().getJobName())) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Job execution not found: " + name + "/" + executionId);
+        }
+        return JobExecutionResponse.from(execution);
+    }
+
+    private void requireJob(String name) {
+        if (!runner.hasJob(name)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Job not found: " + name);
+        }
+    }
+
+    private static URI statusUri(String name, Long executionId) {
+        return ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/api/v1/jobs/{name}/executions/{executionId}")
+                .buildAndExpand(name, executionId)
+                .toUri();
+    }
+}
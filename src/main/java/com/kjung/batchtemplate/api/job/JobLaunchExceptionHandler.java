@@ -0,0 +1,53 @@
+package com.kjung.batchtemplate.api.job;
+
+import com.kjung.batchtemplate.core.batch.InvalidJobParametersException;
+import com.kjung.batchtemplate.core.batch.JobInstanceConflictException;
+import com.kjung.batchtemplate.core.batch.JobLaunchRejectedException;
+import com.kjung.batchtemplate.core.batch.JobLaunchThrottledException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Job 실행 거부를 HTTP 응답으로 변환합니다.
+ *
+ * <ul>
+ *   <li>요청 수 제한 초과 - 429, {@code Retry-After} 헤더 포함</li>
+ *   <li>동시 실행 상한/대기열 초과 - 429</li>
+ *   <li>같은 JobInstance가 실행 중이거나 이미 완료됨 - 409</li>
+ *   <li>필수 파라미터 누락 ({@code @BatchJobMetadata}) - 400</li>
+ * </ul>
+ */
+@RestControllerAdvice(basePackageClasses = JobLaunchExceptionHandler.class)
+public class JobLaunchExceptionHandler {
+
+    @ExceptionHandler(JobLaunchThrottledException.class)
+    public ResponseEntity<ProblemDetail> handleThrottled(JobLaunchThrottledException e) {
+        long retryAfterSeconds = Math.max(1, (long) Math.ceil(e.getRetryAfter().toMillis() / 1000.0));
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(ProblemDetail.forStatusAndDetail(HttpStatus.TOO_MANY_REQUESTS, e.getMessage()));
+    }
+
+    @ExceptionHandler(JobInstanceConflictException.class)
+    public ResponseEntity<ProblemDetail> handleConflict(JobInstanceConflictException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, e.getMessage()));
+    }
+
+    @ExceptionHandler(JobLaunchRejectedException.class)
+    public ResponseEntity<ProblemDetail> handleRejected(JobLaunchRejectedException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .body(ProblemDetail.forStatusAndDetail(HttpStatus.TOO_MANY_REQUESTS, e.getMessage()));
+    }
+
+    @ExceptionHandler(InvalidJobParametersException.class)
+    public ResponseEntity<ProblemDetail> handleInvalidParameters(InvalidJobParametersException e) {
+        return ResponseEntity.badRequest()
+                .body(ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage()));
+    }
+}
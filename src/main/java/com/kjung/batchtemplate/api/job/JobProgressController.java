@@ -0,0 +1,59 @@
+package com.kjung.batchtemplate.api.job;
+
+import com.kjung.batchtemplate.core.progress.JobProgress;
+import com.kjung.batchtemplate.core.progress.JobProgressRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+/**
+ * 실행 중인 Job의 진행 상황(건수, 초당 처리 건수, 남은 예상 시간, 현재 Step)을 조회/구독하는 API입니다.
+ *
+ * <p>메모리 snapshot({@link JobProgressRegistry})에서 조회하므로 BATCH_* 테이블을 조회하지 않습니다.
+ * 종료된 Job의 최종 상태는 {@code GET /api/v1/jobs/{name}/executions/{executionId}}로 조회합니다.</p>
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/jobs/progress")
+@ConditionalOnProperty(prefix = "batch.progress", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class JobProgressController {
+
+    private final JobProgressRegistry registry;
+
+    private final JobProgressStreamer streamer;
+
+    /**
+     * 실행 중이거나 최근 종료된 Job 목록을 조회합니다.
+     */
+    @GetMapping
+    public List<JobProgress> list() {
+        return registry.snapshot();
+    }
+
+    @GetMapping("/{executionId}")
+    public JobProgress get(@PathVariable long executionId) {
+        return registry.find(executionId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "No running job execution: " + executionId));
+    }
+
+    /**
+     * 진행 상황이 바뀔 때마다 {@code progress} 이벤트로 Job 목록을 받는 SSE 스트림을 엽니다.
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream() {
+        try {
+            return streamer.subscribe();
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.kjung.batchtemplate.api.job;
+
+import com.kjung.batchtemplate.core.progress.JobProgress;
+import com.kjung.batchtemplate.core.progress.JobProgressRegistry;
+import com.kjung.batchtemplate.core.property.BatchProgressProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Job 진행 상황을 Server-Sent Events로 구독자에게 전송하는 컴포넌트입니다.
+ *
+ * <p>단일 스레드가 {@code batch.progress.push-interval}마다 snapshot이 바뀌었는지 확인하여, 바뀐 경우에만
+ * 모든 구독자에게 {@code progress} 이벤트(실행 중인 Job 목록)를 보냅니다. 구독자 수와 무관하게 snapshot은 주기당 1회만 생성됩니다.
+ * 변경이 없으면 연결 확인용 comment를 보내 끊어진 구독자를 정리합니다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "batch.progress", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class JobProgressStreamer implements DisposableBean {
+
+    private static final String EVENT_NAME = "progress";
+
+    /** 변경이 없을 때 연결 확인 comment를 보내는 주기 (push 횟수) */
+    private static final int HEARTBEAT_EVERY = 15;
+
+    private final JobProgressRegistry registry;
+
+    private final BatchProgressProperties properties;
+
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "progress-stream");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private long lastVersion = -1;
+
+    private int idlePushes;
+
+    public JobProgressStreamer(JobProgressRegistry registry, BatchProgressProperties properties) {
+        this.registry = registry;
+        this.properties = properties;
+
+        long intervalMillis = properties.getPushInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::push, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 새 구독자를 등록하고 현재 snapshot을 즉시 전송합니다.
+     *
+     * @throws IllegalStateException 구독자 수가 {@code batch.progress.max-subscribers}에 도달한 경우
+     */
+    public SseEmitter subscribe() {
+        if (emitters.size() >= properties.getMaxSubscribers()) {
+            throw new IllegalStateException("Too many progress subscribers: " + emitters.size());
+        }
+
+        SseEmitter emitter = new SseEmitter(properties.getStreamTimeout().toMillis());
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(e -> emitters.remove(emitter));
+        emitters.add(emitter);
+
+        send(emitter, registry.snapshot());
+        return emitter;
+    }
+
+    private void push() {
+        if (emitters.isEmpty()) return;
+
+        try {
+            long version = registry.version();
+            if (version != lastVersion) {
+                lastVersion = version;
+                idlePushes = 0;
+
+                List<JobProgress> snapshot = registry.snapshot();
+                for (SseEmitter emitter : emitters) {
+                    send(emitter, snapshot);
+                }
+            } else if (++idlePushes >= HEARTBEAT_EVERY) {
+                idlePushes = 0;
+                for (SseEmitter emitter : emitters) {
+                    sendHeartbeat(emitter);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("[Progress] 진행 상황 전송 실패", e);
+        }
+    }
+
+    private void send(SseEmitter emitter, List<JobProgress> snapshot) {
+        try {
+            emitter.send(SseEmitter.event().name(EVENT_NAME).data(snapshot));
+        } catch (IOException | IllegalStateException e) {
+            emitters.remove(emitter);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void sendHeartbeat(SseEmitter emitter) {
+        try {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+        } catch (IOException | IllegalStateException e) {
+            emitters.remove(emitter);
+            emitter.completeWithError(e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+        emitters.forEach(SseEmitter::complete);
+        emitters.clear();
+    }
+}
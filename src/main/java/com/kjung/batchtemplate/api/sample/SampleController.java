@@ -17,9 +17,7 @@ public class SampleController {
     private final BatchJobRunner runner;
 
     @PostMapping
-    public boolean batchStart(@RequestBody SampleDto param) {
-        runner.run(SampleJob.JOB_NAME, param);
-
-        return true;
+    public Long batchStart(@RequestBody SampleDto param) {
+        return runner.runAsync(SampleJob.JOB_NAME, param).getId();
     }
 }
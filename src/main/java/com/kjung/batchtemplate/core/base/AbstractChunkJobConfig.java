@@ -0,0 +1,246 @@
+package com.kjung.batchtemplate.core.base;
+
+import com.kjung.batchtemplate.core.jdbc.BulkInsertItemWriter;
+import com.kjung.batchtemplate.core.remote.RemoteChunkWorker;
+import com.kjung.batchtemplate.core.remote.RemoteChunkWriter;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.ItemPreparedStatementSetter;
+import org.springframework.batch.item.database.JdbcBatchItemWriter;
+import org.springframework.batch.item.database.JdbcCursorItemReader;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
+import org.springframework.batch.item.database.builder.JdbcCursorItemReaderBuilder;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.batch.item.database.support.MySqlPagingQueryProvider;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.SimplePropertySqlParameterSource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * JDBC 기반 Chunk Step(ETL) Job 구성을 위한 공통 추상 클래스입니다.
+ *
+ * <p>대용량 테이블을 메모리에 모두 올리지 않고 처리할 수 있도록 다음 구성 요소를 제공합니다.
+ * <ul>
+ *   <li>{@link #pagingReader} - 정렬 키 기준 keyset 페이지네이션 reader (OFFSET 미사용)</li>
+ *   <li>{@link #cursorReader} - fetch size 단위로 스트리밍하는 cursor reader</li>
+ *   <li>{@link #batchWriter} - JDBC batch insert/update writer
+ *       (MySQL은 {@code rewriteBatchedStatements=true}로 multi-row 구문으로 재작성됨)</li>
+ *   <li>{@link #bulkWriter} - multi-row INSERT 또는 LOAD DATA LOCAL INFILE 적재 writer (대량 적재용)</li>
+ *   <li>{@link #chunkStep} - 위 구성 요소를 {@link ChunkSettings} 단위로 묶는 Step</li>
+ *   <li>{@link #remoteChunkStep} / {@link #remoteChunkWorker} - 읽기는 manager에서, 처리/쓰기는 worker 노드에서 수행하는 Step</li>
+ * </ul>
+ *
+ * <p>사용 예:
+ * <pre>
+ * &#64;Bean
+ * &#64;StepScope
+ * public JdbcPagingItemReader&lt;Order&gt; orderReader(&#64;Value("#{jobParameters}") Map&lt;String, Object&gt; params) {
+ *     return pagingReader("orderReader", ChunkSettings.from(params),
+ *             "SELECT id, amount", "FROM orders", null, "id", new DataClassRowMapper&lt;&gt;(Order.class), Map.of());
+ * }
+ *
+ * &#64;Bean
+ * &#64;JobScope
+ * public Step orderStep(&#64;Value("#{jobParameters}") Map&lt;String, Object&gt; params) {
+ *     return chunkStep("orderStep", ChunkSettings.from(params), orderReader(null), null,
+ *             batchWriter("INSERT INTO order_archive (id, amount) VALUES (:id, :amount)"));
+ * }
+ * </pre>
+ */
+public abstract class AbstractChunkJobConfig extends AbstractJobConfig {
+
+    protected final DataSource dataSource;
+
+    /**
+     * @param dataSource reader/writer가 사용할 DataSource (타입으로 주입하면 {@code @Primary} 업무 DataSource)
+     */
+    protected AbstractChunkJobConfig(JobRepository jobRepository,
+                                     PlatformTransactionManager transactionManager,
+                                     DataSource dataSource) {
+
+        super(jobRepository, transactionManager);
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * reader → processor → writer 로 구성된 Chunk Step을 생성합니다.
+     *
+     * <p>chunk 트랜잭션은 {@code @Primary} 업무 TransactionManager로 실행되며, 기본 구성에서는 JobRepository도 같은 트랜잭션에 참여하여
+     * 업무 데이터와 재시작 지점이 함께 커밋됩니다. ({@code batch.datasource.separate-metadata} 참고)</p>
+     *
+     * @param processor null인 경우 reader의 item을 그대로 writer에 전달
+     */
+    protected <I, O> Step chunkStep(String name,
+                                    ChunkSettings settings,
+                                    ItemReader<? extends I> reader,
+                                    ItemProcessor<? super I, ? extends O> processor,
+                                    ItemWriter<? super O> writer) {
+
+        return profiled(new StepBuilder(name, jobRepository)
+                .<I, O>chunk(settings.chunkSize(), transactionManager)
+                .reader(reader)
+                .processor(processor)
+                .writer(writer))
+                .build();
+    }
+
+    /**
+     * reader만 실행하고 읽은 chunk를 메시지 브로커로 worker 노드에 보내는 manager Step을 생성합니다.
+     *
+     * <p>processor/writer는 같은 이름으로 등록한 {@link #remoteChunkWorker} Bean이 worker 노드에서 실행합니다.
+     * 처리 비용이 읽기 비용보다 큰 Job에서 worker 노드를 늘려 처리량을 확장할 때 사용합니다.</p>
+     */
+    protected <I> Step remoteChunkStep(String name, ChunkSettings settings, ItemReader<? extends I> reader) {
+        RemoteChunkWriter<I> writer = remoteStepFactory().chunkWriter(name);
+
+        return profiled(new StepBuilder(name, jobRepository)
+                .<I, I>chunk(settings.chunkSize(), transactionManager)
+                .reader(reader)
+                .writer(writer)
+                .listener(writer))
+                .build();
+    }
+
+    /**
+     * {@link #remoteChunkStep}으로 보낸 chunk를 처리하는 worker 구성 요소를 생성합니다. Bean으로 등록해야 합니다.
+     *
+     * @param name      manager Step 이름
+     * @param processor null인 경우 item을 그대로 writer에 전달 ({@code @StepScope} 사용 불가)
+     */
+    protected <I, O> RemoteChunkWorker<I, O> remoteChunkWorker(String name,
+                                                              ItemProcessor<? super I, ? extends O> processor,
+                                                              ItemWriter<? super O> writer) {
+        return new RemoteChunkWorker<>(name, processor, writer, transactionManager);
+    }
+
+    /**
+     * 정렬 키 기준 keyset 페이지네이션 reader를 생성합니다.
+     *
+     * <p>첫 페이지 이후에는 {@code WHERE sortKey > :lastKey} 조건으로 조회하므로 OFFSET 스캔 비용이 없으며,
+     * 마지막 정렬 키가 ExecutionContext에 저장되어 재시작 시 이어서 조회합니다.
+     * 정렬 키는 유일해야 합니다.</p>
+     *
+     * @param whereClause     조회 조건 (없으면 null), {@code :name} 형식의 named parameter 사용 가능
+     * @param sortKey         유일한 정렬 키 컬럼
+     * @param parameterValues whereClause의 named parameter 값
+     */
+    protected <T> JdbcPagingItemReader<T> pagingReader(String name,
+                                                       ChunkSettings settings,
+                                                       String selectClause,
+                                                       String fromClause,
+                                                       String whereClause,
+                                                       String sortKey,
+                                                       RowMapper<T> rowMapper,
+                                                       Map<String, Object> parameterValues) {
+
+        MySqlPagingQueryProvider queryProvider = new MySqlPagingQueryProvider();
+        queryProvider.setSelectClause(selectClause);
+        queryProvider.setFromClause(fromClause);
+        queryProvider.setWhereClause(whereClause);
+        queryProvider.setSortKeys(Map.of(sortKey, Order.ASCENDING));
+
+        JdbcPagingItemReader<T> reader = new JdbcPagingItemReaderBuilder<T>()
+                .name(name)
+                .dataSource(dataSource)
+                .queryProvider(queryProvider)
+                .parameterValues(parameterValues)
+                .rowMapper(rowMapper)
+                .pageSize(settings.pageSize())
+                .fetchSize(settings.pageSize())
+                .saveState(true)
+                .build();
+
+        return initialize(reader);
+    }
+
+    /**
+     * 조회 결과를 fetch size 단위로 스트리밍하는 cursor reader를 생성합니다.
+     *
+     * <p>업무 DataSource를 사용하는 Job은 cursor 전용 DataSource({@link #cursorDataSource()})로 조회하므로 MySQL에서도
+     * fetch size 단위로 가져옵니다. 다른 DataSource를 사용하는 MySQL Job은 해당 URL에 {@code useCursorFetch=true}가 필요합니다.
+     * 처리한 row 수가 ExecutionContext에 저장되어 재시작 시 해당 위치까지 건너뜁니다.</p>
+     *
+     * @param preparedStatementSetter sql의 {@code ?} 파라미터 설정 (없으면 null)
+     */
+    protected <T> JdbcCursorItemReader<T> cursorReader(String name,
+                                                       ChunkSettings settings,
+                                                       String sql,
+                                                       RowMapper<T> rowMapper,
+                                                       PreparedStatementSetter preparedStatementSetter) {
+
+        JdbcCursorItemReader<T> reader = new JdbcCursorItemReaderBuilder<T>()
+                .name(name)
+                .dataSource(dataSource == businessDataSource() ? cursorDataSource() : dataSource)
+                .sql(sql)
+                .preparedStatementSetter(preparedStatementSetter)
+                .rowMapper(rowMapper)
+                .fetchSize(settings.fetchSize())
+                .saveState(true)
+                .build();
+
+        return initialize(reader);
+    }
+
+    /**
+     * item의 프로퍼티를 {@code :name} 형식의 named parameter로 바인딩하는 JDBC batch writer를 생성합니다.
+     * record component, getter, field를 모두 읽을 수 있습니다. ({@link SimplePropertySqlParameterSource})
+     */
+    protected <T> JdbcBatchItemWriter<T> batchWriter(String sql) {
+        JdbcBatchItemWriter<T> writer = new JdbcBatchItemWriterBuilder<T>()
+                .dataSource(dataSource)
+                .sql(sql)
+                .itemSqlParameterSourceProvider(SimplePropertySqlParameterSource::new)
+                .build();
+
+        return initialize(writer);
+    }
+
+    /**
+     * {@code ?} 파라미터를 직접 바인딩하는 JDBC batch writer를 생성합니다.
+     */
+    protected <T> JdbcBatchItemWriter<T> batchWriter(String sql, ItemPreparedStatementSetter<T> preparedStatementSetter) {
+        JdbcBatchItemWriter<T> writer = new JdbcBatchItemWriterBuilder<T>()
+                .dataSource(dataSource)
+                .sql(sql)
+                .itemPreparedStatementSetter(preparedStatementSetter)
+                .build();
+
+        return initialize(writer);
+    }
+
+    /**
+     * chunk를 multi-row INSERT 구문 또는 {@code LOAD DATA LOCAL INFILE}로 한 번에 적재하는 writer를 생성합니다.
+     *
+     * <p>기본은 multi-row INSERT이며, {@code setMode(Mode.LOAD_DATA)}로 LOAD DATA를 사용할 수 있습니다.
+     * 적재 구문이 실패하면 JDBC batch insert로 다시 씁니다. ({@link BulkInsertItemWriter} 참고)</p>
+     *
+     * @param columns        적재할 컬럼
+     * @param valueExtractor item을 columns 순서의 값 배열로 변환하는 함수
+     */
+    protected <T> BulkInsertItemWriter<T> bulkWriter(String table, List<String> columns,
+                                                     Function<? super T, Object[]> valueExtractor) {
+        return new BulkInsertItemWriter<>(dataSource, table, columns, valueExtractor);
+    }
+
+    private <T extends InitializingBean> T initialize(T component) {
+        try {
+            component.afterPropertiesSet();
+            return component;
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to initialize chunk component", e);
+        }
+    }
+}
@@ -1,13 +1,189 @@
 package com.kjung.batchtemplate.core.base;
 
+import com.kjung.batchtemplate.core.cache.EnrichmentCache;
+import com.kjung.batchtemplate.core.cache.EnrichmentCacheManager;
+import com.kjung.batchtemplate.core.profiling.StepProfilingListener;
+import com.kjung.batchtemplate.core.remote.RemoteStepFactory;
+import com.kjung.batchtemplate.core.thread.BatchTaskExecutorFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemProcessListener;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.core.partition.support.TaskExecutorPartitionHandler;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.SimpleStepBuilder;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import javax.sql.DataSource;
+
 @RequiredArgsConstructor
 public abstract class AbstractJobConfig {
     protected final JobRepository jobRepository;
 
     protected final PlatformTransactionManager transactionManager;
 
+    private BatchTaskExecutorFactory taskExecutorFactory;
+
+    private DataSource businessDataSource;
+
+    private DataSource cursorDataSource;
+
+    private RemoteStepFactory remoteStepFactory;
+
+    private EnrichmentCacheManager enrichmentCacheManager;
+
+    private StepProfilingListener stepProfilingListener;
+
+    @Autowired
+    void setTaskExecutorFactory(BatchTaskExecutorFactory taskExecutorFactory) {
+        this.taskExecutorFactory = taskExecutorFactory;
+    }
+
+    @Autowired
+    void setBusinessDataSource(DataSource businessDataSource) {
+        this.businessDataSource = businessDataSource;
+    }
+
+    @Autowired
+    void setCursorDataSource(@Qualifier("cursorDataSource") DataSource cursorDataSource) {
+        this.cursorDataSource = cursorDataSource;
+    }
+
+    @Autowired
+    void setRemoteStepFactory(RemoteStepFactory remoteStepFactory) {
+        this.remoteStepFactory = remoteStepFactory;
+    }
+
+    @Autowired
+    void setEnrichmentCacheManager(EnrichmentCacheManager enrichmentCacheManager) {
+        this.enrichmentCacheManager = enrichmentCacheManager;
+    }
+
+    @Autowired(required = false)
+    void setStepProfilingListener(StepProfilingListener stepProfilingListener) {
+        this.stepProfilingListener = stepProfilingListener;
+    }
+
+    /**
+     * 원격 Step 구성 요소 생성기를 반환합니다.
+     */
+    protected RemoteStepFactory remoteStepFactory() {
+        return remoteStepFactory;
+    }
+
+    /**
+     * 업무 데이터용 DataSource({@code spring.datasource}, {@code @Primary})를 반환합니다.
+     * 배치 메타데이터/Quartz DataSource와 커넥션 풀이 분리되어 있습니다. ({@code DataSourceConfig} 참고)
+     */
+    protected DataSource businessDataSource() {
+        return businessDataSource;
+    }
+
+    /**
+     * 업무 DB를 fetch size 단위로 조회하는 cursor 전용 DataSource({@code batch.datasource.cursor})를 반환합니다.
+     * MySQL은 이 DataSource의 커넥션에만 {@code useCursorFetch=true}가 적용됩니다.
+     */
+    protected DataSource cursorDataSource() {
+        return cursorDataSource;
+    }
+
+    /**
+     * 업무 DB의 참조 데이터(코드 테이블, id → 속성 등)를 JobExecution당 한 번 적재한 읽기 전용 캐시를 반환합니다.
+     *
+     * <p>processor에서 item마다 조회하는 대신 {@code @StepScope} processor Bean 생성 시 이 메서드로 캐시를 받아
+     * {@link EnrichmentCache#get(long)}으로 조회합니다. 같은 Job의 파티션 Step들은 같은 캐시를 공유하며,
+     * Job이 종료되면 캐시가 제거됩니다. ({@link EnrichmentCacheManager} 참고)</p>
+     *
+     * @param name      캐시 이름 (지표 tag로 사용)
+     * @param sql       참조 데이터 전체 조회 SQL
+     * @param keyColumn key로 사용할 숫자 컬럼 이름
+     */
+    protected <V> EnrichmentCache<V> enrichmentCache(String name, String sql, String keyColumn, RowMapper<V> rowMapper) {
+        return enrichmentCacheManager.get(name, enrichmentCacheManager.jdbcLoader(cursorDataSource, sql, keyColumn, rowMapper));
+    }
+
+    /**
+     * chunk Step builder에 chunk 단위 성능 지표 리스너를 등록합니다. ({@code batch.profiling.enabled=false}이면 그대로 반환)
+     *
+     * <p>Step Bean에는 chunk 실행 시간/처리량/할당 바이트 지표가 자동으로 기록되며, 이 메서드로 만든 Step은
+     * read/process/write 각각의 시간과 커밋 시간도 기록됩니다. ({@link StepProfilingListener} 참고)
+     * {@code AbstractChunkJobConfig}의 chunk Step은 이미 적용되어 있습니다.</p>
+     * <pre>
+     * return profiled(new StepBuilder("orderStep", jobRepository)
+     *         .&lt;Order, Order&gt;chunk(settings.chunkSize(), transactionManager)
+     *         .reader(reader)
+     *         .writer(writer))
+     *         .build();
+     * </pre>
+     */
+    protected <I, O, B extends SimpleStepBuilder<I, O>> B profiled(B builder) {
+        if (stepProfilingListener == null) return builder;
+
+        ChunkListener chunkListener = stepProfilingListener;
+        ItemReadListener<Object> readListener = stepProfilingListener;
+        ItemProcessListener<Object, Object> processListener = stepProfilingListener;
+        ItemWriteListener<Object> writeListener = stepProfilingListener;
+
+        builder.listener(chunkListener);
+        builder.listener(readListener);
+        builder.listener(processListener);
+        builder.listener(writeListener);
+        return builder;
+    }
+
+    /**
+     * 멀티스레드/파티션 Step에 사용할 TaskExecutor를 생성합니다.
+     * {@code batch.threads.mode}에 따라 플랫폼 스레드 또는 가상 스레드로 실행됩니다.
+     *
+     * @param stepName 스레드 이름 prefix로 사용할 Step 이름
+     */
+    protected TaskExecutor stepTaskExecutor(String stepName) {
+        return taskExecutorFactory.createStepExecutor(stepName);
+    }
+
+    /**
+     * Partitioner로 나눈 파티션을 worker Step으로 병렬 실행하는 manager Step을 생성합니다.
+     *
+     * <p>파티션은 {@link #stepTaskExecutor(String)}로 생성한 TaskExecutor에서 실행되며,
+     * 파티션별 StepExecution과 ExecutionContext가 JobRepository에 저장되므로 재시작 시 실패한 파티션만 다시 실행됩니다.</p>
+     *
+     * @param name        manager Step 이름
+     * @param partitioner 파티션 분할기 ({@code core.partition} 참고)
+     * @param workerStep  파티션마다 실행할 Step ({@code @StepScope} reader로 파티션 범위를 주입받음)
+     * @param gridSize    파티션 수 ({@code PartitionSettings#gridSize}로 JobParameter에서 조회)
+     */
+    protected Step partitionedStep(String name, Partitioner partitioner, Step workerStep, int gridSize) {
+        TaskExecutorPartitionHandler partitionHandler = new TaskExecutorPartitionHandler();
+        partitionHandler.setStep(workerStep);
+        partitionHandler.setGridSize(gridSize);
+        partitionHandler.setTaskExecutor(stepTaskExecutor(name));
+
+        return new StepBuilder(name, jobRepository)
+                .partitioner(workerStep.getName(), partitioner)
+                .partitionHandler(partitionHandler)
+                .build();
+    }
+
+    /**
+     * Partitioner로 나눈 파티션을 메시지 브로커를 통해 worker 노드에서 실행하는 manager Step을 생성합니다.
+     *
+     * <p>{@link #partitionedStep}과 달리 파티션이 이 노드의 스레드가 아닌 {@code batch.remote.worker.enabled=true}인
+     * 노드들에서 실행되므로, worker 노드를 늘려 처리량을 확장할 수 있습니다. 모든 노드는 같은 JobRepository를 사용해야 합니다.</p>
+     *
+     * @param workerStep 파티션마다 실행할 Step (worker 노드에서 Step 이름으로 조회하므로 Bean 이름과 Step 이름이 같은 싱글톤 Bean)
+     */
+    protected Step remotePartitionedStep(String name, Partitioner partitioner, Step workerStep, int gridSize) {
+        return new StepBuilder(name, jobRepository)
+                .partitioner(workerStep.getName(), partitioner)
+                .partitionHandler(remoteStepFactory.partitionHandler(workerStep.getName(), gridSize))
+                .build();
+    }
 }
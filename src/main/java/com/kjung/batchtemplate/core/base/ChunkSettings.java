@@ -0,0 +1,57 @@
+package com.kjung.batchtemplate.core.base;
+
+import java.util.Map;
+
+/**
+ * Chunk Step의 처리 단위 설정입니다.
+ *
+ * <p>schedule.yml의 {@code params} 또는 API 파라미터로 전달된 JobParameter에서 값을 읽으며,
+ * 값이 없으면 기본값을 사용합니다.</p>
+ * <pre>
+ * spring:
+ *   quartz:
+ *     jobs:
+ *       - name: orderMigrationJob
+ *         params:
+ *           chunkSize: 2000   # 커밋 단위 (commitInterval로도 지정 가능)
+ *           pageSize: 2000    # paging reader 페이지 크기
+ *           fetchSize: 5000   # cursor reader fetch 크기
+ * </pre>
+ *
+ * @param chunkSize 한 트랜잭션에서 처리(커밋)할 item 수
+ * @param pageSize  paging reader가 한 번에 조회할 row 수
+ * @param fetchSize cursor reader의 JDBC fetch size
+ */
+public record ChunkSettings(int chunkSize, int pageSize, int fetchSize) {
+
+    public static final String CHUNK_SIZE = "chunkSize";
+    public static final String COMMIT_INTERVAL = "commitInterval";
+    public static final String PAGE_SIZE = "pageSize";
+    public static final String FETCH_SIZE = "fetchSize";
+
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+    public static final int DEFAULT_FETCH_SIZE = 1000;
+
+    /**
+     * JobParameter 값으로 ChunkSettings를 생성합니다.
+     * pageSize를 지정하지 않으면 chunkSize와 같은 값을 사용합니다.
+     *
+     * @param jobParameters {@code #{jobParameters}}로 주입받은 JobParameter Map
+     */
+    public static ChunkSettings from(Map<String, Object> jobParameters) {
+        int chunkSize = intValue(jobParameters, CHUNK_SIZE, intValue(jobParameters, COMMIT_INTERVAL, DEFAULT_CHUNK_SIZE));
+        int pageSize = intValue(jobParameters, PAGE_SIZE, chunkSize);
+        int fetchSize = intValue(jobParameters, FETCH_SIZE, DEFAULT_FETCH_SIZE);
+
+        return new ChunkSettings(chunkSize, pageSize, fetchSize);
+    }
+
+    private static int intValue(Map<String, Object> jobParameters, String key, int defaultValue) {
+        if (jobParameters == null) return defaultValue;
+
+        Object value = jobParameters.get(key);
+        if (value instanceof Number number) return number.intValue();
+        if (value instanceof String text && !text.isBlank()) return Integer.parseInt(text.trim());
+        return defaultValue;
+    }
+}
@@ -0,0 +1,165 @@
+package com.kjung.batchtemplate.core.batch;
+
+import com.kjung.batchtemplate.core.property.BatchLauncherProperties;
+import com.kjung.batchtemplate.core.thread.BatchTaskExecutorFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersIncrementer;
+import org.springframework.batch.core.JobParametersValidator;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전용 스레드풀에서 Spring Batch Job을 비동기로 실행하는 런처입니다.
+ *
+ * <p>호출 스레드(Tomcat 요청 스레드, Quartz 워커 스레드)는 {@link JobExecution}이 생성되는 즉시 반환되며,
+ * 실제 Job은 {@code batch-launch-} 스레드에서 실행됩니다.</p>
+ *
+ * <p>실행 중 + 대기 중인 Job 수는 {@code maxPoolSize + queueCapacity}
+ * (가상 스레드 모드에서는 {@code batch.threads.virtual-max-concurrency})로 제한되며,
+ * 초과 시 {@link BatchLauncherProperties.RejectPolicy}에 따라 거부, 호출 스레드 실행, 대기 중 하나로 처리합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AsyncJobLauncher implements InitializingBean, DisposableBean {
+
+    private final JobRepository jobRepository;
+
+    private final BatchLauncherProperties properties;
+
+    private final BatchTaskExecutorFactory taskExecutorFactory;
+
+    private TaskExecutor taskExecutor;
+
+    private TaskExecutorJobLauncher asyncLauncher;
+
+    private TaskExecutorJobLauncher callerRunsLauncher;
+
+    private Semaphore capacity;
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        BatchLauncherProperties.Async async = properties.getAsync();
+
+        taskExecutor = taskExecutorFactory.createLaunchExecutor(async);
+        capacity = new Semaphore(taskExecutorFactory.launchCapacity(async));
+
+        asyncLauncher = createLauncher(taskExecutor);
+        callerRunsLauncher = createLauncher(new SyncTaskExecutor());
+    }
+
+    private TaskExecutorJobLauncher createLauncher(TaskExecutor executor) throws Exception {
+        TaskExecutorJobLauncher launcher = new TaskExecutorJobLauncher();
+        launcher.setJobRepository(jobRepository);
+        launcher.setTaskExecutor(executor);
+        launcher.afterPropertiesSet();
+        return launcher;
+    }
+
+    /**
+     * Job을 비동기로 실행합니다.
+     *
+     * @param job        실행할 Job
+     * @param parameters Job 파라미터
+     * @param permit     Job 종료 시 반납할 실행 슬롯
+     * @return 생성된 JobExecution (CALLER_RUNS 정책으로 동기 실행된 경우 완료된 JobExecution)
+     */
+    JobExecution launch(Job job, JobParameters parameters, LaunchPermit permit) throws Exception {
+        BatchLauncherProperties.Async async = properties.getAsync();
+
+        if (!acquireCapacity(async)) {
+            if (async.getRejectPolicy() != BatchLauncherProperties.RejectPolicy.CALLER_RUNS) {
+                throw new JobLaunchRejectedException("Async launch queue is full, job '" + job.getName() + "' rejected");
+            }
+
+            log.warn("Async launch queue is full, running job '{}' on caller thread", job.getName());
+            return callerRunsLauncher.run(new PermitReleasingJob(job, permit), parameters);
+        }
+
+        LaunchPermit slot = permit.and(new LaunchPermit(capacity::release));
+        try {
+            JobExecution execution = asyncLauncher.run(new PermitReleasingJob(job, slot), parameters);
+
+            // TaskExecutorJobLauncher는 TaskRejectedException을 삼키고 FAILED 상태로 반환한다.
+            if (execution.getStatus() == BatchStatus.FAILED && execution.getStartTime() == null) {
+                slot.release();
+                throw new JobLaunchRejectedException("Async launch executor rejected job '" + job.getName() + "'");
+            }
+
+            return execution;
+        } catch (Exception e) {
+            slot.release();
+            throw e;
+        }
+    }
+
+    private boolean acquireCapacity(BatchLauncherProperties.Async async) {
+        if (async.getRejectPolicy() != BatchLauncherProperties.RejectPolicy.WAIT) {
+            return capacity.tryAcquire();
+        }
+
+        try {
+            return capacity.tryAcquire(async.getWaitTimeoutMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (taskExecutor instanceof DisposableBean disposable) {
+            disposable.destroy();
+        } else if (taskExecutor instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    /**
+     * Job 실행이 끝나면 실행 슬롯을 반납하도록 감싸는 Job 구현체입니다.
+     */
+    private record PermitReleasingJob(Job delegate, LaunchPermit permit) implements Job {
+
+        @Override
+        public String getName() {
+            return delegate.getName();
+        }
+
+        @Override
+        public boolean isRestartable() {
+            return delegate.isRestartable();
+        }
+
+        @Override
+        public void execute(JobExecution execution) {
+            try {
+                delegate.execute(execution);
+            } finally {
+                permit.release();
+            }
+        }
+
+        @Override
+        public JobParametersIncrementer getJobParametersIncrementer() {
+            return delegate.getJobParametersIncrementer();
+        }
+
+        @Override
+        public JobParametersValidator getJobParametersValidator() {
+            return delegate.getJobParametersValidator();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.kjung.batchtemplate.core.batch;
+
+import org.springframework.batch.core.JobExecution;
+
+/**
+ * {@link BatchJobRunner}로 실행한 Job이 종료(성공/실패/중지)되었을 때 발행되는 이벤트입니다.
+ * 동기 실행은 호출 스레드에서, 비동기 실행은 Job을 실행한 스레드에서 발행됩니다.
+ *
+ * @param jobName      Job 이름
+ * @param jobExecution 종료된 JobExecution (최종 상태가 저장된 이후)
+ */
+public record BatchJobCompletedEvent(String jobName, JobExecution jobExecution) {
+}
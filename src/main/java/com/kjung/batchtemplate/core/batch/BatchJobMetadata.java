@@ -0,0 +1,41 @@
+package com.kjung.batchtemplate.core.batch;
+
+import com.kjung.batchtemplate.core.base.ChunkSettings;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Job의 파라미터 명세와 기본 chunk 크기를 선언합니다. Job {@code @Bean} 메서드(또는 Job 클래스)에 지정합니다.
+ *
+ * <p>기동 시 {@link BatchJobRegistry}가 Bean 정의에서 읽어 {@link JobDescriptor}로 보관하며, Job 실행 요청의
+ * 필수 파라미터가 누락되면 JobExecution을 만들기 전에 거부됩니다.</p>
+ * <pre>
+ * &#64;Bean
+ * &#64;BatchJobMetadata(requiredParams = "targetDate", optionalParams = "isFullLoad", chunkSize = 2000)
+ * public Job orderMigrationJob() { ... }
+ * </pre>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface BatchJobMetadata {
+
+    /**
+     * 실행 시 반드시 전달되어야 하는 파라미터 이름
+     */
+    String[] requiredParams() default {};
+
+    /**
+     * 선택 파라미터 이름 (Job 목록 조회 API에 노출되며 검증에는 사용하지 않음)
+     */
+    String[] optionalParams() default {};
+
+    /**
+     * 파라미터로 chunkSize가 전달되지 않았을 때 사용할 chunk 크기 (0 이하일 경우 {@link ChunkSettings#DEFAULT_CHUNK_SIZE})
+     */
+    int chunkSize() default 0;
+}
@@ -0,0 +1,155 @@
+package com.kjung.batchtemplate.core.batch;
+
+import com.kjung.batchtemplate.core.base.ChunkSettings;
+import com.kjung.batchtemplate.core.property.BatchLauncherProperties;
+import org.springframework.batch.core.Job;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.SingletonBeanRegistry;
+import org.springframework.core.annotation.MergedAnnotation;
+import org.springframework.core.type.MethodMetadata;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 실행 가능한 Job과 Job별 실행 메타데이터({@link JobDescriptor})를 보관하는 불변 색인입니다.
+ *
+ * <p>기동 시 Bean 정의의 타입 정보와 {@link BatchJobMetadata}만으로 색인을 만들므로 Job Bean을 생성하지 않으며,
+ * 이후 Job 이름 조회는 Map 조회 한 번으로 끝납니다. Job 객체는 기동 완료 시점에 이미 생성된 것만 보관하고,
+ * {@code spring.main.lazy-initialization=true}(fast-startup profile)에서는 처음 실행될 때 생성하여 보관합니다.</p>
+ */
+@Component
+public class BatchJobRegistry implements SmartInitializingSingleton {
+
+    private final ListableBeanFactory beanFactory;
+
+    private final Map<String, Entry> entries;
+
+    public BatchJobRegistry(ListableBeanFactory beanFactory, BatchLauncherProperties launcherProperties) {
+        this.beanFactory = beanFactory;
+
+        Map<String, Entry> index = new HashMap<>();
+        // allowEagerInit=false: FactoryBean/설정 클래스를 생성하지 않고 @Bean 메서드 반환 타입으로 판별
+        for (String name : beanFactory.getBeanNamesForType(Job.class, true, false)) {
+            index.put(name, new Entry(describe(name, launcherProperties)));
+        }
+        this.entries = Map.copyOf(index);
+    }
+
+    /**
+     * 기동 시점에 이미 생성된 Job Bean을 색인에 연결합니다. (지연 초기화된 Job은 생성하지 않음)
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!(beanFactory instanceof SingletonBeanRegistry singletons)) return;
+
+        entries.forEach((name, entry) -> {
+            if (singletons.containsSingleton(name)) {
+                entry.job = beanFactory.getBean(name, Job.class);
+            }
+        });
+    }
+
+    public boolean contains(String jobName) {
+        return entries.containsKey(jobName);
+    }
+
+    public Set<String> getJobNames() {
+        return entries.keySet();
+    }
+
+    public Collection<JobDescriptor> getDescriptors() {
+        return entries.values().stream().map(Entry::descriptor).toList();
+    }
+
+    /**
+     * Job의 실행 메타데이터를 반환합니다.
+     *
+     * @throws IllegalArgumentException 등록되지 않은 Job 이름인 경우
+     */
+    public JobDescriptor getDescriptor(String jobName) {
+        return entry(jobName).descriptor;
+    }
+
+    /**
+     * Job을 반환합니다. 아직 생성되지 않은 Job은 이 시점에 생성합니다.
+     *
+     * @throws IllegalArgumentException 등록되지 않은 Job 이름인 경우
+     */
+    public Job getJob(String jobName) {
+        Entry entry = entry(jobName);
+
+        Job job = entry.job;
+        if (job == null) {
+            // singleton Bean이므로 경합하더라도 같은 객체가 저장된다.
+            job = beanFactory.getBean(jobName, Job.class);
+            entry.job = job;
+        }
+        return job;
+    }
+
+    private Entry entry(String jobName) {
+        Entry entry = jobName != null ? entries.get(jobName) : null;
+        if (entry == null) {
+            throw new IllegalArgumentException("No such job: " + jobName);
+        }
+        return entry;
+    }
+
+    private JobDescriptor describe(String name, BatchLauncherProperties launcherProperties) {
+        MergedAnnotation<BatchJobMetadata> metadata = findMetadata(name);
+
+        String[] required = metadata.isPresent() ? metadata.getStringArray("requiredParams") : new String[0];
+        String[] optional = metadata.isPresent() ? metadata.getStringArray("optionalParams") : new String[0];
+        int chunkSize = metadata.isPresent() ? metadata.getInt("chunkSize") : 0;
+
+        return new JobDescriptor(name,
+                Set.of(required),
+                Set.of(optional),
+                chunkSize > 0 ? chunkSize : ChunkSettings.DEFAULT_CHUNK_SIZE,
+                launcherProperties.resolveMaxConcurrency(name),
+                launcherProperties.resolveIdentityStrategy(name));
+    }
+
+    /**
+     * {@code @Bean} 메서드의 애노테이션은 클래스 로딩 없이 Bean 정의의 메서드 메타데이터에서 읽고,
+     * 그 외(Job 클래스에 지정한 경우)는 Bean 타입에서 찾습니다.
+     */
+    private MergedAnnotation<BatchJobMetadata> findMetadata(String name) {
+        if (beanFactory instanceof ConfigurableListableBeanFactory configurable && configurable.containsBeanDefinition(name)) {
+            BeanDefinition definition = configurable.getBeanDefinition(name);
+            if (definition instanceof AnnotatedBeanDefinition annotated) {
+                MethodMetadata factoryMethod = annotated.getFactoryMethodMetadata();
+                if (factoryMethod != null) {
+                    MergedAnnotation<BatchJobMetadata> annotation = factoryMethod.getAnnotations().get(BatchJobMetadata.class);
+                    if (annotation.isPresent()) return annotation;
+                }
+            }
+        }
+
+        BatchJobMetadata annotation = beanFactory.findAnnotationOnBean(name, BatchJobMetadata.class, false);
+        return annotation != null ? MergedAnnotation.from(annotation) : MergedAnnotation.missing();
+    }
+
+    private static final class Entry {
+
+        private final JobDescriptor descriptor;
+
+        private volatile Job job;
+
+        private Entry(JobDescriptor descriptor) {
+            this.descriptor = descriptor;
+        }
+
+        private JobDescriptor descriptor() {
+            return descriptor;
+        }
+    }
+}
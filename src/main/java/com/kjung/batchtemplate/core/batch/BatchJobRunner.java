@@ -1,94 +1,164 @@
 package com.kjung.batchtemplate.core.batch;
 
+import com.kjung.batchtemplate.core.batch.param.JobIdentityResolver;
+import com.kjung.batchtemplate.core.batch.param.JobParametersFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobParameters;
-import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.stereotype.Component;
 
-import java.lang.reflect.Field;
-import java.util.*;
-import java.util.function.BiConsumer;
-import java.util.function.Consumer;
-
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class BatchJobRunner {
 
     private final ApplicationContext applicationContext;
+    private final BatchJobRegistry jobRegistry;
     private final JobLauncher jobLauncher;
+    private final AsyncJobLauncher asyncJobLauncher;
+    private final JobConcurrencyLimiter concurrencyLimiter;
+    private final JobParametersFactory jobParametersFactory;
+    private final JobIdentityResolver jobIdentityResolver;
+    private final JobLaunchThrottle launchThrottle;
 
-    @SuppressWarnings("unchecked")
+    /**
+     * Job을 호출 스레드에서 동기 실행합니다. Job이 종료될 때까지 반환되지 않습니다.
+     * 종료 시 {@link BatchJobCompletedEvent}가 발행됩니다.
+     *
+     * @param jobName 실행할 Job Bean 이름
+     * @param params  Job 파라미터 (Map 또는 DTO)
+     */
     public void run(String jobName, Object params) {
+        JobParameters businessParameters = businessParameters(jobName, params);
+        LaunchPermit permit = concurrencyLimiter.acquire(jobName);
 
         try {
-            Job job = (Job) applicationContext.getBean(jobName);
-
-            JobParameters jobParameters;
-            if (params instanceof Map<?, ?> map) {
-                jobParameters = buildJobParametersFromMap((Map<String, Object>) map);
-            } else {
-                jobParameters = buildJobParametersFromDto(params);
-            }
+            Job job = jobRegistry.getJob(jobName);
 
-            jobLauncher.run(job, jobParameters);
+            jobLauncher.run(new CompletionPublishingJob(job, applicationContext), jobIdentityResolver.resolve(job, businessParameters));
 
+        } catch (JobExecutionAlreadyRunningException | JobInstanceAlreadyCompleteException e) {
+            log.warn("Batch job launch rejected for job '{}': {}", jobName, e.getMessage());
+            throw new JobInstanceConflictException(e.getMessage(), e);
         } catch (Exception e) {
             log.error("Batch job execution failed for job '{}'", jobName, e);
             throw new RuntimeException("Batch job execution failed", e);
+        } finally {
+            permit.release();
         }
     }
 
-    private JobParameters buildJobParametersFromMap(Map<String, Object> jobDataMap) {
-        return buildJobParameters(consumer -> {
-            for (Map.Entry<String, Object> entry : jobDataMap.entrySet()) {
-                consumer.accept(entry.getKey(), entry.getValue());
-            }
+    /**
+     * Job을 전용 스레드풀에서 비동기 실행합니다.
+     *
+     * <p>JobExecution이 생성되는 즉시 반환되므로 반환값의 id로 실행 상태를 조회할 수 있습니다.
+     * 동시 실행 상한이나 실행 대기열을 초과한 경우 {@link JobLaunchRejectedException}이 발생합니다.
+     * Job이 종료되면 실행 스레드에서 {@link BatchJobCompletedEvent}가 발행됩니다.</p>
+     *
+     * @param jobName 실행할 Job Bean 이름
+     * @param params  Job 파라미터 (Map 또는 DTO)
+     * @return 생성된 JobExecution
+     */
+    public JobExecution runAsync(String jobName, Object params) {
+        return runAsync(jobName, params, () -> {
         });
     }
 
-    private JobParameters buildJobParametersFromDto(Object dto) {
-        return buildJobParameters(consumer -> {
-            Field[] fields = dto.getClass().getDeclaredFields();
-            for (Field field : fields) {
-                field.setAccessible(true);
-                try {
-                    consumer.accept(field.getName(), field.get(dto));
-                } catch (IllegalAccessException e) {
-                    throw new RuntimeException("Failed to access field in DTO", e);
-                }
-            }
-        });
+    /**
+     * Job을 전용 스레드풀에서 비동기 실행하고, Job이 종료되면 {@code onCompletion}을 호출합니다.
+     *
+     * <p>{@code onCompletion}은 Job 종료(실행 스레드), 실행 거부, 실행 실패 중 어느 경로에서든 한 번만 호출되므로
+     * 호출 측에서 Job 실행 동안 점유한 자원(노드 부하 등)을 반납하는 데 사용할 수 있습니다.</p>
+     *
+     * @param jobName      실행할 Job Bean 이름
+     * @param params       Job 파라미터 (Map 또는 DTO)
+     * @param onCompletion Job 종료 또는 실행 실패 시 한 번 호출할 콜백
+     * @return 생성된 JobExecution
+     */
+    public JobExecution runAsync(String jobName, Object params, Runnable onCompletion) {
+        LaunchPermit completion = new LaunchPermit(onCompletion);
+
+        JobParameters businessParameters;
+        LaunchPermit permit;
+        try {
+            businessParameters = businessParameters(jobName, params);
+            permit = concurrencyLimiter.acquire(jobName).and(completion);
+        } catch (RuntimeException e) {
+            completion.release();
+            throw e;
+        }
+        return launchAsync(jobName, businessParameters, permit);
     }
 
-    private JobParameters buildJobParameters(Consumer<BiConsumer<String, Object>> fieldProcessor) {
-        JobParametersBuilder builder = new JobParametersBuilder();
+    /**
+     * 외부(API) 요청으로 Job을 비동기 실행합니다.
+     *
+     * <p>{@link #runAsync}에 더해 Job별 요청 수 제한({@code batch.api.rate-limit})과 실행 시간 기반 동시 실행 수 제한
+     * ({@code batch.api.adaptive})을 적용합니다. 요청 수 제한을 초과하면 {@link JobLaunchThrottledException}이 발생합니다.</p>
+     *
+     * @param jobName 실행할 Job Bean 이름
+     * @param params  Job 파라미터 (Map 또는 DTO)
+     * @return 생성된 JobExecution
+     */
+    public JobExecution submit(String jobName, Object params) {
+        JobParameters businessParameters = businessParameters(jobName, params);
+        LaunchPermit throttlePermit = launchThrottle.acquire(jobName);
 
-        fieldProcessor.accept((key, value) -> applyJobParameter(builder, key, value));
+        LaunchPermit permit;
+        try {
+            permit = concurrencyLimiter.acquire(jobName).and(throttlePermit);
+        } catch (RuntimeException e) {
+            throttlePermit.release();
+            throw e;
+        }
+        return launchAsync(jobName, businessParameters, permit);
+    }
 
-        builder.addString("uuid", UUID.randomUUID().toString());
-        return builder.toJobParameters();
+    /**
+     * 주어진 이름의 Job Bean이 있는지 확인합니다.
+     */
+    public boolean hasJob(String jobName) {
+        return jobRegistry.contains(jobName);
     }
 
-    private void applyJobParameter(JobParametersBuilder builder, String key, Object value) {
-        if (value instanceof String) {
-            builder.addString(key, (String) value);
-        } else if (value instanceof Float || value instanceof Double) {
-            builder.addDouble(key, ((Number) value).doubleValue());
-        } else if (value instanceof Integer || value instanceof Long) {
-            builder.addLong(key, ((Number) value).longValue());
-        } else if (value instanceof Date) {
-            builder.addDate(key, (Date) value);
-        } else if (value instanceof LinkedHashMap<?, ?> map) {
-            builder.addJobParameter(key, new ArrayList<>(map.values()), List.class);
-        } else if (value instanceof ArrayList<?> list) {
-            builder.addJobParameter(key, list, List.class);
-        } else {
-            builder.addJobParameter(key, value, Object.class);
+    private JobExecution launchAsync(String jobName, JobParameters businessParameters, LaunchPermit permit) {
+        try {
+            Job job = jobRegistry.getJob(jobName);
+
+            return asyncJobLauncher.launch(new CompletionPublishingJob(job, applicationContext),
+                    jobIdentityResolver.resolve(job, businessParameters), permit);
+
+        } catch (JobLaunchRejectedException e) {
+            permit.release();
+            log.warn("Batch job launch rejected for job '{}': {}", jobName, e.getMessage());
+            throw e;
+        } catch (JobExecutionAlreadyRunningException | JobInstanceAlreadyCompleteException e) {
+            permit.release();
+            log.warn("Batch job launch rejected for job '{}': {}", jobName, e.getMessage());
+            throw new JobInstanceConflictException(e.getMessage(), e);
+        } catch (Exception e) {
+            permit.release();
+            log.error("Batch job launch failed for job '{}'", jobName, e);
+            throw new RuntimeException("Batch job launch failed", e);
         }
     }
+
+    /**
+     * 업무 파라미터를 변환하고 Job의 필수 파라미터 검증과 기본 chunk 크기 적용({@link BatchJobMetadata})을 수행합니다.
+     * 실행 제한을 확인하기 전에 호출되므로 잘못된 요청은 실행 허가를 점유하지 않습니다.
+     * 식별 파라미터는 실행 직전에 Job의 식별 방식({@code batch.launcher.identity})에 따라 추가되며,
+     * 같은 JobInstance가 이미 실행 중이거나 완료된 경우 실행은 {@link JobInstanceConflictException}으로 거부됩니다.
+     *
+     * @throws IllegalArgumentException      등록되지 않은 Job인 경우
+     * @throws InvalidJobParametersException 필수 파라미터가 누락된 경우
+     */
+    private JobParameters businessParameters(String jobName, Object params) {
+        return jobRegistry.getDescriptor(jobName).prepare(jobParametersFactory.create(params));
+    }
 }
@@ -0,0 +1,42 @@
+package com.kjung.batchtemplate.core.batch;
+
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersIncrementer;
+import org.springframework.batch.core.JobParametersValidator;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Job 실행이 끝나면 {@link BatchJobCompletedEvent}를 발행하도록 감싸는 Job 구현체입니다.
+ */
+record CompletionPublishingJob(Job delegate, ApplicationEventPublisher eventPublisher) implements Job {
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public boolean isRestartable() {
+        return delegate.isRestartable();
+    }
+
+    @Override
+    public void execute(JobExecution execution) {
+        try {
+            delegate.execute(execution);
+        } finally {
+            eventPublisher.publishEvent(new BatchJobCompletedEvent(delegate.getName(), execution));
+        }
+    }
+
+    @Override
+    public JobParametersIncrementer getJobParametersIncrementer() {
+        return delegate.getJobParametersIncrementer();
+    }
+
+    @Override
+    public JobParametersValidator getJobParametersValidator() {
+        return delegate.getJobParametersValidator();
+    }
+}
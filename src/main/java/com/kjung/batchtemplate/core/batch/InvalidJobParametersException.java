@@ -0,0 +1,12 @@
+package com.kjung.batchtemplate.core.batch;
+
+/**
+ * Job 실행 요청의 파라미터가 Job의 실행 메타데이터({@link BatchJobMetadata})를 만족하지 않을 때 발생하는 예외입니다.
+ * (필수 파라미터 누락 등)
+ */
+public class InvalidJobParametersException extends IllegalArgumentException {
+
+    public InvalidJobParametersException(String message) {
+        super(message);
+    }
+}
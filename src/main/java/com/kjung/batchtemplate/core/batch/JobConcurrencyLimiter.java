@@ -0,0 +1,57 @@
+package com.kjung.batchtemplate.core.batch;
+
+import com.kjung.batchtemplate.core.property.BatchLauncherProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Job 이름별 동시 실행 수를 제한하는 컴포넌트입니다.
+ *
+ * <p>상한은 {@link BatchLauncherProperties#resolveMaxConcurrency(String)}로 결정되며,
+ * 상한에 도달한 경우 대기하지 않고 {@link JobLaunchRejectedException}을 발생시킵니다.</p>
+ *
+ * <p>상한과 관계없이 이 노드에서 실행 슬롯을 가진(비동기 대기열에 있거나 실행 중인) Job 수를 {@link #inFlight}로 제공합니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class JobConcurrencyLimiter {
+
+    private final BatchLauncherProperties properties;
+
+    private final Map<String, Semaphore> semaphores = new ConcurrentHashMap<>();
+
+    private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+
+    LaunchPermit acquire(String jobName) {
+        int limit = properties.resolveMaxConcurrency(jobName);
+        LaunchPermit permit = limit <= 0 ? LaunchPermit.none() : acquireSlot(jobName, limit);
+
+        AtomicInteger count = inFlight.computeIfAbsent(jobName, key -> new AtomicInteger());
+        count.incrementAndGet();
+        return permit.and(new LaunchPermit(count::decrementAndGet));
+    }
+
+    /**
+     * 이 노드에서 실행 슬롯을 획득한 뒤 아직 반납하지 않은 Job 수를 반환합니다.
+     * 비동기 실행 대기열에 있어 아직 JobExecution이 생성되지 않은 실행도 포함됩니다.
+     */
+    public int inFlight(String jobName) {
+        AtomicInteger count = inFlight.get(jobName);
+        return count != null ? count.get() : 0;
+    }
+
+    private LaunchPermit acquireSlot(String jobName, int limit) {
+        Semaphore semaphore = semaphores.computeIfAbsent(jobName, key -> new Semaphore(limit));
+        if (!semaphore.tryAcquire()) {
+            throw new JobLaunchRejectedException(
+                    "Job '" + jobName + "' reached max concurrency (" + limit + ")");
+        }
+
+        return new LaunchPermit(semaphore::release);
+    }
+}
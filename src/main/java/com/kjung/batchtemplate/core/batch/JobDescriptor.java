@@ -0,0 +1,51 @@
+package com.kjung.batchtemplate.core.batch;
+
+import com.kjung.batchtemplate.core.base.ChunkSettings;
+import com.kjung.batchtemplate.core.property.JobIdentityStrategy;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 기동 시 수집된 Job의 실행 메타데이터입니다.
+ *
+ * @param name             Job Bean 이름
+ * @param requiredParams   필수 파라미터 이름 ({@link BatchJobMetadata#requiredParams()})
+ * @param optionalParams   선택 파라미터 이름 ({@link BatchJobMetadata#optionalParams()})
+ * @param defaultChunkSize 파라미터로 지정하지 않았을 때의 chunk 크기
+ * @param maxConcurrency   동시 실행 수 상한 (0 이하일 경우 제한 없음, {@code batch.launcher.max-concurrency})
+ * @param identityStrategy JobInstance 식별 방식 ({@code batch.launcher.identity})
+ */
+public record JobDescriptor(String name,
+                            Set<String> requiredParams,
+                            Set<String> optionalParams,
+                            int defaultChunkSize,
+                            int maxConcurrency,
+                            JobIdentityStrategy identityStrategy) {
+
+    /**
+     * 필수 파라미터를 검증하고, chunk 크기가 지정되지 않았으면 Job의 기본 chunk 크기를 추가합니다.
+     *
+     * @throws InvalidJobParametersException 필수 파라미터가 누락된 경우
+     */
+    JobParameters prepare(JobParameters parameters) {
+        List<String> missing = requiredParams.stream()
+                .filter(key -> parameters.getParameter(key) == null)
+                .sorted()
+                .toList();
+        if (!missing.isEmpty()) {
+            throw new InvalidJobParametersException("Job '" + name + "' requires parameters " + missing);
+        }
+
+        if (defaultChunkSize == ChunkSettings.DEFAULT_CHUNK_SIZE
+                || parameters.getParameter(ChunkSettings.CHUNK_SIZE) != null
+                || parameters.getParameter(ChunkSettings.COMMIT_INTERVAL) != null) {
+            return parameters;
+        }
+        return new JobParametersBuilder(parameters)
+                .addLong(ChunkSettings.CHUNK_SIZE, (long) defaultChunkSize, false)
+                .toJobParameters();
+    }
+}
@@ -0,0 +1,13 @@
+package com.kjung.batchtemplate.core.batch;
+
+/**
+ * 같은 JobInstance가 이미 실행 중이거나 완료되어 Job 실행 요청이 거부되었을 때 발생하는 예외입니다.
+ *
+ * <p>실행 제한과 달리 다시 요청해도 같은 결과가 나오므로 재시도 대상이 아닙니다.</p>
+ */
+public class JobInstanceConflictException extends JobLaunchRejectedException {
+
+    public JobInstanceConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,15 @@
+package com.kjung.batchtemplate.core.batch;
+
+/**
+ * 동시 실행 상한 또는 실행 대기열 초과로 Job 실행 요청이 거부되었을 때 발생하는 예외입니다.
+ */
+public class JobLaunchRejectedException extends RuntimeException {
+
+    public JobLaunchRejectedException(String message) {
+        super(message);
+    }
+
+    public JobLaunchRejectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
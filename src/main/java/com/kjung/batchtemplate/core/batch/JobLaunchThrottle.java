@@ -0,0 +1,98 @@
+package com.kjung.batchtemplate.core.batch;
+
+import com.kjung.batchtemplate.core.batch.throttle.AdaptiveConcurrencyLimiter;
+import com.kjung.batchtemplate.core.batch.throttle.TokenBucket;
+import com.kjung.batchtemplate.core.property.BatchApiProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * API로 요청된 Job 실행에 Job별 요청 수 제한과 실행 시간 기반 동시 실행 수 제한을 적용하는 컴포넌트입니다.
+ *
+ * <ul>
+ *   <li>token bucket ({@code batch.api.rate-limit}) - 초과 시 {@link JobLaunchThrottledException} (재시도 가능 시각 포함)</li>
+ *   <li>adaptive concurrency ({@code batch.api.adaptive}) - 실행 중인 Job 수가 상한에 도달하면 {@link JobLaunchRejectedException}.
+ *       상한은 Job 실행 시간이 길어지면 줄고 안정적이면 늘어납니다. ({@link AdaptiveConcurrencyLimiter})</li>
+ * </ul>
+ *
+ * <p>기록되는 지표 (tag: {@code job}): {@code batch.api.concurrency.limit}, {@code batch.api.concurrency.in.flight}</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class JobLaunchThrottle {
+
+    private static final String METRIC_PREFIX = "batch.api.concurrency";
+
+    private final BatchApiProperties properties;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Optional<TokenBucket>> buckets = new ConcurrentHashMap<>();
+
+    private final Map<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    LaunchPermit acquire(String jobName) {
+        Optional<TokenBucket> bucket = buckets.computeIfAbsent(jobName, this::createBucket);
+        if (bucket.isPresent()) {
+            long waitNanos = bucket.get().tryAcquire();
+            if (waitNanos > 0) {
+                throw new JobLaunchThrottledException(
+                        "Job '" + jobName + "' exceeded request rate limit", Duration.ofNanos(waitNanos));
+            }
+        }
+
+        if (!properties.getAdaptive().isEnabled()) return LaunchPermit.none();
+
+        AdaptiveConcurrencyLimiter limiter = limiters.computeIfAbsent(jobName, this::createLimiter);
+        if (!limiter.tryAcquire()) {
+            // 실행되지 않은 요청이 요청 수 제한을 소모하지 않도록 token을 돌려준다.
+            bucket.ifPresent(TokenBucket::refund);
+            throw new JobLaunchRejectedException(
+                    "Job '" + jobName + "' reached adaptive concurrency limit (" + limiter.getLimit() + ")");
+        }
+
+        return new LaunchPermit(limiter::release);
+    }
+
+    /**
+     * 종료된 Job의 실행 시간을 동시 실행 수 상한 조정에 반영합니다. (Quartz로 실행된 경우 포함)
+     */
+    @EventListener
+    public void onJobCompleted(BatchJobCompletedEvent event) {
+        AdaptiveConcurrencyLimiter limiter = limiters.get(event.jobName());
+        JobExecution execution = event.jobExecution();
+        if (limiter == null || execution.getStartTime() == null || execution.getEndTime() == null) return;
+
+        limiter.onSample(Duration.between(execution.getStartTime(), execution.getEndTime()).toNanos());
+    }
+
+    private Optional<TokenBucket> createBucket(String jobName) {
+        BatchApiProperties.Bucket settings = properties.resolveBucket(jobName);
+        return settings.getCapacity() > 0
+                ? Optional.of(new TokenBucket(settings.getCapacity(), settings.getRefillPerSecond()))
+                : Optional.empty();
+    }
+
+    private AdaptiveConcurrencyLimiter createLimiter(String jobName) {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties.getAdaptive());
+
+        Gauge.builder(METRIC_PREFIX + ".limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Adaptive concurrency limit of API job launches")
+                .tag("job", jobName)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".in.flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("API job launches currently running")
+                .tag("job", jobName)
+                .register(meterRegistry);
+        return limiter;
+    }
+}
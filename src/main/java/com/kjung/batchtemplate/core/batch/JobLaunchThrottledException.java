@@ -0,0 +1,20 @@
+package com.kjung.batchtemplate.core.batch;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Job별 요청 수 제한(token bucket)을 초과하여 실행 요청이 거부되었을 때 발생하는 예외입니다.
+ */
+@Getter
+public class JobLaunchThrottledException extends JobLaunchRejectedException {
+
+    // 다시 요청할 수 있을 때까지 남은 시간
+    private final Duration retryAfter;
+
+    public JobLaunchThrottledException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
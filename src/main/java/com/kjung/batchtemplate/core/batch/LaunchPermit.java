@@ -0,0 +1,39 @@
+package com.kjung.batchtemplate.core.batch;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Job 실행 시 획득한 실행 슬롯을 나타냅니다.
+ *
+ * <p>실행 종료, 실행 실패, 거부 등 여러 경로에서 해제될 수 있으므로 한 번만 반납되도록 보장합니다.</p>
+ */
+final class LaunchPermit {
+
+    private final AtomicBoolean released = new AtomicBoolean();
+    private final Runnable releaser;
+
+    LaunchPermit(Runnable releaser) {
+        this.releaser = releaser;
+    }
+
+    static LaunchPermit none() {
+        return new LaunchPermit(() -> {
+        });
+    }
+
+    /**
+     * 두 실행 슬롯을 함께 반납하는 슬롯을 생성합니다.
+     */
+    LaunchPermit and(LaunchPermit other) {
+        return new LaunchPermit(() -> {
+            release();
+            other.release();
+        });
+    }
+
+    void release() {
+        if (released.compareAndSet(false, true)) {
+            releaser.run();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.kjung.batchtemplate.core.batch.param;
+
+import org.springframework.batch.core.JobParametersBuilder;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO 객체를 JobParameter로 변환하는 컨버터입니다.
+ *
+ * <p>클래스별 프로퍼티 접근자(MethodHandle)와 JobParameter 타입은 최초 변환 시 한 번만 분석하여 캐싱하므로,
+ * 이후 실행에서는 리플렉션 조회나 {@code setAccessible} 호출 없이 값을 읽습니다.</p>
+ * <ul>
+ *   <li>record: record component accessor를 사용합니다.</li>
+ *   <li>일반 클래스: 상위 클래스의 필드를 포함하며, 같은 이름의 필드는 하위 클래스 필드가 우선합니다.
+ *       static, transient, synthetic 필드는 제외합니다.</li>
+ *   <li>중첩 DTO: {@code address.city}와 같이 점(.)으로 연결된 키로 펼쳐서 추가합니다.</li>
+ * </ul>
+ */
+public class DtoJobParametersConverter {
+
+    private static final int MAX_NESTED_DEPTH = 4;
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final ClassValue<PropertyAccessor[]> accessors = new ClassValue<>() {
+        @Override
+        protected PropertyAccessor[] computeValue(Class<?> type) {
+            return introspect(type);
+        }
+    };
+
+    /**
+     * DTO의 프로퍼티를 JobParametersBuilder에 추가합니다. null 값은 추가하지 않습니다.
+     */
+    public void convert(Object dto, JobParametersBuilder builder) {
+        convert(dto, builder, "", 0);
+    }
+
+    private void convert(Object dto, JobParametersBuilder builder, String prefix, int depth) {
+        for (PropertyAccessor accessor : accessors.get(dto.getClass())) {
+            Object value = accessor.read(dto);
+            if (value == null) continue;
+
+            String key = prefix.isEmpty() ? accessor.name() : prefix + accessor.name();
+
+            if (accessor.nested()) {
+                if (depth < MAX_NESTED_DEPTH) convert(value, builder, key + ".", depth + 1);
+            } else if (accessor.type() != null) {
+                accessor.type().add(builder, key, value);
+            } else {
+                JobParameterType.ofValue(value).add(builder, key, value);
+            }
+        }
+    }
+
+    private static PropertyAccessor[] introspect(Class<?> type) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+
+            List<PropertyAccessor> result = type.isRecord()
+                    ? introspectRecord(type, lookup)
+                    : introspectFields(type, lookup);
+
+            return result.toArray(PropertyAccessor[]::new);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Failed to access properties of DTO: " + type.getName(), e);
+        }
+    }
+
+    private static List<PropertyAccessor> introspectRecord(Class<?> type, MethodHandles.Lookup lookup) throws IllegalAccessException {
+        List<PropertyAccessor> result = new ArrayList<>();
+        for (RecordComponent component : type.getRecordComponents()) {
+            MethodHandle getter = lookup.unreflect(component.getAccessor());
+            result.add(PropertyAccessor.of(component.getName(), component.getType(), getter));
+        }
+        return result;
+    }
+
+    private static List<PropertyAccessor> introspectFields(Class<?> type, MethodHandles.Lookup lookup) throws IllegalAccessException {
+        // 상위 클래스부터 수집하고, 같은 이름의 필드는 하위 클래스 필드로 덮어쓴다.
+        List<Class<?>> hierarchy = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            hierarchy.addFirst(current);
+        }
+
+        Map<String, PropertyAccessor> result = new LinkedHashMap<>();
+        for (Class<?> declaringClass : hierarchy) {
+            MethodHandles.Lookup declaringLookup = declaringClass == type
+                    ? lookup
+                    : MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+
+            for (Field field : declaringClass.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) continue;
+
+                MethodHandle getter = declaringLookup.unreflectGetter(field);
+                result.put(field.getName(), PropertyAccessor.of(field.getName(), field.getType(), getter));
+            }
+        }
+        return new ArrayList<>(result.values());
+    }
+
+    /**
+     * 캐싱되는 프로퍼티 접근자
+     *
+     * @param name   프로퍼티 이름
+     * @param getter {@code (Object) -> Object} 형태로 변환된 getter
+     * @param type   선언 타입으로 결정된 JobParameter 타입. 선언 타입만으로 결정할 수 없으면 null (런타임 값으로 결정)
+     * @param nested 중첩 DTO 여부
+     */
+    private record PropertyAccessor(String name, MethodHandle getter, JobParameterType type, boolean nested) {
+
+        static PropertyAccessor of(String name, Class<?> declaredType, MethodHandle getter) {
+            MethodHandle erased = getter.asType(GETTER_TYPE);
+
+            if (isNestedType(declaredType)) {
+                return new PropertyAccessor(name, erased, null, true);
+            }
+
+            JobParameterType type = JobParameterType.of(declaredType);
+            return new PropertyAccessor(name, erased, type == JobParameterType.OBJECT ? null : type, false);
+        }
+
+        private static boolean isNestedType(Class<?> type) {
+            return !type.isPrimitive()
+                    && !type.isArray()
+                    && !Enum.class.isAssignableFrom(type)
+                    && !type.isInterface()
+                    && JobParameterType.of(type) == JobParameterType.OBJECT
+                    && !type.getPackageName().startsWith("java.");
+        }
+
+        Object read(Object target) {
+            try {
+                return (Object) getter.invokeExact(target);
+            } catch (Throwable e) {
+                throw new IllegalStateException("Failed to read DTO property: " + name, e);
+            }
+        }
+    }
+}
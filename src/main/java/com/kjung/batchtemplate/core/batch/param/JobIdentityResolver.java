@@ -0,0 +1,83 @@
+package com.kjung.batchtemplate.core.batch.param;
+
+import com.kjung.batchtemplate.core.property.BatchLauncherProperties;
+import com.kjung.batchtemplate.core.property.JobIdentityStrategy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameter;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Job별 {@link JobIdentityStrategy}에 따라 업무 파라미터에 식별 파라미터를 더해 최종 JobParameters를 만듭니다.
+ *
+ * <p>{@code batch.launcher.identity.non-identifying-keys}에 지정된 키(chunkSize 등 튜닝 값)는
+ * 식별에서 제외되므로, 값을 바꿔 재실행해도 같은 JobInstance로 재시작됩니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class JobIdentityResolver {
+
+    public static final String UUID_KEY = "uuid";
+
+    public static final String SCHEDULE_SLOT = "scheduleSlot";
+
+    public static final String RUN_ID = "run.id";
+
+    private final BatchLauncherProperties properties;
+
+    private final JobExplorer jobExplorer;
+
+    public JobParameters resolve(Job job, JobParameters businessParameters) {
+        JobIdentityStrategy strategy = properties.resolveIdentityStrategy(job.getName());
+        Set<String> nonIdentifyingKeys = properties.getIdentity().getNonIdentifyingKeys();
+
+        JobParametersBuilder builder = new JobParametersBuilder();
+        businessParameters.getParameters().forEach((key, parameter) -> {
+            boolean identifying = !nonIdentifyingKeys.contains(key)
+                    && (strategy == JobIdentityStrategy.SCHEDULE_SLOT || !SCHEDULE_SLOT.equals(key));
+            builder.addJobParameter(key, withIdentifying(parameter, identifying));
+        });
+
+        switch (strategy) {
+            case UNIQUE -> builder.addString(UUID_KEY, UUID.randomUUID().toString());
+            case BUSINESS_PARAMS -> {
+            }
+            case SCHEDULE_SLOT -> {
+                if (businessParameters.getParameter(SCHEDULE_SLOT) == null) {
+                    builder.addString(UUID_KEY, UUID.randomUUID().toString());
+                }
+            }
+            case RUN_ID -> builder.addLong(RUN_ID, nextRunId(job.getName()));
+        }
+
+        return builder.toJobParameters();
+    }
+
+    /**
+     * 마지막 JobInstance의 마지막 실행 {@code run.id}에 1을 더합니다.
+     * 동시에 실행되어 같은 run.id를 받은 경우 두 번째 실행은 JobRepository에서 거부됩니다.
+     */
+    private long nextRunId(String jobName) {
+        JobInstance lastInstance = jobExplorer.getLastJobInstance(jobName);
+        if (lastInstance == null) return 1L;
+
+        JobExecution lastExecution = jobExplorer.getLastJobExecution(lastInstance);
+        Long lastRunId = lastExecution != null ? lastExecution.getJobParameters().getLong(RUN_ID) : null;
+
+        return lastRunId != null ? lastRunId + 1 : 1L;
+    }
+
+    private static <T> JobParameter<T> withIdentifying(JobParameter<T> parameter, boolean identifying) {
+        return parameter.isIdentifying() == identifying
+                ? parameter
+                : new JobParameter<>(parameter.getValue(), parameter.getType(), identifying);
+    }
+}
@@ -0,0 +1,93 @@
+package com.kjung.batchtemplate.core.batch.param;
+
+import org.springframework.batch.core.JobParametersBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 값의 타입에 따라 {@link JobParametersBuilder}에 추가할 JobParameter 타입을 결정합니다.
+ *
+ * <p>타입 판별 결과는 클래스별로 캐싱되므로 같은 타입의 값은 instanceof 비교 없이 바로 변환됩니다.</p>
+ */
+enum JobParameterType {
+    STRING,
+    LONG,
+    DOUBLE,
+    BOOLEAN,
+    DATE,
+    LOCAL_DATE,
+    LOCAL_DATE_TIME,
+    ENUM,
+    LIST,
+    MAP_VALUES,
+    OBJECT;
+
+    private static final ClassValue<JobParameterType> BY_CLASS = new ClassValue<>() {
+        @Override
+        protected JobParameterType computeValue(Class<?> type) {
+            return of(type);
+        }
+    };
+
+    /**
+     * 런타임 값의 클래스로 타입을 결정합니다.
+     * 몸체가 있는 enum 상수는 익명 하위 클래스({@code isEnum() == false})이므로 instanceof로 판별합니다.
+     */
+    static JobParameterType ofValue(Object value) {
+        if (value instanceof Enum<?>) return ENUM;
+        return BY_CLASS.get(value.getClass());
+    }
+
+    /**
+     * 선언 타입(필드, record component)으로 타입을 결정합니다.
+     */
+    static JobParameterType of(Class<?> type) {
+        if (type == String.class) return STRING;
+        if (type == long.class || type == int.class || type == short.class || type == byte.class
+                || type == Long.class || type == Integer.class || type == Short.class || type == Byte.class) return LONG;
+        if (type == double.class || type == float.class || type == Double.class || type == Float.class) return DOUBLE;
+        if (type == boolean.class || type == Boolean.class) return BOOLEAN;
+        if (Date.class.isAssignableFrom(type)) return DATE;
+        if (type == LocalDate.class) return LOCAL_DATE;
+        if (type == LocalDateTime.class) return LOCAL_DATE_TIME;
+        if (Enum.class.isAssignableFrom(type)) return ENUM; // 몸체가 있는 enum 상수의 하위 클래스 포함
+        if (Map.class.isAssignableFrom(type)) return MAP_VALUES;
+        if (Collection.class.isAssignableFrom(type)) return LIST;
+        return OBJECT;
+    }
+
+    /**
+     * 값을 타입에 맞는 JobParameter로 추가합니다. null 값은 추가하지 않습니다.
+     */
+    static void apply(JobParametersBuilder builder, String key, Object value) {
+        if (value == null) return;
+
+        ofValue(value).add(builder, key, value);
+    }
+
+    void add(JobParametersBuilder builder, String key, Object value) {
+        switch (this) {
+            case STRING -> builder.addString(key, (String) value);
+            case LONG -> builder.addLong(key, ((Number) value).longValue());
+            case DOUBLE -> builder.addDouble(key, ((Number) value).doubleValue());
+            case BOOLEAN -> builder.addJobParameter(key, (Boolean) value, Boolean.class);
+            case DATE -> builder.addDate(key, (Date) value);
+            case LOCAL_DATE -> builder.addLocalDate(key, (LocalDate) value);
+            case LOCAL_DATE_TIME -> builder.addLocalDateTime(key, (LocalDateTime) value);
+            case ENUM -> builder.addString(key, value instanceof Enum<?> e ? e.name() : value.toString());
+            case LIST -> builder.addJobParameter(key, toList((Collection<?>) value), List.class);
+            case MAP_VALUES -> builder.addJobParameter(key, new ArrayList<>(((Map<?, ?>) value).values()), List.class);
+            case OBJECT -> builder.addJobParameter(key, value, Object.class);
+        }
+    }
+
+    private static List<?> toList(Collection<?> collection) {
+        return collection instanceof List<?> list ? list : new ArrayList<>(collection);
+    }
+}
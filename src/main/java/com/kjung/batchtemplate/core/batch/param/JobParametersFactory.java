@@ -0,0 +1,33 @@
+package com.kjung.batchtemplate.core.batch.param;
+
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Map 또는 DTO 형태의 실행 파라미터를 {@link JobParameters}로 변환하는 컴포넌트입니다.
+ *
+ * <p>Quartz JobDataMap처럼 Map으로 전달된 값은 값의 클래스로, DTO는 {@link DtoJobParametersConverter}가
+ * 캐싱한 선언 타입으로 JobParameter 타입을 결정합니다.</p>
+ *
+ * <p>JobInstance 식별용 파라미터(uuid, scheduleSlot, run.id)는 {@link JobIdentityResolver}가 추가합니다.</p>
+ */
+@Component
+public class JobParametersFactory {
+
+    private final DtoJobParametersConverter dtoConverter = new DtoJobParametersConverter();
+
+    public JobParameters create(Object params) {
+        JobParametersBuilder builder = new JobParametersBuilder();
+
+        if (params instanceof Map<?, ?> map) {
+            map.forEach((key, value) -> JobParameterType.apply(builder, String.valueOf(key), value));
+        } else if (params != null) {
+            dtoConverter.convert(params, builder);
+        }
+
+        return builder.toJobParameters();
+    }
+}
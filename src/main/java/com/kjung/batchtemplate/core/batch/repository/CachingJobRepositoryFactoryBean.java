@@ -0,0 +1,84 @@
+package com.kjung.batchtemplate.core.batch.repository;
+
+import com.kjung.batchtemplate.core.property.BatchRepositoryProperties;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.batch.core.repository.ExecutionContextSerializer;
+import org.springframework.batch.core.repository.dao.DefaultExecutionContextSerializer;
+import org.springframework.batch.core.repository.dao.ExecutionContextDao;
+import org.springframework.batch.core.repository.dao.JobExecutionDao;
+import org.springframework.batch.core.repository.dao.JobInstanceDao;
+import org.springframework.batch.core.repository.dao.StepExecutionDao;
+import org.springframework.batch.core.repository.support.JobRepositoryFactoryBean;
+
+/**
+ * 메타데이터 DAO에 캐시를 적용한 JobRepository를 생성하는 FactoryBean입니다.
+ *
+ * <p>JobRepository 자체의 트랜잭션 처리와 StepExecution 갱신(재시작 시 사용하는 read/write count, 상태)은
+ * 그대로 두고, 다음 세 가지 DAO 호출만 줄입니다.</p>
+ * <ul>
+ *   <li>{@link JobInstanceCacheInterceptor} - 변하지 않는 JobInstance 조회 결과를 메모리에 유지
+ *       ({@code instance-verify-interval}마다 다시 조회하여 보관 기간 정리로 삭제된 JobInstance 제거)</li>
+ *   <li>{@link JobExecutionStatusInterceptor} - chunk마다 수행되는 Job 중지 요청 확인 쿼리를
+ *       {@code status-check-interval} 주기로 제한</li>
+ *   <li>{@link StepContextWriteInterceptor} - 마지막으로 커밋된 내용과 같은 Step ExecutionContext는 다시 쓰지 않음
+ *       (Step이 종료되면 기록 제거)</li>
+ * </ul>
+ * 변경된 ExecutionContext는 기존과 같이 매 chunk 커밋 트랜잭션 안에서 저장되므로 재시작 지점은 달라지지 않습니다.
+ */
+public class CachingJobRepositoryFactoryBean extends JobRepositoryFactoryBean {
+
+    private final BatchRepositoryProperties.Cache settings;
+
+    private ExecutionContextSerializer serializer = new DefaultExecutionContextSerializer();
+
+    // ExecutionContextDao와 StepExecutionDao가 공유 (Step 종료 시 ExecutionContext 기록 제거)
+    private StepContextWriteInterceptor stepContextInterceptor;
+
+    public CachingJobRepositoryFactoryBean(BatchRepositoryProperties.Cache settings) {
+        this.settings = settings;
+    }
+
+    @Override
+    public void setSerializer(ExecutionContextSerializer serializer) {
+        super.setSerializer(serializer);
+        this.serializer = serializer;
+    }
+
+    @Override
+    protected JobInstanceDao createJobInstanceDao() throws Exception {
+        return proxy(super.createJobInstanceDao(), JobInstanceDao.class,
+                new JobInstanceCacheInterceptor(settings.getMaxInstances(), settings.getInstanceVerifyInterval()));
+    }
+
+    @Override
+    protected JobExecutionDao createJobExecutionDao() throws Exception {
+        JobExecutionDao target = super.createJobExecutionDao();
+        return proxy(target, JobExecutionDao.class,
+                new JobExecutionStatusInterceptor(target, settings.getStatusCheckInterval()));
+    }
+
+    @Override
+    protected ExecutionContextDao createExecutionContextDao() throws Exception {
+        return proxy(super.createExecutionContextDao(), ExecutionContextDao.class, stepContextInterceptor());
+    }
+
+    @Override
+    protected StepExecutionDao createStepExecutionDao() throws Exception {
+        return proxy(super.createStepExecutionDao(), StepExecutionDao.class, stepContextInterceptor());
+    }
+
+    private synchronized StepContextWriteInterceptor stepContextInterceptor() {
+        if (stepContextInterceptor == null) {
+            stepContextInterceptor = new StepContextWriteInterceptor(serializer);
+        }
+        return stepContextInterceptor;
+    }
+
+    private static <T> T proxy(T target, Class<T> type, MethodInterceptor interceptor) {
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.addInterface(type);
+        proxyFactory.addAdvice(interceptor);
+        return type.cast(proxyFactory.getProxy());
+    }
+}
@@ -0,0 +1,83 @@
+package com.kjung.batchtemplate.core.batch.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.repository.dao.JobExecutionDao;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@code JobExecutionDao#synchronizeStatus} 호출 주기를 제한합니다.
+ *
+ * <p>SimpleJobRepository는 StepExecution을 갱신할 때마다(= chunk마다) 다른 프로세스의 중지 요청을 확인하기 위해
+ * JobExecution의 VERSION을 조회합니다. 실행 중인 JobExecution에 대해서는 이 확인을 {@code interval}마다 한 번만 수행하므로
+ * 중지 요청은 최대 {@code interval}만큼 늦게 반영됩니다. 종료 시각이 설정된 JobExecution은 항상 확인합니다.</p>
+ *
+ * <p>확인을 건너뛰는 동안 다른 프로세스가 JobExecution을 갱신했다면 {@code updateJobExecution}이 낙관적 잠금 오류로
+ * 실패하므로, 이 경우 상태를 동기화한 뒤 한 번 재시도합니다. (SimpleJobRepository#update(JobExecution)과 같은 순서)</p>
+ */
+@Slf4j
+class JobExecutionStatusInterceptor implements MethodInterceptor {
+
+    private final JobExecutionDao target;
+
+    private final long intervalNanos;
+
+    private final Map<Long, Long> lastCheckedNanos = new ConcurrentHashMap<>();
+
+    JobExecutionStatusInterceptor(JobExecutionDao target, Duration interval) {
+        this.target = target;
+        this.intervalNanos = interval.toNanos();
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        return switch (invocation.getMethod().getName()) {
+            case "synchronizeStatus" -> synchronizeStatus(invocation, (JobExecution) invocation.getArguments()[0]);
+            case "updateJobExecution" -> updateJobExecution(invocation, (JobExecution) invocation.getArguments()[0]);
+            default -> invocation.proceed();
+        };
+    }
+
+    private Object synchronizeStatus(MethodInvocation invocation, JobExecution jobExecution) throws Throwable {
+        Long id = jobExecution.getId();
+        if (id == null || jobExecution.getEndTime() != null || jobExecution.getStatus() != BatchStatus.STARTED) {
+            return invocation.proceed();
+        }
+
+        long now = System.nanoTime();
+        Long lastChecked = lastCheckedNanos.get(id);
+        if (lastChecked != null && now - lastChecked < intervalNanos) {
+            return null;
+        }
+
+        Object result = invocation.proceed();
+        lastCheckedNanos.put(id, now);
+        return result;
+    }
+
+    private Object updateJobExecution(MethodInvocation invocation, JobExecution jobExecution) throws Throwable {
+        try {
+            return invocation.proceed();
+        } catch (OptimisticLockingFailureException e) {
+            log.debug("JobExecution {} was updated by another process, retrying after status synchronization", jobExecution.getId());
+
+            target.synchronizeStatus(jobExecution);
+            if (jobExecution.getStatus() == BatchStatus.STOPPING && jobExecution.getEndTime() != null) {
+                jobExecution.upgradeStatus(BatchStatus.STOPPED);
+            }
+            target.updateJobExecution(jobExecution);
+            return null;
+        } finally {
+            if (jobExecution.getEndTime() != null) {
+                lastCheckedNanos.remove(jobExecution.getId());
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.kjung.batchtemplate.core.batch.repository;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.batch.core.DefaultJobKeyGenerator;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code JobInstanceDao} 조회 결과를 캐싱합니다.
+ *
+ * <p>JobInstance는 생성 후 변경되지 않으므로 id와 (Job 이름 + 식별 파라미터 key)로 찾은 결과를 그대로 재사용합니다.
+ * 존재하지 않는 결과(null)는 다른 노드가 생성할 수 있으므로 캐싱하지 않으며, 새로 생성한 JobInstance는 트랜잭션이 커밋된 뒤에 캐싱합니다.</p>
+ *
+ * <p>다만 보관 기간 정리({@code JobMetadataPruner})는 다른 노드에서 SQL로 JobInstance를 삭제하므로,
+ * 캐싱한 지 {@code verifyInterval}이 지난 결과는 재사용하지 않고 다시 조회합니다. 삭제된 JobInstance는 이때 캐시에서 제거되어
+ * 같은 파라미터의 재실행이 삭제된 JobInstance에 JobExecution을 만들려다 실패하지 않습니다.</p>
+ */
+class JobInstanceCacheInterceptor implements MethodInterceptor {
+
+    private final DefaultJobKeyGenerator keyGenerator = new DefaultJobKeyGenerator();
+
+    private final long verifyIntervalNanos;
+
+    private final Map<Long, Cached> byId;
+
+    private final Map<String, Cached> byKey;
+
+    JobInstanceCacheInterceptor(int maxInstances, Duration verifyInterval) {
+        this.verifyIntervalNanos = verifyInterval.toNanos();
+        this.byId = lruMap(maxInstances);
+        this.byKey = lruMap(maxInstances);
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Object[] args = invocation.getArguments();
+
+        switch (invocation.getMethod().getName()) {
+            case "createJobInstance" -> {
+                JobInstance instance = (JobInstance) invocation.proceed();
+                // 실행 요청 트랜잭션이 롤백되면 존재하지 않는 JobInstance이므로 커밋된 뒤에만 캐싱한다.
+                String key = key((String) args[0], (JobParameters) args[1]);
+                TransactionCallbacks.afterCommit(() -> put(key, instance));
+                return instance;
+            }
+            case "getJobInstance" -> {
+                if (args.length == 2 && args[1] instanceof JobParameters parameters) {
+                    String key = key((String) args[0], parameters);
+                    JobInstance cached = fresh(byKey.get(key));
+                    if (cached != null) return cached;
+
+                    JobInstance instance = (JobInstance) invocation.proceed();
+                    if (instance != null) {
+                        put(key, instance);
+                    } else {
+                        Cached stale = byKey.remove(key);
+                        if (stale != null) evict(stale.instance().getId());
+                    }
+                    return instance;
+                }
+                if (args.length == 1 && args[0] instanceof Long id) {
+                    JobInstance cached = fresh(byId.get(id));
+                    if (cached != null) return cached;
+
+                    JobInstance instance = (JobInstance) invocation.proceed();
+                    if (instance != null) {
+                        byId.put(id, new Cached(instance, System.nanoTime()));
+                    } else {
+                        evict(id);
+                    }
+                    return instance;
+                }
+            }
+            case "deleteJobInstance" -> evict(((JobInstance) args[0]).getId());
+            default -> {
+            }
+        }
+        return invocation.proceed();
+    }
+
+    private void put(String key, JobInstance instance) {
+        Cached cached = new Cached(instance, System.nanoTime());
+        byKey.put(key, cached);
+        byId.put(instance.getId(), cached);
+    }
+
+    /**
+     * {@code verifyInterval} 안에 조회된 결과만 반환합니다.
+     */
+    private JobInstance fresh(Cached cached) {
+        return cached != null && System.nanoTime() - cached.cachedNanos() < verifyIntervalNanos ? cached.instance() : null;
+    }
+
+    /**
+     * 삭제된 JobInstance를 두 캐시에서 모두 제거합니다.
+     */
+    private void evict(Long id) {
+        byId.remove(id);
+        synchronized (byKey) {
+            byKey.values().removeIf(cached -> cached.instance().getId().equals(id));
+        }
+    }
+
+    private String key(String jobName, JobParameters parameters) {
+        return jobName + "|" + keyGenerator.generateKey(parameters);
+    }
+
+    private record Cached(JobInstance instance, long cachedNanos) {
+    }
+
+    static <K, V> Map<K, V> lruMap(int maxEntries) {
+        return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+}
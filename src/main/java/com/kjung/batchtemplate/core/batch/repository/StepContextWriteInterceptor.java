@@ -0,0 +1,115 @@
+package com.kjung.batchtemplate.core.batch.repository;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.repository.ExecutionContextSerializer;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 내용이 바뀌지 않은 Step ExecutionContext의 UPDATE를 생략합니다.
+ *
+ * <p>TaskletStep은 chunk를 커밋할 때마다 ExecutionContext를 저장하지만, 상태를 저장하지 않는 reader나
+ * tasklet Step에서는 내용이 그대로인 경우가 많습니다. 마지막으로 <b>커밋된</b> 직렬화 결과와 비교하여 같으면 쓰지 않으며,
+ * 비교할 수 없는 경우(직렬화 실패)에는 항상 저장합니다. 트랜잭션 안에서 쓴 내용은 커밋된 뒤에만 기록하므로
+ * 롤백된 chunk의 ExecutionContext 때문에 다음 저장이 생략되지 않습니다.</p>
+ *
+ * <p>{@code StepExecutionDao}에도 적용되어, 종료 시각이 설정된 StepExecution이 갱신되면(Step 종료) 해당 Step의 기록을 제거합니다.</p>
+ */
+class StepContextWriteInterceptor implements MethodInterceptor {
+
+    private final ExecutionContextSerializer serializer;
+
+    private final Map<Long, byte[]> lastWritten = new ConcurrentHashMap<>();
+
+    StepContextWriteInterceptor(ExecutionContextSerializer serializer) {
+        this.serializer = serializer;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Object argument = invocation.getArguments().length == 1 ? invocation.getArguments()[0] : null;
+
+        switch (invocation.getMethod().getName()) {
+            case "saveExecutionContext" -> {
+                Object result = invocation.proceed();
+                if (argument instanceof StepExecution stepExecution) remember(stepExecution, serialize(stepExecution));
+                return result;
+            }
+            case "saveExecutionContexts" -> {
+                Object result = invocation.proceed();
+                if (argument instanceof Collection<?> executions) {
+                    for (Object execution : executions) {
+                        if (execution instanceof StepExecution stepExecution) remember(stepExecution, serialize(stepExecution));
+                    }
+                }
+                return result;
+            }
+            case "updateExecutionContext" -> {
+                if (argument instanceof StepExecution stepExecution) return updateStepContext(invocation, stepExecution);
+            }
+            case "updateStepExecution" -> {
+                Object result = invocation.proceed();
+                // AbstractStep은 마지막 ExecutionContext 저장 후 종료 시각을 설정하고 StepExecution을 갱신한다.
+                if (argument instanceof StepExecution stepExecution && stepExecution.getEndTime() != null) {
+                    evict(stepExecution.getId());
+                }
+                return result;
+            }
+            default -> {
+            }
+        }
+        return invocation.proceed();
+    }
+
+    private Object updateStepContext(MethodInvocation invocation, StepExecution stepExecution) throws Throwable {
+        byte[] current = serialize(stepExecution);
+        if (current != null && Arrays.equals(current, lastWritten.get(stepExecution.getId()))) {
+            return null;
+        }
+
+        Object result = invocation.proceed();
+        remember(stepExecution, current);
+        return result;
+    }
+
+    /**
+     * 저장한 내용을 트랜잭션이 커밋된 뒤에 기록합니다. 커밋 전까지는 기존 기록을 제거하여
+     * 같은 트랜잭션 안의 다음 저장이나 롤백 후의 저장이 생략되지 않도록 합니다.
+     */
+    private void remember(StepExecution stepExecution, byte[] serialized) {
+        Long id = stepExecution.getId();
+        if (id == null) return;
+
+        lastWritten.remove(id);
+        if (serialized != null) {
+            TransactionCallbacks.afterCommit(() -> lastWritten.put(id, serialized));
+        }
+    }
+
+    private void evict(Long stepExecutionId) {
+        if (stepExecutionId != null) lastWritten.remove(stepExecutionId);
+    }
+
+    private byte[] serialize(StepExecution stepExecution) {
+        ExecutionContext context = stepExecution.getExecutionContext();
+        Map<String, Object> values = new HashMap<>();
+        context.entrySet().forEach(entry -> values.put(entry.getKey(), entry.getValue()));
+
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            serializer.serialize(values, out);
+            return out.toByteArray();
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.kjung.batchtemplate.core.batch.repository;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * DAO 캐시를 트랜잭션 결과에 맞추어 갱신하기 위한 도우미입니다.
+ */
+final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    /**
+     * 진행 중인 트랜잭션이 커밋된 뒤에 실행합니다. 트랜잭션 동기화가 없으면(auto-commit) 바로 실행합니다.
+     * 트랜잭션이 롤백되면 실행하지 않습니다.
+     */
+    static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,211 @@
+package com.kjung.batchtemplate.core.batch.retention;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.batch.BatchDataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Spring Batch 메타데이터 테이블에서 오래된 JobExecution을 일정 개수씩 삭제(또는 보관 후 삭제)하는 컴포넌트입니다.
+ *
+ * <p>한 번의 {@link #prune} 호출은 최대 {@code batchSize}개의 JobExecution과 이에 딸린 row만 처리하므로,
+ * 호출하는 쪽(Tasklet)에서 트랜잭션을 나누어 반복 호출하면 테이블 잠금과 undo 로그가 커지지 않습니다.
+ * 삭제 순서는 FK 제약을 따라 Step Context → Step → Job Context → Param → Execution → Instance 입니다.</p>
+ */
+@Slf4j
+@Component
+public class JobMetadataPruner {
+
+    /**
+     * 메타데이터 조회/보관 기간 삭제를 위한 보조 인덱스 (테이블 접미사, 인덱스 이름, 컬럼)
+     *
+     * <p>JOB_INSTANCE_ID, JOB_EXECUTION_ID 단일 컬럼은 FK 제약으로 이미 인덱스가 있으므로(MySQL InnoDB)
+     * FK로 대신할 수 없는 조회 조건만 추가합니다.</p>
+     */
+    private static final List<String[]> SUPPORTING_INDEXES = List.of(
+            new String[]{"JOB_EXECUTION", "IDX_JOB_EXEC_END_TIME", "END_TIME"},
+            new String[]{"STEP_EXECUTION", "IDX_STEP_EXEC_JOB_EXEC", "JOB_EXECUTION_ID, STEP_NAME"}
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    private final String prefix;
+
+    public JobMetadataPruner(@BatchDataSource DataSource dataSource,
+                             @Value("${spring.batch.jdbc.table-prefix:BATCH_}") String tablePrefix) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.prefix = tablePrefix;
+    }
+
+    /**
+     * 메타데이터에 기록된 Job 이름 목록을 조회합니다.
+     */
+    public List<String> findJobNames() {
+        return jdbcTemplate.queryForList("SELECT DISTINCT JOB_NAME FROM " + prefix + "JOB_INSTANCE", String.class);
+    }
+
+    /**
+     * 보조 인덱스와 보관 테이블이 없으면 생성합니다.
+     *
+     * <p>DDL은 대부분의 DB(MySQL 등)에서 암묵적으로 커밋되므로 트랜잭션 밖에서 호출해야 합니다.
+     * (진행 중인 삭제 트랜잭션이 중간에 커밋되거나 DDL이 잠금을 기다리지 않도록 함)</p>
+     */
+    public void ensureSchema(boolean createIndexes, boolean archive) {
+        if (createIndexes) {
+            for (String[] index : SUPPORTING_INDEXES) {
+                String table = prefix + index[0];
+                if (!hasIndex(table, index[1])) {
+                    jdbcTemplate.execute("CREATE INDEX " + index[1] + " ON " + table + " (" + index[2] + ")");
+                    log.info("[Retention] 인덱스 생성: {} ON {} ({})", index[1], table, index[2]);
+                }
+            }
+        }
+
+        if (archive && !hasTable(prefix + "JOB_EXECUTION_ARCHIVE")) {
+            jdbcTemplate.execute("CREATE TABLE " + prefix + "JOB_EXECUTION_ARCHIVE ("
+                    + "JOB_EXECUTION_ID BIGINT NOT NULL PRIMARY KEY, "
+                    + "JOB_INSTANCE_ID BIGINT NOT NULL, "
+                    + "JOB_NAME VARCHAR(100) NOT NULL, "
+                    + "STATUS VARCHAR(10), "
+                    + "EXIT_CODE VARCHAR(2500), "
+                    + "CREATE_TIME DATETIME(6), "
+                    + "START_TIME DATETIME(6), "
+                    + "END_TIME DATETIME(6), "
+                    + "ARCHIVED_TIME DATETIME(6) NOT NULL)");
+            log.info("[Retention] 보관 테이블 생성: {}JOB_EXECUTION_ARCHIVE", prefix);
+        }
+    }
+
+    /**
+     * 지정한 Job에서 {@code cutoff} 이전에 종료된 JobExecution을 최대 {@code batchSize}개 삭제합니다.
+     * 실행 중인 JobExecution(END_TIME이 없는 경우)은 대상에서 제외됩니다.
+     *
+     * @return 테이블별 삭제 row 수 (대상이 없으면 빈 Map)
+     */
+    public Map<String, Integer> prune(String jobName, LocalDateTime cutoff, int batchSize, boolean archive) {
+        List<Long> executionIds = jdbcTemplate.queryForList(
+                "SELECT e.JOB_EXECUTION_ID FROM " + prefix + "JOB_EXECUTION e"
+                        + " JOIN " + prefix + "JOB_INSTANCE i ON i.JOB_INSTANCE_ID = e.JOB_INSTANCE_ID"
+                        + " WHERE i.JOB_NAME = ? AND e.END_TIME < ?"
+                        + " ORDER BY e.JOB_EXECUTION_ID LIMIT " + batchSize,
+                Long.class, jobName, Timestamp.valueOf(cutoff));
+
+        if (executionIds.isEmpty()) return Map.of();
+
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", executionIds);
+        List<Long> instanceIds = namedJdbcTemplate.queryForList(
+                "SELECT DISTINCT JOB_INSTANCE_ID FROM " + prefix + "JOB_EXECUTION WHERE JOB_EXECUTION_ID IN (:ids)",
+                params, Long.class);
+
+        Map<String, Integer> removed = new LinkedHashMap<>();
+
+        if (archive) {
+            removed.put("JOB_EXECUTION_ARCHIVE", namedJdbcTemplate.update(
+                    "INSERT INTO " + prefix + "JOB_EXECUTION_ARCHIVE"
+                            + " (JOB_EXECUTION_ID, JOB_INSTANCE_ID, JOB_NAME, STATUS, EXIT_CODE, CREATE_TIME, START_TIME, END_TIME, ARCHIVED_TIME)"
+                            + " SELECT e.JOB_EXECUTION_ID, e.JOB_INSTANCE_ID, i.JOB_NAME, e.STATUS, e.EXIT_CODE,"
+                            + " e.CREATE_TIME, e.START_TIME, e.END_TIME, :now"
+                            + " FROM " + prefix + "JOB_EXECUTION e"
+                            + " JOIN " + prefix + "JOB_INSTANCE i ON i.JOB_INSTANCE_ID = e.JOB_INSTANCE_ID"
+                            + " WHERE e.JOB_EXECUTION_ID IN (:ids)",
+                    new MapSqlParameterSource("ids", executionIds).addValue("now", Timestamp.valueOf(LocalDateTime.now()))));
+        }
+
+        removed.put("STEP_EXECUTION_CONTEXT", namedJdbcTemplate.update(
+                "DELETE FROM " + prefix + "STEP_EXECUTION_CONTEXT WHERE STEP_EXECUTION_ID IN"
+                        + " (SELECT STEP_EXECUTION_ID FROM " + prefix + "STEP_EXECUTION WHERE JOB_EXECUTION_ID IN (:ids))",
+                params));
+        removed.put("STEP_EXECUTION", namedJdbcTemplate.update(
+                "DELETE FROM " + prefix + "STEP_EXECUTION WHERE JOB_EXECUTION_ID IN (:ids)", params));
+        removed.put("JOB_EXECUTION_CONTEXT", namedJdbcTemplate.update(
+                "DELETE FROM " + prefix + "JOB_EXECUTION_CONTEXT WHERE JOB_EXECUTION_ID IN (:ids)", params));
+        removed.put("JOB_EXECUTION_PARAMS", namedJdbcTemplate.update(
+                "DELETE FROM " + prefix + "JOB_EXECUTION_PARAMS WHERE JOB_EXECUTION_ID IN (:ids)", params));
+        removed.put("JOB_EXECUTION", namedJdbcTemplate.update(
+                "DELETE FROM " + prefix + "JOB_EXECUTION WHERE JOB_EXECUTION_ID IN (:ids)", params));
+
+        // 남은 JobExecution이 없는 JobInstance만 삭제 (재시작 가능한 최근 실행이 남은 Instance는 유지)
+        removed.put("JOB_INSTANCE", namedJdbcTemplate.update(
+                "DELETE FROM " + prefix + "JOB_INSTANCE WHERE JOB_INSTANCE_ID IN (:instanceIds)"
+                        + " AND NOT EXISTS (SELECT 1 FROM " + prefix + "JOB_EXECUTION e"
+                        + " WHERE e.JOB_INSTANCE_ID = " + prefix + "JOB_INSTANCE.JOB_INSTANCE_ID)",
+                new MapSqlParameterSource("instanceIds", instanceIds)));
+
+        return removed;
+    }
+
+    /**
+     * workflow 실행 이력({@code WORKFLOW_RUN})에서 마지막 기록 시각이 {@code cutoff} 이전인 실행 회차를 최대 {@code batchSize}개 삭제합니다.
+     *
+     * <p>진행 중인 회차의 상태가 일부만 지워지지 않도록 회차(RUN_ID) 단위로 삭제하며,
+     * 시작/종료 시각이 하나도 기록되지 않은 회차는 대상에서 제외됩니다. 테이블이 아직 없으면 아무것도 하지 않습니다.</p>
+     *
+     * @return 삭제한 실행 회차 수
+     */
+    public int pruneWorkflowRuns(LocalDateTime cutoff, int batchSize) {
+        String table = prefix + "WORKFLOW_RUN";
+        if (!hasTable(table)) return 0;
+
+        List<String> runIds = jdbcTemplate.queryForList(
+                "SELECT RUN_ID FROM " + table + " GROUP BY RUN_ID"
+                        + " HAVING MAX(COALESCE(END_TIME, START_TIME)) < ?"
+                        + " ORDER BY RUN_ID LIMIT " + batchSize,
+                String.class, Timestamp.valueOf(cutoff));
+
+        if (runIds.isEmpty()) return 0;
+
+        namedJdbcTemplate.update("DELETE FROM " + table + " WHERE RUN_ID IN (:runIds)",
+                new MapSqlParameterSource("runIds", runIds));
+        return runIds.size();
+    }
+
+    private boolean hasIndex(String table, String indexName) {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((Connection connection) -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (String candidate : tableNameCandidates(table)) {
+                try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), null, candidate, false, false)) {
+                    while (rs.next()) {
+                        if (indexName.equalsIgnoreCase(rs.getString("INDEX_NAME"))) return true;
+                    }
+                }
+            }
+            return false;
+        }));
+    }
+
+    private boolean hasTable(String table) {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((Connection connection) -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (String candidate : tableNameCandidates(table)) {
+                try (ResultSet rs = metaData.getTables(connection.getCatalog(), null, candidate, null)) {
+                    if (rs.next()) return true;
+                }
+            }
+            return false;
+        }));
+    }
+
+    /**
+     * DB에 따라 메타데이터 조회 시 테이블 이름의 대소문자 처리가 다르므로 두 가지를 모두 확인합니다.
+     */
+    private static List<String> tableNameCandidates(String table) {
+        return List.of(table.toUpperCase(Locale.ROOT), table.toLowerCase(Locale.ROOT));
+    }
+}
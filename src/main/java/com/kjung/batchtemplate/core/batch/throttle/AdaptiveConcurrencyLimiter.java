@@ -0,0 +1,80 @@
+package com.kjung.batchtemplate.core.batch.throttle;
+
+import com.kjung.batchtemplate.core.property.BatchApiProperties;
+
+/**
+ * 관측한 실행 시간에 따라 동시 실행 수 상한을 조정하는 limiter입니다. (gradient 방식)
+ *
+ * <p>실행 시간의 장기 평균(기준)과 최근 실행 시간을 비교하여, 최근 실행이 {@code tolerance}배 이상 느려지면
+ * DB 등 공유 자원이 포화된 것으로 보고 비율만큼 상한을 줄이고, 그렇지 않으면서 상한의 절반 이상을 사용 중이면
+ * 여유분(√limit)만큼 늘립니다.
+ * 새 상한은 {@code smoothing} 비율로 반영되며 {@code [minLimit, maxLimit]} 범위로 제한됩니다.</p>
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    /** 기준 실행 시간(장기 평균) 반영 비율 */
+    private static final double LONG_WINDOW_ALPHA = 0.05;
+
+    private final BatchApiProperties.Adaptive settings;
+
+    private double limit;
+
+    private double baselineNanos;
+
+    private int inFlight;
+
+    public AdaptiveConcurrencyLimiter(BatchApiProperties.Adaptive settings) {
+        this.settings = settings;
+        this.limit = settings.getInitialLimit();
+    }
+
+    /**
+     * 실행 슬롯을 획득합니다.
+     *
+     * @return 상한에 도달한 경우 false
+     */
+    public synchronized boolean tryAcquire() {
+        if (inFlight >= (int) limit) return false;
+        inFlight++;
+        return true;
+    }
+
+    /**
+     * 실행 슬롯을 반납합니다.
+     */
+    public synchronized void release() {
+        inFlight--;
+    }
+
+    /**
+     * Job 실행 시간 표본을 반영하여 상한을 조정합니다.
+     */
+    public synchronized void onSample(long latencyNanos) {
+        if (latencyNanos <= 0) return;
+
+        if (baselineNanos == 0) {
+            baselineNanos = latencyNanos;
+            return;
+        }
+        baselineNanos = baselineNanos * (1 - LONG_WINDOW_ALPHA) + latencyNanos * LONG_WINDOW_ALPHA;
+
+        // 최근 실행이 기준보다 tolerance배 이상 느리면 gradient < 1로 상한을 줄인다.
+        double gradient = Math.max(0.5, Math.min(1.0, settings.getTolerance() * baselineNanos / latencyNanos));
+
+        // 지연이 없더라도 상한의 절반도 사용하지 않는 상태에서는 늘리지 않는다.
+        if (gradient >= 1.0 && inFlight < limit / 2) return;
+
+        double newLimit = gradient < 1.0 ? limit * gradient : limit + Math.sqrt(limit);
+
+        newLimit = limit * (1 - settings.getSmoothing()) + newLimit * settings.getSmoothing();
+        limit = Math.max(settings.getMinLimit(), Math.min(settings.getMaxLimit(), newLimit));
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+}
@@ -0,0 +1,51 @@
+package com.kjung.batchtemplate.core.batch.throttle;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 초당 {@code refillPerSecond}개씩 최대 {@code capacity}개까지 보충되는 token bucket입니다.
+ */
+public class TokenBucket {
+
+    private final double capacity;
+
+    private final double refillPerNano;
+
+    private double tokens;
+
+    private long lastRefill;
+
+    public TokenBucket(int capacity, double refillPerSecond) {
+        if (capacity <= 0 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity and refillPerSecond must be positive");
+        }
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.tokens = capacity;
+        this.lastRefill = System.nanoTime();
+    }
+
+    /**
+     * token 1개를 사용합니다.
+     *
+     * @return 사용한 경우 0, token이 부족한 경우 다음 token이 보충될 때까지 남은 시간 (ns)
+     */
+    public synchronized long tryAcquire() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * refillPerNano);
+        lastRefill = now;
+
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) / refillPerNano);
+    }
+
+    /**
+     * 사용한 token 1개를 돌려줍니다. (token을 사용한 뒤 다른 이유로 요청이 거부된 경우)
+     */
+    public synchronized void refund() {
+        tokens = Math.min(capacity, tokens + 1);
+    }
+}
@@ -0,0 +1,235 @@
+package com.kjung.batchtemplate.core.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongFunction;
+
+/**
+ * long key로 참조 데이터를 조회하는 읽기 전용 캐시입니다.
+ *
+ * <p>key를 {@code long[]}에, 값을 {@code Object[]}에 저장하는 open addressing(linear probing) 구조이므로
+ * {@code HashMap<Long, V>}와 달리 key boxing과 Entry 객체가 없어 같은 항목 수에서 heap 사용량이 크게 줄고,
+ * 적재 후에는 변경되지 않으므로 파티션/멀티스레드 Step에서 잠금 없이 공유됩니다.</p>
+ *
+ * <p>적재 중 항목 수 상한({@code batch.cache.max-entries})에 도달하면 나머지는 적재하지 않고({@link #isComplete()} false),
+ * 캐시에 없는 key는 fallback 조회 결과를 크기가 제한된 LRU({@code batch.cache.fallback-size})에 보관합니다.</p>
+ */
+public final class EnrichmentCache<V> {
+
+    /** fallback 조회 결과가 없음을 나타내는 값 */
+    private static final Object ABSENT = new Object();
+
+    private final String name;
+
+    private final long[] keys;
+
+    private final Object[] values;
+
+    private final int mask;
+
+    private final int size;
+
+    // key 0은 빈 slot 표시에 사용하므로 별도로 보관
+    private final Object zeroValue;
+
+    private final boolean complete;
+
+    private final LongFunction<V> fallback;
+
+    private final Map<Long, Object> fallbackCache;
+
+    private final LongAdder hits;
+
+    private final LongAdder misses;
+
+    private EnrichmentCache(Builder<V> builder, LongAdder hits, LongAdder misses) {
+        this.name = builder.name;
+        this.keys = builder.keys;
+        this.values = builder.values;
+        this.mask = builder.keys.length - 1;
+        this.size = builder.size;
+        this.zeroValue = builder.zeroValue;
+        this.complete = !builder.truncated;
+        this.fallback = builder.fallback;
+        this.fallbackCache = builder.fallback != null ? lruMap(builder.fallbackSize) : null;
+        this.hits = hits;
+        this.misses = misses;
+    }
+
+    /**
+     * key에 해당하는 값을 반환합니다.
+     *
+     * @return 값이 없으면 null (적재되지 않은 key는 fallback 조회 결과)
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        Object value = key == 0 ? zeroValue : lookup(key);
+        if (value != null) {
+            hits.increment();
+            return (V) value;
+        }
+
+        misses.increment();
+        if (complete || fallback == null) return null;
+
+        synchronized (fallbackCache) {
+            Object cached = fallbackCache.get(key);
+            if (cached == null) {
+                V loaded = fallback.apply(key);
+                cached = loaded != null ? loaded : ABSENT;
+                fallbackCache.put(key, cached);
+            }
+            return cached == ABSENT ? null : (V) cached;
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 적재된 항목 수입니다.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 참조 데이터를 모두 적재했는지 여부입니다. false면 항목 수 상한으로 일부만 적재된 상태입니다.
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * key/값 배열이 차지하는 메모리(byte)입니다. 값 객체 자체의 크기는 포함하지 않습니다.
+     */
+    public long estimatedBytes() {
+        // long[] + 참조 배열(compressed oops 기준 4byte) + 배열 header
+        return (long) keys.length * Long.BYTES + (long) values.length * Integer.BYTES + 32;
+    }
+
+    private Object lookup(long key) {
+        int index = indexOf(key, mask);
+        while (true) {
+            long candidate = keys[index];
+            if (candidate == key) return values[index];
+            if (candidate == 0) return null;
+            index = (index + 1) & mask;
+        }
+    }
+
+    private static int indexOf(long key, int mask) {
+        long hash = key * 0x9E3779B97F4A7C15L; // Fibonacci hashing으로 연속된 id도 고르게 분산
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private static Map<Long, Object> lruMap(int maxSize) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Object> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * {@link EnrichmentLoader}가 채우는 적재용 builder입니다. 한 스레드에서만 사용합니다.
+     */
+    static final class Builder<V> implements EnrichmentLoader.Sink<V> {
+
+        private static final int INITIAL_CAPACITY = 1024;
+
+        private static final float LOAD_FACTOR = 0.5f;
+
+        private final String name;
+
+        private final int maxEntries;
+
+        private LongFunction<V> fallback;
+
+        private int fallbackSize;
+
+        private long[] keys = new long[INITIAL_CAPACITY];
+
+        private Object[] values = new Object[INITIAL_CAPACITY];
+
+        private int size;
+
+        private Object zeroValue;
+
+        private boolean truncated;
+
+        Builder(String name, int maxEntries) {
+            this.name = name;
+            this.maxEntries = maxEntries;
+        }
+
+        Builder<V> fallback(LongFunction<V> fallback, int fallbackSize) {
+            this.fallback = fallback;
+            this.fallbackSize = fallbackSize;
+            return this;
+        }
+
+        @Override
+        public boolean put(long key, V value) {
+            if (value == null) {
+                throw new IllegalArgumentException("Enrichment cache '" + name + "' does not allow null value for key " + key);
+            }
+
+            if (key == 0) {
+                if (zeroValue == null) size++;
+                zeroValue = value;
+                return true;
+            }
+
+            int index = EnrichmentCache.indexOf(key, keys.length - 1);
+            while (keys[index] != 0) {
+                if (keys[index] == key) {
+                    values[index] = value; // 같은 key는 마지막 값 사용
+                    return true;
+                }
+                index = (index + 1) & (keys.length - 1);
+            }
+
+            if (size >= maxEntries) {
+                truncated = true;
+                return false;
+            }
+
+            keys[index] = key;
+            values[index] = value;
+            if (++size > keys.length * LOAD_FACTOR) rehash();
+            return true;
+        }
+
+        boolean isTruncated() {
+            return truncated;
+        }
+
+        EnrichmentCache<V> build(LongAdder hits, LongAdder misses) {
+            if (truncated && fallback == null) {
+                throw new IllegalStateException("Enrichment cache '" + name + "' exceeds max entries (" + maxEntries
+                        + "). Raise batch.cache.max-entries or provide a fallback lookup.");
+            }
+            return new EnrichmentCache<>(this, hits, misses);
+        }
+
+        private void rehash() {
+            long[] oldKeys = keys;
+            Object[] oldValues = values;
+            keys = new long[oldKeys.length * 2];
+            values = new Object[oldValues.length * 2];
+            int mask = keys.length - 1;
+
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] == 0) continue;
+                int index = EnrichmentCache.indexOf(oldKeys[i], mask);
+                while (keys[index] != 0) index = (index + 1) & mask;
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+}
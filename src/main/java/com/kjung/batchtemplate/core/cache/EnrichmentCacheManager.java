@@ -0,0 +1,197 @@
+package com.kjung.batchtemplate.core.cache;
+
+import com.kjung.batchtemplate.core.batch.BatchJobCompletedEvent;
+import com.kjung.batchtemplate.core.property.BatchCacheProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongFunction;
+
+/**
+ * JobExecution 단위로 {@link EnrichmentCache}를 생성/공유/제거하는 컴포넌트입니다.
+ *
+ * <p>같은 JobExecution에서 같은 이름으로 요청한 캐시는 한 번만 적재되며, 파티션 worker Step들은 먼저 요청한 Step의
+ * 적재가 끝날 때까지 기다린 뒤 같은 캐시를 공유합니다. Job이 종료되면({@link BatchJobCompletedEvent}) 해당 실행의
+ * 캐시를 모두 제거하고, 캐시를 가진 실행이 {@code batch.cache.max-executions}를 넘으면 가장 오래된 실행부터 제거합니다.</p>
+ *
+ * <p>기록되는 지표 (tag: {@code cache}):
+ * <ul>
+ *   <li>{@code batch.cache.requests} - 조회 수 (tag: {@code result} = hit, miss)</li>
+ *   <li>{@code batch.cache.entries} - 적재된 항목 수</li>
+ *   <li>{@code batch.cache.memory} - key/값 배열 메모리 (bytes, 값 객체 제외)</li>
+ *   <li>{@code batch.cache.load} - 적재 시간</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EnrichmentCacheManager {
+
+    private static final String METRIC_PREFIX = "batch.cache";
+
+    private final BatchCacheProperties properties;
+
+    private final MeterRegistry meterRegistry;
+
+    // JobExecution id → (캐시 이름 → 적재 중/적재된 캐시)
+    private final Map<Long, Map<String, CompletableFuture<EnrichmentCache<?>>>> executions = new ConcurrentHashMap<>();
+
+    // 캐시 이름별 지표 (실행이 바뀌어도 같은 지표에 누적)
+    private final Map<String, CacheStats> stats = new ConcurrentHashMap<>();
+
+    /**
+     * 현재 Step이 속한 JobExecution의 캐시를 반환합니다. 없으면 loader로 적재합니다.
+     * {@code @StepScope} Bean 생성 시점이나 Step 실행 스레드에서 호출해야 합니다.
+     *
+     * @throws IllegalStateException Step 실행 중이 아닌 경우, 또는 항목 수 상한을 초과한 경우
+     */
+    public <V> EnrichmentCache<V> get(String name, EnrichmentLoader<V> loader) {
+        return get(currentJobExecutionId(), name, loader, null);
+    }
+
+    /**
+     * {@link #get(String, EnrichmentLoader)}와 같으며, 항목 수 상한으로 적재되지 않은 key는 {@code fallback}으로 조회합니다.
+     */
+    public <V> EnrichmentCache<V> get(String name, EnrichmentLoader<V> loader, LongFunction<V> fallback) {
+        return get(currentJobExecutionId(), name, loader, fallback);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <V> EnrichmentCache<V> get(long jobExecutionId, String name, EnrichmentLoader<V> loader, LongFunction<V> fallback) {
+        if (!executions.containsKey(jobExecutionId)) evictOldest();
+        Map<String, CompletableFuture<EnrichmentCache<?>>> caches =
+                executions.computeIfAbsent(jobExecutionId, id -> new ConcurrentHashMap<>());
+
+        CompletableFuture<EnrichmentCache<?>> created = new CompletableFuture<>();
+        CompletableFuture<EnrichmentCache<?>> existing = caches.putIfAbsent(name, created);
+        if (existing != null) return (EnrichmentCache<V>) join(existing);
+
+        try {
+            EnrichmentCache<V> cache = load(name, loader, fallback);
+            created.complete(cache);
+            return cache;
+        } catch (RuntimeException e) {
+            caches.remove(name, created);
+            created.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * SQL 1회 조회로 참조 데이터를 적재하는 loader를 생성합니다. ({@code batch.cache.fetch-size} 적용)
+     */
+    public <V> EnrichmentLoader<V> jdbcLoader(DataSource dataSource, String sql, String keyColumn, RowMapper<V> rowMapper) {
+        return EnrichmentLoader.jdbc(dataSource, sql, keyColumn, rowMapper, properties.getFetchSize());
+    }
+
+    /**
+     * 종료된 Job의 캐시를 제거합니다.
+     */
+    @EventListener
+    public void onJobCompleted(BatchJobCompletedEvent event) {
+        evict(event.jobExecution().getId());
+    }
+
+    public void evict(long jobExecutionId) {
+        Map<String, CompletableFuture<EnrichmentCache<?>>> caches = executions.remove(jobExecutionId);
+        if (caches == null) return;
+
+        caches.values().forEach(future -> future.thenAccept(cache -> {
+            CacheStats cacheStats = stats.get(cache.getName());
+            cacheStats.entries().addAndGet(-cache.size());
+            cacheStats.bytes().addAndGet(-cache.estimatedBytes());
+        }));
+    }
+
+    private <V> EnrichmentCache<V> load(String name, EnrichmentLoader<V> loader, LongFunction<V> fallback) {
+        CacheStats cacheStats = stats.computeIfAbsent(name, this::registerStats);
+
+        EnrichmentCache.Builder<V> builder = new EnrichmentCache.Builder<V>(name, properties.getMaxEntries())
+                .fallback(fallback, properties.getFallbackSize());
+
+        long start = System.nanoTime();
+        loader.load(builder);
+        EnrichmentCache<V> cache = builder.build(cacheStats.hits(), cacheStats.misses());
+        long elapsed = System.nanoTime() - start;
+
+        cacheStats.loadTimer().record(elapsed, TimeUnit.NANOSECONDS);
+        cacheStats.entries().addAndGet(cache.size());
+        cacheStats.bytes().addAndGet(cache.estimatedBytes());
+
+        if (builder.isTruncated()) {
+            log.warn("[Cache] '{}' 항목 수 상한({}) 도달, 나머지는 fallback 조회", name, properties.getMaxEntries());
+        }
+        log.info("[Cache] '{}' 적재 완료: {}건, {}KB, {}ms",
+                name, cache.size(), cache.estimatedBytes() / 1024, elapsed / 1_000_000);
+        return cache;
+    }
+
+    private void evictOldest() {
+        while (!executions.isEmpty() && executions.size() >= properties.getMaxExecutions()) {
+            executions.keySet().stream().min(Comparator.naturalOrder()).ifPresent(this::evict);
+        }
+    }
+
+    private CacheStats registerStats(String name) {
+        CacheStats cacheStats = new CacheStats(Timer.builder(METRIC_PREFIX + ".load")
+                .description("Enrichment cache bulk load time")
+                .tag("cache", name)
+                .register(meterRegistry));
+
+        FunctionCounter.builder(METRIC_PREFIX + ".requests", cacheStats.hits(), LongAdder::sum)
+                .tag("cache", name).tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder(METRIC_PREFIX + ".requests", cacheStats.misses(), LongAdder::sum)
+                .tag("cache", name).tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".entries", cacheStats.entries(), AtomicLong::get)
+                .tag("cache", name)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".memory", cacheStats.bytes(), AtomicLong::get)
+                .tag("cache", name)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        return cacheStats;
+    }
+
+    private static long currentJobExecutionId() {
+        StepContext context = StepSynchronizationManager.getContext();
+        if (context == null) {
+            throw new IllegalStateException("Enrichment cache must be requested within a step execution");
+        }
+        return context.getStepExecution().getJobExecutionId();
+    }
+
+    private static EnrichmentCache<?> join(CompletableFuture<EnrichmentCache<?>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    private record CacheStats(Timer loadTimer, LongAdder hits, LongAdder misses, AtomicLong entries, AtomicLong bytes) {
+
+        private CacheStats(Timer loadTimer) {
+            this(loadTimer, new LongAdder(), new LongAdder(), new AtomicLong(), new AtomicLong());
+        }
+    }
+}
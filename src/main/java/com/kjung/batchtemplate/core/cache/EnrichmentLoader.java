@@ -0,0 +1,52 @@
+package com.kjung.batchtemplate.core.cache;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+
+/**
+ * {@link EnrichmentCache}에 적재할 참조 데이터를 한 번에 읽어오는 loader입니다.
+ *
+ * <p>{@link Sink#put}이 false를 반환하면 항목 수 상한에 도달한 것이므로 읽기를 중단합니다.</p>
+ */
+@FunctionalInterface
+public interface EnrichmentLoader<V> {
+
+    void load(Sink<V> sink);
+
+    /**
+     * 적재 대상입니다. key를 boxing하지 않도록 primitive long으로 받습니다.
+     */
+    @FunctionalInterface
+    interface Sink<V> {
+
+        /**
+         * @return 계속 적재할 수 있으면 true, 항목 수 상한에 도달했으면 false
+         */
+        boolean put(long key, V value);
+    }
+
+    /**
+     * SQL 1회 조회로 전체 참조 데이터를 적재하는 loader를 생성합니다.
+     *
+     * @param sql       참조 데이터 조회 SQL (예: {@code SELECT PRODUCT_ID, NAME, CATEGORY FROM PRODUCT})
+     * @param keyColumn key로 사용할 숫자 컬럼 이름
+     * @param rowMapper 한 row를 값 객체로 변환하는 mapper
+     * @param fetchSize JDBC fetch size (MySQL은 {@code useCursorFetch=true}인 커넥션에서 적용, {@code batch.datasource.cursor} 참고)
+     */
+    static <V> EnrichmentLoader<V> jdbc(DataSource dataSource, String sql, String keyColumn, RowMapper<V> rowMapper, int fetchSize) {
+        return sink -> {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.setFetchSize(fetchSize);
+            jdbcTemplate.query(sql, (ResultSet rs) -> {
+                int rowNum = 0;
+                while (rs.next()) {
+                    if (!sink.put(rs.getLong(keyColumn), rowMapper.mapRow(rs, rowNum++))) break;
+                }
+                return null;
+            });
+        };
+    }
+}
@@ -0,0 +1,189 @@
+package com.kjung.batchtemplate.core.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.batch.BatchDataSource;
+import org.springframework.boot.autoconfigure.batch.BatchTransactionManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.quartz.QuartzDataSource;
+import org.springframework.boot.autoconfigure.quartz.QuartzTransactionManager;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+
+/**
+ * 용도별로 분리된 DataSource(커넥션 풀)와 TransactionManager를 구성하는 설정 클래스입니다.
+ *
+ * <ul>
+ *   <li>업무(business): {@code spring.datasource} - JPA와 Job의 reader/writer가 사용하는 {@code @Primary} DataSource</li>
+ *   <li>배치 메타데이터: JobRepository/JobExplorer ({@link BatchDataSource}) - 기본은 업무 DataSource와 TransactionManager를 그대로 사용하며,
+ *       {@code batch.datasource.separate-metadata: true}일 때만 {@code batch.datasource.metadata} 풀을 따로 만듭니다.</li>
+ *   <li>Quartz: {@code batch.datasource.quartz} - Quartz JDBC JobStore ({@link QuartzDataSource})</li>
+ *   <li>cursor: {@code batch.datasource.cursor} - cursor reader와 참조 데이터 적재용 업무 DB 조회 ({@code cursorDataSource})</li>
+ * </ul>
+ * 분리된 DataSource의 {@code url}, {@code username}, {@code password}를 지정하지 않으면
+ * {@code spring.datasource} 값을 사용하므로 같은 DB를 쓰더라도 커넥션 풀은 분리되며, 풀별 크기와
+ * Hikari 메트릭({@code hikaricp.connections{pool=...}})을 따로 관리할 수 있습니다.
+ *
+ * <p>MySQL의 {@code useCursorFetch=true}는 cursor DataSource에만 적용합니다. 모든 조회가 서버 측 cursor를 사용하게 되므로
+ * 업무/메타데이터/Quartz DataSource의 URL에는 지정하지 않습니다.</p>
+ *
+ * <p>기본 구성에서는 Step의 chunk 트랜잭션과 JobRepository의 메타데이터 갱신(ExecutionContext, read/write count)이
+ * 같은 트랜잭션으로 커밋되므로, 업무 데이터 커밋과 재시작 지점 저장은 함께 성공하거나 함께 롤백됩니다.</p>
+ *
+ * <p>{@code separate-metadata: true}로 메타데이터 풀을 분리하면 두 커밋은 원자적이지 않습니다.
+ * chunk 처리 중 메타데이터 갱신은 별도 트랜잭션으로 업무 chunk보다 <b>먼저</b> 커밋되므로, 그 사이 프로세스가 종료되거나
+ * 업무 커밋이 실패하면 재시작 지점은 이미 적재되지 않은 item 뒤로 옮겨져 있고, 재시작 시 해당 chunk는 다시 처리되지 않고 <b>누락</b>됩니다.
+ * 메타데이터를 다른 DB/스키마에 두어야 하는 경우에만 사용하며, 재시작 대신 처리 여부 컬럼(process indicator) 등으로
+ * 처리 대상을 다시 찾을 수 있는 Job에만 적용합니다.</p>
+ */
+@Configuration
+public class DataSourceConfig {
+
+    private static final String SEPARATE_METADATA = "batch.datasource.separate-metadata";
+
+    /* 업무 DataSource */
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties dataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties dataSourceProperties) {
+        return createDataSource(dataSourceProperties);
+    }
+
+    @Bean
+    @Primary
+    public PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new JpaTransactionManager(entityManagerFactory);
+    }
+
+    /* 배치 메타데이터 DataSource */
+
+    /**
+     * 기본 구성: JobRepository가 업무 DataSource를 사용합니다. (chunk와 메타데이터가 한 트랜잭션으로 커밋)
+     */
+    @Bean(destroyMethod = "")
+    @BatchDataSource
+    @ConditionalOnProperty(name = SEPARATE_METADATA, havingValue = "false", matchIfMissing = true)
+    public DataSource sharedBatchDataSource(DataSource dataSource) {
+        return dataSource;
+    }
+
+    /**
+     * 기본 구성: JobRepository가 chunk와 같은 업무 TransactionManager에 참여합니다.
+     */
+    @Bean
+    @BatchTransactionManager
+    @ConditionalOnProperty(name = SEPARATE_METADATA, havingValue = "false", matchIfMissing = true)
+    public PlatformTransactionManager sharedBatchTransactionManager(PlatformTransactionManager transactionManager) {
+        return transactionManager;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = SEPARATE_METADATA, havingValue = "true")
+    @ConfigurationProperties("batch.datasource.metadata")
+    public DataSourceProperties batchDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    /**
+     * 분리 구성: 메타데이터 전용 풀입니다. chunk 커밋과 원자적이지 않으므로 클래스 설명의 제약을 확인합니다.
+     */
+    @Bean
+    @BatchDataSource
+    @ConditionalOnProperty(name = SEPARATE_METADATA, havingValue = "true")
+    @ConfigurationProperties("batch.datasource.metadata.hikari")
+    public HikariDataSource batchDataSource(DataSourceProperties dataSourceProperties,
+                                            @Qualifier("batchDataSourceProperties") DataSourceProperties batchDataSourceProperties) {
+        return createDataSource(inherit(batchDataSourceProperties, dataSourceProperties));
+    }
+
+    @Bean
+    @BatchTransactionManager
+    @ConditionalOnProperty(name = SEPARATE_METADATA, havingValue = "true")
+    public PlatformTransactionManager batchTransactionManager(@BatchDataSource DataSource batchDataSource) {
+        return new JdbcTransactionManager(batchDataSource);
+    }
+
+    /* Quartz DataSource */
+
+    @Bean
+    @ConfigurationProperties("batch.datasource.quartz")
+    public DataSourceProperties quartzDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @QuartzDataSource
+    @ConfigurationProperties("batch.datasource.quartz.hikari")
+    public HikariDataSource quartzDataSource(DataSourceProperties dataSourceProperties,
+                                             @Qualifier("quartzDataSourceProperties") DataSourceProperties quartzDataSourceProperties) {
+        return createDataSource(inherit(quartzDataSourceProperties, dataSourceProperties));
+    }
+
+    @Bean
+    @QuartzTransactionManager
+    public PlatformTransactionManager quartzTransactionManager(@QuartzDataSource DataSource quartzDataSource) {
+        return new JdbcTransactionManager(quartzDataSource);
+    }
+
+    /* cursor reader DataSource */
+
+    @Bean
+    @ConfigurationProperties("batch.datasource.cursor")
+    public DataSourceProperties cursorDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    /**
+     * fetch size 단위로 조회 결과를 가져오는 cursor reader용 DataSource입니다.
+     * MySQL은 {@code useCursorFetch=true}일 때만 fetch size가 적용되므로 이 풀의 커넥션에만 지정합니다.
+     */
+    @Bean
+    @ConfigurationProperties("batch.datasource.cursor.hikari")
+    public HikariDataSource cursorDataSource(DataSourceProperties dataSourceProperties,
+                                             @Qualifier("cursorDataSourceProperties") DataSourceProperties cursorDataSourceProperties) {
+        HikariDataSource dataSource = createDataSource(inherit(cursorDataSourceProperties, dataSourceProperties));
+        if (dataSource.getJdbcUrl() != null && dataSource.getJdbcUrl().startsWith("jdbc:mysql:")) {
+            dataSource.addDataSourceProperty("useCursorFetch", "true");
+        }
+        return dataSource;
+    }
+
+    private static HikariDataSource createDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    /**
+     * 접속 정보가 지정되지 않은 경우 업무 DataSource의 접속 정보를 사용합니다.
+     */
+    private static DataSourceProperties inherit(DataSourceProperties target, DataSourceProperties primary) {
+        if (!StringUtils.hasText(target.getUrl())) {
+            target.setUrl(primary.getUrl());
+            target.setUsername(primary.getUsername());
+            target.setPassword(primary.getPassword());
+        }
+        if (!StringUtils.hasText(target.getDriverClassName())) {
+            target.setDriverClassName(primary.getDriverClassName());
+        }
+        return target;
+    }
+}
@@ -0,0 +1,36 @@
+package com.kjung.batchtemplate.core.config;
+
+import com.kjung.batchtemplate.core.progress.JobProgressListener;
+import com.kjung.batchtemplate.core.progress.JobProgressListenerRegistrar;
+import com.kjung.batchtemplate.core.progress.JobProgressRegistry;
+import com.kjung.batchtemplate.core.property.BatchProgressProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Job 진행 상황 수집 구성 요소를 등록하는 설정 클래스입니다. ({@code batch.progress.enabled=false}이면 등록하지 않음)
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "batch.progress", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class JobProgressConfig {
+
+    @Bean
+    public JobProgressRegistry jobProgressRegistry(BatchProgressProperties progressProperties) {
+        return new JobProgressRegistry(progressProperties.getFinishedRetention());
+    }
+
+    @Bean
+    public JobProgressListener jobProgressListener(JobProgressRegistry jobProgressRegistry) {
+        return new JobProgressListener(jobProgressRegistry);
+    }
+
+    /**
+     * BeanPostProcessor는 다른 Bean보다 먼저 생성되므로 static으로 선언하고 리스너는 사용 시점에 조회합니다.
+     */
+    @Bean
+    public static JobProgressListenerRegistrar jobProgressListenerRegistrar(ObjectProvider<JobProgressListener> jobProgressListener) {
+        return new JobProgressListenerRegistrar(jobProgressListener);
+    }
+}
@@ -0,0 +1,92 @@
+package com.kjung.batchtemplate.core.config;
+
+import com.kjung.batchtemplate.core.batch.repository.CachingJobRepositoryFactoryBean;
+import com.kjung.batchtemplate.core.property.BatchRepositoryProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.batch.BatchDataSource;
+import org.springframework.boot.autoconfigure.batch.BatchProperties;
+import org.springframework.boot.autoconfigure.batch.BatchTransactionManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+
+/**
+ * {@code batch.repository.cache.enabled=true}인 경우 Spring Boot가 생성한 JobRepository를
+ * {@link CachingJobRepositoryFactoryBean}으로 만든 JobRepository로 교체하는 설정 클래스입니다.
+ *
+ * <p>Boot의 배치 자동 설정({@code DefaultBatchConfiguration})은 JobRepository 생성 과정을 확장할 수 없고,
+ * 직접 {@code DefaultBatchConfiguration}을 정의하면 스키마 초기화 등 자동 설정 전체가 비활성화되므로
+ * BeanPostProcessor에서 같은 DataSource/TransactionManager({@link BatchDataSource}, {@link BatchTransactionManager})와
+ * 테이블 prefix로 다시 생성합니다.</p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "batch.repository.cache.enabled", havingValue = "true")
+public class JobRepositoryCacheConfig {
+
+    private static final String JOB_REPOSITORY_BEAN = "jobRepository";
+
+    @Bean
+    public static BeanPostProcessor cachingJobRepositoryPostProcessor(Environment environment,
+                                                                      @BatchDataSource ObjectProvider<DataSource> dataSource,
+                                                                      @BatchTransactionManager ObjectProvider<PlatformTransactionManager> transactionManager,
+                                                                      ObjectProvider<BatchProperties> batchProperties) {
+        return new CachingJobRepositoryPostProcessor(environment, dataSource, transactionManager, batchProperties);
+    }
+
+    @Slf4j
+    @RequiredArgsConstructor
+    static class CachingJobRepositoryPostProcessor implements BeanPostProcessor {
+
+        private final Environment environment;
+
+        private final ObjectProvider<DataSource> dataSource;
+
+        private final ObjectProvider<PlatformTransactionManager> transactionManager;
+
+        private final ObjectProvider<BatchProperties> batchProperties;
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+            if (!(bean instanceof JobRepository) || !JOB_REPOSITORY_BEAN.equals(beanName)) {
+                return bean;
+            }
+
+            // BeanPostProcessor는 @ConfigurationProperties 바인딩보다 먼저 생성되므로 직접 바인딩한다.
+            BatchRepositoryProperties.Cache settings = Binder.get(environment)
+                    .bind("batch.repository.cache", BatchRepositoryProperties.Cache.class)
+                    .orElseGet(BatchRepositoryProperties.Cache::new);
+
+            try {
+                CachingJobRepositoryFactoryBean factory = new CachingJobRepositoryFactoryBean(settings);
+                factory.setDataSource(dataSource.getObject());
+                factory.setTransactionManager(transactionManager.getObject());
+
+                BatchProperties.Jdbc jdbc = batchProperties.getObject().getJdbc();
+                if (StringUtils.hasText(jdbc.getTablePrefix())) {
+                    factory.setTablePrefix(jdbc.getTablePrefix());
+                }
+                if (jdbc.getIsolationLevelForCreate() != null) {
+                    factory.setIsolationLevelForCreateEnum(jdbc.getIsolationLevelForCreate());
+                }
+
+                factory.afterPropertiesSet();
+                log.info("[JobRepository] 메타데이터 캐시 사용 (status-check-interval: {}, max-instances: {})",
+                        settings.getStatusCheckInterval(), settings.getMaxInstances());
+                return factory.getObject();
+            } catch (Exception e) {
+                throw new IllegalStateException("Failed to create caching JobRepository", e);
+            }
+        }
+    }
+}
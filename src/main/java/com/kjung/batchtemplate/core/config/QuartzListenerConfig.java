@@ -0,0 +1,21 @@
+package com.kjung.batchtemplate.core.config;
+
+import com.kjung.batchtemplate.quartz.listener.QuartzJobPolicyListener;
+import org.springframework.boot.autoconfigure.quartz.SchedulerFactoryBeanCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 모든 Trigger에 적용되는 Quartz 리스너를 등록하는 설정 클래스입니다.
+ *
+ * <p>{@link QuartzJobPolicyListener}는 스케줄러 기동 전에 등록되어야 기동 직후 처리되는 misfire도 기록할 수 있으므로
+ * {@code QuartzBatchJobRegistrar}가 아닌 SchedulerFactoryBean 단계에서 등록합니다.</p>
+ */
+@Configuration
+public class QuartzListenerConfig {
+
+    @Bean
+    public SchedulerFactoryBeanCustomizer quartzPolicyListenerCustomizer(QuartzJobPolicyListener policyListener) {
+        return schedulerFactoryBean -> schedulerFactoryBean.setGlobalTriggerListeners(policyListener);
+    }
+}
@@ -14,12 +14,15 @@ import org.springframework.context.annotation.PropertySource;
  * <p>기본적으로 {@code @PropertySource}는 properties 파일만 지원하지만,
  * {@code YamlPropertySourceFactory}를 통해 YAML 포맷도 지원하도록 확장하였습니다.</p>
  *
+ * <p>파일 위치는 {@code batch.schedule.location}으로 변경할 수 있으며, 기동 이후의 변경은
+ * {@code ScheduleReloadService}가 같은 위치에서 다시 읽어 반영합니다.</p>
+ *
  * @author 김정현
  */
 @Configuration
 @PropertySource(
         name = "schedule.yaml",
-        value = "classpath:schedule.yml",
+        value = "${batch.schedule.location:classpath:schedule.yml}",
         factory = YamlPropertySourceFactory.class
 )
 @EnableConfigurationProperties(QuartzJobProperties.class)
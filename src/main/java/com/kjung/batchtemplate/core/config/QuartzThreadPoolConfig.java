@@ -0,0 +1,53 @@
+package com.kjung.batchtemplate.core.config;
+
+import com.kjung.batchtemplate.core.property.BatchClusterProperties;
+import com.kjung.batchtemplate.core.property.BatchThreadProperties;
+import com.kjung.batchtemplate.core.thread.BatchTaskExecutorFactory;
+import com.kjung.batchtemplate.quartz.cluster.LoadAwareTaskExecutor;
+import com.kjung.batchtemplate.quartz.cluster.LoadAwareThreadPool;
+import com.kjung.batchtemplate.quartz.cluster.NodeLoadMonitor;
+import org.quartz.impl.StdSchedulerFactory;
+import org.springframework.boot.autoconfigure.quartz.QuartzProperties;
+import org.springframework.boot.autoconfigure.quartz.SchedulerFactoryBeanCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Properties;
+
+/**
+ * Quartz 워커 스레드풀을 설정하는 설정 클래스입니다.
+ *
+ * <ul>
+ *   <li>{@code batch.cluster.load-aware=true}: {@link LoadAwareThreadPool}을 사용하여 노드 부하가
+ *       {@code max-load} 미만일 때만 트리거를 획득합니다. 워커 스레드는 {@code batch.threads.mode}를 따릅니다.</li>
+ *   <li>{@code batch.threads.mode=virtual}: Quartz 기본 {@code SimpleThreadPool} 대신
+ *       {@code LocalTaskExecutorThreadPool}을 사용하여 트리거마다 새 가상 스레드에서 {@code QuartzBatchJobExecutor}를 실행합니다.</li>
+ *   <li>그 외: Quartz 기본 스레드풀({@code org.quartz.threadPool.*})을 그대로 사용합니다.</li>
+ * </ul>
+ */
+@Configuration
+public class QuartzThreadPoolConfig {
+
+    @Bean
+    public SchedulerFactoryBeanCustomizer quartzThreadPoolCustomizer(BatchTaskExecutorFactory taskExecutorFactory,
+                                                                     BatchThreadProperties threadProperties,
+                                                                     BatchClusterProperties clusterProperties,
+                                                                     QuartzProperties quartzProperties,
+                                                                     NodeLoadMonitor nodeLoadMonitor) {
+        return schedulerFactoryBean -> {
+            if (clusterProperties.isLoadAware()) {
+                schedulerFactoryBean.setTaskExecutor(
+                        new LoadAwareTaskExecutor(taskExecutorFactory.createQuartzExecutor(), nodeLoadMonitor));
+
+                // setQuartzProperties는 기존 값을 대체하므로 spring.quartz.properties를 함께 전달한다.
+                Properties properties = new Properties();
+                properties.putAll(quartzProperties.getProperties());
+                properties.setProperty(StdSchedulerFactory.PROP_THREAD_POOL_CLASS, LoadAwareThreadPool.class.getName());
+                schedulerFactoryBean.setQuartzProperties(properties);
+
+            } else if (threadProperties.isVirtual()) {
+                schedulerFactoryBean.setTaskExecutor(taskExecutorFactory.createQuartzExecutor());
+            }
+        };
+    }
+}
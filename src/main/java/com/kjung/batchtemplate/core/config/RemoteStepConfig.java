@@ -0,0 +1,45 @@
+package com.kjung.batchtemplate.core.config;
+
+import com.kjung.batchtemplate.core.property.BatchRemoteProperties;
+import com.kjung.batchtemplate.core.remote.BatchMessageBroker;
+import com.kjung.batchtemplate.core.remote.InMemoryMessageBroker;
+import com.kjung.batchtemplate.core.remote.RemoteStepFactory;
+import com.kjung.batchtemplate.core.remote.RemoteWorkerRegistry;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 원격 파티셔닝/원격 chunk 처리 구성 요소를 등록하는 설정 클래스입니다.
+ *
+ * <p>{@link BatchMessageBroker} Bean이 없으면 단일 JVM용 {@link InMemoryMessageBroker}를 사용합니다.
+ * 여러 노드로 확장하려면 JMS/Kafka 등으로 구현한 {@link BatchMessageBroker}를 Bean으로 등록합니다.</p>
+ */
+@Configuration
+public class RemoteStepConfig {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public BatchMessageBroker batchMessageBroker() {
+        return new InMemoryMessageBroker();
+    }
+
+    @Bean
+    public RemoteStepFactory remoteStepFactory(BatchMessageBroker batchMessageBroker,
+                                               JobExplorer jobExplorer,
+                                               JobRepository jobRepository,
+                                               BatchRemoteProperties remoteProperties) {
+        return new RemoteStepFactory(batchMessageBroker, jobExplorer, jobRepository, remoteProperties);
+    }
+
+    @Bean
+    public RemoteWorkerRegistry remoteWorkerRegistry(BatchMessageBroker batchMessageBroker,
+                                                     JobExplorer jobExplorer,
+                                                     BatchRemoteProperties remoteProperties,
+                                                     ListableBeanFactory beanFactory) {
+        return new RemoteWorkerRegistry(batchMessageBroker, jobExplorer, remoteProperties, beanFactory);
+    }
+}
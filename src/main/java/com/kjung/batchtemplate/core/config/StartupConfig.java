@@ -0,0 +1,89 @@
+package com.kjung.batchtemplate.core.config;
+
+import com.kjung.batchtemplate.quartz.registrar.QuartzBatchJobRegistrar;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.batch.BatchDataSource;
+import org.springframework.boot.autoconfigure.batch.BatchDataSourceScriptDatabaseInitializer;
+import org.springframework.boot.autoconfigure.batch.BatchProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.quartz.QuartzDataSource;
+import org.springframework.boot.autoconfigure.quartz.QuartzDataSourceScriptDatabaseInitializer;
+import org.springframework.boot.autoconfigure.quartz.QuartzProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 애플리케이션 기동 시간을 줄이기 위한 설정 클래스입니다.
+ *
+ * <ul>
+ *   <li>배치 메타데이터(BATCH_*)와 Quartz(QRTZ_*) 스키마가 이미 있으면 초기화 스크립트 실행을 생략합니다.
+ *       Spring Boot 기본 초기화는 {@code initialize-schema: always}일 때 기동마다 DDL 스크립트 전체를 실행하고 오류를 무시하므로,
+ *       대표 테이블 1개의 존재 여부만 확인합니다. {@code initialize-schema} 설정(always, embedded, never)은 그대로 적용됩니다.</li>
+ *   <li>{@code spring.main.lazy-initialization=true}(fast-startup profile)에서도 기동 시 스케줄을 등록해야 하는
+ *       {@link QuartzBatchJobRegistrar}는 지연 생성에서 제외합니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    public static LazyInitializationExcludeFilter eagerStartupBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(QuartzBatchJobRegistrar.class);
+    }
+
+    @Bean
+    public BatchDataSourceScriptDatabaseInitializer batchDataSourceInitializer(@BatchDataSource DataSource batchDataSource,
+                                                                               BatchProperties properties) {
+        String table = properties.getJdbc().getTablePrefix() + "JOB_INSTANCE";
+
+        return new BatchDataSourceScriptDatabaseInitializer(batchDataSource, properties.getJdbc()) {
+            @Override
+            public boolean initializeDatabase() {
+                return !schemaExists(getDataSource(), table) && super.initializeDatabase();
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.quartz", name = "job-store-type", havingValue = "jdbc")
+    public QuartzDataSourceScriptDatabaseInitializer quartzDataSourceScriptDatabaseInitializer(@QuartzDataSource DataSource quartzDataSource,
+                                                                                               QuartzProperties properties) {
+        String table = properties.getProperties().getOrDefault("org.quartz.jobStore.tablePrefix", "QRTZ_") + "LOCKS";
+
+        return new QuartzDataSourceScriptDatabaseInitializer(quartzDataSource, properties) {
+            @Override
+            public boolean initializeDatabase() {
+                return !schemaExists(getDataSource(), table) && super.initializeDatabase();
+            }
+        };
+    }
+
+    private static boolean schemaExists(DataSource dataSource, String table) {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            // DB에 따라 메타데이터의 테이블 이름 대소문자 처리가 다르므로 두 가지를 모두 확인
+            for (String candidate : List.of(table.toUpperCase(Locale.ROOT), table.toLowerCase(Locale.ROOT))) {
+                try (ResultSet rs = metaData.getTables(connection.getCatalog(), null, candidate, null)) {
+                    if (rs.next()) {
+                        log.info("[Schema] {} 테이블이 있으므로 스키마 초기화를 생략합니다.", table);
+                        return true;
+                    }
+                }
+            }
+            return false;
+        } catch (SQLException e) {
+            log.warn("[Schema] {} 테이블 확인 실패, 스키마 초기화를 진행합니다: {}", table, e.getMessage());
+            return false;
+        }
+    }
+}
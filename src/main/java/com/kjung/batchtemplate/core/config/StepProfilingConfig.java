@@ -0,0 +1,32 @@
+package com.kjung.batchtemplate.core.config;
+
+import com.kjung.batchtemplate.core.profiling.StepProfilingListener;
+import com.kjung.batchtemplate.core.profiling.StepProfilingListenerRegistrar;
+import com.kjung.batchtemplate.core.property.BatchProfilingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Step chunk 단위 성능 지표 수집 구성 요소를 등록하는 설정 클래스입니다. ({@code batch.profiling.enabled=false}이면 등록하지 않음)
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "batch.profiling", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class StepProfilingConfig {
+
+    @Bean
+    public StepProfilingListener stepProfilingListener(MeterRegistry meterRegistry, BatchProfilingProperties profilingProperties) {
+        return new StepProfilingListener(meterRegistry,
+                profilingProperties.isPercentileHistogram(), profilingProperties.isAllocation());
+    }
+
+    /**
+     * BeanPostProcessor는 다른 Bean보다 먼저 생성되므로 static으로 선언하고 리스너는 사용 시점에 조회합니다.
+     */
+    @Bean
+    public static StepProfilingListenerRegistrar stepProfilingListenerRegistrar(ObjectProvider<StepProfilingListener> stepProfilingListener) {
+        return new StepProfilingListenerRegistrar(stepProfilingListener);
+    }
+}
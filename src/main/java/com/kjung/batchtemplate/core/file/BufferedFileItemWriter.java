@@ -0,0 +1,208 @@
+package com.kjung.batchtemplate.core.file;
+
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamWriter;
+import org.springframework.batch.item.file.transform.LineAggregator;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * item을 direct {@link ByteBuffer}에 인코딩한 뒤 {@link FileChannel}로 한 번에 쓰는 writer입니다.
+ *
+ * <p>chunk마다 버퍼를 비워(write) 파일 위치를 확정하고, 그 위치를 ExecutionContext({@code <name>.position})에 저장합니다.
+ * 재시작 시 저장된 위치 이후(커밋되지 않은 chunk)를 잘라낸 뒤 이어서 쓰므로 중복 줄이 생기지 않습니다.
+ * 처음 실행할 때 같은 경로의 파일이 있으면 덮어씁니다.</p>
+ *
+ * <p>트랜잭션 안에서 호출되면 chunk가 롤백될 때(skip/retry 포함) 마지막으로 커밋된 위치 이후를 잘라내어,
+ * 롤백된 chunk의 줄이 파일에 남지 않습니다. ({@code TransactionAwareBufferedWriter}와 같은 방식)</p>
+ */
+public class BufferedFileItemWriter<T> implements ItemStreamWriter<T> {
+
+    public static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+
+    private static final String POSITION = "position";
+
+    private final String name;
+    private final Path path;
+    private final LineAggregator<T> lineAggregator;
+
+    private Charset charset = StandardCharsets.UTF_8;
+    private String lineSeparator = System.lineSeparator();
+    private int bufferSize = DEFAULT_BUFFER_SIZE;
+    private boolean forceSync = false;
+    private boolean saveState = true;
+
+    private FileChannel channel;
+    private ByteBuffer buffer;
+    private CharsetEncoder encoder;
+
+    // 마지막으로 커밋된 chunk까지의 파일 위치 (롤백 시 이 위치로 잘라냄)
+    private long committedPosition;
+
+    /**
+     * @param name ExecutionContext key prefix (Step 안에서 유일해야 함)
+     */
+    public BufferedFileItemWriter(String name, Path path, LineAggregator<T> lineAggregator) {
+        this.name = name;
+        this.path = path;
+        this.lineAggregator = lineAggregator;
+    }
+
+    public void setCharset(Charset charset) {
+        this.charset = charset;
+    }
+
+    public void setLineSeparator(String lineSeparator) {
+        this.lineSeparator = lineSeparator;
+    }
+
+    /**
+     * direct buffer 크기 (기본 1MB)
+     */
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * true인 경우 chunk 커밋 전에 파일 내용을 디스크에 동기화(fsync)합니다.
+     */
+    public void setForceSync(boolean forceSync) {
+        this.forceSync = forceSync;
+    }
+
+    public void setSaveState(boolean saveState) {
+        this.saveState = saveState;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+
+            long restartPosition = executionContext.containsKey(key(POSITION))
+                    ? executionContext.getLong(key(POSITION))
+                    : 0;
+            channel.truncate(restartPosition);
+            channel.position(restartPosition);
+            committedPosition = restartPosition;
+        } catch (IOException e) {
+            throw new ItemStreamException("Failed to open file: " + path, e);
+        }
+
+        buffer = ByteBuffer.allocateDirect(bufferSize);
+        encoder = charset.newEncoder();
+    }
+
+    @Override
+    public void write(Chunk<? extends T> chunk) throws Exception {
+        // 이전 write가 인코딩 도중 실패했다면 버퍼에 남은 일부 줄을 버린다.
+        buffer.clear();
+        encoder.reset();
+
+        boolean transactional = registerSynchronization();
+
+        for (T item : chunk) {
+            encode(CharBuffer.wrap(lineAggregator.aggregate(item)));
+            encode(CharBuffer.wrap(lineSeparator));
+        }
+        flush();
+
+        if (!transactional) committedPosition = channel.position();
+    }
+
+    /**
+     * 현재 트랜잭션에 커밋/롤백 처리를 한 번만 등록합니다.
+     *
+     * @return 트랜잭션 안에서 호출된 경우 true
+     */
+    private boolean registerSynchronization() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return false;
+        if (TransactionSynchronizationManager.hasResource(this)) return true;
+
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(BufferedFileItemWriter.this);
+                if (channel == null) return;
+
+                try {
+                    if (status == STATUS_ROLLED_BACK) {
+                        channel.truncate(committedPosition);
+                        channel.position(committedPosition);
+                    } else {
+                        committedPosition = channel.position();
+                    }
+                } catch (IOException e) {
+                    throw new ItemStreamException("Failed to restore file position after rollback: " + path, e);
+                }
+            }
+        });
+        return true;
+    }
+
+    private void encode(CharBuffer chars) throws IOException {
+        while (true) {
+            CoderResult result = encoder.encode(chars, buffer, true);
+            if (result.isOverflow()) {
+                flush();
+                continue;
+            }
+            if (result.isError()) result.throwException();
+            encoder.reset();
+            return;
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        if (channel == null || !saveState) return;
+
+        try {
+            if (forceSync) channel.force(false);
+            executionContext.putLong(key(POSITION), channel.position());
+        } catch (IOException e) {
+            throw new ItemStreamException("Failed to update file position: " + path, e);
+        }
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        if (channel == null) return;
+
+        try {
+            // 커밋된 chunk는 write 시점에 모두 기록되었으므로 남은 버퍼(실패한 chunk)는 버린다.
+            channel.close();
+        } catch (IOException e) {
+            throw new ItemStreamException("Failed to close file: " + path, e);
+        } finally {
+            channel = null;
+            buffer = null;
+        }
+    }
+
+    private String key(String suffix) {
+        return name + "." + suffix;
+    }
+}
@@ -0,0 +1,43 @@
+package com.kjung.batchtemplate.core.file;
+
+import org.springframework.batch.item.file.LineMapper;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * 파일의 한 줄을 item으로 변환합니다.
+ *
+ * <p>{@code line}은 memory-mapped 영역을 가리키는 view(복사 없음)로, 줄바꿈 문자는 포함하지 않으며
+ * 호출이 끝난 뒤에는 재사용되므로 보관하지 않아야 합니다. 문자열 변환 없이 필요한 필드만 읽으면 가장 빠르며,
+ * 기존 {@link LineMapper}(DelimitedLineTokenizer, FixedLengthTokenizer 등)는 {@link #of(LineMapper, Charset)}로 사용할 수 있습니다.</p>
+ */
+@FunctionalInterface
+public interface ByteLineMapper<T> {
+
+    /**
+     * @param lineNumber 파일 기준 줄 번호 (1부터 시작, split 구간에서는 구간 시작 기준)
+     */
+    T mapLine(ByteBuffer line, long lineNumber) throws Exception;
+
+    /**
+     * 줄을 문자열로 디코딩하여 {@link LineMapper}에 전달하는 ByteLineMapper를 생성합니다.
+     */
+    static <T> ByteLineMapper<T> of(LineMapper<T> lineMapper, Charset charset) {
+        return (line, lineNumber) -> lineMapper.mapLine(decode(line, charset), (int) lineNumber);
+    }
+
+    /**
+     * 줄을 문자열로 디코딩합니다.
+     */
+    static String decode(ByteBuffer line, Charset charset) {
+        int length = line.remaining();
+        if (line.hasArray()) {
+            return new String(line.array(), line.arrayOffset() + line.position(), length, charset);
+        }
+
+        byte[] bytes = new byte[length];
+        line.get(line.position(), bytes);
+        return new String(bytes, charset);
+    }
+}
@@ -0,0 +1,209 @@
+package com.kjung.batchtemplate.core.file;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ParseException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * memory-mapped {@link FileChannel} 영역을 순차로 읽어 줄 단위로 item을 생성하는 reader입니다.
+ *
+ * <p>파일을 {@code windowSize} 단위로 매핑하여 줄바꿈({@code \n}, {@code \r\n})을 찾고, 각 줄을 복사 없이
+ * {@link ByteLineMapper}에 전달합니다. {@code FlatFileItemReader}와 달리 BufferedReader/문자 디코딩을 거치지 않으므로
+ * 수 GB 파일을 힙 사용 없이 읽을 수 있습니다. 한 줄은 {@code windowSize}보다 짧아야 합니다.</p>
+ *
+ * <p>다음 줄의 byte offset과 읽은 item 수를 ExecutionContext({@code <name>.offset}, {@code <name>.read.count})에
+ * 저장하므로 재시작 시 처음부터 건너뛰지 않고 마지막 커밋 위치부터 읽습니다.
+ * {@link #setRange(long, long)}로 읽을 구간을 지정하면 {@code FileSplitPartitioner}로 나눈 파티션을 병렬로 읽을 수 있습니다.</p>
+ *
+ * <p>thread-safe 하지 않으므로 멀티스레드 Step 대신 파티션 Step으로 병렬 처리합니다.</p>
+ */
+public class MappedFileItemReader<T> implements ItemStreamReader<T> {
+
+    public static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    private static final String OFFSET = "offset";
+    private static final String READ_COUNT = "read.count";
+
+    private final String name;
+    private final Path path;
+    private final ByteLineMapper<T> lineMapper;
+
+    private long rangeStart = 0;
+    private long rangeEnd = Long.MAX_VALUE;
+    private int linesToSkip = 0;
+    private int windowSize = DEFAULT_WINDOW_SIZE;
+    private boolean saveState = true;
+
+    private FileChannel channel;
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long end;
+    private long position;
+    private long readCount;
+    private long lineNumber;
+
+    /**
+     * @param name ExecutionContext key prefix (Step 안에서 유일해야 함)
+     */
+    public MappedFileItemReader(String name, Path path, ByteLineMapper<T> lineMapper) {
+        this.name = name;
+        this.path = path;
+        this.lineMapper = lineMapper;
+    }
+
+    /**
+     * 읽을 byte 구간을 지정합니다. {@code start}에서 시작하는 줄부터 {@code end} 이전에 시작하는 줄까지 읽으며,
+     * {@code start}는 줄의 시작 위치여야 합니다. ({@code FileSplitPartitioner} 참고)
+     */
+    public void setRange(long start, long end) {
+        this.rangeStart = start;
+        this.rangeEnd = end;
+    }
+
+    /**
+     * 파일 첫 부분에서 건너뛸 줄 수 (헤더). 파일 처음부터 읽는 구간에만 적용됩니다.
+     */
+    public void setLinesToSkip(int linesToSkip) {
+        this.linesToSkip = linesToSkip;
+    }
+
+    /**
+     * 한 번에 매핑할 byte 크기 (기본 64MB)
+     */
+    public void setWindowSize(int windowSize) {
+        this.windowSize = windowSize;
+    }
+
+    public void setSaveState(boolean saveState) {
+        this.saveState = saveState;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+            end = Math.min(rangeEnd, channel.size());
+        } catch (IOException e) {
+            throw new ItemStreamException("Failed to open file: " + path, e);
+        }
+
+        window = null;
+        position = rangeStart;
+        readCount = 0;
+        lineNumber = 0;
+
+        if (executionContext.containsKey(key(OFFSET))) {
+            position = executionContext.getLong(key(OFFSET));
+            readCount = executionContext.getLong(key(READ_COUNT));
+            lineNumber = executionContext.getLong(key(READ_COUNT)) + (rangeStart == 0 ? linesToSkip : 0);
+            return;
+        }
+
+        if (rangeStart == 0) {
+            try {
+                for (int i = 0; i < linesToSkip && nextLine() != null; i++) {
+                    // 헤더 skip
+                }
+            } catch (IOException e) {
+                throw new ItemStreamException("Failed to skip header lines: " + path, e);
+            }
+        }
+    }
+
+    @Override
+    public T read() throws Exception {
+        ByteBuffer line = nextLine();
+        if (line == null) return null;
+
+        try {
+            T item = lineMapper.mapLine(line, lineNumber);
+            readCount++;
+            return item;
+        } catch (Exception e) {
+            throw new ParseException("Parsing error at line " + lineNumber + " in " + path, e);
+        }
+    }
+
+    /**
+     * 다음 줄을 window의 view로 반환하고 position을 다음 줄의 시작으로 옮깁니다.
+     */
+    private ByteBuffer nextLine() throws IOException {
+        if (position >= end) return null;
+
+        int offset = ensureMapped(position);
+        int limit = window.limit();
+
+        int newline = indexOf(window, offset, limit);
+        while (newline < 0 && windowStart + limit < channel.size()) {
+            // 줄이 window 경계에 걸친 경우 줄의 시작부터 다시 매핑한다.
+            if (offset == 0) {
+                throw new ItemStreamException("Line at offset " + position + " is longer than window size " + windowSize);
+            }
+            offset = map(position);
+            limit = window.limit();
+            newline = indexOf(window, offset, limit);
+        }
+
+        int lineEnd = newline < 0 ? limit : newline;
+        position = windowStart + (newline < 0 ? limit : newline + 1);
+        lineNumber++;
+
+        if (lineEnd > offset && window.get(lineEnd - 1) == '\r') lineEnd--;
+        return window.slice(offset, lineEnd - offset);
+    }
+
+    private int ensureMapped(long target) throws IOException {
+        if (window != null && target >= windowStart && target < windowStart + window.limit()) {
+            return (int) (target - windowStart);
+        }
+        return map(target);
+    }
+
+    private int map(long target) throws IOException {
+        long size = Math.min(windowSize, channel.size() - target);
+        window = channel.map(FileChannel.MapMode.READ_ONLY, target, size);
+        windowStart = target;
+        return 0;
+    }
+
+    private static int indexOf(ByteBuffer buffer, int from, int limit) {
+        for (int i = from; i < limit; i++) {
+            if (buffer.get(i) == '\n') return i;
+        }
+        return -1;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        if (!saveState) return;
+
+        executionContext.putLong(key(OFFSET), position);
+        executionContext.putLong(key(READ_COUNT), readCount);
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        window = null;
+        if (channel == null) return;
+
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new ItemStreamException("Failed to close file: " + path, e);
+        } finally {
+            channel = null;
+        }
+    }
+
+    private String key(String suffix) {
+        return name + "." + suffix;
+    }
+}
@@ -0,0 +1,282 @@
+package com.kjung.batchtemplate.core.jdbc;
+
+import com.mysql.cj.jdbc.JdbcStatement;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStream;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * chunk를 MySQL {@code LOAD DATA LOCAL INFILE} 또는 multi-row {@code INSERT}로 한 번에 적재하는 writer입니다.
+ *
+ * <ul>
+ *   <li>{@link Mode#LOAD_DATA} - chunk를 탭 구분 텍스트로 만들어 파일 없이 메모리 stream으로 전송합니다.
+ *       URL에 {@code allowLoadLocalInfile=true}, 서버에 {@code local_infile=ON}이 필요합니다.</li>
+ *   <li>{@link Mode#MULTI_ROW} - {@code INSERT ... VALUES (...), (...)} 구문 1개에 {@code rowsPerStatement}개씩 담아 실행합니다.</li>
+ * </ul>
+ *
+ * <p>Step 트랜잭션의 커넥션을 사용하므로 chunk 커밋/롤백에 함께 포함됩니다.
+ * 적재 구문이 실패하면(LOAD DATA 미지원/비활성화, 패킷 크기 초과 등) savepoint로 되돌린 뒤 같은 chunk를 단건 JDBC batch insert로 다시 씁니다.
+ * fallback이 성공하면 같은 Step 실행의 이후 chunk도 JDBC batch로 쓰고, fallback도 실패하면 데이터 오류이므로 예외를 그대로 전달합니다.
+ * fallback 여부는 Step이 시작될 때({@link #open}) 초기화되므로 다음 실행에서는 다시 적재 구문을 시도합니다.</p>
+ *
+ * <p>LOAD DATA LOCAL은 중복 key/형 변환 오류를 경고로 처리하고 건너뛰므로, 적재 row 수가 chunk 크기와 다르면
+ * {@link IllegalStateException}으로 chunk를 롤백합니다.</p>
+ */
+@Slf4j
+public class BulkInsertItemWriter<T> implements ItemWriter<T>, ItemStream {
+
+    /** MySQL prepared statement 최대 placeholder 수 */
+    private static final int MAX_PLACEHOLDERS = 65_535;
+
+    public enum Mode {
+        LOAD_DATA,
+        MULTI_ROW
+    }
+
+    private final DataSource dataSource;
+    private final String table;
+    private final List<String> columns;
+    private final Function<? super T, Object[]> valueExtractor;
+
+    private Mode mode = Mode.MULTI_ROW;
+    private int rowsPerStatement = 1000;
+
+    private final String insertPrefix;
+    private final String rowPlaceholders;
+    private final String loadDataSql;
+
+    // 적재 구문이 실패하고 JDBC batch fallback이 성공한 경우 (이번 Step 실행의 이후 chunk는 바로 JDBC batch 사용)
+    private volatile boolean fallbackOnly;
+
+    // 이번 Step 실행에서 JDBC batch로 쓴 chunk 수
+    private final AtomicInteger fallbackChunks = new AtomicInteger();
+
+    /**
+     * @param table          대상 테이블
+     * @param columns        적재할 컬럼 (valueExtractor가 반환하는 배열 순서와 같아야 함)
+     * @param valueExtractor item을 컬럼 값 배열로 변환하는 함수
+     */
+    public BulkInsertItemWriter(DataSource dataSource, String table, List<String> columns,
+                                Function<? super T, Object[]> valueExtractor) {
+        if (columns.isEmpty()) {
+            throw new IllegalArgumentException("columns must not be empty");
+        }
+        this.dataSource = dataSource;
+        this.table = table;
+        this.columns = List.copyOf(columns);
+        this.valueExtractor = valueExtractor;
+
+        String columnList = String.join(", ", columns);
+        this.insertPrefix = "INSERT INTO " + table + " (" + columnList + ") VALUES ";
+        this.rowPlaceholders = "(" + "?, ".repeat(columns.size() - 1) + "?)";
+        this.loadDataSql = "LOAD DATA LOCAL INFILE 'chunk.tsv' INTO TABLE " + table
+                + " CHARACTER SET utf8mb4 FIELDS TERMINATED BY '\\t' ESCAPED BY '\\\\' LINES TERMINATED BY '\\n'"
+                + " (" + columnList + ")";
+    }
+
+    public void setMode(Mode mode) {
+        this.mode = mode;
+    }
+
+    /**
+     * multi-row INSERT 구문 1개에 담을 row 수 (기본 1000). {@code max_allowed_packet}을 넘지 않도록 조정합니다.
+     */
+    public void setRowsPerStatement(int rowsPerStatement) {
+        if (rowsPerStatement < 1 || (long) rowsPerStatement * columns.size() > MAX_PLACEHOLDERS) {
+            throw new IllegalArgumentException("rowsPerStatement must be between 1 and " + MAX_PLACEHOLDERS / columns.size());
+        }
+        this.rowsPerStatement = rowsPerStatement;
+    }
+
+    /**
+     * Step 시작 시 이전 실행의 fallback 상태를 초기화합니다.
+     */
+    @Override
+    public void open(ExecutionContext executionContext) {
+        fallbackOnly = false;
+        fallbackChunks.set(0);
+    }
+
+    @Override
+    public void close() {
+        if (fallbackChunks.get() > 0) {
+            log.warn("[BulkInsert] {} chunk {}개를 JDBC batch로 썼습니다. ({} 적재 실패)", table, fallbackChunks.get(), mode);
+        }
+    }
+
+    @Override
+    public void write(Chunk<? extends T> chunk) throws Exception {
+        if (chunk.isEmpty()) return;
+
+        List<Object[]> rows = chunk.getItems().stream().<Object[]>map(valueExtractor).toList();
+
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            if (fallbackOnly) {
+                writeBatch(connection, rows);
+                fallbackChunks.incrementAndGet();
+                return;
+            }
+
+            // multi-row INSERT는 여러 구문으로 나뉘므로 일부만 적재된 상태에서 다시 쓰지 않도록 savepoint로 되돌린다.
+            Savepoint savepoint = connection.getAutoCommit() ? null : connection.setSavepoint();
+            try {
+                if (mode == Mode.LOAD_DATA) {
+                    loadData(connection, rows);
+                } else {
+                    writeMultiRow(connection, rows);
+                }
+            } catch (SQLException e) {
+                if (savepoint != null) {
+                    connection.rollback(savepoint);
+                } else if (mode == Mode.MULTI_ROW) {
+                    throw e; // auto-commit 커넥션은 이미 적재된 구문을 되돌릴 수 없음
+                }
+                log.warn("[BulkInsert] {} 적재 실패, JDBC batch로 다시 씁니다: {}", table, e.getMessage());
+                writeBatch(connection, rows);
+                fallbackChunks.incrementAndGet();
+                fallbackOnly = true;
+                log.warn("[BulkInsert] {} 이번 Step 실행의 이후 chunk는 JDBC batch로 씁니다.", table);
+            }
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private void loadData(Connection connection, List<Object[]> rows) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            if (!statement.isWrapperFor(JdbcStatement.class)) {
+                throw new SQLException("LOAD DATA LOCAL INFILE requires MySQL Connector/J");
+            }
+            statement.unwrap(JdbcStatement.class)
+                    .setLocalInfileInputStream(new ByteArrayInputStream(toTsv(rows)));
+
+            int loaded = statement.executeUpdate(loadDataSql);
+            if (loaded != rows.size()) {
+                throw new IllegalStateException("LOAD DATA into " + table + " loaded " + loaded + " of " + rows.size()
+                        + " rows (duplicate key or conversion warnings)");
+            }
+        }
+    }
+
+    private void writeMultiRow(Connection connection, List<Object[]> rows) throws SQLException {
+        int fullStatements = rows.size() / rowsPerStatement;
+        int remainder = rows.size() % rowsPerStatement;
+
+        if (fullStatements > 0) {
+            try (PreparedStatement statement = connection.prepareStatement(multiRowSql(rowsPerStatement))) {
+                for (int i = 0; i < fullStatements; i++) {
+                    bind(statement, rows, i * rowsPerStatement, rowsPerStatement);
+                    statement.executeUpdate();
+                }
+            }
+        }
+
+        if (remainder > 0) {
+            try (PreparedStatement statement = connection.prepareStatement(multiRowSql(remainder))) {
+                bind(statement, rows, fullStatements * rowsPerStatement, remainder);
+                statement.executeUpdate();
+            }
+        }
+    }
+
+    private void writeBatch(Connection connection, List<Object[]> rows) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(insertPrefix + rowPlaceholders)) {
+            for (Object[] row : rows) {
+                bind(statement, row, 1);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private void bind(PreparedStatement statement, List<Object[]> rows, int from, int count) throws SQLException {
+        for (int i = 0; i < count; i++) {
+            bind(statement, rows.get(from + i), i * columns.size() + 1);
+        }
+    }
+
+    private void bind(PreparedStatement statement, Object[] row, int firstIndex) throws SQLException {
+        if (row.length != columns.size()) {
+            throw new IllegalArgumentException("Expected " + columns.size() + " values but got " + row.length);
+        }
+        for (int i = 0; i < row.length; i++) {
+            statement.setObject(firstIndex + i, row[i]);
+        }
+    }
+
+    private String multiRowSql(int rowCount) {
+        StringBuilder sql = new StringBuilder(insertPrefix.length() + rowCount * (rowPlaceholders.length() + 2))
+                .append(insertPrefix);
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) sql.append(", ");
+            sql.append(rowPlaceholders);
+        }
+        return sql.toString();
+    }
+
+    /**
+     * row를 LOAD DATA 기본 형식(탭 구분, {@code \} escape, NULL은 {@code \N})으로 변환합니다.
+     */
+    static byte[] toTsv(List<Object[]> rows) {
+        StringBuilder tsv = new StringBuilder(rows.size() * 64);
+        for (Object[] row : rows) {
+            for (int i = 0; i < row.length; i++) {
+                if (i > 0) tsv.append('\t');
+                appendField(tsv, row[i]);
+            }
+            tsv.append('\n');
+        }
+        return tsv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void appendField(StringBuilder tsv, Object value) {
+        if (value == null) {
+            tsv.append("\\N");
+            return;
+        }
+        if (value instanceof Boolean bool) {
+            tsv.append(bool ? '1' : '0');
+            return;
+        }
+        if (value instanceof byte[]) {
+            throw new IllegalArgumentException("Binary columns are not supported by LOAD_DATA mode");
+        }
+
+        // BigDecimal.toString()은 지수 표기(1E+3)를 쓸 수 있으므로 DECIMAL 컬럼에 그대로 적재되는 표기로 변환한다.
+        String text = switch (value) {
+            case LocalDateTime dateTime -> dateTime.toString().replace('T', ' ');
+            case BigDecimal decimal -> decimal.toPlainString();
+            default -> value.toString();
+        };
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\' -> tsv.append("\\\\");
+                case '\t' -> tsv.append("\\t");
+                case '\n' -> tsv.append("\\n");
+                case '\r' -> tsv.append("\\r");
+                case '\0' -> tsv.append("\\0");
+                default -> tsv.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.kjung.batchtemplate.core.partition;
+
+import org.springframework.batch.core.partition.support.PartitionNameProvider;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 항상 gridSize개의 파티션을 {@code partition0 ~ partition(N-1)} 이름으로 생성하는 Partitioner 기반 클래스입니다.
+ *
+ * <p>각 파티션의 범위 정보는 파티션 StepExecution의 ExecutionContext에 저장됩니다.
+ * {@link PartitionNameProvider}를 구현하므로 재시작 시 범위를 다시 계산하지 않고 이전 실행에 저장된
+ * ExecutionContext를 그대로 사용하며, 완료(COMPLETED)된 파티션은 다시 실행되지 않습니다.</p>
+ */
+public abstract class AbstractIndexedPartitioner implements Partitioner, PartitionNameProvider {
+
+    public static final String PARTITION_PREFIX = "partition";
+
+    /** 파티션 번호 (0부터 시작) */
+    public static final String PARTITION_INDEX = "partitionIndex";
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        int size = Math.max(1, gridSize);
+        List<ExecutionContext> contexts = createContexts(size);
+
+        if (contexts.size() != size) {
+            throw new IllegalStateException("Partitioner must create exactly " + size + " partitions but created " + contexts.size());
+        }
+
+        Map<String, ExecutionContext> result = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            ExecutionContext context = contexts.get(i);
+            context.putInt(PARTITION_INDEX, i);
+            result.put(PARTITION_PREFIX + i, context);
+        }
+        return result;
+    }
+
+    @Override
+    public Collection<String> getPartitionNames(int gridSize) {
+        int size = Math.max(1, gridSize);
+
+        List<String> names = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            names.add(PARTITION_PREFIX + i);
+        }
+        return names;
+    }
+
+    /**
+     * 파티션별 ExecutionContext를 생성합니다. 범위가 비어 있는 파티션도 포함하여 정확히 gridSize개를 반환해야 합니다.
+     */
+    protected abstract List<ExecutionContext> createContexts(int gridSize);
+}
@@ -0,0 +1,69 @@
+package com.kjung.batchtemplate.core.partition;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 숫자형 키 컬럼(id 등)의 최소/최대값을 조회하여 gridSize개의 연속 구간으로 나누는 Partitioner입니다.
+ *
+ * <p>각 파티션의 ExecutionContext에는 {@code minValue}, {@code maxValue}(모두 포함)가 저장되며,
+ * worker Step의 reader에서 다음과 같이 사용합니다.
+ * <pre>
+ * WHERE id BETWEEN :minValue AND :maxValue
+ * #{stepExecutionContext['minValue']}, #{stepExecutionContext['maxValue']}
+ * </pre>
+ */
+public class ColumnRangePartitioner extends AbstractIndexedPartitioner {
+
+    public static final String MIN_VALUE = "minValue";
+    public static final String MAX_VALUE = "maxValue";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String table;
+    private final String column;
+    private final String whereClause;
+
+    /**
+     * @param whereClause 범위 계산 대상 조건 (없으면 null)
+     */
+    public ColumnRangePartitioner(DataSource dataSource, String table, String column, String whereClause) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.table = table;
+        this.column = column;
+        this.whereClause = whereClause;
+    }
+
+    @Override
+    protected List<ExecutionContext> createContexts(int gridSize) {
+        String sql = "SELECT MIN(" + column + "), MAX(" + column + ") FROM " + table
+                + (whereClause == null || whereClause.isBlank() ? "" : " WHERE " + whereClause);
+
+        long[] range = jdbcTemplate.queryForObject(sql, (rs, rowNum) -> {
+            long min = rs.getLong(1);
+            // 대상 row가 없으면 모든 파티션을 빈 범위로 만든다.
+            return rs.wasNull() ? new long[]{0, -1} : new long[]{min, rs.getLong(2)};
+        });
+
+        long min = range[0];
+        long max = range[1];
+        long targetSize = max < min ? 0 : (max - min) / gridSize + 1;
+
+        List<ExecutionContext> contexts = new ArrayList<>(gridSize);
+        long start = min;
+        for (int i = 0; i < gridSize; i++) {
+            long end = Math.min(start + targetSize - 1, max);
+
+            ExecutionContext context = new ExecutionContext();
+            context.putLong(MIN_VALUE, start);
+            context.putLong(MAX_VALUE, end);
+            contexts.add(context);
+
+            start = end + 1;
+        }
+        return contexts;
+    }
+}
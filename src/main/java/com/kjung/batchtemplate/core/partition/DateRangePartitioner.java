@@ -0,0 +1,57 @@
+package com.kjung.batchtemplate.core.partition;
+
+import org.springframework.batch.item.ExecutionContext;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 날짜 구간 [startDate, endDate)를 일 단위로 gridSize개의 연속 구간으로 나누는 Partitioner입니다.
+ *
+ * <p>각 파티션의 ExecutionContext에는 ISO-8601 문자열로 {@code startDate}(포함), {@code endDate}(제외)가 저장됩니다.
+ * 구간의 일 수가 gridSize보다 작으면 남는 파티션은 빈 구간(startDate == endDate)이 됩니다.</p>
+ */
+public class DateRangePartitioner extends AbstractIndexedPartitioner {
+
+    public static final String START_DATE = "startDate";
+    public static final String END_DATE = "endDate";
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    /**
+     * @param startDate 시작일 (포함)
+     * @param endDate   종료일 (제외)
+     */
+    public DateRangePartitioner(LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("endDate must not be before startDate: " + startDate + " ~ " + endDate);
+        }
+
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    @Override
+    protected List<ExecutionContext> createContexts(int gridSize) {
+        long totalDays = ChronoUnit.DAYS.between(startDate, endDate);
+        long daysPerPartition = (totalDays + gridSize - 1) / gridSize;
+
+        List<ExecutionContext> contexts = new ArrayList<>(gridSize);
+        LocalDate start = startDate;
+        for (int i = 0; i < gridSize; i++) {
+            LocalDate end = start.plusDays(daysPerPartition);
+            if (end.isAfter(endDate)) end = endDate;
+
+            ExecutionContext context = new ExecutionContext();
+            context.putString(START_DATE, start.toString());
+            context.putString(END_DATE, end.toString());
+            contexts.add(context);
+
+            start = end;
+        }
+        return contexts;
+    }
+}
@@ -0,0 +1,81 @@
+package com.kjung.batchtemplate.core.partition;
+
+import org.springframework.batch.item.ExecutionContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 파일을 크기 기준으로 gridSize개의 byte 구간으로 나누되, 구간 경계를 줄의 시작 위치에 맞추는 Partitioner입니다.
+ *
+ * <p>각 파티션의 ExecutionContext에는 {@code fileStart}(포함), {@code fileEnd}(미포함)가 저장되며,
+ * worker Step의 {@code MappedFileItemReader}에서 다음과 같이 사용합니다.
+ * <pre>
+ * reader.setRange(#{stepExecutionContext['fileStart']}, #{stepExecutionContext['fileEnd']})
+ * </pre>
+ */
+public class FileSplitPartitioner extends AbstractIndexedPartitioner {
+
+    public static final String FILE_START = "fileStart";
+    public static final String FILE_END = "fileEnd";
+
+    private static final int SCAN_BUFFER_SIZE = 64 * 1024;
+
+    private final Path path;
+
+    public FileSplitPartitioner(Path path) {
+        this.path = path;
+    }
+
+    @Override
+    protected List<ExecutionContext> createContexts(int gridSize) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+
+            List<ExecutionContext> contexts = new ArrayList<>(gridSize);
+            long start = 0;
+            for (int i = 0; i < gridSize; i++) {
+                long end = i == gridSize - 1 ? size : Math.max(start, nextLineStart(channel, size * (i + 1) / gridSize));
+
+                ExecutionContext context = new ExecutionContext();
+                context.putLong(FILE_START, start);
+                context.putLong(FILE_END, end);
+                contexts.add(context);
+
+                start = end;
+            }
+            return contexts;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to split file: " + path, e);
+        }
+    }
+
+    /**
+     * {@code offset} 이후 첫 줄바꿈 다음 위치(다음 줄의 시작)를 반환합니다. {@code offset}이 줄의 시작이면 그대로 반환합니다.
+     */
+    private long nextLineStart(FileChannel channel, long offset) throws IOException {
+        long size = channel.size();
+        if (offset <= 0 || offset >= size) return Math.min(Math.max(offset, 0), size);
+
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        long position = offset - 1; // 직전 byte가 줄바꿈이면 offset이 줄의 시작
+
+        while (position < size) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) break;
+
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') return position + i + 1;
+            }
+            position += read;
+        }
+        return size;
+    }
+}
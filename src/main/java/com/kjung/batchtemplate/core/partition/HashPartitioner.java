@@ -0,0 +1,34 @@
+package com.kjung.batchtemplate.core.partition;
+
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 키의 해시(나머지) 값으로 gridSize개의 bucket을 나누는 Partitioner입니다.
+ *
+ * <p>키 분포가 고르지 않아 구간 분할 시 파티션 간 편차가 큰 경우에 사용합니다.
+ * 각 파티션의 ExecutionContext에는 {@code bucket}, {@code buckets}가 저장되며,
+ * worker Step의 reader에서 다음과 같이 사용합니다.
+ * <pre>
+ * WHERE MOD(id, :buckets) = :bucket
+ * </pre>
+ */
+public class HashPartitioner extends AbstractIndexedPartitioner {
+
+    public static final String BUCKET = "bucket";
+    public static final String BUCKETS = "buckets";
+
+    @Override
+    protected List<ExecutionContext> createContexts(int gridSize) {
+        List<ExecutionContext> contexts = new ArrayList<>(gridSize);
+        for (int i = 0; i < gridSize; i++) {
+            ExecutionContext context = new ExecutionContext();
+            context.putInt(BUCKET, i);
+            context.putInt(BUCKETS, gridSize);
+            contexts.add(context);
+        }
+        return contexts;
+    }
+}
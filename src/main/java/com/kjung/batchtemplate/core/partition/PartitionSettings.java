@@ -0,0 +1,31 @@
+package com.kjung.batchtemplate.core.partition;
+
+import java.util.Map;
+
+/**
+ * 파티션 Step 설정 값을 JobParameter에서 읽기 위한 유틸 클래스입니다.
+ *
+ * <p>gridSize는 schedule.yml의 {@code gridSize} 항목으로 지정하며, Quartz 등록 시 JobParameter로 전달됩니다.</p>
+ */
+public final class PartitionSettings {
+
+    public static final String GRID_SIZE = "gridSize";
+
+    public static final int DEFAULT_GRID_SIZE = 4;
+
+    private PartitionSettings() {
+    }
+
+    /**
+     * JobParameter의 gridSize 값을 반환합니다. 값이 없으면 {@link #DEFAULT_GRID_SIZE}를 반환합니다.
+     *
+     * @param jobParameters {@code #{jobParameters}}로 주입받은 JobParameter Map
+     */
+    public static int gridSize(Map<String, Object> jobParameters) {
+        Object value = jobParameters == null ? null : jobParameters.get(GRID_SIZE);
+
+        if (value instanceof Number number) return number.intValue();
+        if (value instanceof String text && !text.isBlank()) return Integer.parseInt(text.trim());
+        return DEFAULT_GRID_SIZE;
+    }
+}
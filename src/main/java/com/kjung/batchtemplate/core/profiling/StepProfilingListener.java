@@ -0,0 +1,320 @@
+package com.kjung.batchtemplate.core.profiling;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemProcessListener;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.Chunk;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * chunk 단위로 read/process/write 시간, 커밋 시간, 처리량, 실행 스레드의 할당 바이트를 Micrometer 지표로 기록하는 리스너입니다.
+ *
+ * <p>기록되는 지표 (tag: {@code job}, {@code step}):
+ * <ul>
+ *   <li>{@code batch.step.chunk.duration} - chunk 전체 실행 시간 Timer (트랜잭션 시작부터 커밋 완료까지)</li>
+ *   <li>{@code batch.step.chunk.phase} - chunk 안에서 read/process/write 각각에 걸린 시간의 합 Timer (tag: {@code phase})</li>
+ *   <li>{@code batch.step.chunk.commit} - 마지막 write 이후 커밋 완료까지의 시간 Timer (ExecutionContext/StepExecution 저장 포함)</li>
+ *   <li>{@code batch.step.chunk.throughput} - chunk의 초당 처리(read) 건수 DistributionSummary</li>
+ *   <li>{@code batch.step.items} - 처리(read) 건수 Counter</li>
+ *   <li>{@code batch.step.chunk.allocated} - chunk를 실행한 스레드의 할당 바이트 DistributionSummary</li>
+ * </ul>
+ *
+ * <p>chunk 상태는 실행 스레드의 ThreadLocal에 두고 item마다 {@code System.nanoTime()} 두 번과 덧셈만 수행하므로,
+ * 멀티스레드 Step에서도 잠금 없이 동작하며 운영 환경에서 상시 켜둘 수 있습니다. 지표는 chunk 종료 시 한 번 기록됩니다.
+ * read/process/write 시간은 {@code AbstractChunkJobConfig}로 만든 chunk Step에서만 기록되고,
+ * 그 외 Step은 {@link StepProfilingListenerRegistrar}가 등록한 chunk 단위 지표만 기록됩니다.
+ * 같은 Step에 두 번 등록되어도 chunk당 한 번만 기록됩니다.</p>
+ *
+ * <p>파티션 worker Step의 이름({@code workerStep:partition0})은 파티션 접미사를 제거하여 tag 수가 늘어나지 않게 합니다.</p>
+ */
+public class StepProfilingListener implements ChunkListener,
+        ItemReadListener<Object>, ItemProcessListener<Object, Object>, ItemWriteListener<Object> {
+
+    private static final String METRIC_PREFIX = "batch.step";
+
+    private final MeterRegistry meterRegistry;
+
+    private final boolean percentileHistogram;
+
+    private final com.sun.management.ThreadMXBean allocationMXBean;
+
+    private final ThreadLocal<ChunkSample> currentChunk = new ThreadLocal<>();
+
+    private final Map<String, StepMeters> stepMeters = new ConcurrentHashMap<>();
+
+    /**
+     * @param percentileHistogram Timer에 percentile histogram을 기록할지 여부
+     * @param allocation          스레드 할당 바이트를 기록할지 여부
+     */
+    public StepProfilingListener(MeterRegistry meterRegistry, boolean percentileHistogram, boolean allocation) {
+        this.meterRegistry = meterRegistry;
+        this.percentileHistogram = percentileHistogram;
+        this.allocationMXBean = allocation ? allocationMXBean() : null;
+    }
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        ChunkSample sample = currentChunk.get();
+        if (sample != null && sample.context == context) return; // 중복 등록된 리스너
+
+        StepExecution stepExecution = context.getStepContext().getStepExecution();
+        currentChunk.set(new ChunkSample(context, meters(stepExecution), stepExecution.getReadCount(), allocatedBytes()));
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        ChunkSample sample = currentChunk.get();
+        if (sample == null || sample.context != context) return;
+        currentChunk.remove();
+
+        long now = System.nanoTime();
+        sample.closeRead(now);
+
+        StepMeters meters = sample.meters;
+        long elapsed = now - sample.startNanos;
+        meters.duration.record(elapsed, TimeUnit.NANOSECONDS);
+
+        if (sample.phased) {
+            meters.read.record(sample.readNanos, TimeUnit.NANOSECONDS);
+            meters.process.record(sample.processNanos, TimeUnit.NANOSECONDS);
+            meters.write.record(sample.writeNanos, TimeUnit.NANOSECONDS);
+        }
+        if (sample.writeEndNanos != 0) {
+            meters.commit.record(now - sample.writeEndNanos, TimeUnit.NANOSECONDS);
+        }
+
+        // item 리스너가 없는 Step은 StepExecution의 누적 read 건수 차이로 계산 (멀티스레드 Step에서는 근사값)
+        long items = sample.phased
+                ? sample.items
+                : Math.max(0, context.getStepContext().getStepExecution().getReadCount() - sample.startReadCount);
+        if (items > 0) {
+            meters.items.increment(items);
+            meters.throughput.record(items * 1_000_000_000.0 / Math.max(elapsed, 1));
+        }
+
+        long allocated = allocatedBytes();
+        if (allocated >= 0 && sample.startAllocatedBytes >= 0) {
+            meters.allocated.record(allocated - sample.startAllocatedBytes);
+        }
+    }
+
+    /**
+     * 롤백된 chunk는 기록하지 않습니다. (fault-tolerant Step은 같은 chunk를 다시 처리하며 새로 측정)
+     */
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        ChunkSample sample = currentChunk.get();
+        if (sample != null && sample.context == context) {
+            currentChunk.remove();
+        }
+    }
+
+    @Override
+    public void beforeRead() {
+        ChunkSample sample = currentChunk.get();
+        if (sample != null) sample.readStartNanos = System.nanoTime();
+    }
+
+    @Override
+    public void afterRead(Object item) {
+        ChunkSample sample = currentChunk.get();
+        if (sample != null) {
+            sample.closeRead(System.nanoTime());
+            sample.items++;
+        }
+    }
+
+    @Override
+    public void onReadError(Exception ex) {
+        ChunkSample sample = currentChunk.get();
+        if (sample != null) sample.closeRead(System.nanoTime());
+    }
+
+    @Override
+    public void beforeProcess(Object item) {
+        ChunkSample sample = currentChunk.get();
+        if (sample != null) {
+            long now = System.nanoTime();
+            sample.closeRead(now);
+            sample.processStartNanos = now;
+        }
+    }
+
+    @Override
+    public void afterProcess(Object item, Object result) {
+        ChunkSample sample = currentChunk.get();
+        if (sample != null) sample.closeProcess(System.nanoTime());
+    }
+
+    @Override
+    public void onProcessError(Object item, Exception e) {
+        ChunkSample sample = currentChunk.get();
+        if (sample != null) sample.closeProcess(System.nanoTime());
+    }
+
+    @Override
+    public void beforeWrite(Chunk<?> items) {
+        ChunkSample sample = currentChunk.get();
+        if (sample != null) {
+            long now = System.nanoTime();
+            sample.closeRead(now);
+            sample.writeStartNanos = now;
+        }
+    }
+
+    @Override
+    public void afterWrite(Chunk<?> items) {
+        ChunkSample sample = currentChunk.get();
+        if (sample != null) sample.closeWrite(System.nanoTime());
+    }
+
+    @Override
+    public void onWriteError(Exception exception, Chunk<?> items) {
+        ChunkSample sample = currentChunk.get();
+        if (sample != null) sample.closeWrite(System.nanoTime());
+    }
+
+    private StepMeters meters(StepExecution stepExecution) {
+        String jobName = stepExecution.getJobExecution().getJobInstance().getJobName();
+        String stepName = stepName(stepExecution.getStepName());
+
+        return stepMeters.computeIfAbsent(jobName + '/' + stepName, key -> createMeters(Tags.of("job", jobName, "step", stepName)));
+    }
+
+    private StepMeters createMeters(Tags tags) {
+        return new StepMeters(
+                timer("chunk.duration", "chunk 전체 실행 시간", tags),
+                timer("chunk.phase", "chunk read 시간 합", tags.and("phase", "read")),
+                timer("chunk.phase", "chunk process 시간 합", tags.and("phase", "process")),
+                timer("chunk.phase", "chunk write 시간 합", tags.and("phase", "write")),
+                timer("chunk.commit", "마지막 write 이후 커밋 완료까지의 시간", tags),
+                DistributionSummary.builder(METRIC_PREFIX + ".chunk.throughput")
+                        .description("chunk의 초당 처리 건수 (items/s)")
+                        .tags(tags)
+                        .register(meterRegistry),
+                Counter.builder(METRIC_PREFIX + ".items")
+                        .description("처리(read) 건수")
+                        .tags(tags)
+                        .register(meterRegistry),
+                DistributionSummary.builder(METRIC_PREFIX + ".chunk.allocated")
+                        .description("chunk 실행 스레드의 할당 바이트")
+                        .baseUnit(BaseUnits.BYTES)
+                        .tags(tags)
+                        .register(meterRegistry));
+    }
+
+    private Timer timer(String name, String description, Tags tags) {
+        return Timer.builder(METRIC_PREFIX + "." + name)
+                .description(description)
+                .tags(tags)
+                .publishPercentileHistogram(percentileHistogram)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 현재 스레드가 지금까지 할당한 바이트를 반환합니다. 측정할 수 없으면 -1 (가상 스레드 포함)
+     */
+    private long allocatedBytes() {
+        return allocationMXBean != null ? allocationMXBean.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    /**
+     * 파티션 worker StepExecution 이름({@code step:partitionN})에서 파티션 접미사를 제거합니다.
+     */
+    static String stepName(String stepExecutionName) {
+        int separator = stepExecutionName.indexOf(':');
+        return separator > 0 ? stepExecutionName.substring(0, separator) : stepExecutionName;
+    }
+
+    private static com.sun.management.ThreadMXBean allocationMXBean() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()) {
+            return bean;
+        }
+        return null;
+    }
+
+    private record StepMeters(Timer duration, Timer read, Timer process, Timer write, Timer commit,
+                              DistributionSummary throughput, Counter items, DistributionSummary allocated) {
+    }
+
+    /**
+     * 실행 중인 chunk 하나의 측정 상태입니다. 한 스레드에서만 접근합니다.
+     */
+    private static final class ChunkSample {
+
+        private final ChunkContext context;
+
+        private final StepMeters meters;
+
+        private final long startReadCount;
+
+        private final long startAllocatedBytes;
+
+        private final long startNanos = System.nanoTime();
+
+        private long readStartNanos;
+        private long processStartNanos;
+        private long writeStartNanos;
+        private long writeEndNanos;
+
+        private long readNanos;
+        private long processNanos;
+        private long writeNanos;
+
+        private long items;
+
+        // item 리스너 호출 여부 (read/process/write 시간을 기록할 수 있는 Step인지)
+        private boolean phased;
+
+        private ChunkSample(ChunkContext context, StepMeters meters, long startReadCount, long startAllocatedBytes) {
+            this.context = context;
+            this.meters = meters;
+            this.startReadCount = startReadCount;
+            this.startAllocatedBytes = startAllocatedBytes;
+        }
+
+        /**
+         * 진행 중인 read를 종료합니다. 마지막 read(null 반환)는 afterRead가 호출되지 않으므로 다음 단계 시작 시 종료합니다.
+         */
+        private void closeRead(long now) {
+            if (readStartNanos != 0) {
+                readNanos += now - readStartNanos;
+                readStartNanos = 0;
+                phased = true;
+            }
+        }
+
+        private void closeProcess(long now) {
+            if (processStartNanos != 0) {
+                processNanos += now - processStartNanos;
+                processStartNanos = 0;
+                phased = true;
+            }
+        }
+
+        private void closeWrite(long now) {
+            if (writeStartNanos != 0) {
+                writeNanos += now - writeStartNanos;
+                writeStartNanos = 0;
+                writeEndNanos = now;
+                phased = true;
+            }
+        }
+    }
+}
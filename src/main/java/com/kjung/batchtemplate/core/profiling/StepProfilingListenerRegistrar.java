@@ -0,0 +1,31 @@
+package com.kjung.batchtemplate.core.profiling;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.batch.core.step.tasklet.TaskletStep;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * 모든 Tasklet/chunk Step Bean에 {@link StepProfilingListener}를 chunk 리스너로 등록하는 BeanPostProcessor입니다.
+ *
+ * <p>완성된 Step에는 item 리스너를 추가할 수 없으므로 read/process/write 시간은 Step 생성 시
+ * {@code AbstractJobConfig#profiled}로 등록합니다.
+ * {@code @JobScope}/{@code @StepScope} Step은 proxy가 아닌 실행마다 생성되는 대상 Bean에 등록됩니다.</p>
+ */
+@RequiredArgsConstructor
+public class StepProfilingListenerRegistrar implements BeanPostProcessor {
+
+    private final ObjectProvider<StepProfilingListener> listenerProvider;
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        // scope proxy에 등록하면 scope 밖에서 대상 Bean이 생성되므로 제외
+        if (AopUtils.isAopProxy(bean)) return bean;
+
+        if (bean instanceof TaskletStep step) {
+            step.registerChunkListener(listenerProvider.getObject());
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,27 @@
+package com.kjung.batchtemplate.core.progress;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Job 실행 진행 상황 snapshot입니다. 건수는 파티션/worker Step을 포함한 모든 Step의 합계입니다.
+ *
+ * @param currentStep    가장 최근에 시작된 실행 중인 Step 이름 (없으면 null)
+ * @param itemsPerSecond 실행 중인 Step의 초당 읽기 건수 합계 (실행 중인 Step이 없으면 Job 전체 평균)
+ * @param etaSeconds     남은 예상 시간(초). 전체 건수를 알 수 있는 실행 중인 Step이 없으면 null
+ */
+public record JobProgress(
+        long executionId,
+        String jobName,
+        String status,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        String currentStep,
+        long readCount,
+        long writeCount,
+        long skipCount,
+        double itemsPerSecond,
+        Long etaSeconds,
+        List<StepProgress> steps
+) {
+}
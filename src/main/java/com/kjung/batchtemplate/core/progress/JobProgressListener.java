@@ -0,0 +1,52 @@
+package com.kjung.batchtemplate.core.progress;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+
+/**
+ * Job/Step 시작·종료와 chunk 커밋 시점에 {@link JobProgressRegistry}의 snapshot을 갱신하는 리스너입니다.
+ *
+ * <p>{@link JobProgressListenerRegistrar}가 모든 Job/Step Bean에 자동으로 등록합니다.</p>
+ */
+@RequiredArgsConstructor
+public class JobProgressListener implements JobExecutionListener, StepExecutionListener, ChunkListener {
+
+    private final JobProgressRegistry registry;
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        registry.jobStarted(jobExecution);
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        registry.jobFinished(jobExecution);
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        registry.stepUpdated(stepExecution);
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        registry.stepUpdated(stepExecution);
+        return null;
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        registry.stepUpdated(context.getStepContext().getStepExecution());
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        registry.stepUpdated(context.getStepContext().getStepExecution());
+    }
+}
@@ -0,0 +1,36 @@
+package com.kjung.batchtemplate.core.progress;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.batch.core.job.AbstractJob;
+import org.springframework.batch.core.step.tasklet.TaskletStep;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * 모든 Job Bean과 Tasklet/chunk Step Bean에 {@link JobProgressListener}를 등록하는 BeanPostProcessor입니다.
+ *
+ * <p>파티션 manager Step은 worker Step 건수를 종료 시 합산하므로 중복 집계를 피하기 위해 등록하지 않고,
+ * worker Step(TaskletStep)의 건수만 집계합니다.
+ * {@code @JobScope}/{@code @StepScope} Step은 proxy가 아닌 실행마다 생성되는 대상 Bean에 등록됩니다.</p>
+ */
+@RequiredArgsConstructor
+public class JobProgressListenerRegistrar implements BeanPostProcessor {
+
+    private final ObjectProvider<JobProgressListener> listenerProvider;
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        // scope proxy에 등록하면 scope 밖에서 대상 Bean이 생성되므로 제외
+        if (AopUtils.isAopProxy(bean)) return bean;
+
+        if (bean instanceof AbstractJob job) {
+            job.registerJobExecutionListener(listenerProvider.getObject());
+        } else if (bean instanceof TaskletStep step) {
+            JobProgressListener listener = listenerProvider.getObject();
+            step.registerStepExecutionListener(listener);
+            step.registerChunkListener(listener);
+        }
+        return bean;
+    }
+}
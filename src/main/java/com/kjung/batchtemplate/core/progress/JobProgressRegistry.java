@@ -0,0 +1,184 @@
+package com.kjung.batchtemplate.core.progress;
+
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 실행 중인 Job의 진행 상황을 메모리에 보관하는 저장소입니다.
+ *
+ * <p>{@link JobProgressListener}가 Job/Step 시작·종료와 chunk 커밋마다 StepExecution의 건수를 snapshot으로 복사해 두며,
+ * 조회 시에는 이 snapshot만 사용하므로 대시보드 조회가 BATCH_* 테이블에 부하를 주지 않습니다.
+ * 종료된 Job은 {@code finishedRetention} 동안 남겨둔 뒤 제거합니다.</p>
+ *
+ * <p>남은 예상 시간(ETA)은 Step ExecutionContext에 {@link #TOTAL_ITEMS_KEY}로 전체 건수를 기록한 Step에서만 계산됩니다.
+ * (예: reader의 {@code open}에서 {@code executionContext.putLong(TOTAL_ITEMS_KEY, count)})</p>
+ */
+public class JobProgressRegistry {
+
+    /** 전체 처리 건수를 기록하는 Step ExecutionContext key */
+    public static final String TOTAL_ITEMS_KEY = "progress.totalItems";
+
+    private final Map<Long, ExecutionProgress> executions = new ConcurrentHashMap<>();
+
+    private final AtomicLong version = new AtomicLong();
+
+    private final long finishedRetentionNanos;
+
+    public JobProgressRegistry(Duration finishedRetention) {
+        this.finishedRetentionNanos = finishedRetention.toNanos();
+    }
+
+    public void jobStarted(JobExecution jobExecution) {
+        evictExpired();
+        executions.computeIfAbsent(jobExecution.getId(), id -> new ExecutionProgress(jobExecution)).tracked = true;
+        version.incrementAndGet();
+    }
+
+    public void stepUpdated(StepExecution stepExecution) {
+        // 다른 노드에서 시작된 Job의 원격 worker Step은 Job 시작 없이 Step부터 기록된다.
+        ExecutionProgress execution = executions.computeIfAbsent(
+                stepExecution.getJobExecutionId(), id -> new ExecutionProgress(stepExecution.getJobExecution()));
+
+        StepProgress step = toStepProgress(stepExecution);
+        execution.steps.put(step.stepExecutionId(), step);
+
+        if (!execution.tracked) {
+            execution.status = stepExecution.getJobExecution().getStatus().name();
+            execution.finishedAtNanos = execution.steps.values().stream().anyMatch(StepProgress::isRunning)
+                    ? 0 : System.nanoTime();
+        }
+        version.incrementAndGet();
+    }
+
+    public void jobFinished(JobExecution jobExecution) {
+        ExecutionProgress execution = executions.get(jobExecution.getId());
+        if (execution == null) return;
+
+        execution.status = jobExecution.getStatus().name();
+        execution.endTime = jobExecution.getEndTime() != null ? jobExecution.getEndTime() : LocalDateTime.now();
+        execution.finishedAtNanos = System.nanoTime();
+        version.incrementAndGet();
+    }
+
+    /**
+     * 실행 중이거나 최근 종료된 Job의 진행 상황을 실행 id 순으로 반환합니다.
+     */
+    public List<JobProgress> snapshot() {
+        evictExpired();
+        return executions.values().stream()
+                .map(ExecutionProgress::toJobProgress)
+                .sorted(Comparator.comparingLong(JobProgress::executionId))
+                .toList();
+    }
+
+    public Optional<JobProgress> find(long executionId) {
+        return Optional.ofNullable(executions.get(executionId)).map(ExecutionProgress::toJobProgress);
+    }
+
+    /**
+     * 진행 상황이 갱신될 때마다 증가하는 값입니다. 변경 여부 확인에 사용합니다.
+     */
+    public long version() {
+        return version.get();
+    }
+
+    private void evictExpired() {
+        long now = System.nanoTime();
+        executions.values().removeIf(execution ->
+                execution.finishedAtNanos != 0 && now - execution.finishedAtNanos > finishedRetentionNanos);
+    }
+
+    private static StepProgress toStepProgress(StepExecution stepExecution) {
+        ExecutionContext context = stepExecution.getExecutionContext();
+        Long totalItems = context.containsKey(TOTAL_ITEMS_KEY) ? context.getLong(TOTAL_ITEMS_KEY) : null;
+
+        return new StepProgress(
+                stepExecution.getId(),
+                stepExecution.getStepName(),
+                stepExecution.getStatus().name(),
+                stepExecution.getStartTime(),
+                stepExecution.getReadCount(),
+                stepExecution.getWriteCount(),
+                stepExecution.getSkipCount(),
+                stepExecution.getCommitCount(),
+                totalItems,
+                perSecond(stepExecution.getReadCount(), stepExecution.getStartTime(), stepExecution.getEndTime()));
+    }
+
+    private static double perSecond(long count, LocalDateTime start, LocalDateTime end) {
+        if (start == null || count == 0) return 0;
+        long elapsedMillis = Duration.between(start, end != null ? end : LocalDateTime.now()).toMillis();
+        return elapsedMillis > 0 ? count * 1000.0 / elapsedMillis : 0;
+    }
+
+    private static final class ExecutionProgress {
+
+        private final long executionId;
+
+        private final String jobName;
+
+        private final LocalDateTime startTime;
+
+        private final Map<Long, StepProgress> steps = new ConcurrentHashMap<>();
+
+        // Job 리스너로 시작/종료가 기록되는지 여부 (false: 원격 worker Step만 기록됨)
+        private volatile boolean tracked;
+
+        private volatile String status;
+
+        private volatile LocalDateTime endTime;
+
+        private volatile long finishedAtNanos;
+
+        private ExecutionProgress(JobExecution jobExecution) {
+            this.executionId = jobExecution.getId();
+            this.jobName = jobExecution.getJobInstance().getJobName();
+            this.startTime = jobExecution.getStartTime() != null ? jobExecution.getStartTime() : LocalDateTime.now();
+            this.status = jobExecution.getStatus().name();
+        }
+
+        private JobProgress toJobProgress() {
+            List<StepProgress> stepSnapshots = steps.values().stream()
+                    .sorted(Comparator.comparingLong(StepProgress::stepExecutionId))
+                    .toList();
+
+            long read = 0, write = 0, skip = 0;
+            double runningPerSecond = 0;
+            Long etaSeconds = null;
+            StepProgress current = null;
+
+            for (StepProgress step : stepSnapshots) {
+                read += step.readCount();
+                write += step.writeCount();
+                skip += step.skipCount();
+
+                if (!step.isRunning()) continue;
+                runningPerSecond += step.itemsPerSecond();
+                current = step; // id 순이므로 마지막이 가장 최근에 시작된 Step
+
+                // 파티션 Step은 병렬로 실행되므로 가장 늦게 끝날 Step 기준
+                if (step.totalItems() != null && step.itemsPerSecond() > 0) {
+                    long remaining = Math.max(0, step.totalItems() - step.readCount());
+                    long stepEta = (long) Math.ceil(remaining / step.itemsPerSecond());
+                    etaSeconds = etaSeconds == null ? stepEta : Math.max(etaSeconds, stepEta);
+                }
+            }
+
+            double itemsPerSecond = current != null ? runningPerSecond : perSecond(read, startTime, endTime);
+
+            return new JobProgress(executionId, jobName, status, startTime, endTime,
+                    current != null ? current.stepName() : null,
+                    read, write, skip, itemsPerSecond, etaSeconds, stepSnapshots);
+        }
+    }
+}
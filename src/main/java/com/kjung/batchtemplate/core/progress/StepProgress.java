@@ -0,0 +1,27 @@
+package com.kjung.batchtemplate.core.progress;
+
+import java.time.LocalDateTime;
+
+/**
+ * Step 실행 진행 상황 snapshot입니다.
+ *
+ * @param totalItems     전체 처리 건수 (Step ExecutionContext에 {@link JobProgressRegistry#TOTAL_ITEMS_KEY}가 있는 경우만, 없으면 null)
+ * @param itemsPerSecond Step 시작 이후 초당 읽기 건수
+ */
+public record StepProgress(
+        long stepExecutionId,
+        String stepName,
+        String status,
+        LocalDateTime startTime,
+        long readCount,
+        long writeCount,
+        long skipCount,
+        long commitCount,
+        Long totalItems,
+        double itemsPerSecond
+) {
+
+    public boolean isRunning() {
+        return "STARTING".equals(status) || "STARTED".equals(status);
+    }
+}
@@ -0,0 +1,76 @@
+package com.kjung.batchtemplate.core.property;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Job 실행 API({@code /api/v1/jobs})의 요청 제한을 설정하기 위한 프로퍼티 클래스입니다.
+ *
+ * <p>prefix: {@code batch.api}</p>
+ * <p>
+ * 예시 YAML 구조:
+ * <pre>
+ * batch:
+ *   api:
+ *     bulk-max-size: 100
+ *     rate-limit:
+ *       default-limit:
+ *         capacity: 0              # 0 이하: 제한 없음
+ *       jobs:
+ *         testJob:
+ *           capacity: 20           # 순간 최대 요청 수
+ *           refill-per-second: 2   # 초당 보충되는 요청 수
+ *     adaptive:
+ *       enabled: true
+ *       initial-limit: 4
+ *       min-limit: 1
+ *       max-limit: 32
+ * </pre>
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "batch.api")
+public class BatchApiProperties {
+
+    // 한 번의 bulk 요청에 포함할 수 있는 최대 파라미터 세트 수
+    private int bulkMaxSize = 100;
+
+    // Job별 token bucket 요청 수 제한
+    private RateLimit rateLimit = new RateLimit();
+
+    // 실행 시간 기반 동시 실행 수 자동 조정
+    private Adaptive adaptive = new Adaptive();
+
+    /**
+     * 주어진 Job의 token bucket 설정을 반환합니다.
+     */
+    public Bucket resolveBucket(String jobName) {
+        return rateLimit.getJobs().getOrDefault(jobName, rateLimit.getDefaultLimit());
+    }
+
+    @Data
+    public static class RateLimit {
+        private Bucket defaultLimit = new Bucket(); // Job별 설정이 없을 때 적용
+        private Map<String, Bucket> jobs = new HashMap<>(); // Job 이름별 설정
+    }
+
+    @Data
+    public static class Bucket {
+        private int capacity = 0; // 순간 최대 요청 수 (0 이하일 경우 제한 없음)
+        private double refillPerSecond = 1.0; // 초당 보충되는 요청 수
+    }
+
+    @Data
+    public static class Adaptive {
+        private boolean enabled = true; // 동시 실행 수 자동 조정 여부
+        private int initialLimit = 4; // 초기 동시 실행 수
+        private int minLimit = 1; // 최소 동시 실행 수
+        private int maxLimit = 32; // 최대 동시 실행 수
+        private double smoothing = 0.2; // 새 상한 반영 비율 (0~1)
+        private double tolerance = 1.5; // 기준 실행 시간 대비 이 배수까지는 지연으로 보지 않음
+    }
+}
@@ -0,0 +1,36 @@
+package com.kjung.batchtemplate.core.property;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Job 실행 단위 참조 데이터 캐시({@code EnrichmentCache})를 설정하기 위한 프로퍼티 클래스입니다.
+ *
+ * <p>prefix: {@code batch.cache}</p>
+ * <pre>
+ * batch:
+ *   cache:
+ *     max-entries: 5000000
+ *     fallback-size: 10000
+ *     max-executions: 16
+ *     fetch-size: 10000
+ * </pre>
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "batch.cache")
+public class BatchCacheProperties {
+
+    // 캐시 1개에 적재할 수 있는 최대 항목 수
+    private int maxEntries = 5_000_000;
+
+    // 상한 초과로 적재되지 않은 key의 fallback 조회 결과를 보관할 LRU 크기
+    private int fallbackSize = 10_000;
+
+    // 캐시를 보관할 최대 JobExecution 수 (초과 시 가장 오래된 실행의 캐시부터 제거)
+    private int maxExecutions = 16;
+
+    // 참조 데이터 적재 시 JDBC fetch size
+    private int fetchSize = 10_000;
+}
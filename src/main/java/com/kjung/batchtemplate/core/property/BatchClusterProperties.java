@@ -0,0 +1,36 @@
+package com.kjung.batchtemplate.core.property;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Quartz 클러스터 모드에서 노드 부하 기반 트리거 분배를 설정하기 위한 프로퍼티 클래스입니다.
+ *
+ * <p>prefix: {@code batch.cluster}</p>
+ * <p>
+ * 클러스터 자체는 {@code spring.quartz.properties.org.quartz.jobStore.isClustered}로 활성화하며,
+ * {@code load-aware: true}인 경우 각 노드는 현재 부하가 {@code max-load} 미만일 때만 트리거를 가져갑니다.
+ * 부하는 실행 중인 Job의 weight 합계입니다 (schedule.yml의 {@code weight}, 기본 1).
+ * <pre>
+ * batch:
+ *   cluster:
+ *     load-aware: true
+ *     max-load: 10
+ *     max-cpu-load: 0.9
+ * </pre>
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "batch.cluster")
+public class BatchClusterProperties {
+
+    // 노드 부하 기반 트리거 분배 여부
+    private boolean loadAware = false;
+
+    // 노드가 동시에 수행할 수 있는 Job weight 합계
+    private int maxLoad = 10;
+
+    // 이 값 이상의 CPU 사용률(0.0 ~ 1.0)에서는 트리거를 가져가지 않음 (1.0 이상: 사용 안 함)
+    private double maxCpuLoad = 1.0;
+}
@@ -0,0 +1,97 @@
+package com.kjung.batchtemplate.core.property;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@code BatchJobRunner}의 Job 실행 방식(동기/비동기)과 동시 실행 제한을 설정하기 위한 프로퍼티 클래스입니다.
+ *
+ * <p>prefix: {@code batch.launcher}</p>
+ * <p>
+ * 예시 YAML 구조:
+ * <pre>
+ * batch:
+ *   launcher:
+ *     default-max-concurrency: 0
+ *     max-concurrency:
+ *       testJob: 1
+ *     async:
+ *       core-pool-size: 4
+ *       max-pool-size: 8
+ *       queue-capacity: 100
+ *       reject-policy: abort   # abort, caller-runs, wait
+ *     identity:
+ *       default-strategy: schedule-slot   # unique, business-params, schedule-slot, run-id
+ *       strategies:
+ *         reportJob: business-params
+ * </pre>
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "batch.launcher")
+public class BatchLauncherProperties {
+
+    // 비동기 실행 전용 스레드풀 설정
+    private Async async = new Async();
+
+    // Job별 기본 동시 실행 수 상한 (0 이하일 경우 제한 없음)
+    private int defaultMaxConcurrency = 0;
+
+    // Job 이름별 동시 실행 수 상한 (defaultMaxConcurrency보다 우선)
+    private Map<String, Integer> maxConcurrency = new HashMap<>();
+
+    // JobInstance 식별 방식 설정
+    private Identity identity = new Identity();
+
+    /**
+     * 주어진 Job의 동시 실행 수 상한을 반환합니다.
+     *
+     * @param jobName Job 이름
+     * @return 동시 실행 수 상한 (0 이하일 경우 제한 없음)
+     */
+    public int resolveMaxConcurrency(String jobName) {
+        return maxConcurrency.getOrDefault(jobName, defaultMaxConcurrency);
+    }
+
+    /**
+     * 주어진 Job의 JobInstance 식별 방식을 반환합니다.
+     */
+    public JobIdentityStrategy resolveIdentityStrategy(String jobName) {
+        return identity.getStrategies().getOrDefault(jobName, identity.getDefaultStrategy());
+    }
+
+    @Data
+    public static class Identity {
+        private JobIdentityStrategy defaultStrategy = JobIdentityStrategy.SCHEDULE_SLOT; // 기본 식별 방식
+        private Map<String, JobIdentityStrategy> strategies = new HashMap<>(); // Job 이름별 식별 방식
+        private Set<String> nonIdentifyingKeys = new HashSet<>(
+                Set.of("chunkSize", "commitInterval", "pageSize", "fetchSize", "gridSize")); // 식별에서 제외할 튜닝 파라미터
+    }
+
+    @Data
+    public static class Async {
+        private int corePoolSize = 4; // 기본 스레드 수
+        private int maxPoolSize = 8; // 최대 스레드 수
+        private int queueCapacity = 100; // 대기열 크기
+        private int keepAliveSeconds = 60; // core 초과 스레드 유휴 유지 시간
+        private int awaitTerminationSeconds = 60; // 종료 시 실행 중인 Job 대기 시간
+        private RejectPolicy rejectPolicy = RejectPolicy.ABORT; // 대기열 초과 시 처리 정책
+        private long waitTimeoutMillis = 5000; // WAIT 정책일 때 최대 대기 시간
+        private boolean quartzEnabled = false; // Quartz 트리거 실행도 비동기로 처리할지 여부
+    }
+
+    /**
+     * 비동기 실행 대기열이 가득 찼을 때의 처리 정책
+     */
+    public enum RejectPolicy {
+        ABORT, // 즉시 거부
+        CALLER_RUNS, // 호출한 스레드에서 동기 실행 (backpressure)
+        WAIT // 여유가 생길 때까지 waitTimeoutMillis 만큼 대기 후 거부
+    }
+}
@@ -0,0 +1,35 @@
+package com.kjung.batchtemplate.core.property;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Step chunk 단위 성능 지표(read/process/write 시간, 커밋 시간, 처리량, 할당 바이트) 수집을 설정하기 위한 프로퍼티 클래스입니다.
+ *
+ * <p>prefix: {@code batch.profiling}</p>
+ * <p>
+ * 예시 YAML 구조:
+ * <pre>
+ * batch:
+ *   profiling:
+ *     enabled: true
+ *     percentile-histogram: false
+ *     allocation: true
+ * </pre>
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "batch.profiling")
+public class BatchProfilingProperties {
+
+    // chunk 지표 수집 여부 (false: 리스너를 등록하지 않음)
+    private boolean enabled = true;
+
+    // Timer에 percentile histogram bucket을 함께 기록할지 여부 (Prometheus histogram_quantile 계산용)
+    // Job/Step/phase별로 bucket 시계열이 크게 늘어나므로 필요한 경우에만 켠다.
+    private boolean percentileHistogram = false;
+
+    // chunk 실행 스레드의 할당 바이트를 기록할지 여부 (JVM이 지원하지 않거나 가상 스레드인 경우 기록되지 않음)
+    private boolean allocation = true;
+}
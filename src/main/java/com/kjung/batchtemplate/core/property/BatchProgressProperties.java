@@ -0,0 +1,44 @@
+package com.kjung.batchtemplate.core.property;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 실행 중인 Job의 진행 상황 조회/스트리밍을 설정하기 위한 프로퍼티 클래스입니다.
+ *
+ * <p>prefix: {@code batch.progress}</p>
+ * <p>
+ * 진행 상황은 Step/chunk 리스너가 갱신하는 메모리 snapshot에서 조회하므로 BATCH_* 테이블을 조회하지 않습니다.
+ * <pre>
+ * batch:
+ *   progress:
+ *     enabled: true
+ *     push-interval: 1s
+ *     finished-retention: 1m
+ *     stream-timeout: 30m
+ *     max-subscribers: 100
+ * </pre>
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "batch.progress")
+public class BatchProgressProperties {
+
+    // 진행 상황 수집 여부 (false: 리스너를 등록하지 않음)
+    private boolean enabled = true;
+
+    // SSE 구독자에게 변경된 snapshot을 보내는 주기
+    private Duration pushInterval = Duration.ofSeconds(1);
+
+    // 종료된 Job을 snapshot에 남겨두는 시간
+    private Duration finishedRetention = Duration.ofMinutes(1);
+
+    // SSE 연결 유지 시간 (만료 시 클라이언트가 재연결)
+    private Duration streamTimeout = Duration.ofMinutes(30);
+
+    // 동시에 연결할 수 있는 SSE 구독자 수
+    private int maxSubscribers = 100;
+}
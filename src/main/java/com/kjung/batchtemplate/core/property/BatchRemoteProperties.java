@@ -0,0 +1,47 @@
+package com.kjung.batchtemplate.core.property;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 원격 파티셔닝/원격 chunk 처리를 설정하기 위한 프로퍼티 클래스입니다.
+ *
+ * <p>prefix: {@code batch.remote}</p>
+ * <p>
+ * 모든 노드는 같은 {@code jobs} 패키지를 실행하며, {@code worker.enabled: true}인 노드는 manager가 보낸
+ * 파티션/chunk를 {@code worker.concurrency}개의 consumer로 처리합니다. worker 노드를 추가할수록 consumer가 늘어나
+ * 처리량이 증가합니다. 기본값은 {@code false}(manager 전용)이므로 worker 노드에서만 켭니다.
+ * 기본 {@code InMemoryMessageBroker}로 단일 JVM에서 실행할 때는 같은 노드에서 켜야 요청이 처리됩니다.
+ * <pre>
+ * batch:
+ *   remote:
+ *     worker:
+ *       enabled: true
+ *       concurrency: 4
+ *     max-in-flight-chunks: 8
+ *     timeout: 1h
+ * </pre>
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "batch.remote")
+public class BatchRemoteProperties {
+
+    // worker 설정
+    private Worker worker = new Worker();
+
+    // 원격 chunk Step에서 한 chunk를 나누어 동시에 보낼 최대 요청 수 (chunk 커밋 전에 모든 응답을 기다림)
+    private int maxInFlightChunks = 8;
+
+    // manager가 파티션/chunk 처리 결과를 기다리는 최대 시간
+    private Duration timeout = Duration.ofHours(1);
+
+    @Data
+    public static class Worker {
+        private boolean enabled = false; // 이 노드에서 원격 파티션/chunk를 처리할지 여부
+        private int concurrency = 4; // 원격 Step별 동시 처리 수
+    }
+}
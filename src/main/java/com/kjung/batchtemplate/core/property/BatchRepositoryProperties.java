@@ -0,0 +1,41 @@
+package com.kjung.batchtemplate.core.property;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * JobRepository 메타데이터 접근 캐시를 설정하기 위한 프로퍼티 클래스입니다.
+ *
+ * <p>prefix: {@code batch.repository}</p>
+ * <p>
+ * {@code cache.enabled: true}인 경우 {@code CachingJobRepositoryFactoryBean}으로 만든 JobRepository를 사용하여
+ * chunk마다 발생하는 메타데이터 조회/갱신 쿼리를 줄입니다.
+ * <pre>
+ * batch:
+ *   repository:
+ *     cache:
+ *       enabled: true
+ *       status-check-interval: 1s
+ *       max-instances: 10000
+ *       instance-verify-interval: 1m
+ * </pre>
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "batch.repository")
+public class BatchRepositoryProperties {
+
+    // 메타데이터 캐시 설정
+    private Cache cache = new Cache();
+
+    @Data
+    public static class Cache {
+        private boolean enabled = false; // 캐싱 JobRepository 사용 여부
+        private Duration statusCheckInterval = Duration.ofSeconds(1); // 실행 중 Job 중지 요청 확인 주기 (chunk마다 조회하지 않음)
+        private int maxInstances = 10_000; // 메모리에 유지할 JobInstance 수
+        private Duration instanceVerifyInterval = Duration.ofMinutes(1); // 캐시된 JobInstance를 다시 조회하는 주기 (다른 노드의 메타데이터 정리 반영)
+    }
+}
@@ -0,0 +1,54 @@
+package com.kjung.batchtemplate.core.property;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Spring Batch 메타데이터(BATCH_* 테이블) 보관 기간을 설정하기 위한 프로퍼티 클래스입니다.
+ *
+ * <p>prefix: {@code batch.retention}</p>
+ * <p>
+ * {@code metadataRetentionJob}이 종료 시각(END_TIME)이 보관 기간을 지난 JobExecution과
+ * 관련 Step/Context/Parameter row를 {@code batch-size} 단위로 삭제합니다.
+ * <pre>
+ * batch:
+ *   retention:
+ *     default-ttl: 30d
+ *     ttl:
+ *       testJob: 1d
+ *     batch-size: 500
+ *     archive: false
+ * </pre>
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "batch.retention")
+public class BatchRetentionProperties {
+
+    // Job별 설정이 없을 때의 보관 기간
+    private Duration defaultTtl = Duration.ofDays(30);
+
+    // Job별 보관 기간 (key: Job 이름)
+    private Map<String, Duration> ttl = new HashMap<>();
+
+    // 한 트랜잭션에서 삭제할 JobExecution 수
+    private int batchSize = 500;
+
+    // 삭제 전 JobExecution 요약을 BATCH_JOB_EXECUTION_ARCHIVE 테이블로 복사할지 여부
+    private boolean archive = false;
+
+    // 메타데이터 조회/삭제에 필요한 보조 인덱스를 Job 실행 시 생성할지 여부
+    private boolean createIndexes = true;
+
+    /**
+     * Job 이름에 해당하는 보관 기간을 반환합니다.
+     */
+    public Duration resolveTtl(String jobName) {
+        return ttl.getOrDefault(jobName, defaultTtl);
+    }
+}
@@ -0,0 +1,52 @@
+package com.kjung.batchtemplate.core.property;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * schedule.yml 위치와 핫 리로드 방식을 설정하기 위한 프로퍼티 클래스입니다.
+ *
+ * <p>prefix: {@code batch.schedule}</p>
+ * <p>
+ * 운영 환경에서는 jar 외부 파일을 지정하고 {@code watch.enabled: true}로 두면 파일 변경 시 재배포 없이
+ * 변경된 Job만 스케줄러에 반영됩니다. 파일 감시 대신 actuator 엔드포인트({@code POST /actuator/schedule})로
+ * 수동 리로드할 수도 있습니다.
+ * <pre>
+ * batch:
+ *   schedule:
+ *     location: file:./config/schedule.yml
+ *     watch:
+ *       enabled: true
+ *       debounce: 500ms
+ *     endpoint:
+ *       reload-enabled: false
+ * </pre>
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "batch.schedule")
+public class BatchScheduleProperties {
+
+    // schedule.yml 위치 (classpath: 또는 file:)
+    private String location = "classpath:schedule.yml";
+
+    // 파일 변경 감시 설정
+    private Watch watch = new Watch();
+
+    // actuator 엔드포인트 설정
+    private Endpoint endpoint = new Endpoint();
+
+    @Data
+    public static class Watch {
+        private boolean enabled = false; // WatchService로 파일 변경 감시 여부 (file 위치에서만 동작)
+        private Duration debounce = Duration.ofMillis(500); // 연속된 변경 이벤트를 묶어 한 번만 리로드
+    }
+
+    @Data
+    public static class Endpoint {
+        private boolean reloadEnabled = false; // POST /actuator/schedule 리로드 허용 여부 (네트워크 접근 제한 후 활성화)
+    }
+}
@@ -0,0 +1,66 @@
+package com.kjung.batchtemplate.core.property;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Job 실행, Quartz 워커, Step 병렬 처리에 사용할 스레드 종류를 설정하기 위한 프로퍼티 클래스입니다.
+ *
+ * <p>prefix: {@code batch.threads}</p>
+ * <p>
+ * {@code mode: virtual}로 설정하면 다음 세 곳이 가상 스레드(Java 21)로 실행됩니다.
+ * <ul>
+ *   <li>{@code BatchJobRunner#runAsync}의 Job 실행 스레드</li>
+ *   <li>Quartz Scheduler 워커 스레드 ({@code QuartzBatchJobExecutor})</li>
+ *   <li>{@code AbstractJobConfig#stepTaskExecutor}로 생성한 Step TaskExecutor</li>
+ * </ul>
+ * <p>
+ * 예시 YAML 구조:
+ * <pre>
+ * batch:
+ *   threads:
+ *     mode: virtual
+ *     virtual-max-concurrency: 1000
+ *     pinning:
+ *       enabled: true
+ *       threshold: 20ms
+ * </pre>
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "batch.threads")
+public class BatchThreadProperties {
+
+    // 스레드 종류 (platform, virtual)
+    private ThreadMode mode = ThreadMode.PLATFORM;
+
+    // virtual 모드에서 동시에 실행/대기할 수 있는 비동기 Job 수 (스레드풀 크기 대신 사용)
+    private int virtualMaxConcurrency = 1000;
+
+    // virtual 모드에서 Quartz 워커 동시 실행 수 (-1: 제한 없음)
+    private int quartzConcurrencyLimit = -1;
+
+    // Step TaskExecutor 동시 실행 수 (-1: 제한 없음)
+    private int stepConcurrencyLimit = 8;
+
+    // 가상 스레드 carrier pinning 감지 설정
+    private Pinning pinning = new Pinning();
+
+    public boolean isVirtual() {
+        return mode == ThreadMode.VIRTUAL;
+    }
+
+    @Data
+    public static class Pinning {
+        private boolean enabled = true; // pinning 감지 여부 (virtual 모드에서만 동작)
+        private Duration threshold = Duration.ofMillis(20); // 이 시간 이상 pinning된 경우만 보고
+    }
+
+    public enum ThreadMode {
+        PLATFORM,
+        VIRTUAL
+    }
+}
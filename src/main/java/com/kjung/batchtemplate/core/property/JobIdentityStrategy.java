@@ -0,0 +1,31 @@
+package com.kjung.batchtemplate.core.property;
+
+/**
+ * Job 실행 시 JobInstance를 식별하는 방식입니다.
+ *
+ * <p>같은 식별 파라미터로 다시 실행하면 Spring Batch는 기존 JobInstance를 재사용하므로,
+ * 실패한 실행은 마지막으로 커밋된 chunk부터 재시작되고 이미 실행 중인 경우에는 즉시 거부됩니다.</p>
+ */
+public enum JobIdentityStrategy {
+
+    /**
+     * 매 실행마다 임의의 {@code uuid}를 추가하여 항상 새 JobInstance로 실행 (재시작 불가)
+     */
+    UNIQUE,
+
+    /**
+     * 업무 파라미터만으로 식별. 같은 파라미터의 재실행은 재시작 또는 완료된 경우 거부
+     */
+    BUSINESS_PARAMS,
+
+    /**
+     * 업무 파라미터 + Quartz 예정 실행 시각({@code scheduleSlot})으로 식별.
+     * 예정 시각이 없는 실행(API 등)은 {@link #UNIQUE}와 같이 동작
+     */
+    SCHEDULE_SLOT,
+
+    /**
+     * 업무 파라미터 + 직전 실행보다 1 증가한 {@code run.id}로 식별 (RunIdIncrementer와 같은 키)
+     */
+    RUN_ID
+}
@@ -4,6 +4,7 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 
@@ -17,13 +18,23 @@ import java.util.Map;
  * <pre>
  * spring:
  *   quartz:
+ *     stale-execution-timeout: 1h   # overlap: skip 판단에서 제외할 실행 중 JobExecution의 갱신 지연 기준
  *     jobs:
  *       - name: jobA
  *         description: "테스트 작업"
  *         cron: "0 0/5 * * * ?"
  *         registered: true
+ *         grid-size: 8
+ *         weight: 1
+ *         misfire-policy: fire-once-now   # smart, fire-once-now, do-nothing, ignore
+ *         overlap: skip                   # allow, skip, queue
+ *         max-concurrent: 1
+ *         priority: 5
  *         params:
  *           key1: value1
+ *       - name: jobB
+ *         registered: true
+ *         depends-on: [jobA]   # cron 대신 jobA가 완료되면 실행
  * </pre>
  *
  * @author 김정현
@@ -33,8 +44,11 @@ import java.util.Map;
 @ConfigurationProperties(prefix = "spring.quartz")
 public class QuartzJobProperties {
 
-    // Quartz Job 목록
-    private List<JobDetailProperties> jobs;
+    // Quartz Job 목록 (핫 리로드 스레드가 목록 전체를 교체하므로 Quartz 워커/등록기 스레드에 바로 보이도록 volatile)
+    private volatile List<JobDetailProperties> jobs;
+
+    // 마지막 갱신(LAST_UPDATED) 후 이 시간이 지난 실행 중 JobExecution은 비정상 종료(orphan)로 보고 overlap: skip 판단에서 제외
+    private Duration staleExecutionTimeout = Duration.ofHours(1);
 
     @Data
     public static class JobDetailProperties {
@@ -43,5 +57,42 @@ public class QuartzJobProperties {
         private String cron; // 작업 실행 주기(cron 표현식)
         private boolean registered; // Job 등록할지 여부
         private Map<String, Object> params; // Job 실행 시 전달할 파라미터
+        private Integer gridSize; // 파티션 Step의 파티션 수 (JobParameter 'gridSize'로 전달)
+        private int weight = 1; // 클러스터 부하 분배 시 Job의 부하 가중치
+        private List<String> dependsOn; // 선행 Job 목록 (모두 완료되면 실행, cron과 함께 지정 불가)
+        private MisfirePolicy misfirePolicy = MisfirePolicy.SMART; // 실행 시각을 놓친 경우(misfire) 처리 방식
+        private OverlapPolicy overlap = OverlapPolicy.ALLOW; // 이전 실행이 끝나지 않았을 때의 처리 방식
+        private Integer maxConcurrent; // 클러스터 전체 동시 실행 수 상한 (overlap: skip 일 때, 기본 1)
+        private int priority = 5; // 같은 시각에 실행될 Trigger 간 우선순위 (클수록 먼저 실행)
+
+        public boolean hasDependencies() {
+            return dependsOn != null && !dependsOn.isEmpty();
+        }
+
+        /**
+         * overlap: skip 일 때 적용할 동시 실행 수 상한을 반환합니다.
+         */
+        public int resolveMaxConcurrent() {
+            return maxConcurrent != null ? maxConcurrent : 1;
+        }
+    }
+
+    /**
+     * 스케줄러 중단, 워커 부족, 이전 실행 대기(queue) 등으로 실행 시각을 놓친 경우의 처리 방식
+     */
+    public enum MisfirePolicy {
+        SMART, // Quartz 기본값 (cron Trigger는 FIRE_ONCE_NOW와 같음)
+        FIRE_ONCE_NOW, // 놓친 실행을 하나로 합쳐(coalesce) 즉시 1회 실행
+        DO_NOTHING, // 놓친 실행은 건너뛰고 다음 예정 시각에 실행
+        IGNORE // 놓친 실행을 모두 즉시 실행
+    }
+
+    /**
+     * 이전 실행이 끝나지 않은 상태에서 다음 실행 시각이 된 경우의 처리 방식
+     */
+    public enum OverlapPolicy {
+        ALLOW, // 동시에 실행
+        SKIP, // 클러스터 전체 실행 중인 JobExecution 수가 max-concurrent 이상이면 이번 실행을 건너뜀
+        QUEUE // 이전 실행이 끝날 때까지 대기 후 실행 (클러스터 전체 1개씩, 오래 대기하면 misfire-policy 적용)
     }
 }
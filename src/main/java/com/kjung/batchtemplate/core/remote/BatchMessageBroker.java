@@ -0,0 +1,32 @@
+package com.kjung.batchtemplate.core.remote;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * manager 노드와 worker 노드 사이에서 원격 파티션/chunk 요청을 전달하는 메시지 브로커 추상화입니다.
+ *
+ * <p>하나의 destination을 여러 노드가 구독하면 메시지는 그중 한 consumer에게만 전달(competing consumers)되어야 하며,
+ * 송신자는 반환된 future로 처리 결과를 받습니다. 기본 구현은 단일 JVM용 {@link InMemoryMessageBroker}이며,
+ * JMS/Kafka 등 실제 브로커를 사용하려면 이 인터페이스를 구현한 Bean을 등록합니다.
+ * 실제 브로커 구현에서는 payload({@link PartitionRequest}, {@link ChunkRequest})와 응답이 직렬화 가능해야 합니다.</p>
+ */
+public interface BatchMessageBroker {
+
+    /**
+     * 메시지를 destination으로 보냅니다.
+     *
+     * @return worker의 처리 결과 (처리 중 예외가 발생하면 예외로 완료)
+     */
+    CompletableFuture<Object> send(String destination, Object payload);
+
+    /**
+     * destination을 구독하여 {@code concurrency}개의 consumer로 메시지를 처리합니다.
+     */
+    void subscribe(String destination, int concurrency, Function<Object, Object> handler);
+
+    /**
+     * 이 노드의 destination 구독을 해지합니다.
+     */
+    void unsubscribe(String destination);
+}
@@ -0,0 +1,13 @@
+package com.kjung.batchtemplate.core.remote;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * manager 노드가 읽은 item 묶음을 worker 노드의 processor/writer로 보내는 메시지입니다.
+ *
+ * @param stepExecutionId manager Step의 StepExecution id (로그/추적용)
+ * @param sequence        Step 안에서의 chunk 순번
+ */
+public record ChunkRequest<T>(long stepExecutionId, long sequence, List<T> items) implements Serializable {
+}
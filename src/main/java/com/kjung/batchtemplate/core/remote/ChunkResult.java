@@ -0,0 +1,12 @@
+package com.kjung.batchtemplate.core.remote;
+
+import java.io.Serializable;
+
+/**
+ * worker 노드의 chunk 처리 결과입니다.
+ *
+ * @param writeCount  writer에 전달된 item 수
+ * @param filterCount processor가 null을 반환하여 제외된 item 수
+ */
+public record ChunkResult(int writeCount, int filterCount) implements Serializable {
+}
@@ -0,0 +1,102 @@
+package com.kjung.batchtemplate.core.remote;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Function;
+
+/**
+ * 단일 JVM에서 동작하는 {@link BatchMessageBroker} 구현체입니다.
+ *
+ * <p>destination마다 하나의 큐를 두고 구독한 consumer 스레드들이 경쟁적으로 메시지를 가져가므로,
+ * {@code subscribe}를 여러 번 호출하면 worker 노드를 여러 대 띄운 것과 같이 동작합니다.
+ * 개발/테스트 환경이나 한 노드의 여러 코어로 원격 Step을 실행하는 용도입니다.</p>
+ */
+@Slf4j
+public class InMemoryMessageBroker implements BatchMessageBroker, DisposableBean {
+
+    private final Map<String, BlockingQueue<Envelope>> queues = new ConcurrentHashMap<>();
+
+    private final Map<String, List<Thread>> consumers = new ConcurrentHashMap<>();
+
+    private record Envelope(Object payload, CompletableFuture<Object> reply) {
+    }
+
+    @Override
+    public CompletableFuture<Object> send(String destination, Object payload) {
+        CompletableFuture<Object> reply = new CompletableFuture<>();
+        queue(destination).add(new Envelope(payload, reply));
+        return reply;
+    }
+
+    @Override
+    public void subscribe(String destination, int concurrency, Function<Object, Object> handler) {
+        BlockingQueue<Envelope> queue = queue(destination);
+        List<Thread> threads = consumers.computeIfAbsent(destination, key -> new ArrayList<>());
+
+        synchronized (threads) {
+            for (int i = 0; i < concurrency; i++) {
+                threads.add(Thread.ofPlatform()
+                        .name("broker-" + destination + "-" + threads.size())
+                        .daemon(true)
+                        .start(() -> consume(queue, handler)));
+            }
+        }
+    }
+
+    private void consume(BlockingQueue<Envelope> queue, Function<Object, Object> handler) {
+        while (!Thread.currentThread().isInterrupted()) {
+            Envelope envelope;
+            try {
+                envelope = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            // manager가 timeout으로 응답 대기를 취소한 요청은 실행하지 않음
+            if (envelope.reply().isCancelled()) continue;
+
+            try {
+                envelope.reply().complete(handler.apply(envelope.payload()));
+            } catch (Throwable e) {
+                envelope.reply().completeExceptionally(e);
+            }
+        }
+    }
+
+    @Override
+    public void unsubscribe(String destination) {
+        List<Thread> threads = consumers.remove(destination);
+        if (threads == null) return;
+
+        synchronized (threads) {
+            threads.forEach(Thread::interrupt);
+        }
+    }
+
+    private BlockingQueue<Envelope> queue(String destination) {
+        return queues.computeIfAbsent(destination, key -> new LinkedBlockingQueue<>());
+    }
+
+    @Override
+    public void destroy() {
+        List.copyOf(consumers.keySet()).forEach(this::unsubscribe);
+
+        // 처리되지 못한 요청은 취소하여 기다리는 manager가 종료되도록 한다.
+        queues.forEach((destination, queue) -> {
+            List<Envelope> pending = new ArrayList<>();
+            queue.drainTo(pending);
+            if (!pending.isEmpty()) log.warn("[Remote] {} 요청 {}건 취소", destination, pending.size());
+            pending.forEach(envelope -> envelope.reply().completeExceptionally(new CancellationException("Broker shut down")));
+        });
+    }
+}
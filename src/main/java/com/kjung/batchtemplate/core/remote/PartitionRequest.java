@@ -0,0 +1,10 @@
+package com.kjung.batchtemplate.core.remote;
+
+import java.io.Serializable;
+
+/**
+ * worker 노드에 파티션 StepExecution 실행을 요청하는 메시지입니다.
+ * worker는 공유 JobRepository에서 StepExecution을 조회하여 같은 이름의 Step으로 실행합니다.
+ */
+public record PartitionRequest(long jobExecutionId, long stepExecutionId, String stepName) implements Serializable {
+}
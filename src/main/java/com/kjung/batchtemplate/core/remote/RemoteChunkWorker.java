@@ -0,0 +1,86 @@
+package com.kjung.batchtemplate.core.remote;
+
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * worker 노드에서 원격 chunk를 processor → writer 순서로 처리하는 구성 요소입니다.
+ *
+ * <p>Bean으로 등록하면 {@link RemoteWorkerRegistry}가 기동 시 {@code batch.chunk.<stepName>}을 구독합니다.
+ * Step 실행 컨텍스트 밖에서 호출되므로 processor/writer는 {@code @StepScope}가 아니어야 합니다.</p>
+ */
+public class RemoteChunkWorker<I, O> {
+
+    private final String stepName;
+
+    private final ItemProcessor<? super I, ? extends O> processor;
+
+    private final ItemWriter<? super O> writer;
+
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * @param stepName  manager Step 이름 (destination 이름으로 사용)
+     * @param processor null인 경우 item을 그대로 writer에 전달
+     */
+    public RemoteChunkWorker(String stepName,
+                             ItemProcessor<? super I, ? extends O> processor,
+                             ItemWriter<? super O> writer,
+                             PlatformTransactionManager transactionManager) {
+        this.stepName = stepName;
+        this.processor = processor;
+        this.writer = writer;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public static String destination(String stepName) {
+        return "batch.chunk." + stepName;
+    }
+
+    public String getDestination() {
+        return destination(stepName);
+    }
+
+    /**
+     * chunk 하나를 하나의 트랜잭션으로 처리합니다.
+     */
+    @SuppressWarnings("unchecked")
+    public ChunkResult handle(Object message) {
+        ChunkRequest<I> request = (ChunkRequest<I>) message;
+
+        return transactionTemplate.execute(status -> {
+            Chunk<O> outputs = new Chunk<>();
+            int filtered = 0;
+
+            for (I item : request.items()) {
+                O output = process(item);
+                if (output == null) {
+                    filtered++;
+                } else {
+                    outputs.add(output);
+                }
+            }
+
+            try {
+                if (!outputs.isEmpty()) writer.write(outputs);
+            } catch (Exception e) {
+                throw new IllegalStateException("Failed to write remote chunk: " + stepName, e);
+            }
+            return new ChunkResult(outputs.size(), filtered);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private O process(I item) {
+        if (processor == null) return (O) item;
+
+        try {
+            return processor.process(item);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to process remote chunk item: " + stepName, e);
+        }
+    }
+}
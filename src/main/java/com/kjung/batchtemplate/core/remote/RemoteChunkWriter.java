@@ -0,0 +1,123 @@
+package com.kjung.batchtemplate.core.remote;
+
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * manager Step에서 읽은 chunk를 worker 노드로 보내는 ItemWriter입니다.
+ *
+ * <p>chunk를 최대 {@code maxInFlight}개의 요청으로 나누어 동시에 보내고, chunk 트랜잭션이 커밋되기 전에 모든 응답을 기다립니다.
+ * 따라서 manager의 reader 상태는 worker가 chunk의 모든 item을 처리한 뒤에만 커밋되며, 실패한 요청이 있으면 chunk가 롤백되어
+ * 재시작 시 해당 chunk부터 다시 읽습니다. Step 종료 시({@link #afterStep}) worker의 filter 수를 StepExecution에 반영합니다.</p>
+ *
+ * <p>한 chunk의 요청 중 일부만 실패한 경우 성공한 요청은 worker에서 이미 커밋되었으므로,
+ * 재시작 시 중복 처리에 안전한(멱등) writer를 사용해야 합니다.</p>
+ *
+ * <p>Step Bean은 singleton이므로 같은 Job이 동시에 실행되면 하나의 writer를 공유합니다.
+ * 실행별 상태는 StepExecution id로 구분하여 보관합니다.</p>
+ */
+public class RemoteChunkWriter<T> implements ItemWriter<T>, StepExecutionListener {
+
+    private final BatchMessageBroker broker;
+
+    private final String destination;
+
+    private final int maxInFlight;
+
+    private final Duration timeout;
+
+    private final Map<Long, Progress> executions = new ConcurrentHashMap<>();
+
+    public RemoteChunkWriter(BatchMessageBroker broker, String destination, int maxInFlight, Duration timeout) {
+        this.broker = broker;
+        this.destination = destination;
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.timeout = timeout;
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        executions.put(stepExecution.getId(), new Progress());
+    }
+
+    @Override
+    public void write(Chunk<? extends T> chunk) throws Exception {
+        StepExecution stepExecution = currentStepExecution();
+        Progress progress = executions.computeIfAbsent(stepExecution.getId(), id -> new Progress());
+
+        List<CompletableFuture<Object>> replies = new ArrayList<>();
+        for (List<T> items : split(chunk.getItems())) {
+            replies.add(broker.send(destination, new ChunkRequest<>(stepExecution.getId(), progress.sequence++, items)));
+        }
+
+        // 모든 응답을 받은 뒤에만 chunk(= reader 상태)가 커밋되도록 write 안에서 기다린다.
+        try {
+            CompletableFuture.allOf(replies.toArray(CompletableFuture[]::new)).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Remote chunk processing failed", e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Remote chunk reply timed out after " + timeout, e);
+        }
+
+        for (CompletableFuture<Object> reply : replies) {
+            progress.filterCount += ((ChunkResult) reply.join()).filterCount();
+        }
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        Progress progress = executions.remove(stepExecution.getId());
+        int filterCount = progress != null ? progress.filterCount : 0;
+
+        // manager는 전송한 item을 모두 write로 집계하므로 worker에서 filter된 수만큼 보정한다.
+        stepExecution.setWriteCount(stepExecution.getWriteCount() - filterCount);
+        stepExecution.setFilterCount(stepExecution.getFilterCount() + filterCount);
+        return stepExecution.getExitStatus();
+    }
+
+    /**
+     * chunk를 최대 {@code maxInFlight}개의 요청으로 고르게 나눕니다.
+     */
+    private List<List<T>> split(List<? extends T> items) {
+        int size = Math.max(1, (items.size() + maxInFlight - 1) / maxInFlight);
+
+        List<List<T>> requests = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += size) {
+            requests.add(new ArrayList<>(items.subList(from, Math.min(from + size, items.size()))));
+        }
+        return requests;
+    }
+
+    private static StepExecution currentStepExecution() {
+        StepContext context = StepSynchronizationManager.getContext();
+        if (context == null) {
+            throw new IllegalStateException("RemoteChunkWriter must be called within a step execution");
+        }
+        return context.getStepExecution();
+    }
+
+    /**
+     * StepExecution별 전송 순번과 worker filter 수입니다. 한 StepExecution의 chunk는 하나의 스레드에서 순서대로 처리됩니다.
+     */
+    private static final class Progress {
+
+        private long sequence;
+
+        private int filterCount;
+    }
+}
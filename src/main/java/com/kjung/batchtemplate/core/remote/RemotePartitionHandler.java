@@ -0,0 +1,117 @@
+package com.kjung.batchtemplate.core.remote;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.partition.support.AbstractPartitionHandler;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 파티션 StepExecution을 {@link BatchMessageBroker}로 worker 노드에 보내 실행하는 PartitionHandler입니다.
+ *
+ * <p>manager는 파티션 StepExecution을 JobRepository에 저장한 뒤 id만 전송하고, worker는 공유 JobRepository에서
+ * StepExecution을 조회하여 실행합니다. 모든 응답을 받으면 JobRepository에서 최종 상태를 다시 조회하여 집계합니다.
+ * ({@link RemoteWorkerRegistry} 참고)</p>
+ *
+ * <p>{@code timeout} 안에 응답하지 않은 파티션은 응답 대기를 취소하고 FAILED로 저장한 뒤 Step을 실패시킵니다.
+ * StepExecution의 version이 올라가므로, 늦게 실행을 이어가는 worker는 다음 저장에서
+ * {@link OptimisticLockingFailureException}으로 중단되어 이미 실패한 Step의 상태를 덮어쓰지 못합니다.</p>
+ */
+@Slf4j
+public class RemotePartitionHandler extends AbstractPartitionHandler {
+
+    public static final String DESTINATION = "batch.partition";
+
+    private final BatchMessageBroker broker;
+
+    private final JobExplorer jobExplorer;
+
+    private final JobRepository jobRepository;
+
+    private final String workerStepName;
+
+    private final Duration timeout;
+
+    public RemotePartitionHandler(BatchMessageBroker broker,
+                                  JobExplorer jobExplorer,
+                                  JobRepository jobRepository,
+                                  String workerStepName,
+                                  int gridSize,
+                                  Duration timeout) {
+        this.broker = broker;
+        this.jobExplorer = jobExplorer;
+        this.jobRepository = jobRepository;
+        this.workerStepName = workerStepName;
+        this.timeout = timeout;
+        setGridSize(gridSize);
+    }
+
+    @Override
+    protected Set<StepExecution> doHandle(StepExecution managerStepExecution,
+                                          Set<StepExecution> partitionStepExecutions) throws Exception {
+
+        Map<StepExecution, CompletableFuture<Object>> replies = new LinkedHashMap<>();
+        for (StepExecution partition : partitionStepExecutions) {
+            PartitionRequest request = new PartitionRequest(
+                    partition.getJobExecutionId(), partition.getId(), workerStepName);
+            replies.put(partition, broker.send(DESTINATION, request));
+        }
+
+        log.info("[Remote] {} 파티션 {}개 전송", managerStepExecution.getStepName(), replies.size());
+
+        long deadline = System.nanoTime() + timeout.toNanos();
+        Set<StepExecution> results = new HashSet<>();
+
+        for (Map.Entry<StepExecution, CompletableFuture<Object>> entry : replies.entrySet()) {
+            StepExecution partition = entry.getKey();
+            try {
+                entry.getValue().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                failUnfinished(replies);
+                throw new IllegalStateException("Remote partition timed out: " + partition.getStepName(), e);
+            }
+
+            StepExecution updated = jobExplorer.getStepExecution(partition.getJobExecutionId(), partition.getId());
+            results.add(updated != null ? updated : partition);
+        }
+
+        return results;
+    }
+
+    /**
+     * 응답을 받지 못한 파티션의 응답 대기를 취소하고, 아직 종료되지 않은 StepExecution을 FAILED로 저장합니다.
+     */
+    private void failUnfinished(Map<StepExecution, CompletableFuture<Object>> replies) {
+        for (Map.Entry<StepExecution, CompletableFuture<Object>> entry : replies.entrySet()) {
+            if (!entry.getValue().cancel(true)) continue; // 이미 응답을 받은 파티션
+
+            StepExecution partition = entry.getKey();
+            StepExecution latest = jobExplorer.getStepExecution(partition.getJobExecutionId(), partition.getId());
+            if (latest == null || !latest.getStatus().isRunning()) continue;
+
+            latest.setStatus(BatchStatus.FAILED);
+            latest.setExitStatus(ExitStatus.FAILED.addExitDescription("Remote partition timed out"));
+            latest.setEndTime(LocalDateTime.now());
+            try {
+                jobRepository.update(latest);
+                log.warn("[Remote] 응답 없는 파티션 {} FAILED 처리", latest.getStepName());
+            } catch (OptimisticLockingFailureException e) {
+                // 조회 직후 worker가 상태를 저장한 경우: worker가 기록한 상태를 유지
+                log.warn("[Remote] 파티션 {} 상태 변경 실패 (worker가 먼저 저장)", latest.getStepName());
+            }
+        }
+    }
+}
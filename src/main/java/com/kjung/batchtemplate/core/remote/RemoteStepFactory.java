@@ -0,0 +1,31 @@
+package com.kjung.batchtemplate.core.remote;
+
+import com.kjung.batchtemplate.core.property.BatchRemoteProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.repository.JobRepository;
+
+/**
+ * 원격 파티션/chunk Step의 manager 측 구성 요소를 생성합니다.
+ * ({@code AbstractJobConfig#remotePartitionedStep}, {@code AbstractChunkJobConfig#remoteChunkStep} 참고)
+ */
+@RequiredArgsConstructor
+public class RemoteStepFactory {
+
+    private final BatchMessageBroker broker;
+
+    private final JobExplorer jobExplorer;
+
+    private final JobRepository jobRepository;
+
+    private final BatchRemoteProperties properties;
+
+    public RemotePartitionHandler partitionHandler(String workerStepName, int gridSize) {
+        return new RemotePartitionHandler(broker, jobExplorer, jobRepository, workerStepName, gridSize, properties.getTimeout());
+    }
+
+    public <T> RemoteChunkWriter<T> chunkWriter(String stepName) {
+        return new RemoteChunkWriter<>(broker, RemoteChunkWorker.destination(stepName),
+                properties.getMaxInFlightChunks(), properties.getTimeout());
+    }
+}
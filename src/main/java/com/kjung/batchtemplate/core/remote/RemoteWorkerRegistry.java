@@ -0,0 +1,99 @@
+package com.kjung.batchtemplate.core.remote;
+
+import com.kjung.batchtemplate.core.property.BatchRemoteProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 이 노드를 원격 파티션/chunk worker로 등록하는 구성 요소입니다.
+ *
+ * <p>{@code batch.remote.worker.enabled=true}이면 기동 시 다음 destination을 {@code worker.concurrency}개의 consumer로 구독합니다.
+ * <ul>
+ *   <li>{@value RemotePartitionHandler#DESTINATION} - 요청의 Step 이름과 같은 이름의 Step Bean으로 파티션 StepExecution을 실행
+ *       (worker Step은 싱글톤 Bean이어야 하며 reader 등은 {@code @StepScope}로 파티션 범위를 주입받을 수 있음)</li>
+ *   <li>{@code batch.chunk.<stepName>} - 등록된 {@link RemoteChunkWorker} Bean으로 chunk 처리</li>
+ * </ul>
+ */
+@Slf4j
+public class RemoteWorkerRegistry implements SmartLifecycle {
+
+    private final BatchMessageBroker broker;
+
+    private final JobExplorer jobExplorer;
+
+    private final BatchRemoteProperties properties;
+
+    private final ListableBeanFactory beanFactory;
+
+    private final List<String> destinations = new ArrayList<>();
+
+    private volatile boolean running;
+
+    public RemoteWorkerRegistry(BatchMessageBroker broker,
+                                JobExplorer jobExplorer,
+                                BatchRemoteProperties properties,
+                                ListableBeanFactory beanFactory) {
+        this.broker = broker;
+        this.jobExplorer = jobExplorer;
+        this.properties = properties;
+        this.beanFactory = beanFactory;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) return;
+
+        if (properties.getWorker().isEnabled()) {
+            int concurrency = properties.getWorker().getConcurrency();
+
+            subscribe(RemotePartitionHandler.DESTINATION, concurrency, message -> executePartition((PartitionRequest) message));
+
+            for (RemoteChunkWorker<?, ?> worker : beanFactory.getBeansOfType(RemoteChunkWorker.class).values()) {
+                subscribe(worker.getDestination(), concurrency, worker::handle);
+            }
+
+            log.info("[Remote] worker 등록 - destinations: {}, concurrency: {}", destinations, concurrency);
+        }
+        running = true;
+    }
+
+    private void subscribe(String destination, int concurrency, Function<Object, Object> handler) {
+        broker.subscribe(destination, concurrency, handler);
+        destinations.add(destination);
+    }
+
+    private Object executePartition(PartitionRequest request) {
+        StepExecution stepExecution = jobExplorer.getStepExecution(request.jobExecutionId(), request.stepExecutionId());
+        if (stepExecution == null) {
+            throw new IllegalStateException("StepExecution not found: " + request);
+        }
+
+        Step step = beanFactory.getBean(request.stepName(), Step.class);
+        try {
+            step.execute(stepExecution);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to execute remote partition: " + stepExecution.getStepName(), e);
+        }
+        return stepExecution.getStatus();
+    }
+
+    @Override
+    public synchronized void stop() {
+        destinations.forEach(broker::unsubscribe);
+        destinations.clear();
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
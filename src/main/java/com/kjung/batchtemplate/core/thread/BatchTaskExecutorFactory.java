@@ -0,0 +1,75 @@
+package com.kjung.batchtemplate.core.thread;
+
+import com.kjung.batchtemplate.core.property.BatchLauncherProperties;
+import com.kjung.batchtemplate.core.property.BatchThreadProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link BatchThreadProperties#getMode()}에 따라 플랫폼 스레드 또는 가상 스레드 기반 TaskExecutor를 생성하는 팩토리입니다.
+ *
+ * <p>가상 스레드 모드에서는 스레드풀 크기 대신 동시 실행 수 제한만으로 부하를 조절합니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class BatchTaskExecutorFactory {
+
+    private final BatchThreadProperties properties;
+
+    /**
+     * 비동기 Job 실행용 TaskExecutor를 생성합니다.
+     */
+    public TaskExecutor createLaunchExecutor(BatchLauncherProperties.Async async) {
+        if (properties.isVirtual()) {
+            return createSimpleExecutor("batch-launch-", SimpleAsyncTaskExecutor.UNBOUNDED_CONCURRENCY);
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("batch-launch-");
+        executor.setCorePoolSize(async.getCorePoolSize());
+        executor.setMaxPoolSize(async.getMaxPoolSize());
+        executor.setQueueCapacity(async.getQueueCapacity());
+        executor.setKeepAliveSeconds(async.getKeepAliveSeconds());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(async.getAwaitTerminationSeconds());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 비동기 Job 실행기가 동시에 보유할 수 있는 Job 수(실행 중 + 대기 중)를 반환합니다.
+     */
+    public int launchCapacity(BatchLauncherProperties.Async async) {
+        if (properties.isVirtual()) {
+            return properties.getVirtualMaxConcurrency();
+        }
+
+        return async.getMaxPoolSize() + async.getQueueCapacity();
+    }
+
+    /**
+     * Quartz 워커용 TaskExecutor를 생성합니다.
+     */
+    public TaskExecutor createQuartzExecutor() {
+        return createSimpleExecutor("quartz-worker-", properties.getQuartzConcurrencyLimit());
+    }
+
+    /**
+     * 멀티스레드/파티션 Step용 TaskExecutor를 생성합니다.
+     *
+     * @param stepName 스레드 이름 prefix로 사용할 Step 이름
+     */
+    public TaskExecutor createStepExecutor(String stepName) {
+        return createSimpleExecutor(stepName + "-", properties.getStepConcurrencyLimit());
+    }
+
+    private SimpleAsyncTaskExecutor createSimpleExecutor(String threadNamePrefix, int concurrencyLimit) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(properties.isVirtual());
+        executor.setConcurrencyLimit(concurrencyLimit);
+        return executor;
+    }
+}
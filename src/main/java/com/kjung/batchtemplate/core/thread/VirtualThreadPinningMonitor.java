@@ -0,0 +1,123 @@
+package com.kjung.batchtemplate.core.thread;
+
+import com.kjung.batchtemplate.core.property.BatchThreadProperties;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * JFR {@code jdk.VirtualThreadPinned} 이벤트를 구독하여 가상 스레드의 carrier pinning을 감지하는 컴포넌트입니다.
+ *
+ * <p>JDBC 드라이버의 synchronized 블록 등에서 가상 스레드가 carrier 스레드에 고정되면
+ * 가상 스레드의 확장성이 사라지므로, 임계값 이상 pinning된 호출 위치를 로그로 보고합니다.
+ * 같은 호출 위치는 처음 한 번만 스택과 함께 출력하고 이후에는 발생 횟수만 누적합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "batch.threads.mode", havingValue = "virtual")
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private static final int MAX_FRAMES = 8;
+
+    private final BatchThreadProperties properties;
+
+    private final Map<String, PinnedLocation> pinnedLocations = new ConcurrentHashMap<>();
+
+    private RecordingStream recordingStream;
+
+    @Override
+    public void start() {
+        if (!properties.getPinning().isEnabled()) return;
+
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT)
+                .withThreshold(properties.getPinning().getThreshold())
+                .withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+
+        log.info("[VirtualThread] carrier pinning 감지 시작 (threshold: {})", properties.getPinning().getThreshold());
+    }
+
+    private void onPinned(RecordedEvent event) {
+        String location = describe(event.getStackTrace());
+        PinnedLocation pinned = pinnedLocations.computeIfAbsent(location, key -> new PinnedLocation());
+        pinned.count.increment();
+
+        // 같은 위치에서 동시에 여러 이벤트가 들어와도 한 번만 출력
+        if (pinned.reported.compareAndSet(false, true)) {
+            log.warn("[VirtualThread] carrier pinning 감지 ({} ms, thread: {})\n{}",
+                    event.getDuration().toMillis(), threadName(event.getThread()), location);
+        }
+    }
+
+    /**
+     * JFR 이벤트에 스레드 정보가 기록되지 않는 경우가 있으므로 null을 허용합니다.
+     */
+    private static String threadName(RecordedThread thread) {
+        if (thread == null) return "<unknown>";
+        return thread.getJavaName() != null ? thread.getJavaName() : "<unnamed>";
+    }
+
+    private String describe(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) return "\tat <unknown>";
+
+        return stackTrace.getFrames().stream()
+                .limit(MAX_FRAMES)
+                .map(this::describe)
+                .collect(Collectors.joining("\n"));
+    }
+
+    private String describe(RecordedFrame frame) {
+        return "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + "(line " + frame.getLineNumber() + ")";
+    }
+
+    /**
+     * 호출 위치별 pinning 발생 횟수를 반환합니다.
+     */
+    public Map<String, Long> getPinnedCounts() {
+        return pinnedLocations.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().count.sum()));
+    }
+
+    @Override
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+            recordingStream = null;
+        }
+
+        pinnedLocations.forEach((location, pinned) ->
+                log.info("[VirtualThread] carrier pinning 누적 {}회\n{}", pinned.count.sum(), location));
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    /**
+     * 호출 위치별 발생 횟수와 최초 보고 여부
+     */
+    private static class PinnedLocation {
+        private final LongAdder count = new LongAdder();
+        private final AtomicBoolean reported = new AtomicBoolean();
+    }
+}
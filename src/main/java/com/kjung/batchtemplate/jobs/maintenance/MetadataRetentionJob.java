@@ -0,0 +1,95 @@
+package com.kjung.batchtemplate.jobs.maintenance;
+
+import com.kjung.batchtemplate.core.base.AbstractJobConfig;
+import com.kjung.batchtemplate.core.batch.retention.JobMetadataPruner;
+import com.kjung.batchtemplate.core.property.BatchRetentionProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.boot.autoconfigure.batch.BatchTransactionManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Spring Batch 메타데이터(BATCH_* 테이블) 보관 기간 관리 Job입니다.
+ *
+ * <p>Job별 보관 기간({@code batch.retention.ttl}, 기본 {@code default-ttl})이 지난 JobExecution을 묶음 단위로 삭제하고,
+ * 실행 종료 시 테이블별 삭제 row 수를 로그로 남깁니다. schedule.yml에 등록하여 주기적으로 실행합니다.</p>
+ *
+ * <p>보조 인덱스/보관 테이블 DDL은 첫 Step에서 트랜잭션 없이 실행하여, 삭제 Step의 트랜잭션과 섞이지 않도록 합니다.</p>
+ */
+@Slf4j
+@Configuration
+public class MetadataRetentionJob extends AbstractJobConfig {
+
+    public static final String JOB_NAME = "metadataRetentionJob";
+
+    /**
+     * 메타데이터 테이블만 다루므로 Step 트랜잭션도 배치 메타데이터 DataSource의 TransactionManager를 사용합니다.
+     */
+    public MetadataRetentionJob(JobRepository jobRepository,
+                                @BatchTransactionManager PlatformTransactionManager transactionManager) {
+
+        super(jobRepository, transactionManager);
+    }
+
+    @Bean
+    public Job metadataRetentionJob(Step metadataRetentionSchemaStep, Step metadataRetentionStep) {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .start(metadataRetentionSchemaStep)
+                .next(metadataRetentionStep)
+                .build();
+    }
+
+    /**
+     * 보조 인덱스와 보관 테이블을 생성합니다. DDL은 암묵적으로 커밋되므로 Step 트랜잭션 없이(auto-commit) 실행합니다.
+     */
+    @Bean
+    public Step metadataRetentionSchemaStep(JobMetadataPruner pruner, BatchRetentionProperties properties) {
+        return new StepBuilder("metadataRetentionSchemaStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    pruner.ensureSchema(properties.isCreateIndexes(), properties.isArchive());
+                    return RepeatStatus.FINISHED;
+                }, new ResourcelessTransactionManager())
+                .allowStartIfComplete(true)
+                .build();
+    }
+
+    @Bean
+    public Step metadataRetentionStep(MetadataRetentionTasklet metadataRetentionTasklet) {
+        return new StepBuilder("metadataRetentionStep", jobRepository)
+                .tasklet(metadataRetentionTasklet, transactionManager)
+                .listener(new StepExecutionListener() {
+                    @Override
+                    public ExitStatus afterStep(StepExecution stepExecution) {
+                        Map<String, Object> report = new TreeMap<>();
+                        stepExecution.getExecutionContext().entrySet().stream()
+                                .filter(entry -> entry.getKey().startsWith(MetadataRetentionTasklet.REMOVED_PREFIX))
+                                .forEach(entry -> report.put(entry.getKey().substring(MetadataRetentionTasklet.REMOVED_PREFIX.length()), entry.getValue()));
+
+                        log.info("[Retention] 삭제된 row 수: {}", report);
+                        return stepExecution.getExitStatus();
+                    }
+                })
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    MetadataRetentionTasklet metadataRetentionTasklet(JobMetadataPruner pruner, BatchRetentionProperties properties) {
+        return new MetadataRetentionTasklet(pruner, properties);
+    }
+}
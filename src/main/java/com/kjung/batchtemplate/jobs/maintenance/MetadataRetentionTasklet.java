@@ -0,0 +1,92 @@
+package com.kjung.batchtemplate.jobs.maintenance;
+
+import com.kjung.batchtemplate.core.batch.retention.JobMetadataPruner;
+import com.kjung.batchtemplate.core.property.BatchRetentionProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+
+/**
+ * Job별 보관 기간이 지난 메타데이터를 {@code batch-size} 단위로 삭제하는 Tasklet입니다.
+ *
+ * <p>한 번의 {@link #execute} 호출(=하나의 트랜잭션)에서 한 Job의 한 묶음만 삭제하고
+ * {@link RepeatStatus#CONTINUABLE}을 반환하므로, 삭제량이 많아도 트랜잭션이 작게 유지됩니다.
+ * 테이블별 삭제 row 수는 StepExecution의 ExecutionContext({@code removed.<테이블>})에 누적되고
+ * 삭제된 JobExecution 수는 write count로 기록됩니다.</p>
+ *
+ * <p>모든 Job을 정리한 뒤에는 {@code default-ttl}이 지난 workflow 실행 이력({@code WORKFLOW_RUN})을 같은 방식으로 삭제합니다.</p>
+ *
+ * <p>보조 인덱스와 보관 테이블은 트랜잭션 밖에서 실행되는 이전 Step({@code metadataRetentionSchemaStep})에서 생성합니다.</p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+class MetadataRetentionTasklet implements Tasklet {
+
+    static final String REMOVED_PREFIX = "removed.";
+
+    static final String WORKFLOW_RUN = "WORKFLOW_RUN";
+
+    private final JobMetadataPruner pruner;
+
+    private final BatchRetentionProperties properties;
+
+    private Deque<String> remainingJobs;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        if (remainingJobs == null) {
+            remainingJobs = new ArrayDeque<>(pruner.findJobNames());
+        }
+
+        ExecutionContext context = contribution.getStepExecution().getExecutionContext();
+
+        String jobName = remainingJobs.peek();
+        if (jobName == null) {
+            return pruneWorkflowRuns(context);
+        }
+
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.resolveTtl(jobName));
+        Map<String, Integer> removed = pruner.prune(jobName, cutoff, properties.getBatchSize(), properties.isArchive());
+
+        removed.forEach((table, rows) -> accumulate(context, table, rows));
+
+        int executions = removed.getOrDefault("JOB_EXECUTION", 0);
+        contribution.incrementWriteCount(executions);
+
+        // 한 묶음보다 적게 삭제되었으면 해당 Job은 정리 완료
+        if (executions < properties.getBatchSize()) {
+            remainingJobs.poll();
+            log.info("[Retention] {} 정리 완료 (cutoff: {})", jobName, cutoff);
+        }
+
+        return RepeatStatus.CONTINUABLE;
+    }
+
+    /**
+     * workflow 실행 이력을 한 묶음 삭제하고, 남은 대상이 없으면 Step을 종료합니다.
+     */
+    private RepeatStatus pruneWorkflowRuns(ExecutionContext context) {
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.getDefaultTtl());
+        int runs = pruner.pruneWorkflowRuns(cutoff, properties.getBatchSize());
+        accumulate(context, WORKFLOW_RUN, runs);
+
+        if (runs < properties.getBatchSize()) {
+            log.info("[Retention] workflow 실행 이력 정리 완료 (cutoff: {})", cutoff);
+            return RepeatStatus.FINISHED;
+        }
+        return RepeatStatus.CONTINUABLE;
+    }
+
+    private static void accumulate(ExecutionContext context, String table, long rows) {
+        context.putLong(REMOVED_PREFIX + table, context.getLong(REMOVED_PREFIX + table, 0L) + rows);
+    }
+}
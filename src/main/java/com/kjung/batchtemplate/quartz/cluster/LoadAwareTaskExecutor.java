@@ -0,0 +1,21 @@
+package com.kjung.batchtemplate.quartz.cluster;
+
+import org.springframework.core.task.TaskExecutor;
+
+/**
+ * Quartz 워커 TaskExecutor에 {@link NodeLoadMonitor}를 함께 전달하기 위한 래퍼입니다.
+ *
+ * <p>Quartz ThreadPool은 Quartz가 리플렉션으로 생성하므로 Spring Bean을 주입받을 수 없습니다.
+ * {@link LoadAwareThreadPool}은 {@code SchedulerFactoryBean#getConfigTimeTaskExecutor()}로 이 객체를 받아
+ * 부하 정보를 조회합니다.</p>
+ *
+ * @param delegate    실제 Job을 실행할 TaskExecutor
+ * @param loadMonitor 노드 부하 추적기
+ */
+public record LoadAwareTaskExecutor(TaskExecutor delegate, NodeLoadMonitor loadMonitor) implements TaskExecutor {
+
+    @Override
+    public void execute(Runnable task) {
+        delegate.execute(task);
+    }
+}
@@ -0,0 +1,43 @@
+package com.kjung.batchtemplate.quartz.cluster;
+
+import org.quartz.SchedulerConfigException;
+import org.springframework.scheduling.quartz.LocalTaskExecutorThreadPool;
+import org.springframework.scheduling.quartz.SchedulerFactoryBean;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 노드 부하에 따라 트리거 획득 여부를 결정하는 Quartz ThreadPool입니다.
+ *
+ * <p>Quartz 스케줄러 스레드는 {@link #blockForAvailableThreads()}가 양수를 반환할 때만 JobStore에서 트리거를 가져옵니다.
+ * 이 구현은 {@link NodeLoadMonitor}의 남은 여력을 반환하므로, 부하가 높은 노드는 트리거 획득을 멈추고
+ * 클러스터의 다른 노드가 트리거를 실행하게 됩니다.</p>
+ *
+ * <p>{@code org.quartz.threadPool.class}로 지정되며, SchedulerFactoryBean의 TaskExecutor가
+ * {@link LoadAwareTaskExecutor}여야 합니다.</p>
+ */
+public class LoadAwareThreadPool extends LocalTaskExecutorThreadPool {
+
+    /** 여력이 없을 때 한 번에 대기하는 최대 시간. 스케줄러 종료 여부를 주기적으로 확인하기 위해 제한한다. */
+    private static final long AWAIT_MILLIS = 1000;
+
+    private NodeLoadMonitor loadMonitor;
+
+    @Override
+    public void initialize() throws SchedulerConfigException {
+        super.initialize();
+
+        Executor executor = SchedulerFactoryBean.getConfigTimeTaskExecutor();
+        if (!(executor instanceof LoadAwareTaskExecutor loadAwareExecutor)) {
+            throw new SchedulerConfigException("LoadAwareThreadPool requires a LoadAwareTaskExecutor on SchedulerFactoryBean");
+        }
+
+        this.loadMonitor = loadAwareExecutor.loadMonitor();
+    }
+
+    @Override
+    public int blockForAvailableThreads() {
+        return loadMonitor.awaitAvailableSlots(AWAIT_MILLIS, TimeUnit.MILLISECONDS);
+    }
+}
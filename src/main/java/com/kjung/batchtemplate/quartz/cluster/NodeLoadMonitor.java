@@ -0,0 +1,106 @@
+package com.kjung.batchtemplate.quartz.cluster;
+
+import com.kjung.batchtemplate.core.property.BatchClusterProperties;
+import com.sun.management.OperatingSystemMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 현재 노드에서 실행 중인 Quartz Job의 부하(weight 합계)를 추적하는 컴포넌트입니다.
+ *
+ * <p>{@link LoadAwareThreadPool}은 이 값으로 남은 처리 여력을 계산하며, 여력이 없는 동안 트리거 획득을 멈춥니다.
+ * 그 사이 여력이 있는 다른 노드가 트리거를 가져가므로, 무거운 Job이 한 노드에 몰리지 않습니다.</p>
+ */
+@Component
+public class NodeLoadMonitor {
+
+    private final BatchClusterProperties properties;
+
+    private final OperatingSystemMXBean osBean;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition loadChanged = lock.newCondition();
+
+    private int currentLoad;
+
+    public NodeLoadMonitor(BatchClusterProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.osBean = ManagementFactory.getPlatformMXBean(OperatingSystemMXBean.class);
+
+        Gauge.builder("batch.cluster.node.load", this, NodeLoadMonitor::getCurrentLoad)
+                .description("Sum of weights of Quartz jobs running on this node")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Job 실행 시작 시 부하를 더합니다.
+     */
+    public void begin(int weight) {
+        lock.lock();
+        try {
+            currentLoad += weight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Job 실행 종료 시 부하를 빼고 대기 중인 트리거 획득 스레드를 깨웁니다.
+     */
+    public void end(int weight) {
+        lock.lock();
+        try {
+            currentLoad -= weight;
+            loadChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getCurrentLoad() {
+        lock.lock();
+        try {
+            return currentLoad;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 처리 여력이 생길 때까지 최대 timeout 동안 대기한 후 남은 여력을 반환합니다.
+     *
+     * @return 남은 여력 (weight 단위). 여력이 없으면 0
+     */
+    public int awaitAvailableSlots(long timeout, TimeUnit unit) {
+        long remaining = unit.toNanos(timeout);
+
+        lock.lock();
+        try {
+            int available;
+            while ((available = availableSlots()) <= 0 && remaining > 0) {
+                remaining = loadChanged.awaitNanos(remaining);
+            }
+            return Math.max(0, available);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int availableSlots() {
+        if (properties.getMaxCpuLoad() < 1.0 && osBean.getCpuLoad() >= properties.getMaxCpuLoad()) {
+            return 0;
+        }
+
+        return properties.getMaxLoad() - currentLoad;
+    }
+}
@@ -0,0 +1,22 @@
+package com.kjung.batchtemplate.quartz.executor;
+
+import com.kjung.batchtemplate.core.batch.BatchJobRunner;
+import com.kjung.batchtemplate.core.property.BatchLauncherProperties;
+import com.kjung.batchtemplate.quartz.cluster.NodeLoadMonitor;
+import org.quartz.DisallowConcurrentExecution;
+
+/**
+ * 이전 실행이 끝날 때까지 다음 실행을 대기시키는 {@link QuartzBatchJobExecutor}입니다. ({@code overlap: queue})
+ *
+ * <p>JDBC JobStore는 실행 중인 Job의 Trigger를 BLOCKED 상태로 두므로 클러스터 전체에서 한 번에 하나만 실행되며,
+ * 대기 중 놓친 실행 시각은 Job의 {@code misfire-policy}에 따라 처리됩니다.</p>
+ */
+@DisallowConcurrentExecution
+public class NonConcurrentQuartzBatchJobExecutor extends QuartzBatchJobExecutor {
+
+    public NonConcurrentQuartzBatchJobExecutor(BatchJobRunner batchJobRunner,
+                                               BatchLauncherProperties launcherProperties,
+                                               NodeLoadMonitor nodeLoadMonitor) {
+        super(batchJobRunner, launcherProperties, nodeLoadMonitor);
+    }
+}
@@ -1,6 +1,9 @@
 package com.kjung.batchtemplate.quartz.executor;
 
 import com.kjung.batchtemplate.core.batch.BatchJobRunner;
+import com.kjung.batchtemplate.core.batch.param.JobIdentityResolver;
+import com.kjung.batchtemplate.core.property.BatchLauncherProperties;
+import com.kjung.batchtemplate.quartz.cluster.NodeLoadMonitor;
 import com.kjung.batchtemplate.quartz.registrar.QuartzBatchJobRegistrar;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -10,6 +13,8 @@ import org.quartz.JobExecutionContext;
 import org.quartz.JobExecutionException;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -20,6 +25,10 @@ import java.util.Map;
  * Job 객체를 찾아 실행합니다.</p>
  * <p>
  * 이 클래스는 Quartz와 Spring Batch 간의 실행 연결(bridge) 역할을 수행합니다.
+ * <p>
+ * {@code batch.launcher.async.quartz-enabled=true}인 경우 Job을 비동기로 실행하여
+ * Quartz 워커 스레드를 Job 종료까지 점유하지 않습니다. (overlap: queue Job 제외)
+ * 이 경우에도 노드 부하({@link NodeLoadMonitor})는 Batch Job이 종료될 때까지 유지됩니다.
  *
  * @author 김정현
  */
@@ -30,16 +39,47 @@ public class QuartzBatchJobExecutor implements Job {
 
     private final BatchJobRunner batchJobRunner;
 
+    private final BatchLauncherProperties launcherProperties;
+
+    private final NodeLoadMonitor nodeLoadMonitor;
+
     @Override
     public void execute(JobExecutionContext context) throws JobExecutionException {
         try {
-            JobDataMap jobDataMap = context.getJobDetail().getJobDataMap();
+            // JobDetail 데이터 + Trigger 데이터 (workflow 후행 Job은 Trigger에 실행 회차의 scheduleSlot이 전달됨)
+            JobDataMap jobDataMap = context.getMergedJobDataMap();
             String jobName = jobDataMap.getString(QuartzBatchJobRegistrar.JOB_NAME);
 
+            int weight = jobDataMap.containsKey(QuartzBatchJobRegistrar.JOB_WEIGHT)
+                    ? jobDataMap.getInt(QuartzBatchJobRegistrar.JOB_WEIGHT)
+                    : 1;
+
             Map<String, Object> params = new HashMap<>(jobDataMap);
             params.remove(QuartzBatchJobRegistrar.JOB_NAME); // 파라미터만 추출
+            params.remove(QuartzBatchJobRegistrar.JOB_WEIGHT);
+            params.remove(QuartzBatchJobRegistrar.CONFIG_HASH);
+            params.remove(QuartzBatchJobRegistrar.OVERLAP_POLICY);
+            params.remove(QuartzBatchJobRegistrar.MAX_CONCURRENT);
+
+            // 예정 실행 시각 (SCHEDULE_SLOT 식별 방식에서 JobInstance 식별, workflow 실행 회차 식별에 사용)
+            String slot = jobDataMap.getString(JobIdentityResolver.SCHEDULE_SLOT);
+            params.put(JobIdentityResolver.SCHEDULE_SLOT, slot != null
+                    ? LocalDateTime.parse(slot)
+                    : LocalDateTime.ofInstant(context.getScheduledFireTime().toInstant(), ZoneId.systemDefault()));
+
+            nodeLoadMonitor.begin(weight);
 
-            batchJobRunner.run(jobName, params);
+            // 동시 실행이 금지된 Job(overlap: queue)은 Job 종료까지 Quartz 실행을 유지해야 다음 Trigger가 대기한다.
+            if (launcherProperties.getAsync().isQuartzEnabled() && !context.getJobDetail().isConcurrentExectionDisallowed()) {
+                // 노드 부하는 Quartz 실행이 아니라 Batch Job이 종료(또는 실행 실패)될 때 반납한다.
+                batchJobRunner.runAsync(jobName, params, () -> nodeLoadMonitor.end(weight));
+            } else {
+                try {
+                    batchJobRunner.run(jobName, params);
+                } finally {
+                    nodeLoadMonitor.end(weight);
+                }
+            }
 
         } catch (Exception e) {
             throw new JobExecutionException("Batch job failed to execute", e);
@@ -1,11 +1,23 @@
 package com.kjung.batchtemplate.quartz.listener;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.quartz.JobExecutionContext;
 import org.quartz.JobExecutionException;
 import org.quartz.JobListener;
+import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.Date;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Quartz 스케줄러의 Job 실행 과정을 모니터링하는 리스너 클래스입니다.
@@ -15,20 +27,40 @@ import java.util.Optional;
  *   <li>Job 실행 예정 로그 출력</li>
  *   <li>Job 실행 취소(veto) 감지</li>
  *   <li>Job 성공/실패 여부 로깅</li>
- *   <li>실행 시간 측정 및 저장</li>
+ *   <li>실행 시간 측정 및 Micrometer 지표 기록</li>
+ * </ul>
+ *
+ * <p>기록되는 지표 (tag: {@code job}):
+ * <ul>
+ *   <li>{@code batch.quartz.job.duration} - 실행 시간 Timer (tag: {@code result}, percentile histogram 포함)</li>
+ *   <li>{@code batch.quartz.job.executions} - 실행 결과 Counter (tag: {@code result} = success, failure, vetoed)</li>
+ *   <li>{@code batch.quartz.job.start.delay} - 예정 실행 시각(scheduledFireTime) 대비 실제 시작 지연 Timer</li>
+ *   <li>{@code batch.quartz.job.in.flight} - 현재 실행 중인 Job 수 Gauge</li>
  * </ul>
  *
  * <p>이 클래스를 Quartz Scheduler에 등록하면 모든 Job의 실행 상태를 중앙에서 추적할 수 있으며,
- * 운영 환경에서의 로그 분석, 지표 수집, 장애 감지 등에 유용하게 활용할 수 있습니다.
+ * {@code /actuator/prometheus}를 통해 느린 Job이나 misfire를 알림으로 감지할 수 있습니다.
  *
  * @author 김정현
  */
 @Slf4j
+@Component
+@RequiredArgsConstructor
 public class QuartzJobMonitoringListener implements JobListener {
 
-    /** Job 시작 시간을 저장하기 위한 JobExecutionContext key */
+    /** Job 시작 시각(System.nanoTime)을 저장하기 위한 JobExecutionContext key */
     private static final String START_TIME_KEY = "startTime";
 
+    private static final String METRIC_PREFIX = "batch.quartz.job";
+
+    private static final String RESULT_SUCCESS = "success";
+    private static final String RESULT_FAILURE = "failure";
+    private static final String RESULT_VETOED = "vetoed";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, AtomicInteger> inFlightJobs = new ConcurrentHashMap<>();
+
     /**
      * 리스너의 고유 이름을 반환합니다.
      * Quartz 내부에서 리스너를 식별할 때 사용됩니다.
@@ -41,7 +73,7 @@ public class QuartzJobMonitoringListener implements JobListener {
     }
 
     /**
-     * Job 실행 전 호출되며, 실행 예정 로그를 출력하고 시작 시간을 기록합니다.
+     * Job 실행 전 호출되며, 실행 예정 로그를 출력하고 시작 시간과 시작 지연을 기록합니다.
      *
      * @param context 현재 실행될 Job의 컨텍스트
      */
@@ -49,7 +81,10 @@ public class QuartzJobMonitoringListener implements JobListener {
     public void jobToBeExecuted(JobExecutionContext context) {
         String jobName = context.getJobDetail().getKey().getName();
         log.info("[Quartz] Job '{}' 실행 예정", jobName);
-        context.put(START_TIME_KEY, System.currentTimeMillis());
+        context.put(START_TIME_KEY, System.nanoTime());
+
+        inFlight(jobName).incrementAndGet();
+        recordStartDelay(jobName, context.getScheduledFireTime());
     }
 
     /**
@@ -61,6 +96,8 @@ public class QuartzJobMonitoringListener implements JobListener {
     public void jobExecutionVetoed(JobExecutionContext context) {
         String jobName = context.getJobDetail().getKey().getName();
         log.warn("[Quartz] Job '{}' 실행이 거부됨", jobName);
+
+        executionCounter(jobName, RESULT_VETOED).increment();
     }
 
     /**
@@ -72,37 +109,76 @@ public class QuartzJobMonitoringListener implements JobListener {
     @Override
     public void jobWasExecuted(JobExecutionContext context, JobExecutionException jobException) {
         String jobName = context.getJobDetail().getKey().getName();
+        long endTime = System.nanoTime();
 
         long startTime = Optional.ofNullable(context.get(START_TIME_KEY))
                 .map(Long.class::cast)
-                .orElse(System.currentTimeMillis());
-        long endTime = System.currentTimeMillis();
+                .orElse(endTime);
         long duration = endTime - startTime;
 
+        inFlight(jobName).decrementAndGet();
+
         if (jobException != null) {
             log.error("[Quartz] Job '{}' 실행 실패: {}", jobName, jobException.getMessage());
         } else {
             log.info("[Quartz] Job '{}' 실행 성공", jobName);
         }
 
-        log.info("[Quartz] Job '{}' 실행시간: {} ms", jobName, duration);
+        log.info("[Quartz] Job '{}' 실행시간: {} ms", jobName, TimeUnit.NANOSECONDS.toMillis(duration));
 
         try {
             saveJobMetrics(jobName, duration, jobException == null);
         } catch (Exception e) {
-            log.error("[Quartz] Job '{}' 실행 로그 저장 실패", jobName, e);
+            log.error("[Quartz] Job '{}' 실행 지표 기록 실패", jobName, e);
         }
     }
 
     /**
-     * Job 실행 결과(성공 여부, 실행 시간)를 저장하거나 외부 시스템과 연동하는 메서드입니다.
-     * 실제 구현에서는 DB, 모니터링 시스템(Prometheus 등)과 연동이 가능합니다.
+     * Job 실행 결과(성공 여부, 실행 시간)를 Micrometer 지표로 기록합니다.
      *
      * @param jobName       Job 이름
-     * @param executionTime 실행 시간 (ms)
+     * @param executionTime 실행 시간 (ns)
      * @param success       성공 여부
      */
     private void saveJobMetrics(String jobName, long executionTime, boolean success) {
-        log.info("[Quartz] Job '{}' 결과 저장: success={}, time={}ms", jobName, success, executionTime);
+        String result = success ? RESULT_SUCCESS : RESULT_FAILURE;
+
+        Timer.builder(METRIC_PREFIX + ".duration")
+                .description("Quartz job execution time")
+                .tags("job", jobName, "result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(executionTime, TimeUnit.NANOSECONDS);
+
+        executionCounter(jobName, result).increment();
+    }
+
+    /**
+     * 예정 실행 시각 대비 실제 시작 시각의 지연을 기록합니다.
+     * 두 값 모두 벽시계 기준이므로 이 지표만 {@code System.currentTimeMillis}를 사용합니다.
+     */
+    private void recordStartDelay(String jobName, Date scheduledFireTime) {
+        if (scheduledFireTime == null) return;
+
+        long delay = Math.max(0, System.currentTimeMillis() - scheduledFireTime.getTime());
+
+        Timer.builder(METRIC_PREFIX + ".start.delay")
+                .description("Delay between scheduled fire time and actual job start")
+                .tag("job", jobName)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(Duration.ofMillis(delay));
+    }
+
+    private Counter executionCounter(String jobName, String result) {
+        return Counter.builder(METRIC_PREFIX + ".executions")
+                .description("Quartz job execution results")
+                .tags("job", jobName, "result", result)
+                .register(meterRegistry);
+    }
+
+    private AtomicInteger inFlight(String jobName) {
+        return inFlightJobs.computeIfAbsent(jobName, key ->
+                meterRegistry.gauge(METRIC_PREFIX + ".in.flight", Tags.of("job", key), new AtomicInteger()));
     }
 }
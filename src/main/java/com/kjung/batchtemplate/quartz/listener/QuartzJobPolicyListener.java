@@ -0,0 +1,192 @@
+package com.kjung.batchtemplate.quartz.listener;
+
+import com.kjung.batchtemplate.core.batch.JobConcurrencyLimiter;
+import com.kjung.batchtemplate.core.property.QuartzJobProperties;
+import com.kjung.batchtemplate.core.property.QuartzJobProperties.OverlapPolicy;
+import com.kjung.batchtemplate.quartz.registrar.QuartzBatchJobRegistrar;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.CronTrigger;
+import org.quartz.JobDataMap;
+import org.quartz.JobExecutionContext;
+import org.quartz.Trigger;
+import org.quartz.Trigger.CompletedExecutionInstruction;
+import org.quartz.TriggerListener;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Job별 중복 실행 정책(overlap)을 적용하고 misfire를 지표로 기록하는 Quartz TriggerListener입니다.
+ *
+ * <ul>
+ *   <li>{@code overlap: skip} - 실행 중인 Job 수가 {@code max-concurrent} 이상이면 이번 실행을 거부(veto)합니다.
+ *       실행 중인 Job 수는 배치 메타데이터의 실행 중 JobExecution(클러스터 전체) 중 {@code stale-execution-timeout} 안에 갱신된 것의 수와
+ *       이 노드에서 실행 슬롯을 가진 Job 수({@link JobConcurrencyLimiter#inFlight}, 비동기 대기열 포함) 중 큰 값입니다.
+ *       갱신이 멈춘 JobExecution은 노드 장애 등으로 남은 orphan으로 보고 경고 로그와 지표로만 남기며,
+ *       상태를 FAILED로 변경하는 등 수동으로 정리해야 합니다.</li>
+ *   <li>misfire - 놓친 실행 시각 수를 계산하여 {@code misfire-policy}에 따라 합쳐진(coalesced) 실행 또는
+ *       건너뛴 실행으로 기록합니다.</li>
+ * </ul>
+ *
+ * <p>기록되는 지표 (tag: {@code job}):
+ * <ul>
+ *   <li>{@code batch.quartz.job.misfires} - misfire 발생 횟수 (tag: {@code policy})</li>
+ *   <li>{@code batch.quartz.job.skipped} - 실행되지 않은 예정 실행 수
+ *       (tag: {@code reason} = overlap, coalesced, misfire)</li>
+ *   <li>{@code batch.quartz.job.orphaned} - 마지막 overlap 판단 시 발견한 orphan JobExecution 수</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuartzJobPolicyListener implements TriggerListener {
+
+    private static final String METRIC_PREFIX = "batch.quartz.job";
+
+    private static final String REASON_OVERLAP = "overlap";
+    private static final String REASON_COALESCED = "coalesced";
+    private static final String REASON_MISFIRE = "misfire";
+
+    /** 놓친 실행 시각 계산 상한 (매우 짧은 주기의 Trigger가 오래 멈춘 경우 대비) */
+    private static final int MAX_COUNTED_MISFIRES = 10_000;
+
+    private final JobExplorer jobExplorer;
+
+    private final JobConcurrencyLimiter concurrencyLimiter;
+
+    private final QuartzJobProperties quartzJobProperties;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, AtomicInteger> orphans = new ConcurrentHashMap<>();
+
+    @Override
+    public String getName() {
+        return this.getClass().getSimpleName();
+    }
+
+    @Override
+    public void triggerFired(Trigger trigger, JobExecutionContext context) {
+    }
+
+    @Override
+    public boolean vetoJobExecution(Trigger trigger, JobExecutionContext context) {
+        JobDataMap jobDataMap = context.getJobDetail().getJobDataMap();
+        String overlap = jobDataMap.getString(QuartzBatchJobRegistrar.OVERLAP_POLICY);
+        if (!OverlapPolicy.SKIP.name().equals(overlap)) return false;
+
+        String jobName = jobDataMap.getString(QuartzBatchJobRegistrar.JOB_NAME);
+        int maxConcurrent = jobDataMap.containsKey(QuartzBatchJobRegistrar.MAX_CONCURRENT)
+                ? jobDataMap.getInt(QuartzBatchJobRegistrar.MAX_CONCURRENT)
+                : 1;
+
+        int running = Math.max(countActiveExecutions(jobName), concurrencyLimiter.inFlight(jobName));
+        if (running < maxConcurrent) return false;
+
+        log.warn("[Quartz] Job '{}' 실행 중 ({}/{}), 이번 실행({})을 건너뜀", jobName, running, maxConcurrent, context.getScheduledFireTime());
+        skippedCounter(context.getJobDetail().getKey().getName(), REASON_OVERLAP).increment();
+        return true;
+    }
+
+    /**
+     * misfire가 감지되면 호출됩니다. 이 시점의 {@code getNextFireTime}은 놓친 첫 실행 시각입니다.
+     */
+    @Override
+    public void triggerMisfired(Trigger trigger) {
+        String jobName = trigger.getJobKey().getName();
+        int instruction = trigger.getMisfireInstruction();
+        int missed = countMissedFireTimes(trigger);
+
+        log.warn("[Quartz] Job '{}' misfire - 놓친 실행 {}회, instruction: {}", jobName, missed, instruction);
+
+        Counter.builder(METRIC_PREFIX + ".misfires")
+                .description("Quartz trigger misfires")
+                .tags("job", jobName, "policy", policyName(instruction))
+                .register(meterRegistry)
+                .increment();
+
+        if (instruction == CronTrigger.MISFIRE_INSTRUCTION_DO_NOTHING) {
+            skippedCounter(jobName, REASON_MISFIRE).increment(missed);
+        } else if (instruction != Trigger.MISFIRE_INSTRUCTION_IGNORE_MISFIRE_POLICY && missed > 1) {
+            // smart / fire-once-now: 놓친 실행들을 1회로 합쳐 실행
+            skippedCounter(jobName, REASON_COALESCED).increment(missed - 1);
+        }
+    }
+
+    @Override
+    public void triggerComplete(Trigger trigger, JobExecutionContext context, CompletedExecutionInstruction instruction) {
+    }
+
+    /**
+     * 클러스터 전체에서 실행 중인 JobExecution 중 {@code stale-execution-timeout} 안에 갱신된 것의 수를 반환합니다.
+     * 갱신이 멈춘 JobExecution은 orphan으로 기록합니다.
+     */
+    private int countActiveExecutions(String jobName) {
+        LocalDateTime staleBefore = LocalDateTime.now().minus(quartzJobProperties.getStaleExecutionTimeout());
+        int active = 0;
+        int orphaned = 0;
+
+        for (JobExecution execution : jobExplorer.findRunningJobExecutions(jobName)) {
+            LocalDateTime lastUpdated = execution.getLastUpdated();
+            if (lastUpdated != null && lastUpdated.isBefore(staleBefore)) {
+                orphaned++;
+                log.warn("[Quartz] Job '{}' JobExecution {}이 {} 이후 갱신되지 않아 overlap 판단에서 제외합니다."
+                        + " 실행 중인 노드가 없다면 상태를 FAILED로 변경해 주세요.", jobName, execution.getId(), lastUpdated);
+            } else {
+                active++;
+            }
+        }
+
+        orphanGauge(jobName).set(orphaned);
+        return active;
+    }
+
+    private AtomicInteger orphanGauge(String jobName) {
+        return orphans.computeIfAbsent(jobName, key -> {
+            AtomicInteger value = new AtomicInteger();
+            Gauge.builder(METRIC_PREFIX + ".orphaned", value, AtomicInteger::get)
+                    .description("Running job executions that stopped updating")
+                    .tag("job", key)
+                    .register(meterRegistry);
+            return value;
+        });
+    }
+
+    private int countMissedFireTimes(Trigger trigger) {
+        Date fireTime = trigger.getNextFireTime();
+        Date now = new Date();
+        int missed = 0;
+
+        while (fireTime != null && fireTime.before(now) && missed < MAX_COUNTED_MISFIRES) {
+            missed++;
+            fireTime = trigger.getFireTimeAfter(fireTime);
+        }
+        return Math.max(missed, 1);
+    }
+
+    private static String policyName(int instruction) {
+        return switch (instruction) {
+            case CronTrigger.MISFIRE_INSTRUCTION_FIRE_ONCE_NOW -> "fire-once-now";
+            case CronTrigger.MISFIRE_INSTRUCTION_DO_NOTHING -> "do-nothing";
+            case Trigger.MISFIRE_INSTRUCTION_IGNORE_MISFIRE_POLICY -> "ignore";
+            default -> "smart";
+        };
+    }
+
+    private Counter skippedCounter(String jobName, String reason) {
+        return Counter.builder(METRIC_PREFIX + ".skipped")
+                .description("Scheduled executions that did not run")
+                .tags("job", jobName, "reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -1,34 +1,65 @@
 // QuartzService.java
 package com.kjung.batchtemplate.quartz.registrar;
 
+import com.kjung.batchtemplate.core.batch.BatchJobRegistry;
+import com.kjung.batchtemplate.core.partition.PartitionSettings;
 import com.kjung.batchtemplate.core.property.QuartzJobProperties;
+import com.kjung.batchtemplate.quartz.executor.NonConcurrentQuartzBatchJobExecutor;
 import com.kjung.batchtemplate.quartz.executor.QuartzBatchJobExecutor;
 import com.kjung.batchtemplate.quartz.listener.QuartzJobMonitoringListener;
+import com.kjung.batchtemplate.quartz.workflow.JobDependencyGraph;
 import jakarta.annotation.PostConstruct;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.quartz.*;
+import org.quartz.impl.matchers.GroupMatcher;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.quartz.QuartzTransactionManager;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 
 
 /**
  * Quartz 스케줄러에 등록 설정된 Spring Batch Job들을 동적으로 등록하는 컴포넌트입니다.
  *
  * <p>설정 파일(schedule.yml 등)에 정의된 Job 중 등록 플래그(registered=true)가 설정된 Job만을 대상으로 등록하며,
- * 동일한 JobKey가 존재할 경우 삭제 후 재등록합니다. Quartz의 JobDataMap을 통해 BatchLauncher로 Job 이름과 파라미터를 전달합니다.</p>
+ * JobStore에 이미 저장된 Job과 설정 해시를 비교하여 추가/변경/삭제된 Job만 반영합니다.
+ * 비교에 필요한 Job/Trigger 목록과 설정 해시는 Job 수와 무관하게 각각 한 번의 조회로 읽습니다. Quartz의 JobDataMap을 통해 BatchLauncher로 Job 이름과 파라미터를 전달합니다.</p>
+ *
+ * <p>클러스터 모드에서는 여러 노드가 동시에 기동하며 등록을 수행할 수 있으므로, 삭제와 등록을 각각
+ * JobStore의 단일 트랜잭션(QRTZ_LOCKS 행 잠금)으로 처리하는 원자적 API({@code scheduleJobs(jobs, replace)},
+ * {@code deleteJobs})만 사용하고, 전체 등록 과정을 하나의 트랜잭션으로 수행하여 잠금을 커밋 시점까지 유지합니다.
+ * 따라서 어느 노드가 먼저 수행하더라도 결과가 같습니다.</p>
+ *
+ * <p>{@code depends-on}이 지정된 후행 Job은 Trigger 없이 durable Job으로만 등록되며,
+ * 선행 Job이 모두 완료되면 {@code WorkflowCoordinator}가 실행합니다.</p>
+ *
+ * <p>등록 대상 Job은 {@link BatchJobRegistry}에 있는 Job이어야 하며, 없는 Job이 있으면 기동(또는 리로드)이 실패합니다.</p>
  *
  * <p>등록된 Job은 {@link QuartzBatchJobExecutor}를 통해 실행됩니다.</p>
  *
+ * <p>{@code spring.quartz.registrar.enabled: false}이면 이 Bean과 리로드 구성 요소를 만들지 않아
+ * schedule.yml을 JobStore에 반영하지 않습니다. (CDS 학습 실행 등 JobStore를 변경하면 안 되는 기동에 사용)</p>
+ *
  * @author 김정현
  */
 @Slf4j
 @Configuration
-@RequiredArgsConstructor
 @ConditionalOnProperty(name = "spring.batch.job.enabled", havingValue = "false")
+@ConditionalOnProperty(name = "spring.quartz.registrar.enabled", havingValue = "true", matchIfMissing = true)
 //@ConditionalOnProperty(name = "batch.quartz.enabled", havingValue = "true")
 public class QuartzBatchJobRegistrar {
 
@@ -37,126 +68,381 @@ public class QuartzBatchJobRegistrar {
      */
     public static final String JOB_NAME = "JOB_NAME";
 
+    /**
+     * Quartz JobDataMap에 전달되는 Job 부하 가중치 키 (클러스터 부하 분배용)
+     */
+    public static final String JOB_WEIGHT = "JOB_WEIGHT";
+
+    /**
+     * Quartz JobDataMap에 저장되는 Job 설정 해시 키 (변경 여부 비교용)
+     */
+    public static final String CONFIG_HASH = "CONFIG_HASH";
+
+    /**
+     * Job 이름별 설정 해시를 모아 저장하는 durable JobDetail의 키 (Trigger 없이 보관되며 실행되지 않음)
+     */
+    public static final JobKey CONFIG_HASHES_KEY = new JobKey("config-hashes", "batch-meta");
+
+    /**
+     * Quartz JobDataMap에 전달되는 이전 실행 중복 처리 방식 키 ({@link QuartzJobProperties.OverlapPolicy})
+     */
+    public static final String OVERLAP_POLICY = "OVERLAP_POLICY";
+
+    /**
+     * Quartz JobDataMap에 전달되는 클러스터 전체 동시 실행 수 상한 키 (overlap: skip)
+     */
+    public static final String MAX_CONCURRENT = "MAX_CONCURRENT";
+
     /**
      * Job과 Trigger의 그룹명
      */
-    private static final String BATCH_GROUP = "batch-jobs";
-    private static final String TRIGGER_GROUP = "trigger-jobs";
+    public static final String BATCH_GROUP = "batch-jobs";
+    public static final String TRIGGER_GROUP = "trigger-jobs";
 
     private final Scheduler scheduler;
 
     private final QuartzJobProperties quartzJobProperties;
 
+    private final QuartzJobMonitoringListener monitoringListener;
+
+    private final PlatformTransactionManager transactionManager;
+
+    private final BatchJobRegistry jobRegistry;
+
+    /**
+     * @param transactionManager Quartz JobStore DataSource의 TransactionManager ({@link QuartzTransactionManager})
+     */
+    public QuartzBatchJobRegistrar(Scheduler scheduler,
+                                   QuartzJobProperties quartzJobProperties,
+                                   QuartzJobMonitoringListener monitoringListener,
+                                   @QuartzTransactionManager PlatformTransactionManager transactionManager,
+                                   BatchJobRegistry jobRegistry) {
+        this.scheduler = scheduler;
+        this.quartzJobProperties = quartzJobProperties;
+        this.monitoringListener = monitoringListener;
+        this.transactionManager = transactionManager;
+        this.jobRegistry = jobRegistry;
+    }
+
     /**
      * 애플리케이션 초기화 시점에 Quartz Job 등록을 수행합니다.
      * 설정된 Job들 중 registered=true인 Job만 대상으로 등록합니다.
+     *
+     * @throws IllegalStateException 설정 검증({@link #reload}와 같은 기준: 없는 Job, 잘못된 cron 표현식, 의존 관계 오류 등)에 실패한 경우
      */
     @PostConstruct
-    public void init() {
-        try {
-            scheduler.getListenerManager().addJobListener(new QuartzJobMonitoringListener());
-
-            removeUnregisteredJobs();
-
-            registerActiveJobs();
+    public synchronized void init() {
+        List<String> errors = validate(quartzJobProperties.getJobs());
+        if (!errors.isEmpty()) {
+            throw new IllegalStateException("Invalid schedule configuration: " + errors);
+        }
 
+        try {
+            scheduler.getListenerManager().addJobListener(monitoringListener);
         } catch (SchedulerException e) {
             log.error("Quartz initialization failed", e);
             throw new IllegalStateException("Quartz initialization failed", e);
         }
+
+        ScheduleSyncResult result = synchronizeInTransaction(quartzJobProperties.getJobs(), false);
+        log.warn("Quartz job registration completed: {}", result);
     }
 
-    private void removeUnregisteredJobs() throws SchedulerException {
-        List<QuartzJobProperties.JobDetailProperties> unregisteredJobs = quartzJobProperties.getJobs().stream()
-                .filter(job -> !job.isRegistered())
-                .toList();
+    /**
+     * 새로 읽은 Job 설정 목록을 실행 중인 스케줄러에 반영합니다. (schedule.yml 핫 리로드)
+     *
+     * <p>반영 전에 모든 Job의 이름과 cron 표현식을 검증하며, 반영 도중 하나라도 실패하면 트랜잭션을 롤백하여
+     * 기존 스케줄을 그대로 유지합니다. 성공한 경우에만 {@link QuartzJobProperties}의 Job 목록을 교체합니다.</p>
+     *
+     * @param jobs 새 Job 설정 목록
+     * @return 반영 결과
+     * @throws IllegalArgumentException 설정 검증에 실패한 경우
+     */
+    public synchronized ScheduleSyncResult reload(List<QuartzJobProperties.JobDetailProperties> jobs) {
+        List<String> errors = validate(jobs);
+        if (!errors.isEmpty()) {
+            throw new IllegalArgumentException("Invalid schedule configuration: " + errors);
+        }
 
-        for (QuartzJobProperties.JobDetailProperties job : unregisteredJobs) {
-            JobKey jobKey = new JobKey(job.getName(), BATCH_GROUP);
-            if (scheduler.checkExists(jobKey)) {
-                scheduler.deleteJob(jobKey);
-                log.info("Deleted unregistered job: {}", job.getName());
+        ScheduleSyncResult result = synchronizeInTransaction(jobs, true);
+        quartzJobProperties.setJobs(jobs);
+
+        log.info("Quartz schedule reloaded: {}", result);
+        return result;
+    }
+
+    /**
+     * Job 설정 목록을 검증하고 오류 메시지 목록을 반환합니다. (이름 누락/중복, 없는 Job, 잘못된 cron 표현식, 의존 관계 오류)
+     */
+    private List<String> validate(List<QuartzJobProperties.JobDetailProperties> jobs) {
+        List<String> errors = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+
+        for (QuartzJobProperties.JobDetailProperties job : jobs) {
+            String name = job.getName();
+            if (name == null || name.isBlank()) {
+                errors.add("job name is required");
+                continue;
+            }
+            if (!names.add(name)) {
+                errors.add(name + ": duplicated job name");
+            }
+            if (job.isRegistered() && !jobRegistry.contains(name)) {
+                errors.add(name + ": no such batch job");
+            }
+            if (job.isRegistered() && !job.hasDependencies()
+                    && (job.getCron() == null || !CronExpression.isValidExpression(job.getCron()))) {
+                errors.add(name + ": invalid cron expression '" + job.getCron() + "'");
+            }
+        }
+
+        for (QuartzJobProperties.JobDetailProperties job : jobs) {
+            Integer maxConcurrent = job.getMaxConcurrent();
+            if (maxConcurrent != null && maxConcurrent < 1) {
+                errors.add(job.getName() + ": max-concurrent must be at least 1");
+            }
+            if (maxConcurrent != null && maxConcurrent > 1 && job.getOverlap() == QuartzJobProperties.OverlapPolicy.QUEUE) {
+                errors.add(job.getName() + ": overlap 'queue' runs one execution at a time, use 'skip' for max-concurrent > 1");
             }
         }
+
+        if (errors.isEmpty()) errors.addAll(JobDependencyGraph.validate(jobs));
+        return errors;
     }
 
-    private void registerActiveJobs() {
-        List<QuartzJobProperties.JobDetailProperties> activeJobs = getRegisteredJobs();
+    /**
+     * 하나의 트랜잭션으로 묶어 QRTZ_LOCKS 행 잠금을 커밋 시점까지 유지합니다. (노드 간 등록 경합 방지)
+     * 예외가 발생하면 트랜잭션이 롤백되어 JobStore에는 아무것도 반영되지 않습니다.
+     */
+    private ScheduleSyncResult synchronizeInTransaction(List<QuartzJobProperties.JobDetailProperties> jobs, boolean failFast) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            try {
+                return synchronizeJobs(jobs, failFast);
+            } catch (SchedulerException e) {
+                throw new IllegalStateException("Failed to synchronize Quartz jobs", e);
+            }
+        });
+    }
 
-        int successCount = 0;
+    /**
+     * 설정(schedule.yml)의 Job 목록과 JobStore에 저장된 Job을 비교하여 변경분만 반영합니다.
+     *
+     * <p>Job별 설정 내용(cron, 설명, 파라미터 등)의 해시는 {@link #CONFIG_HASHES_KEY} JobDetail 하나에 모아 저장해 두고,
+     * 해시가 같고 Trigger가 존재하는 Job은 건드리지 않아 Trigger의 다음 실행 시각 등 상태가 유지됩니다.
+     * 저장된 Job/Trigger 목록과 해시를 먼저 한 번에 읽어 비교하므로 Job마다 JobStore를 조회하지 않으며,
+     * 추가/변경분은 {@code scheduleJobs}, 삭제분은 {@code deleteJobs}로 한 번에 반영합니다.</p>
+     *
+     * @param failFast true면 개별 Job 설정 오류도 예외로 전파 (핫 리로드), false면 로그만 남기고 계속 진행 (기동 시)
+     */
+    private ScheduleSyncResult synchronizeJobs(List<QuartzJobProperties.JobDetailProperties> jobs, boolean failFast) throws SchedulerException {
+        Set<JobKey> storedJobs = scheduler.getJobKeys(GroupMatcher.jobGroupEquals(BATCH_GROUP));
+        Set<TriggerKey> storedTriggers = scheduler.getTriggerKeys(GroupMatcher.triggerGroupEquals(TRIGGER_GROUP));
+        Map<String, String> storedHashes = loadStoredHashes(storedJobs);
+
+        Map<String, String> hashes = new HashMap<>();
+        Map<JobDetail, Set<? extends Trigger>> changedJobs = new LinkedHashMap<>();
+        List<TriggerKey> staleTriggers = new ArrayList<>();
+        Set<JobKey> desiredKeys = new HashSet<>();
+        int unchangedCount = 0;
         int failureCount = 0;
 
-        for (QuartzJobProperties.JobDetailProperties job : activeJobs) {
+        for (QuartzJobProperties.JobDetailProperties job : getRegisteredJobs(jobs)) {
+            JobKey jobKey = new JobKey(job.getName(), BATCH_GROUP);
+            desiredKeys.add(jobKey);
+
             try {
-                registerJob(job);
-                successCount++;
-            } catch (SchedulerException e) {
+                String hash = configHash(job);
+                boolean hasTrigger = storedTriggers.contains(triggerKey(job.getName()));
+                // 후행 Job은 Trigger 없이 등록되므로 Trigger가 없어야 변경 없음으로 판단한다.
+                if (storedJobs.contains(jobKey) && hash.equals(storedHashes.get(job.getName()))
+                        && hasTrigger != job.hasDependencies()) {
+                    hashes.put(job.getName(), hash);
+                    unchangedCount++;
+                    continue;
+                }
+
+                JobDetail jobDetail = buildJobDetail(job, hash);
+                if (job.hasDependencies()) {
+                    if (hasTrigger) staleTriggers.add(triggerKey(job.getName()));
+                    changedJobs.put(jobDetail, Set.of());
+                } else {
+                    changedJobs.put(jobDetail, Set.of(buildCronTrigger(job)));
+                }
+                hashes.put(job.getName(), hash);
+            } catch (RuntimeException e) {
+                if (failFast) throw e;
+
+                // 잘못된 cron 표현식 등 개별 Job 설정 오류는 다른 Job 등록을 막지 않는다. (저장된 Job은 기존 해시 유지)
                 failureCount++;
-                log.error("Failed to register job: {}", job.getName(), e);
+                if (storedJobs.contains(jobKey) && storedHashes.containsKey(job.getName())) {
+                    hashes.put(job.getName(), storedHashes.get(job.getName()));
+                }
+                log.error("Failed to build job: {}", job.getName(), e);
             }
         }
 
-        log.warn("Quartz job registration completed with {} success / {} failure(s).", successCount, failureCount);
+        List<JobKey> removedKeys = storedJobs.stream()
+                .filter(jobKey -> !desiredKeys.contains(jobKey))
+                .toList();
+
+        if (!removedKeys.isEmpty()) {
+            scheduler.deleteJobs(removedKeys);
+            log.info("Deleted unregistered jobs: {}", removedKeys);
+        }
+
+        if (!staleTriggers.isEmpty()) {
+            // cron Job에서 후행 Job으로 바뀐 경우 기존 cron Trigger 제거
+            scheduler.unscheduleJobs(staleTriggers);
+        }
+
+        if (!changedJobs.isEmpty()) {
+            // 기존 Job/Trigger 교체를 한 번에 처리 (다른 노드와 동시에 수행해도 안전)
+            scheduler.scheduleJobs(changedJobs, true);
+            changedJobs.keySet().forEach(jobDetail -> log.info("Scheduled job: {}", jobDetail.getKey().getName()));
+        }
+
+        if (!hashes.equals(storedHashes)) {
+            saveStoredHashes(hashes);
+        }
+
+        return new ScheduleSyncResult(
+                changedJobs.keySet().stream().map(jobDetail -> jobDetail.getKey().getName()).toList(),
+                removedKeys.stream().map(JobKey::getName).toList(),
+                unchangedCount,
+                failureCount);
+    }
+
+    /**
+     * {@link #CONFIG_HASHES_KEY}에 저장된 Job 이름별 설정 해시를 한 번에 조회합니다.
+     *
+     * <p>해시 모음이 아직 없는 JobStore(이전 버전에서 등록된 경우)는 각 JobDetail의 {@link #CONFIG_HASH}를
+     * 한 번만 읽어 옮겨 오므로, 업그레이드 시에도 변경되지 않은 Job의 Trigger 상태가 유지됩니다.</p>
+     */
+    private Map<String, String> loadStoredHashes(Set<JobKey> storedJobs) throws SchedulerException {
+        Map<String, String> storedHashes = new HashMap<>();
+
+        JobDetail hashStore = scheduler.getJobDetail(CONFIG_HASHES_KEY);
+        if (hashStore != null) {
+            hashStore.getJobDataMap().forEach((name, hash) -> storedHashes.put(name, String.valueOf(hash)));
+            return storedHashes;
+        }
+
+        for (JobKey jobKey : storedJobs) {
+            JobDetail jobDetail = scheduler.getJobDetail(jobKey);
+            String hash = jobDetail != null ? jobDetail.getJobDataMap().getString(CONFIG_HASH) : null;
+            if (hash != null) storedHashes.put(jobKey.getName(), hash);
+        }
+        return storedHashes;
+    }
 
-//    if (activeJobs.size() == failureCount) {
-//        throw new IllegalStateException("All Quartz jobs failed to register. Check configuration or job definitions.");
-//    }
+    /**
+     * Job 이름별 설정 해시를 {@link #CONFIG_HASHES_KEY} JobDetail 하나로 교체 저장합니다.
+     */
+    private void saveStoredHashes(Map<String, String> hashes) throws SchedulerException {
+        scheduler.addJob(JobBuilder.newJob(ConfigHashStore.class)
+                .withIdentity(CONFIG_HASHES_KEY)
+                .withDescription("Configuration hashes of scheduled batch jobs")
+                .usingJobData(new JobDataMap(hashes))
+                .storeDurably()
+                .build(), true);
     }
 
     /**
      * 등록 대상 Job 목록을 필터링합니다.
      */
-    private List<QuartzJobProperties.JobDetailProperties> getRegisteredJobs() {
-        return quartzJobProperties.getJobs().stream()
+    private List<QuartzJobProperties.JobDetailProperties> getRegisteredJobs(List<QuartzJobProperties.JobDetailProperties> jobs) {
+        return jobs.stream()
                 .filter(QuartzJobProperties.JobDetailProperties::isRegistered)
                 .toList();
     }
 
     /**
-     * 주어진 Job 정보를 기반으로 Quartz JobDetail 및 Trigger를 생성하고 스케줄러에 등록합니다.
+     * Job 설정 내용의 해시를 계산합니다. 파라미터는 키 순서와 무관하도록 정렬하여 반영합니다.
      */
-    private void registerJob(QuartzJobProperties.JobDetailProperties job) throws SchedulerException {
-        String name = job.getName();
-        String cron = job.getCron();
-        String description = job.getDescription();
-        Map<String, Object> params = job.getParams();
-
-        JobDetail jobDetail = buildJobDetail(name, description, params);
-
-        Trigger trigger = buildCronTrigger(name, cron);
-
-        if (scheduler.checkExists(jobDetail.getKey())) {
-            scheduler.deleteJob(jobDetail.getKey());
-            log.info("Deleted existing job: {}", name);
+    private static String configHash(QuartzJobProperties.JobDetailProperties job) {
+        Map<String, Object> params = job.getParams() != null ? new TreeMap<>(job.getParams()) : Map.of();
+        String content = String.join("\n",
+                job.getName(),
+                String.valueOf(job.getDescription()),
+                String.valueOf(job.getCron()),
+                String.valueOf(job.getGridSize()),
+                String.valueOf(job.getWeight()),
+                String.valueOf(params));
+        // 기본값인 설정은 해시에 포함하지 않아 기존 Job이 불필요하게 재등록되지 않도록 한다.
+        if (job.hasDependencies()) content += "\n" + job.getDependsOn();
+        if (job.getMisfirePolicy() != QuartzJobProperties.MisfirePolicy.SMART
+                || job.getOverlap() != QuartzJobProperties.OverlapPolicy.ALLOW
+                || job.getMaxConcurrent() != null
+                || job.getPriority() != Trigger.DEFAULT_PRIORITY) {
+            content += "\n" + job.getMisfirePolicy() + "/" + job.getOverlap() + "/" + job.getMaxConcurrent() + "/" + job.getPriority();
         }
 
-        scheduler.scheduleJob(jobDetail, trigger);
-        log.info("Scheduled job: {} with cron: {}", name, cron);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     /**
      * Spring Batch Job 실행을 위임할 Quartz JobDetail을 생성합니다.
      */
-    private JobDetail buildJobDetail(String name, String description, Map<String, Object> paramsMap) {
+    private JobDetail buildJobDetail(QuartzJobProperties.JobDetailProperties job, String hash) {
         JobDataMap jobDataMap = new JobDataMap();
-        jobDataMap.put(JOB_NAME, name);
+        jobDataMap.put(JOB_NAME, job.getName());
+        jobDataMap.put(JOB_WEIGHT, job.getWeight());
+        jobDataMap.put(CONFIG_HASH, hash);
+        jobDataMap.put(OVERLAP_POLICY, job.getOverlap().name());
+        jobDataMap.put(MAX_CONCURRENT, job.resolveMaxConcurrent());
 
+        Map<String, Object> paramsMap = job.getParams();
         if (paramsMap != null && !paramsMap.isEmpty()) jobDataMap.putAll(paramsMap);
+        if (job.getGridSize() != null) jobDataMap.put(PartitionSettings.GRID_SIZE, job.getGridSize().longValue());
+
+        // queue: @DisallowConcurrentExecution으로 이전 실행이 끝날 때까지 Trigger를 대기(BLOCKED)시킨다. (클러스터 전체)
+        Class<? extends Job> jobClass = job.getOverlap() == QuartzJobProperties.OverlapPolicy.QUEUE
+                ? NonConcurrentQuartzBatchJobExecutor.class
+                : QuartzBatchJobExecutor.class;
 
-        return JobBuilder.newJob(QuartzBatchJobExecutor.class)
-                .withIdentity(name, BATCH_GROUP)
-                .withDescription(description)
+        return JobBuilder.newJob(jobClass)
+                .withIdentity(job.getName(), BATCH_GROUP)
+                .withDescription(job.getDescription())
                 .usingJobData(jobDataMap)
+                .storeDurably(job.hasDependencies()) // 후행 Job은 Trigger 없이 보관
                 .build();
     }
 
     /**
-     * 주어진 cron 표현식으로 Quartz Trigger를 생성합니다.
+     * Job의 cron 표현식, misfire 처리 방식, 우선순위로 Quartz Trigger를 생성합니다.
      */
-    private Trigger buildCronTrigger(String jobName, String cronExp) {
+    private Trigger buildCronTrigger(QuartzJobProperties.JobDetailProperties job) {
+        CronScheduleBuilder schedule = CronScheduleBuilder.cronSchedule(job.getCron());
+        schedule = switch (job.getMisfirePolicy()) {
+            case SMART -> schedule;
+            case FIRE_ONCE_NOW -> schedule.withMisfireHandlingInstructionFireAndProceed();
+            case DO_NOTHING -> schedule.withMisfireHandlingInstructionDoNothing();
+            case IGNORE -> schedule.withMisfireHandlingInstructionIgnoreMisfires();
+        };
+
         return TriggerBuilder.newTrigger()
-                .withIdentity(jobName + "_trigger", TRIGGER_GROUP) // 트리거 ID 설정
-                .withSchedule(CronScheduleBuilder.cronSchedule(cronExp))
+                .withIdentity(triggerKey(job.getName())) // 트리거 ID 설정
+                .withSchedule(schedule)
+                .withPriority(job.getPriority())
                 .build();
     }
-}
\ No newline at end of file
+
+    private static TriggerKey triggerKey(String jobName) {
+        return new TriggerKey(jobName + "_trigger", TRIGGER_GROUP);
+    }
+
+    /**
+     * 설정 해시 보관용 JobDetail의 Job 클래스입니다. Trigger가 없어 실행되지 않습니다.
+     */
+    public static final class ConfigHashStore implements Job {
+
+        @Override
+        public void execute(JobExecutionContext context) {
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.kjung.batchtemplate.quartz.registrar;
+
+import java.util.List;
+
+/**
+ * schedule.yml과 Quartz JobStore 간 동기화 결과입니다.
+ *
+ * @param scheduled 새로 등록되거나 변경되어 교체된 Job 이름 목록
+ * @param removed   삭제된 Job 이름 목록
+ * @param unchanged 변경 없이 유지된 Job 수
+ * @param failed    설정 오류로 등록하지 못한 Job 수
+ */
+public record ScheduleSyncResult(List<String> scheduled, List<String> removed, int unchanged, int failed) {
+
+    @Override
+    public String toString() {
+        return "%d scheduled %s, %d unchanged, %d removed %s, %d failure(s)"
+                .formatted(scheduled.size(), scheduled, unchanged, removed.size(), removed, failed);
+    }
+}
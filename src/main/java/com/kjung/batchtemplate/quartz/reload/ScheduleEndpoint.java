@@ -0,0 +1,55 @@
+package com.kjung.batchtemplate.quartz.reload;
+
+import com.kjung.batchtemplate.core.property.BatchScheduleProperties;
+import com.kjung.batchtemplate.core.property.QuartzJobProperties;
+import com.kjung.batchtemplate.quartz.registrar.ScheduleSyncResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * schedule.yml 핫 리로드를 위한 actuator 엔드포인트입니다.
+ *
+ * <ul>
+ *   <li>{@code GET /actuator/schedule}: 현재 반영된 Job 설정 목록</li>
+ *   <li>{@code POST /actuator/schedule}: schedule.yml을 다시 읽어 변경된 Job만 반영
+ *       ({@code batch.schedule.endpoint.reload-enabled: true}일 때만, 아니면 403)</li>
+ * </ul>
+ * 검증에 실패하면 오류 응답이 반환되고 기존 스케줄은 그대로 유지됩니다.
+ * 이 엔드포인트는 인증을 요구하지 않으므로 리로드를 허용할 때는 관리 포트/네트워크 접근을 제한합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "schedule")
+@ConditionalOnProperty(name = "spring.batch.job.enabled", havingValue = "false")
+@ConditionalOnProperty(name = "spring.quartz.registrar.enabled", havingValue = "true", matchIfMissing = true)
+public class ScheduleEndpoint {
+
+    private static final int FORBIDDEN = 403;
+
+    private final QuartzJobProperties quartzJobProperties;
+
+    private final ScheduleReloadService reloadService;
+
+    private final BatchScheduleProperties scheduleProperties;
+
+    @ReadOperation
+    public List<QuartzJobProperties.JobDetailProperties> jobs() {
+        return quartzJobProperties.getJobs();
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<Object> reload() {
+        if (!scheduleProperties.getEndpoint().isReloadEnabled()) {
+            return new WebEndpointResponse<>("Schedule reload is disabled (batch.schedule.endpoint.reload-enabled=false)", FORBIDDEN);
+        }
+        ScheduleSyncResult result = reloadService.reload();
+        return new WebEndpointResponse<>(result);
+    }
+}
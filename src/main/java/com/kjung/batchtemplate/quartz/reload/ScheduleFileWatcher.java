@@ -0,0 +1,137 @@
+package com.kjung.batchtemplate.quartz.reload;
+
+import com.kjung.batchtemplate.core.property.BatchScheduleProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * NIO {@link WatchService}로 schedule.yml 파일 변경을 감시하여 핫 리로드를 수행하는 컴포넌트입니다.
+ *
+ * <p>에디터 저장이나 배포 도구의 파일 교체는 여러 이벤트를 연달아 발생시키므로, 마지막 이벤트 후
+ * {@code debounce} 동안 추가 변경이 없을 때 한 번만 리로드합니다. 리로드에 실패하면 기존 스케줄이 유지되고
+ * 오류만 로그로 남습니다.</p>
+ * <p>
+ * jar 내부 classpath 리소스는 감시할 수 없으므로 {@code batch.schedule.location}이 파일 시스템 경로여야 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.batch.job.enabled", havingValue = "false")
+@ConditionalOnProperty(name = "spring.quartz.registrar.enabled", havingValue = "true", matchIfMissing = true)
+@ConditionalOnProperty(name = "batch.schedule.watch.enabled", havingValue = "true")
+public class ScheduleFileWatcher implements SmartLifecycle {
+
+    private final BatchScheduleProperties scheduleProperties;
+
+    private final ResourceLoader resourceLoader;
+
+    private final ScheduleReloadService reloadService;
+
+    private WatchService watchService;
+
+    private Thread watcherThread;
+
+    @Override
+    public void start() {
+        Path file = resolveFile();
+        if (file == null) return;
+
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            file.getParent().register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to watch schedule file: " + file, e);
+        }
+
+        watcherThread = Thread.ofPlatform()
+                .name("schedule-watcher")
+                .daemon(true)
+                .start(() -> watch(file));
+
+        log.info("[Schedule] 파일 변경 감시 시작: {}", file);
+    }
+
+    private Path resolveFile() {
+        Resource resource = resourceLoader.getResource(scheduleProperties.getLocation());
+        try {
+            return resource.getFile().toPath().toAbsolutePath();
+        } catch (IOException e) {
+            log.warn("[Schedule] 파일 시스템 경로가 아니므로 감시하지 않습니다: {}", scheduleProperties.getLocation());
+            return null;
+        }
+    }
+
+    private void watch(Path file) {
+        long debounceMillis = scheduleProperties.getWatch().getDebounce().toMillis();
+
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = watchService.take();
+                boolean changed = drain(key, file);
+
+                // debounce 동안 추가 이벤트가 없을 때까지 대기
+                WatchKey next;
+                while ((next = watchService.poll(debounceMillis, TimeUnit.MILLISECONDS)) != null) {
+                    changed |= drain(next, file);
+                }
+
+                if (changed) reload();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean drain(WatchKey key, Path file) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.context() instanceof Path path && path.equals(file.getFileName())) {
+                changed = true;
+            }
+        }
+        key.reset();
+        return changed;
+    }
+
+    private void reload() {
+        try {
+            log.info("[Schedule] 변경 감지, 리로드 결과: {}", reloadService.reload());
+        } catch (RuntimeException e) {
+            log.error("[Schedule] 리로드 실패, 기존 스케줄을 유지합니다.", e);
+        }
+    }
+
+    @Override
+    public void stop() {
+        if (watcherThread == null) return;
+
+        watcherThread.interrupt();
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            log.warn("[Schedule] WatchService 종료 실패", e);
+        }
+        watcherThread = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return watcherThread != null;
+    }
+}
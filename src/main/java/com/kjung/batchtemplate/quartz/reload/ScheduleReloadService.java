@@ -0,0 +1,68 @@
+package com.kjung.batchtemplate.quartz.reload;
+
+import com.kjung.batchtemplate.core.property.BatchScheduleProperties;
+import com.kjung.batchtemplate.core.property.QuartzJobProperties;
+import com.kjung.batchtemplate.quartz.registrar.QuartzBatchJobRegistrar;
+import com.kjung.batchtemplate.quartz.registrar.ScheduleSyncResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.YamlPropertiesFactoryBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * schedule.yml을 다시 읽어 실행 중인 Quartz 스케줄러에 변경분만 반영하는 서비스입니다.
+ *
+ * <p>파일은 기동 시와 동일하게 {@code spring.quartz} 하위를 {@link QuartzJobProperties}로 바인딩하며,
+ * 실제 반영(검증, 변경분 계산, 롤백)은 {@link QuartzBatchJobRegistrar#reload(List)}에 위임합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.batch.job.enabled", havingValue = "false")
+@ConditionalOnProperty(name = "spring.quartz.registrar.enabled", havingValue = "true", matchIfMissing = true)
+public class ScheduleReloadService {
+
+    private static final String PREFIX = "spring.quartz";
+
+    private final BatchScheduleProperties scheduleProperties;
+
+    private final ResourceLoader resourceLoader;
+
+    private final QuartzBatchJobRegistrar registrar;
+
+    /**
+     * 설정된 위치의 schedule.yml을 다시 읽어 스케줄러에 반영합니다.
+     *
+     * @throws IllegalArgumentException 파일을 읽을 수 없거나 설정 검증에 실패한 경우 (기존 스케줄 유지)
+     */
+    public ScheduleSyncResult reload() {
+        List<QuartzJobProperties.JobDetailProperties> jobs = readJobs();
+        log.info("Reloading schedule from {} ({} jobs)", scheduleProperties.getLocation(), jobs.size());
+        return registrar.reload(jobs);
+    }
+
+    private List<QuartzJobProperties.JobDetailProperties> readJobs() {
+        Resource resource = resourceLoader.getResource(scheduleProperties.getLocation());
+        if (!resource.exists()) {
+            throw new IllegalArgumentException("Schedule file not found: " + scheduleProperties.getLocation());
+        }
+
+        YamlPropertiesFactoryBean factory = new YamlPropertiesFactoryBean();
+        factory.setResources(resource);
+        Properties properties = factory.getObject();
+
+        QuartzJobProperties quartzJobProperties = new Binder(new MapConfigurationPropertySource(properties))
+                .bind(PREFIX, QuartzJobProperties.class)
+                .orElseGet(QuartzJobProperties::new);
+
+        return quartzJobProperties.getJobs() != null ? quartzJobProperties.getJobs() : List.of();
+    }
+}
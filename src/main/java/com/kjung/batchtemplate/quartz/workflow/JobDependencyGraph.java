@@ -0,0 +1,179 @@
+package com.kjung.batchtemplate.quartz.workflow;
+
+import com.kjung.batchtemplate.core.property.QuartzJobProperties.JobDetailProperties;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * schedule.yml의 {@code depends-on}으로 선언된 Job 의존 관계 그래프(DAG)입니다.
+ *
+ * <p>선행 Job이 없는 Job(root)은 cron으로 실행되고, 선행 Job이 있는 Job은 한 실행 회차(workflow run)에서
+ * 모든 선행 Job이 완료되면 실행됩니다. 한 그래프(연결된 Job 묶음)의 root는 같은 cron을 사용해야 하며,
+ * 실행 회차는 root의 예정 실행 시각({@code scheduleSlot})으로 식별됩니다.</p>
+ */
+public class JobDependencyGraph {
+
+    private final Map<String, List<String>> upstreams;
+
+    private final Map<String, List<String>> downstreams;
+
+    private final Map<String, Set<String>> components;
+
+    private JobDependencyGraph(Map<String, List<String>> upstreams) {
+        this.upstreams = upstreams;
+        this.downstreams = new HashMap<>();
+        upstreams.forEach((job, parents) -> parents.forEach(parent ->
+                downstreams.computeIfAbsent(parent, key -> new ArrayList<>()).add(job)));
+        this.components = buildComponents();
+    }
+
+    /**
+     * 등록 대상(registered=true) Job 목록으로 그래프를 생성합니다. 검증은 {@link #validate}로 수행합니다.
+     */
+    public static JobDependencyGraph of(List<JobDetailProperties> jobs) {
+        Map<String, List<String>> upstreams = new LinkedHashMap<>();
+        for (JobDetailProperties job : jobs) {
+            if (!job.isRegistered() || job.getName() == null) continue;
+            upstreams.put(job.getName(), job.hasDependencies() ? List.copyOf(job.getDependsOn()) : List.of());
+        }
+        return new JobDependencyGraph(upstreams);
+    }
+
+    /**
+     * 의존 관계 설정 오류 목록을 반환합니다. (미등록 선행 Job, cron 혼용, 순환 참조, root cron 불일치)
+     */
+    public static List<String> validate(List<JobDetailProperties> jobs) {
+        List<String> errors = new ArrayList<>();
+        Map<String, JobDetailProperties> registered = new HashMap<>();
+        jobs.stream()
+                .filter(job -> job.isRegistered() && job.getName() != null)
+                .forEach(job -> registered.put(job.getName(), job));
+
+        for (JobDetailProperties job : registered.values()) {
+            if (!job.hasDependencies()) continue;
+
+            if (job.getCron() != null && !job.getCron().isBlank()) {
+                errors.add(job.getName() + ": cron and depends-on cannot be used together");
+            }
+            for (String upstream : job.getDependsOn()) {
+                if (!registered.containsKey(upstream)) {
+                    errors.add(job.getName() + ": unknown or unregistered upstream job '" + upstream + "'");
+                }
+            }
+        }
+        if (!errors.isEmpty()) return errors;
+
+        JobDependencyGraph graph = of(jobs);
+        List<String> cycle = graph.findCycle();
+        if (!cycle.isEmpty()) {
+            errors.add("dependency cycle detected: " + String.join(" -> ", cycle));
+            return errors;
+        }
+
+        for (Set<String> component : graph.components.values().stream().distinct().toList()) {
+            Set<String> crons = new LinkedHashSet<>();
+            component.stream()
+                    .filter(name -> graph.upstreams(name).isEmpty())
+                    .forEach(name -> crons.add(registered.get(name).getCron()));
+            if (crons.size() > 1) {
+                errors.add("root jobs of " + component + " must share one cron but have " + crons);
+            }
+        }
+        return errors;
+    }
+
+    public boolean contains(String jobName) {
+        return upstreams.containsKey(jobName);
+    }
+
+    /**
+     * 의존 관계가 있는 Job(선행 또는 후행 Job이 있는 Job)인지 여부
+     */
+    public boolean isWorkflowJob(String jobName) {
+        return !upstreams(jobName).isEmpty() || !downstreams(jobName).isEmpty();
+    }
+
+    public List<String> upstreams(String jobName) {
+        return upstreams.getOrDefault(jobName, List.of());
+    }
+
+    public List<String> downstreams(String jobName) {
+        return downstreams.getOrDefault(jobName, List.of());
+    }
+
+    /**
+     * 주어진 Job과 연결된 모든 Job (한 실행 회차에서 함께 실행되는 Job 묶음)
+     */
+    public Set<String> component(String jobName) {
+        return components.getOrDefault(jobName, Set.of(jobName));
+    }
+
+    /**
+     * 순환 참조 경로를 반환합니다. 순환이 없으면 빈 목록을 반환합니다.
+     */
+    List<String> findCycle() {
+        Map<String, Integer> state = new HashMap<>(); // 1: 방문 중, 2: 완료
+        Deque<String> path = new ArrayDeque<>();
+
+        for (String job : upstreams.keySet()) {
+            List<String> cycle = findCycle(job, state, path);
+            if (!cycle.isEmpty()) return cycle;
+        }
+        return List.of();
+    }
+
+    private List<String> findCycle(String job, Map<String, Integer> state, Deque<String> path) {
+        Integer current = state.get(job);
+        if (Objects.equals(current, 2)) return List.of();
+        if (Objects.equals(current, 1)) {
+            List<String> cycle = new ArrayList<>();
+            boolean inCycle = false;
+            for (Iterator<String> it = path.descendingIterator(); it.hasNext(); ) {
+                String name = it.next();
+                if (name.equals(job)) inCycle = true;
+                if (inCycle) cycle.add(name);
+            }
+            cycle.add(job);
+            return cycle;
+        }
+
+        state.put(job, 1);
+        path.push(job);
+        for (String upstream : upstreams(job)) {
+            List<String> cycle = findCycle(upstream, state, path);
+            if (!cycle.isEmpty()) return cycle;
+        }
+        path.pop();
+        state.put(job, 2);
+        return List.of();
+    }
+
+    private Map<String, Set<String>> buildComponents() {
+        Map<String, Set<String>> result = new HashMap<>();
+        for (String job : upstreams.keySet()) {
+            if (result.containsKey(job)) continue;
+
+            Set<String> component = new LinkedHashSet<>();
+            Deque<String> queue = new ArrayDeque<>(List.of(job));
+            while (!queue.isEmpty()) {
+                String name = queue.poll();
+                if (!component.add(name)) continue;
+                queue.addAll(upstreams(name));
+                queue.addAll(downstreams(name));
+            }
+            Set<String> immutable = Set.copyOf(component);
+            component.forEach(name -> result.put(name, immutable));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,122 @@
+package com.kjung.batchtemplate.quartz.workflow;
+
+import com.kjung.batchtemplate.core.batch.BatchJobCompletedEvent;
+import com.kjung.batchtemplate.core.batch.param.JobIdentityResolver;
+import com.kjung.batchtemplate.core.property.QuartzJobProperties;
+import com.kjung.batchtemplate.quartz.registrar.QuartzBatchJobRegistrar;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.JobDataMap;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Job 종료 이벤트를 받아 {@code depends-on}으로 연결된 후행 Job을 실행하는 컴포넌트입니다.
+ *
+ * <p>실행 회차(run id)는 root Job의 예정 실행 시각({@code scheduleSlot})이며, 후행 Job도 같은 scheduleSlot으로 실행되어
+ * 회차가 이어집니다. Job이 완료(COMPLETED)되면 회차 상태를 {@link WorkflowRunRepository}에 기록하고,
+ * 모든 선행 Job이 완료된 후행 Job을 선점한 뒤 Quartz로 즉시 실행합니다. 서로 독립된 후행 Job은 각각 트리거되어 병렬로 실행되며,
+ * 클러스터의 어느 노드에서든 실행될 수 있습니다. 실패한 Job의 후행 Job은 실행되지 않습니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.batch.job.enabled", havingValue = "false")
+public class WorkflowCoordinator {
+
+    private final Scheduler scheduler;
+
+    private final QuartzJobProperties quartzJobProperties;
+
+    private final WorkflowRunRepository runRepository;
+
+    private volatile List<QuartzJobProperties.JobDetailProperties> graphSource;
+
+    private volatile JobDependencyGraph graph;
+
+    @EventListener
+    public void onJobCompleted(BatchJobCompletedEvent event) {
+        JobDependencyGraph current = currentGraph();
+        String jobName = event.jobName();
+        if (!current.isWorkflowJob(jobName)) return;
+
+        JobExecution execution = event.jobExecution();
+        LocalDateTime slot = execution.getJobParameters().getLocalDateTime(JobIdentityResolver.SCHEDULE_SLOT);
+        if (slot == null) {
+            log.debug("[Workflow] {} 실행에 scheduleSlot이 없어 후행 Job을 실행하지 않습니다.", jobName);
+            return;
+        }
+
+        String runId = slot.toString();
+        BatchStatus status = execution.getStatus();
+        runRepository.record(runId, jobName, status.name(), execution.getStartTime(), execution.getEndTime());
+
+        if (status != BatchStatus.COMPLETED) {
+            log.warn("[Workflow] run {} - {} 종료 상태 {}: 후행 Job {} 실행 안 함", runId, jobName, status, current.downstreams(jobName));
+            return;
+        }
+
+        Map<String, String> statuses = runRepository.findStatuses(runId);
+        for (String downstream : current.downstreams(jobName)) {
+            boolean ready = current.upstreams(downstream).stream()
+                    .allMatch(upstream -> BatchStatus.COMPLETED.name().equals(statuses.get(upstream)));
+
+            if (ready && runRepository.claim(runId, downstream)) {
+                trigger(runId, downstream);
+            }
+        }
+
+        logIfRunCompleted(current, runId, jobName, statuses);
+    }
+
+    private void trigger(String runId, String jobName) {
+        JobDataMap data = new JobDataMap();
+        data.put(JobIdentityResolver.SCHEDULE_SLOT, runId);
+
+        try {
+            scheduler.triggerJob(new JobKey(jobName, QuartzBatchJobRegistrar.BATCH_GROUP), data);
+            log.info("[Workflow] run {} - {} 실행", runId, jobName);
+        } catch (SchedulerException e) {
+            runRepository.record(runId, jobName, BatchStatus.FAILED.name(), null, null);
+            log.error("[Workflow] run {} - {} 실행 실패", runId, jobName, e);
+        }
+    }
+
+    private void logIfRunCompleted(JobDependencyGraph current, String runId, String jobName, Map<String, String> statuses) {
+        boolean completed = current.component(jobName).stream()
+                .allMatch(name -> name.equals(jobName) || BatchStatus.COMPLETED.name().equals(statuses.get(name)));
+        if (!completed) return;
+
+        LocalDateTime[] span = runRepository.findSpan(runId);
+        if (span != null) {
+            log.info("[Workflow] run {} 완료 - jobs: {}, 소요 시간: {}", runId, current.component(jobName), Duration.between(span[0], span[1]));
+        }
+    }
+
+    /**
+     * schedule.yml 리로드로 Job 목록이 교체되면 그래프를 다시 생성합니다.
+     */
+    private JobDependencyGraph currentGraph() {
+        List<QuartzJobProperties.JobDetailProperties> jobs = quartzJobProperties.getJobs();
+        if (graph == null || jobs != graphSource) {
+            synchronized (this) {
+                if (graph == null || jobs != graphSource) {
+                    graph = JobDependencyGraph.of(jobs != null ? jobs : List.of());
+                    graphSource = jobs;
+                }
+            }
+        }
+        return graph;
+    }
+}
@@ -0,0 +1,149 @@
+package com.kjung.batchtemplate.quartz.workflow;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.batch.BatchDataSource;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * workflow 실행 회차별 Job 진행 상태를 배치 메타데이터 DB의 {@code BATCH_WORKFLOW_RUN} 테이블에 기록합니다.
+ *
+ * <p>(RUN_ID, JOB_NAME)이 기본 키이므로 여러 노드가 같은 후행 Job을 동시에 실행하려 해도
+ * {@link #claim}은 한 노드에서만 성공합니다. 테이블이 없으면 처음 사용할 때 생성합니다.</p>
+ */
+@Slf4j
+@Component
+public class WorkflowRunRepository {
+
+    public static final String STARTING = "STARTING";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final String table;
+
+    private volatile boolean initialized;
+
+    public WorkflowRunRepository(@BatchDataSource DataSource dataSource,
+                                 @Value("${spring.batch.jdbc.table-prefix:BATCH_}") String tablePrefix) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.table = tablePrefix + "WORKFLOW_RUN";
+    }
+
+    /**
+     * 후행 Job 실행 권한을 선점합니다.
+     *
+     * @return 이 호출이 선점한 경우 true, 이미 다른 노드가 선점(또는 실행)한 경우 false
+     */
+    public boolean claim(String runId, String jobName) {
+        ensureTable();
+        try {
+            jdbcTemplate.update("INSERT INTO " + table + " (RUN_ID, JOB_NAME, STATUS) VALUES (?, ?, ?)",
+                    runId, jobName, STARTING);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Job 실행 결과를 기록합니다.
+     */
+    public void record(String runId, String jobName, String status, LocalDateTime startTime, LocalDateTime endTime) {
+        ensureTable();
+        Timestamp start = startTime != null ? Timestamp.valueOf(startTime) : null;
+        Timestamp end = endTime != null ? Timestamp.valueOf(endTime) : null;
+
+        int updated = jdbcTemplate.update(
+                "UPDATE " + table + " SET STATUS = ?, START_TIME = ?, END_TIME = ? WHERE RUN_ID = ? AND JOB_NAME = ?",
+                status, start, end, runId, jobName);
+        if (updated > 0) return;
+
+        try {
+            jdbcTemplate.update(
+                    "INSERT INTO " + table + " (RUN_ID, JOB_NAME, STATUS, START_TIME, END_TIME) VALUES (?, ?, ?, ?, ?)",
+                    runId, jobName, status, start, end);
+        } catch (DuplicateKeyException e) {
+            record(runId, jobName, status, startTime, endTime);
+        }
+    }
+
+    /**
+     * 실행 회차의 Job별 상태를 조회합니다.
+     */
+    public Map<String, String> findStatuses(String runId) {
+        ensureTable();
+        Map<String, String> statuses = new LinkedHashMap<>();
+        jdbcTemplate.query("SELECT JOB_NAME, STATUS FROM " + table + " WHERE RUN_ID = ?",
+                rs -> {
+                    statuses.put(rs.getString(1), rs.getString(2));
+                }, runId);
+        return statuses;
+    }
+
+    /**
+     * 실행 회차의 첫 Job 시작 시각부터 마지막 Job 종료 시각까지의 구간을 조회합니다. (critical path 소요 시간)
+     *
+     * @return [시작, 종료], 기록이 없으면 null
+     */
+    public LocalDateTime[] findSpan(String runId) {
+        ensureTable();
+        List<LocalDateTime[]> spans = jdbcTemplate.query(
+                "SELECT MIN(START_TIME), MAX(END_TIME) FROM " + table + " WHERE RUN_ID = ?",
+                (rs, rowNum) -> {
+                    Timestamp start = rs.getTimestamp(1);
+                    Timestamp end = rs.getTimestamp(2);
+                    return start == null || end == null ? null : new LocalDateTime[]{start.toLocalDateTime(), end.toLocalDateTime()};
+                }, runId);
+        return spans.isEmpty() ? null : spans.getFirst();
+    }
+
+    private void ensureTable() {
+        if (initialized) return;
+
+        synchronized (this) {
+            if (initialized) return;
+
+            if (!hasTable()) {
+                try {
+                    jdbcTemplate.execute("CREATE TABLE " + table + " ("
+                            + "RUN_ID VARCHAR(64) NOT NULL, "
+                            + "JOB_NAME VARCHAR(100) NOT NULL, "
+                            + "STATUS VARCHAR(10) NOT NULL, "
+                            + "START_TIME DATETIME(6), "
+                            + "END_TIME DATETIME(6), "
+                            + "PRIMARY KEY (RUN_ID, JOB_NAME))");
+                    log.info("[Workflow] 실행 이력 테이블 생성: {}", table);
+                } catch (RuntimeException e) {
+                    // 다른 노드가 동시에 생성한 경우
+                    if (!hasTable()) throw e;
+                }
+            }
+            initialized = true;
+        }
+    }
+
+    private boolean hasTable() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((Connection connection) -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (String candidate : List.of(table.toUpperCase(Locale.ROOT), table.toLowerCase(Locale.ROOT))) {
+                try (ResultSet rs = metaData.getTables(connection.getCatalog(), null, candidate, null)) {
+                    if (rs.next()) return true;
+                }
+            }
+            return false;
+        }));
+    }
+}
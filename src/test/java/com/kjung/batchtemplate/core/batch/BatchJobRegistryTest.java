@@ -0,0 +1,130 @@
+package com.kjung.batchtemplate.core.batch;
+
+import com.kjung.batchtemplate.core.base.ChunkSettings;
+import com.kjung.batchtemplate.core.property.BatchLauncherProperties;
+import com.kjung.batchtemplate.core.property.JobIdentityStrategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Job 색인이 Bean 정의에서 Job 이름과 {@link BatchJobMetadata}를 수집하고, 실행 파라미터를 검증하는지 확인합니다.
+ */
+class BatchJobRegistryTest {
+
+    private AnnotationConfigApplicationContext context;
+
+    private BatchJobRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        BatchLauncherProperties launcherProperties = new BatchLauncherProperties();
+        launcherProperties.getMaxConcurrency().put("orderJob", 2);
+        launcherProperties.getIdentity().getStrategies().put("orderJob", JobIdentityStrategy.BUSINESS_PARAMS);
+
+        context = new AnnotationConfigApplicationContext();
+        context.registerBean(BatchLauncherProperties.class, () -> launcherProperties);
+        context.register(TestJobs.class, BatchJobRegistry.class);
+        context.refresh();
+
+        registry = context.getBean(BatchJobRegistry.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    void indexesOnlyJobBeans() {
+        assertThat(registry.getJobNames()).containsExactlyInAnyOrder("orderJob", "plainJob");
+        assertThat(registry.contains("notAJob")).isFalse();
+
+        assertThatThrownBy(() -> registry.getJob("notAJob"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("notAJob");
+    }
+
+    @Test
+    void describesJobFromMetadataAndLauncherProperties() {
+        JobDescriptor order = registry.getDescriptor("orderJob");
+
+        assertThat(order.requiredParams()).containsExactly("targetDate");
+        assertThat(order.optionalParams()).containsExactly("isFullLoad");
+        assertThat(order.defaultChunkSize()).isEqualTo(2000);
+        assertThat(order.maxConcurrency()).isEqualTo(2);
+        assertThat(order.identityStrategy()).isEqualTo(JobIdentityStrategy.BUSINESS_PARAMS);
+
+        JobDescriptor plain = registry.getDescriptor("plainJob");
+
+        assertThat(plain.requiredParams()).isEmpty();
+        assertThat(plain.defaultChunkSize()).isEqualTo(ChunkSettings.DEFAULT_CHUNK_SIZE);
+        assertThat(plain.identityStrategy()).isEqualTo(JobIdentityStrategy.SCHEDULE_SLOT);
+    }
+
+    @Test
+    void returnsSameJobInstance() {
+        assertThat(registry.getJob("orderJob"))
+                .isSameAs(context.getBean("orderJob"))
+                .isSameAs(registry.getJob("orderJob"));
+    }
+
+    @Test
+    void rejectsMissingRequiredParameters() {
+        JobDescriptor order = registry.getDescriptor("orderJob");
+
+        assertThatThrownBy(() -> order.prepare(new JobParameters()))
+                .isInstanceOf(InvalidJobParametersException.class)
+                .hasMessageContaining("targetDate");
+    }
+
+    @Test
+    void appliesDefaultChunkSizeOnlyWhenNotGiven() {
+        JobDescriptor order = registry.getDescriptor("orderJob");
+
+        JobParameters defaulted = order.prepare(new JobParametersBuilder()
+                .addString("targetDate", "2024-01-01")
+                .toJobParameters());
+        assertThat(defaulted.getLong(ChunkSettings.CHUNK_SIZE)).isEqualTo(2000L);
+        assertThat(defaulted.getParameter(ChunkSettings.CHUNK_SIZE).isIdentifying()).isFalse();
+
+        JobParameters given = order.prepare(new JobParametersBuilder()
+                .addString("targetDate", "2024-01-01")
+                .addLong(ChunkSettings.COMMIT_INTERVAL, 500L)
+                .toJobParameters());
+        assertThat(given.getParameter(ChunkSettings.CHUNK_SIZE)).isNull();
+
+        JobParameters plain = registry.getDescriptor("plainJob").prepare(new JobParameters());
+        assertThat(plain.isEmpty()).isTrue();
+    }
+
+    @Configuration
+    static class TestJobs {
+
+        @Bean
+        @BatchJobMetadata(requiredParams = "targetDate", optionalParams = "isFullLoad", chunkSize = 2000)
+        Job orderJob() {
+            return mock(Job.class);
+        }
+
+        @Bean
+        Job plainJob() {
+            return mock(Job.class);
+        }
+
+        @Bean
+        String notAJob() {
+            return "notAJob";
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.kjung.batchtemplate.core.batch.param;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DTO의 enum 프로퍼티가 선언 타입과 관계없이 상수 이름의 String JobParameter로 변환되는지 검증합니다.
+ */
+class DtoJobParametersConverterTest {
+
+    enum Mode {
+        FULL,
+        DELTA {
+            @Override
+            String label() {
+                return "delta";
+            }
+        };
+
+        String label() {
+            return name();
+        }
+    }
+
+    record Request(Mode mode, Mode plainMode, Object anyMode) {
+    }
+
+    @Test
+    void enumConstantsWithBodiesAreConvertedByName() {
+        JobParametersBuilder builder = new JobParametersBuilder();
+
+        new DtoJobParametersConverter().convert(new Request(Mode.DELTA, Mode.FULL, Mode.DELTA), builder);
+
+        JobParameters parameters = builder.toJobParameters();
+        assertThat(parameters.getString("mode")).isEqualTo("DELTA");
+        assertThat(parameters.getString("plainMode")).isEqualTo("FULL");
+        assertThat(parameters.getString("anyMode")).isEqualTo("DELTA");
+    }
+}
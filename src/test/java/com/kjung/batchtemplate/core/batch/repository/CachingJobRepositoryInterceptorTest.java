@@ -0,0 +1,123 @@
+package com.kjung.batchtemplate.core.batch.repository;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.repository.dao.DefaultExecutionContextSerializer;
+import org.springframework.batch.core.repository.dao.ExecutionContextDao;
+import org.springframework.batch.core.repository.dao.JobInstanceDao;
+import org.springframework.batch.core.repository.dao.StepExecutionDao;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * JobRepository DAO 캐시가 트랜잭션 롤백과 Step 종료를 반영하는지 검증합니다.
+ */
+class CachingJobRepositoryInterceptorTest {
+
+    private final TransactionTemplate transactionTemplate = new TransactionTemplate(new ResourcelessTransactionManager());
+
+    private final ExecutionContextDao contextDao = mock(ExecutionContextDao.class);
+
+    private final StepExecutionDao stepExecutionDao = mock(StepExecutionDao.class);
+
+    private final StepContextWriteInterceptor contextInterceptor = new StepContextWriteInterceptor(new DefaultExecutionContextSerializer());
+
+    private final ExecutionContextDao cachedContextDao = proxy(contextDao, ExecutionContextDao.class, contextInterceptor);
+
+    private final StepExecutionDao cachedStepExecutionDao = proxy(stepExecutionDao, StepExecutionDao.class, contextInterceptor);
+
+    @Test
+    void contextOfRolledBackChunkIsWrittenAgain() {
+        StepExecution step = stepExecution();
+
+        step.getExecutionContext().putLong("read.count", 10);
+        transactionTemplate.executeWithoutResult(status -> cachedContextDao.updateExecutionContext(step));
+
+        // 커밋된 내용과 같으면 생략
+        transactionTemplate.executeWithoutResult(status -> cachedContextDao.updateExecutionContext(step));
+        verify(contextDao, times(1)).updateExecutionContext(step);
+
+        // chunk 롤백: DB에는 10이 남아 있음
+        step.getExecutionContext().putLong("read.count", 20);
+        transactionTemplate.executeWithoutResult(status -> {
+            cachedContextDao.updateExecutionContext(step);
+            status.setRollbackOnly();
+        });
+        verify(contextDao, times(2)).updateExecutionContext(step);
+
+        // 재처리한 chunk의 같은 내용은 다시 저장해야 한다.
+        transactionTemplate.executeWithoutResult(status -> cachedContextDao.updateExecutionContext(step));
+        verify(contextDao, times(3)).updateExecutionContext(step);
+    }
+
+    @Test
+    void contextCacheIsEvictedWhenStepCompletes() {
+        StepExecution step = stepExecution();
+        step.getExecutionContext().putString("key", "value");
+
+        cachedContextDao.updateExecutionContext(step);
+        cachedContextDao.updateExecutionContext(step);
+        verify(contextDao, times(1)).updateExecutionContext(step);
+
+        // AbstractStep 순서: 마지막 ExecutionContext 저장 → 종료 시각 설정 → StepExecution 갱신
+        step.setEndTime(LocalDateTime.now());
+        cachedStepExecutionDao.updateStepExecution(step);
+        verify(stepExecutionDao).updateStepExecution(step);
+
+        // 기록이 제거되었으므로 같은 내용도 다시 저장된다.
+        cachedContextDao.updateExecutionContext(step);
+        verify(contextDao, times(2)).updateExecutionContext(step);
+    }
+
+    @Test
+    void rolledBackJobInstanceIsNotCached() {
+        JobInstanceDao instanceDao = mock(JobInstanceDao.class);
+        JobInstanceDao cachedInstanceDao = proxy(instanceDao, JobInstanceDao.class,
+                new JobInstanceCacheInterceptor(100, Duration.ofMinutes(1)));
+        JobParameters parameters = new JobParametersBuilder().addString("targetDate", "2026-10-18").toJobParameters();
+        when(instanceDao.createJobInstance("testJob", parameters)).thenReturn(new JobInstance(1L, "testJob"));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            cachedInstanceDao.createJobInstance("testJob", parameters);
+            status.setRollbackOnly();
+        });
+
+        // 롤백된 JobInstance는 DB에서 다시 조회한다. (없음)
+        assertThat(cachedInstanceDao.getJobInstance("testJob", parameters)).isNull();
+        verify(instanceDao).getJobInstance(eq("testJob"), any(JobParameters.class));
+
+        // 커밋된 JobInstance는 캐시에서 반환한다.
+        transactionTemplate.executeWithoutResult(status -> cachedInstanceDao.createJobInstance("testJob", parameters));
+        assertThat(cachedInstanceDao.getJobInstance("testJob", parameters)).extracting(JobInstance::getId).isEqualTo(1L);
+        verify(instanceDao, times(1)).getJobInstance(eq("testJob"), any(JobParameters.class));
+    }
+
+    private static StepExecution stepExecution() {
+        JobExecution jobExecution = new JobExecution(new JobInstance(1L, "testJob"), 1L, new JobParameters());
+        return new StepExecution("testStep", jobExecution, 1L);
+    }
+
+    private static <T> T proxy(T target, Class<T> type, MethodInterceptor interceptor) {
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.addInterface(type);
+        proxyFactory.addAdvice(interceptor);
+        return type.cast(proxyFactory.getProxy());
+    }
+}
@@ -0,0 +1,154 @@
+package com.kjung.batchtemplate.core.batch.retention;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.support.JobRepositoryFactoryBean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 보관 기간이 지난 JobExecution과 딸린 row만 삭제(보관)되고, 최근/실행 중인 실행은 유지되는지 검증합니다.
+ */
+class JobMetadataPrunerTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    private JobRepository jobRepository;
+
+    private JobMetadataPruner pruner;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:retention-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("org/springframework/batch/core/schema-h2.sql"))
+                .execute(dataSource);
+
+        JobRepositoryFactoryBean jobRepositoryFactory = new JobRepositoryFactoryBean();
+        jobRepositoryFactory.setDataSource(dataSource);
+        jobRepositoryFactory.setTransactionManager(new DataSourceTransactionManager(dataSource));
+        jobRepositoryFactory.afterPropertiesSet();
+        jobRepository = jobRepositoryFactory.getObject();
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        pruner = new JobMetadataPruner(dataSource, "BATCH_");
+    }
+
+    @Test
+    void prunesOnlyExpiredExecutions() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        JobExecution expired = completedExecution("testJob", now.minusDays(40));
+        JobExecution recent = completedExecution("testJob", now.minusDays(1));
+        JobExecution running = jobRepository.createJobExecution("testJob", parameters());
+        JobExecution otherJob = completedExecution("otherJob", now.minusDays(40));
+
+        pruner.ensureSchema(true, false);
+        Map<String, Integer> removed = pruner.prune("testJob", now.minusDays(30), 100, false);
+
+        assertThat(removed)
+                .containsEntry("JOB_EXECUTION", 1)
+                .containsEntry("STEP_EXECUTION", 1)
+                .containsEntry("JOB_INSTANCE", 1)
+                .doesNotContainKey("JOB_EXECUTION_ARCHIVE");
+        assertThat(executionIds()).containsExactlyInAnyOrder(recent.getId(), running.getId(), otherJob.getId());
+        assertThat(count("BATCH_STEP_EXECUTION WHERE JOB_EXECUTION_ID = " + expired.getId())).isZero();
+        assertThat(count("BATCH_JOB_EXECUTION_PARAMS WHERE JOB_EXECUTION_ID = " + expired.getId())).isZero();
+        assertThat(count("BATCH_JOB_INSTANCE WHERE JOB_INSTANCE_ID = " + expired.getJobInstance().getId())).isZero();
+
+        // 남은 대상이 없으면 빈 결과
+        assertThat(pruner.prune("testJob", now.minusDays(30), 100, false)).isEmpty();
+    }
+
+    @Test
+    void archivesBeforeDeletingInBatches() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 3; i++) {
+            completedExecution("testJob", now.minusDays(40));
+        }
+        JobExecution recent = completedExecution("testJob", now.minusDays(1));
+
+        // 두 번 호출해도 이미 있는 인덱스/테이블은 다시 만들지 않는다.
+        pruner.ensureSchema(true, true);
+        pruner.ensureSchema(true, true);
+
+        assertThat(pruner.prune("testJob", now.minusDays(30), 2, true)).containsEntry("JOB_EXECUTION", 2);
+        assertThat(pruner.prune("testJob", now.minusDays(30), 2, true)).containsEntry("JOB_EXECUTION", 1);
+
+        assertThat(executionIds()).containsExactly(recent.getId());
+        assertThat(jdbcTemplate.queryForList("SELECT JOB_NAME FROM BATCH_JOB_EXECUTION_ARCHIVE", String.class))
+                .hasSize(3)
+                .containsOnly("testJob");
+        assertThat(count("BATCH_JOB_EXECUTION_ARCHIVE WHERE STATUS = 'COMPLETED' AND ARCHIVED_TIME IS NOT NULL")).isEqualTo(3);
+    }
+
+    @Test
+    void prunesWorkflowRunsAsWholeRuns() {
+        LocalDateTime now = LocalDateTime.now();
+
+        // 테이블이 없으면 아무것도 하지 않는다.
+        assertThat(pruner.pruneWorkflowRuns(now.minusDays(30), 100)).isZero();
+
+        jdbcTemplate.execute("CREATE TABLE BATCH_WORKFLOW_RUN (RUN_ID VARCHAR(64) NOT NULL, JOB_NAME VARCHAR(100) NOT NULL, "
+                + "STATUS VARCHAR(10) NOT NULL, START_TIME DATETIME(6), END_TIME DATETIME(6), PRIMARY KEY (RUN_ID, JOB_NAME))");
+        workflowRun("expired", "jobA", now.minusDays(41), now.minusDays(40));
+        workflowRun("expired", "jobB", null, null); // 실행에 실패한 후행 Job
+        workflowRun("inProgress", "jobA", now.minusDays(41), now.minusDays(40));
+        workflowRun("inProgress", "jobB", now.minusDays(1), null);
+        workflowRun("recent", "jobA", now.minusDays(2), now.minusDays(1));
+
+        assertThat(pruner.pruneWorkflowRuns(now.minusDays(30), 100)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForList("SELECT DISTINCT RUN_ID FROM BATCH_WORKFLOW_RUN", String.class))
+                .containsExactlyInAnyOrder("inProgress", "recent");
+    }
+
+    private void workflowRun(String runId, String jobName, LocalDateTime startTime, LocalDateTime endTime) {
+        jdbcTemplate.update("INSERT INTO BATCH_WORKFLOW_RUN (RUN_ID, JOB_NAME, STATUS, START_TIME, END_TIME) VALUES (?, ?, ?, ?, ?)",
+                runId, jobName, "COMPLETED",
+                startTime != null ? Timestamp.valueOf(startTime) : null,
+                endTime != null ? Timestamp.valueOf(endTime) : null);
+    }
+
+    private JobExecution completedExecution(String jobName, LocalDateTime endTime) throws Exception {
+        JobExecution execution = jobRepository.createJobExecution(jobName, parameters());
+        execution.setStartTime(endTime.minusMinutes(1));
+
+        StepExecution step = execution.createStepExecution("step1");
+        jobRepository.add(step);
+
+        execution.setStatus(BatchStatus.COMPLETED);
+        execution.setEndTime(endTime);
+        jobRepository.update(execution);
+        return execution;
+    }
+
+    private static JobParameters parameters() {
+        return new JobParametersBuilder().addString("uuid", UUID.randomUUID().toString()).toJobParameters();
+    }
+
+    private List<Long> executionIds() {
+        return jdbcTemplate.queryForList("SELECT JOB_EXECUTION_ID FROM BATCH_JOB_EXECUTION", Long.class);
+    }
+
+    private int count(String tableAndCondition) {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + tableAndCondition, Integer.class);
+        return count != null ? count : 0;
+    }
+}
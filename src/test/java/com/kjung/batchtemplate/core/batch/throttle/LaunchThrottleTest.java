@@ -0,0 +1,84 @@
+package com.kjung.batchtemplate.core.batch.throttle;
+
+import com.kjung.batchtemplate.core.property.BatchApiProperties;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * token bucket의 요청 수 제한과 adaptive limiter의 상한 조정을 검증합니다.
+ */
+class LaunchThrottleTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    @Test
+    void tokenBucketRejectsBurstOverCapacity() {
+        TokenBucket bucket = new TokenBucket(3, 0.001);
+
+        assertThat(bucket.tryAcquire()).isZero();
+        assertThat(bucket.tryAcquire()).isZero();
+        assertThat(bucket.tryAcquire()).isZero();
+
+        // 초당 0.001개 보충이므로 다음 token까지 약 1000초
+        assertThat(bucket.tryAcquire()).isGreaterThan(900L * 1000 * MILLIS);
+    }
+
+    @Test
+    void refundedTokenCanBeReused() {
+        TokenBucket bucket = new TokenBucket(1, 0.001);
+
+        assertThat(bucket.tryAcquire()).isZero();
+        bucket.refund(); // 동시 실행 상한으로 거부된 요청
+        assertThat(bucket.tryAcquire()).isZero();
+
+        // 상한(capacity)을 넘어 쌓이지 않는다.
+        bucket.refund();
+        bucket.refund();
+        assertThat(bucket.tryAcquire()).isZero();
+        assertThat(bucket.tryAcquire()).isPositive();
+    }
+
+    @Test
+    void limiterRejectsOverLimitAndReleases() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(adaptive(2));
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+
+        limiter.release();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    void limiterGrowsWhileLatencyIsStableAndShrinksWhenSlow() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(adaptive(4));
+        for (int i = 0; i < 4; i++) limiter.tryAcquire();
+
+        for (int i = 0; i < 20; i++) limiter.onSample(100 * MILLIS);
+        int grown = limiter.getLimit();
+        assertThat(grown).isGreaterThan(4);
+
+        // 기준 대비 10배 느린 실행이 이어지면 상한을 줄인다.
+        for (int i = 0; i < 20; i++) limiter.onSample(1000 * MILLIS);
+        assertThat(limiter.getLimit()).isLessThan(grown);
+    }
+
+    @Test
+    void limiterDoesNotGrowWhenUnderused() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(adaptive(8));
+        limiter.tryAcquire();
+
+        for (int i = 0; i < 20; i++) limiter.onSample(100 * MILLIS);
+
+        assertThat(limiter.getLimit()).isEqualTo(8);
+    }
+
+    private static BatchApiProperties.Adaptive adaptive(int initialLimit) {
+        BatchApiProperties.Adaptive adaptive = new BatchApiProperties.Adaptive();
+        adaptive.setInitialLimit(initialLimit);
+        return adaptive;
+    }
+}
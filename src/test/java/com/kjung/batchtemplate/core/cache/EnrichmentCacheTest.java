@@ -0,0 +1,102 @@
+package com.kjung.batchtemplate.core.cache;
+
+import com.kjung.batchtemplate.core.property.BatchCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 참조 데이터 캐시의 조회, 항목 수 상한/fallback, JobExecution 단위 공유와 제거를 검증합니다.
+ */
+class EnrichmentCacheTest {
+
+    @Test
+    void looksUpAllLoadedKeysIncludingZeroAndNegative() {
+        EnrichmentCache.Builder<String> builder = new EnrichmentCache.Builder<>("codes", 1_000_000);
+        for (long key = -1000; key < 100_000; key++) {
+            builder.put(key, "v" + key);
+        }
+        EnrichmentCache<String> cache = builder.build(new LongAdder(), new LongAdder());
+
+        assertThat(cache.size()).isEqualTo(101_000);
+        assertThat(cache.isComplete()).isTrue();
+        assertThat(cache.get(0)).isEqualTo("v0");
+        assertThat(cache.get(-1000)).isEqualTo("v-1000");
+        assertThat(cache.get(99_999)).isEqualTo("v99999");
+        assertThat(cache.get(100_000)).isNull();
+    }
+
+    @Test
+    void truncatedCacheRequiresFallbackAndCachesFallbackResults() {
+        EnrichmentCache.Builder<String> withoutFallback = new EnrichmentCache.Builder<>("codes", 10);
+        IntStream.range(1, 20).forEach(i -> withoutFallback.put(i, "v" + i));
+        assertThatThrownBy(() -> withoutFallback.build(new LongAdder(), new LongAdder()))
+                .isInstanceOf(IllegalStateException.class);
+
+        AtomicInteger fallbackCalls = new AtomicInteger();
+        EnrichmentCache.Builder<String> builder = new EnrichmentCache.Builder<String>("codes", 10)
+                .fallback(key -> {
+                    fallbackCalls.incrementAndGet();
+                    return key < 20 ? "f" + key : null;
+                }, 100);
+        IntStream.range(1, 20).forEach(i -> builder.put(i, "v" + i));
+        LongAdder hits = new LongAdder();
+        LongAdder misses = new LongAdder();
+        EnrichmentCache<String> cache = builder.build(hits, misses);
+
+        assertThat(cache.isComplete()).isFalse();
+        assertThat(cache.get(5)).isEqualTo("v5");
+        assertThat(cache.get(15)).isEqualTo("f15");
+        assertThat(cache.get(15)).isEqualTo("f15");
+        assertThat(cache.get(99)).isNull();
+        assertThat(cache.get(99)).isNull();
+
+        assertThat(fallbackCalls).hasValue(2);
+        assertThat(hits.sum()).isEqualTo(1);
+        assertThat(misses.sum()).isEqualTo(4);
+    }
+
+    @Test
+    void sharesOneLoadPerExecutionAndEvictsOnCompletion() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        EnrichmentCacheManager manager = new EnrichmentCacheManager(new BatchCacheProperties(), meterRegistry);
+
+        AtomicInteger loads = new AtomicInteger();
+        EnrichmentLoader<String> loader = sink -> {
+            loads.incrementAndGet();
+            for (long key = 1; key <= 1000; key++) sink.put(key, "v" + key);
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<EnrichmentCache<String>>> futures = IntStream.range(0, 8)
+                    .mapToObj(i -> executor.submit(() -> manager.get(1L, "products", loader, null)))
+                    .toList();
+            EnrichmentCache<String> first = futures.get(0).get();
+            for (Future<EnrichmentCache<String>> future : futures) {
+                assertThat(future.get()).isSameAs(first);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("batch.cache.entries").tag("cache", "products").gauge().value()).isEqualTo(1000);
+
+        manager.evict(1L);
+
+        assertThat(meterRegistry.get("batch.cache.entries").tag("cache", "products").gauge().value()).isZero();
+        manager.get(1L, "products", loader, null);
+        assertThat(loads).hasValue(2);
+    }
+}
@@ -0,0 +1,153 @@
+package com.kjung.batchtemplate.core.file;
+
+import com.kjung.batchtemplate.core.partition.FileSplitPartitioner;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * memory-mapped reader의 줄 분리, 재시작, 구간 분할 읽기와 writer의 재시작/롤백 처리를 검증합니다.
+ */
+class MappedFileItemReaderTest {
+
+    private static final ByteLineMapper<String> STRING_MAPPER =
+            (line, lineNumber) -> ByteLineMapper.decode(line, StandardCharsets.UTF_8);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void readsAllLinesAcrossWindowBoundaries() throws Exception {
+        Path file = writeLines("data.csv", lines(1000), "\r\n");
+
+        MappedFileItemReader<String> reader = new MappedFileItemReader<>("reader", file, STRING_MAPPER);
+        reader.setWindowSize(64); // 줄이 window 경계에 걸치도록 작은 window 사용
+        reader.setLinesToSkip(1);
+
+        assertThat(readAll(reader, new ExecutionContext())).isEqualTo(lines(1000).subList(1, 1000));
+    }
+
+    @Test
+    void restartsFromSavedOffset() throws Exception {
+        Path file = writeLines("data.csv", lines(100), "\n");
+        ExecutionContext executionContext = new ExecutionContext();
+
+        MappedFileItemReader<String> reader = new MappedFileItemReader<>("reader", file, STRING_MAPPER);
+        reader.open(executionContext);
+        for (int i = 0; i < 30; i++) reader.read();
+        reader.update(executionContext);
+        reader.close();
+
+        MappedFileItemReader<String> restarted = new MappedFileItemReader<>("reader", file, STRING_MAPPER);
+        assertThat(readAll(restarted, executionContext)).isEqualTo(lines(100).subList(30, 100));
+    }
+
+    @Test
+    void splitPartitionsReadEveryLineExactlyOnce() throws Exception {
+        Path file = writeLines("data.csv", lines(10_001), "\n");
+        Map<String, ExecutionContext> partitions = new FileSplitPartitioner(file).partition(7);
+
+        List<String> result = new ArrayList<>();
+        for (ExecutionContext partition : partitions.values()) {
+            MappedFileItemReader<String> reader = new MappedFileItemReader<>("reader", file, STRING_MAPPER);
+            reader.setRange(partition.getLong(FileSplitPartitioner.FILE_START), partition.getLong(FileSplitPartitioner.FILE_END));
+            reader.setWindowSize(4096);
+            result.addAll(readAll(reader, new ExecutionContext()));
+        }
+
+        assertThat(result).isEqualTo(lines(10_001));
+    }
+
+    @Test
+    void writerTruncatesUncommittedChunkOnRestart() throws Exception {
+        Path file = tempDir.resolve("out.csv");
+        ExecutionContext executionContext = new ExecutionContext();
+
+        BufferedFileItemWriter<String> writer = new BufferedFileItemWriter<>("writer", file, item -> item);
+        writer.setLineSeparator("\n");
+        writer.setBufferSize(16);
+        writer.open(executionContext);
+        writer.write(Chunk.of("a1", "a2"));
+        writer.update(executionContext); // 커밋된 chunk
+        writer.write(Chunk.of("b1", "b2")); // 커밋되지 않은 chunk
+        writer.close();
+
+        BufferedFileItemWriter<String> restarted = new BufferedFileItemWriter<>("writer", file, item -> item);
+        restarted.setLineSeparator("\n");
+        restarted.open(executionContext);
+        restarted.write(Chunk.of("c1"));
+        restarted.close();
+
+        assertThat(Files.readAllLines(file)).containsExactly("a1", "a2", "c1");
+    }
+
+    @Test
+    void writerDiscardsRolledBackChunk() throws Exception {
+        Path file = tempDir.resolve("rollback.csv");
+        ExecutionContext executionContext = new ExecutionContext();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new ResourcelessTransactionManager());
+
+        BufferedFileItemWriter<String> writer = new BufferedFileItemWriter<>("writer", file, item -> {
+            if (item.equals("bad")) throw new IllegalArgumentException("bad item");
+            return item;
+        });
+        writer.setLineSeparator("\n");
+        writer.open(executionContext);
+
+        transactionTemplate.executeWithoutResult(status -> write(writer, "a1", "a2"));
+        transactionTemplate.executeWithoutResult(status -> {
+            write(writer, "b1", "b2");
+            status.setRollbackOnly();
+        });
+        // 인코딩 도중 실패한 chunk의 앞부분이 버퍼에 남지 않아야 한다.
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> write(writer, "x1", "bad")))
+                .hasRootCauseInstanceOf(IllegalArgumentException.class);
+        transactionTemplate.executeWithoutResult(status -> write(writer, "c1"));
+        writer.close();
+
+        assertThat(Files.readAllLines(file)).containsExactly("a1", "a2", "c1");
+    }
+
+    private static void write(BufferedFileItemWriter<String> writer, String... items) {
+        try {
+            writer.write(Chunk.of(items));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private List<String> readAll(MappedFileItemReader<String> reader, ExecutionContext executionContext) throws Exception {
+        List<String> items = new ArrayList<>();
+        reader.open(executionContext);
+        try {
+            for (String item = reader.read(); item != null; item = reader.read()) {
+                items.add(item);
+            }
+        } finally {
+            reader.close();
+        }
+        return items;
+    }
+
+    private Path writeLines(String name, List<String> lines, String separator) throws Exception {
+        return Files.writeString(tempDir.resolve(name), String.join(separator, lines) + separator);
+    }
+
+    private static List<String> lines(int count) {
+        return IntStream.range(0, count).mapToObj(i -> i + ",name-" + i + ",값" + (i % 7)).toList();
+    }
+}
@@ -0,0 +1,149 @@
+package com.kjung.batchtemplate.core.jdbc;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * H2(MySQL 호환 모드)를 대신 사용하여 multi-row INSERT 적재, LOAD DATA 미지원 시 JDBC batch fallback,
+ * 실패 시 chunk 롤백과 LOAD DATA 텍스트 escape를 검증합니다.
+ */
+class BulkInsertItemWriterTest {
+
+    private record Order(long id, String name, Integer amount) {
+    }
+
+    private EmbeddedDatabase dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE ORDERS (ID BIGINT PRIMARY KEY, NAME VARCHAR(100), AMOUNT INT)");
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.shutdown();
+    }
+
+    @Test
+    void writesChunkWithMultiRowStatements() {
+        BulkInsertItemWriter<Order> writer = writer();
+        writer.setRowsPerStatement(100);
+
+        write(writer, orders(1, 251)); // 100 + 100 + 나머지 50
+
+        assertThat(count()).isEqualTo(250);
+        assertThat(jdbcTemplate.queryForObject("SELECT NAME FROM ORDERS WHERE ID = 250", String.class)).isEqualTo("order-250");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ORDERS WHERE AMOUNT IS NULL", Integer.class)).isEqualTo(25);
+    }
+
+    @Test
+    void fallsBackToJdbcBatchWhenLoadDataIsUnavailable() {
+        BulkInsertItemWriter<Order> writer = writer();
+        writer.setMode(BulkInsertItemWriter.Mode.LOAD_DATA);
+
+        write(writer, orders(1, 101));
+        write(writer, orders(101, 201));
+
+        assertThat(count()).isEqualTo(200);
+    }
+
+    @Test
+    void fallbackIsResetWhenStepIsOpenedAgain() {
+        BulkInsertItemWriter<Order> writer = writer();
+        writer.setMode(BulkInsertItemWriter.Mode.LOAD_DATA);
+
+        writer.open(new ExecutionContext());
+        write(writer, orders(1, 11));
+        writer.close();
+
+        // 다음 실행에서는 multi-row INSERT를 다시 시도한다.
+        writer.setMode(BulkInsertItemWriter.Mode.MULTI_ROW);
+        writer.open(new ExecutionContext());
+        assertThat(writer).extracting("fallbackOnly").isEqualTo(false);
+
+        write(writer, orders(11, 21));
+        assertThat(writer).extracting("fallbackOnly").isEqualTo(false);
+        assertThat(count()).isEqualTo(20);
+    }
+
+    @Test
+    void rollsBackChunkWhenFallbackAlsoFails() {
+        BulkInsertItemWriter<Order> writer = writer();
+        writer.setRowsPerStatement(10);
+
+        write(writer, orders(1, 11));
+
+        // 중복 key로 multi-row 구문 실패 → savepoint로 되돌린 뒤 JDBC batch fallback도 실패 → chunk 롤백
+        assertThatThrownBy(() -> write(writer, orders(11, 21).stream()
+                .map(order -> order.id() == 20 ? new Order(5, "dup", 1) : order).toList()))
+                .isInstanceOf(RuntimeException.class);
+
+        assertThat(count()).isEqualTo(10);
+    }
+
+    @Test
+    void escapesLoadDataFields() {
+        byte[] tsv = BulkInsertItemWriter.toTsv(List.of(
+                new Object[]{1L, "tab\there", null},
+                new Object[]{2L, "line\nback\\slash", true}));
+
+        assertThat(new String(tsv, StandardCharsets.UTF_8))
+                .isEqualTo("1\ttab\\there\t\\N\n2\tline\\nback\\\\slash\t1\n");
+
+        assertThat(new String(BulkInsertItemWriter.toTsv(List.<Object[]>of(new Object[]{new BigDecimal("1E+3"), new BigDecimal("0.0000001")})),
+                StandardCharsets.UTF_8))
+                .isEqualTo("1000\t0.0000001\n");
+    }
+
+    private BulkInsertItemWriter<Order> writer() {
+        return new BulkInsertItemWriter<>(dataSource, "ORDERS", List.of("ID", "NAME", "AMOUNT"),
+                order -> new Object[]{order.id(), order.name(), order.amount()});
+    }
+
+    private void write(BulkInsertItemWriter<Order> writer, List<Order> orders) {
+        transactionTemplate.executeWithoutResult(status -> {
+            try {
+                writer.write(new Chunk<>(orders));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private static List<Order> orders(int fromInclusive, int toExclusive) {
+        return IntStream.range(fromInclusive, toExclusive)
+                .mapToObj(i -> new Order(i, "order-" + i, i % 10 == 0 ? null : i * 100))
+                .toList();
+    }
+
+    private int count() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ORDERS", Integer.class);
+    }
+}
@@ -0,0 +1,115 @@
+package com.kjung.batchtemplate.core.profiling;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.item.Chunk;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * chunk 리스너 호출 순서에 따라 read/process/write/커밋 시간, 처리 건수, 할당 바이트가 chunk당 한 번 기록되는지 검증합니다.
+ */
+class StepProfilingListenerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final StepProfilingListener listener = new StepProfilingListener(meterRegistry, false, true);
+
+    @Test
+    void recordsPhaseTimesOncePerChunk() {
+        ChunkContext context = chunkContext("orderStep");
+
+        // 같은 Step에 Bean 후처리와 builder로 두 번 등록된 경우
+        listener.beforeChunk(context);
+        listener.beforeChunk(context);
+
+        for (int i = 0; i < 3; i++) {
+            listener.beforeRead();
+            listener.afterRead(i);
+        }
+        listener.beforeRead(); // 마지막 read는 null을 반환하여 afterRead가 호출되지 않음
+
+        for (int i = 0; i < 3; i++) {
+            listener.beforeProcess(i);
+            listener.afterProcess(i, i);
+        }
+
+        Chunk<Object> items = new Chunk<>(List.of(0, 1, 2));
+        listener.beforeWrite(items);
+        listener.afterWrite(items);
+
+        listener.afterChunk(context);
+        listener.afterChunk(context);
+
+        assertThat(timer("batch.step.chunk.duration", "orderStep").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("batch.step.chunk.phase").tag("step", "orderStep").timers())
+                .hasSize(3)
+                .allSatisfy(timer -> assertThat(timer.count()).isEqualTo(1));
+        assertThat(timer("batch.step.chunk.commit", "orderStep").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("batch.step.items").tag("step", "orderStep").counter().count()).isEqualTo(3.0);
+        assertThat(summary("batch.step.chunk.throughput", "orderStep").count()).isEqualTo(1);
+        assertThat(summary("batch.step.chunk.allocated", "orderStep").count()).isLessThanOrEqualTo(1);
+
+        Timer duration = timer("batch.step.chunk.duration", "orderStep");
+        Timer read = meterRegistry.get("batch.step.chunk.phase").tag("phase", "read").timer();
+        assertThat(read.totalTime(TimeUnit.NANOSECONDS)).isLessThanOrEqualTo(duration.totalTime(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    void recordsChunkLevelMetricsForStepsWithoutItemListeners() {
+        ChunkContext context = chunkContext("cleanupStep");
+
+        listener.beforeChunk(context);
+        context.getStepContext().getStepExecution().setReadCount(5);
+        listener.afterChunk(context);
+
+        assertThat(timer("batch.step.chunk.duration", "cleanupStep").count()).isEqualTo(1);
+        assertThat(meterRegistry.find("batch.step.chunk.phase").tag("step", "cleanupStep").timer().count()).isZero();
+        assertThat(meterRegistry.find("batch.step.chunk.commit").tag("step", "cleanupStep").timer().count()).isZero();
+        assertThat(meterRegistry.get("batch.step.items").tag("step", "cleanupStep").counter().count()).isEqualTo(5.0);
+    }
+
+    @Test
+    void skipsRolledBackChunk() {
+        ChunkContext context = chunkContext("orderStep");
+
+        listener.beforeChunk(context);
+        listener.beforeRead();
+        listener.afterRead(1);
+        listener.afterChunkError(context);
+        listener.afterChunk(context);
+
+        assertThat(timer("batch.step.chunk.duration", "orderStep").count()).isZero();
+    }
+
+    @Test
+    void removesPartitionSuffixFromStepName() {
+        assertThat(StepProfilingListener.stepName("workerStep:partition3")).isEqualTo("workerStep");
+        assertThat(StepProfilingListener.stepName("orderStep")).isEqualTo("orderStep");
+    }
+
+    private Timer timer(String name, String step) {
+        return meterRegistry.get(name).tag("job", "orderJob").tag("step", step).timer();
+    }
+
+    private DistributionSummary summary(String name, String step) {
+        return meterRegistry.get(name).tag("job", "orderJob").tag("step", step).summary();
+    }
+
+    private static ChunkContext chunkContext(String stepName) {
+        JobExecution jobExecution = new JobExecution(new JobInstance(1L, "orderJob"), 1L, new JobParameters());
+        StepExecution stepExecution = new StepExecution(stepName, jobExecution, 1L);
+        return new ChunkContext(new StepContext(stepExecution));
+    }
+}
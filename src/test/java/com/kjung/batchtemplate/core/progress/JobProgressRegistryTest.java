@@ -0,0 +1,91 @@
+package com.kjung.batchtemplate.core.progress;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 진행 상황 snapshot의 Step 합산, 현재 Step, ETA 계산과 종료된 Job 정리를 검증합니다.
+ */
+class JobProgressRegistryTest {
+
+    @Test
+    void aggregatesRunningStepsAndEstimatesRemainingTime() {
+        JobProgressRegistry registry = new JobProgressRegistry(Duration.ofMinutes(1));
+        JobExecution jobExecution = jobExecution(1L);
+        registry.jobStarted(jobExecution);
+
+        StepExecution done = step(jobExecution, 10L, "loadStep", 0);
+        done.setReadCount(500);
+        done.setWriteCount(500);
+        done.setStatus(BatchStatus.COMPLETED);
+        registry.stepUpdated(done);
+
+        StepExecution running = step(jobExecution, 11L, "exportStep", 10);
+        running.setReadCount(1000);
+        running.setWriteCount(990);
+        running.setWriteSkipCount(10);
+        running.getExecutionContext().putLong(JobProgressRegistry.TOTAL_ITEMS_KEY, 3000);
+        registry.stepUpdated(running);
+
+        JobProgress progress = registry.find(1L).orElseThrow();
+
+        assertThat(progress.currentStep()).isEqualTo("exportStep");
+        assertThat(progress.readCount()).isEqualTo(1500);
+        assertThat(progress.writeCount()).isEqualTo(1490);
+        assertThat(progress.skipCount()).isEqualTo(10);
+        // 10초 동안 1000건 → 약 100건/초, 남은 2000건 → 약 20초
+        assertThat(progress.itemsPerSecond()).isBetween(80.0, 101.0);
+        assertThat(progress.etaSeconds()).isBetween(19L, 25L);
+        assertThat(progress.steps()).extracting(StepProgress::stepName).containsExactly("loadStep", "exportStep");
+    }
+
+    @Test
+    void keepsFinishedJobOnlyForRetention() {
+        JobProgressRegistry registry = new JobProgressRegistry(Duration.ZERO);
+        JobExecution jobExecution = jobExecution(2L);
+        registry.jobStarted(jobExecution);
+        long version = registry.version();
+
+        jobExecution.setStatus(BatchStatus.COMPLETED);
+        jobExecution.setEndTime(LocalDateTime.now());
+        registry.jobFinished(jobExecution);
+
+        assertThat(registry.version()).isGreaterThan(version);
+        assertThat(registry.snapshot()).isEmpty();
+    }
+
+    @Test
+    void tracksWorkerStepsOfJobsStartedElsewhere() {
+        JobProgressRegistry registry = new JobProgressRegistry(Duration.ofMinutes(1));
+        JobExecution jobExecution = jobExecution(3L);
+
+        StepExecution worker = step(jobExecution, 30L, "workerStep:partition0", 1);
+        registry.stepUpdated(worker);
+
+        assertThat(registry.find(3L)).get().extracting(JobProgress::currentStep).isEqualTo("workerStep:partition0");
+    }
+
+    private static JobExecution jobExecution(long id) {
+        JobExecution jobExecution = new JobExecution(new JobInstance(id, "progressJob"), id, new JobParameters());
+        jobExecution.setStatus(BatchStatus.STARTED);
+        jobExecution.setStartTime(LocalDateTime.now().minusMinutes(1));
+        return jobExecution;
+    }
+
+    private static StepExecution step(JobExecution jobExecution, long id, String name, int startedSecondsAgo) {
+        StepExecution stepExecution = jobExecution.createStepExecution(name);
+        stepExecution.setId(id);
+        stepExecution.setStatus(BatchStatus.STARTED);
+        stepExecution.setStartTime(LocalDateTime.now().minusSeconds(startedSecondsAgo));
+        return stepExecution;
+    }
+}
@@ -0,0 +1,293 @@
+package com.kjung.batchtemplate.core.remote;
+
+import com.kjung.batchtemplate.core.property.BatchRemoteProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.explore.support.JobExplorerFactoryBean;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.support.JobRepositoryFactoryBean;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+import org.springframework.batch.item.support.ListItemReader;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 메시지 브로커를 통해 파티션/chunk가 worker consumer에서 처리되고 결과가 manager Step에 집계되는지 검증합니다.
+ */
+class RemoteStepTest {
+
+    private EmbeddedDatabase dataSource;
+
+    private JdbcTransactionManager transactionManager;
+
+    private JobRepository jobRepository;
+
+    private JobExplorer jobExplorer;
+
+    private TaskExecutorJobLauncher jobLauncher;
+
+    private final InMemoryMessageBroker broker = new InMemoryMessageBroker();
+
+    private final StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+
+    private final BatchRemoteProperties properties = new BatchRemoteProperties();
+
+    private RemoteWorkerRegistry workerRegistry;
+
+    private RemoteStepFactory remoteStepFactory;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("org/springframework/batch/core/schema-h2.sql")
+                .build();
+        transactionManager = new JdbcTransactionManager(dataSource);
+
+        JobRepositoryFactoryBean jobRepositoryFactory = new JobRepositoryFactoryBean();
+        jobRepositoryFactory.setDataSource(dataSource);
+        jobRepositoryFactory.setTransactionManager(transactionManager);
+        jobRepositoryFactory.afterPropertiesSet();
+        jobRepository = jobRepositoryFactory.getObject();
+
+        JobExplorerFactoryBean jobExplorerFactory = new JobExplorerFactoryBean();
+        jobExplorerFactory.setDataSource(dataSource);
+        jobExplorerFactory.setTransactionManager(transactionManager);
+        jobExplorerFactory.afterPropertiesSet();
+        jobExplorer = jobExplorerFactory.getObject();
+
+        jobLauncher = new TaskExecutorJobLauncher();
+        jobLauncher.setJobRepository(jobRepository);
+        jobLauncher.afterPropertiesSet();
+
+        properties.getWorker().setEnabled(true);
+        properties.getWorker().setConcurrency(3);
+        properties.setMaxInFlightChunks(2);
+        remoteStepFactory = new RemoteStepFactory(broker, jobExplorer, jobRepository, properties);
+        workerRegistry = new RemoteWorkerRegistry(broker, jobExplorer, properties, beanFactory);
+    }
+
+    @AfterEach
+    void tearDown() {
+        workerRegistry.stop();
+        broker.destroy();
+        dataSource.shutdown();
+    }
+
+    @Test
+    void remotePartitionsAreExecutedByWorkerConsumers() throws Exception {
+        Map<Integer, String> executedBy = new ConcurrentHashMap<>();
+
+        Step workerStep = new StepBuilder("workerStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    int partition = chunkContext.getStepContext().getStepExecution().getExecutionContext().getInt("partition");
+                    executedBy.put(partition, Thread.currentThread().getName());
+                    return RepeatStatus.FINISHED;
+                }, transactionManager)
+                .build();
+        beanFactory.addBean("workerStep", workerStep);
+        workerRegistry.start();
+
+        Partitioner partitioner = gridSize -> {
+            Map<String, ExecutionContext> partitions = new HashMap<>();
+            for (int i = 0; i < gridSize; i++) {
+                ExecutionContext context = new ExecutionContext();
+                context.putInt("partition", i);
+                partitions.put("partition" + i, context);
+            }
+            return partitions;
+        };
+
+        Step managerStep = new StepBuilder("managerStep", jobRepository)
+                .partitioner("workerStep", partitioner)
+                .partitionHandler(remoteStepFactory.partitionHandler("workerStep", 6))
+                .build();
+        Job job = new JobBuilder("remotePartitionJob", jobRepository).start(managerStep).build();
+
+        JobExecution execution = jobLauncher.run(job, new JobParametersBuilder().toJobParameters());
+
+        assertThat(execution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(executedBy).containsOnlyKeys(0, 1, 2, 3, 4, 5);
+        assertThat(executedBy.values()).allMatch(name -> name.startsWith("broker-" + RemotePartitionHandler.DESTINATION));
+        assertThat(execution.getStepExecutions())
+                .filteredOn(stepExecution -> stepExecution.getStepName().startsWith("workerStep:"))
+                .hasSize(6)
+                .allMatch(stepExecution -> stepExecution.getStatus() == BatchStatus.COMPLETED);
+    }
+
+    @Test
+    void timedOutPartitionsAreMarkedFailed() throws Exception {
+        // worker를 시작하지 않아 파티션 요청이 응답 없이 대기한다.
+        beanFactory.addBean("idleWorkerStep", new StepBuilder("idleWorkerStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> RepeatStatus.FINISHED, transactionManager)
+                .build());
+        properties.setTimeout(Duration.ofMillis(200));
+
+        Partitioner partitioner = gridSize -> {
+            Map<String, ExecutionContext> partitions = new HashMap<>();
+            for (int i = 0; i < gridSize; i++) {
+                partitions.put("partition" + i, new ExecutionContext());
+            }
+            return partitions;
+        };
+
+        Step managerStep = new StepBuilder("timeoutManagerStep", jobRepository)
+                .partitioner("idleWorkerStep", partitioner)
+                .partitionHandler(remoteStepFactory.partitionHandler("idleWorkerStep", 3))
+                .build();
+        Job job = new JobBuilder("remotePartitionTimeoutJob", jobRepository).start(managerStep).build();
+
+        JobExecution execution = jobLauncher.run(job, new JobParametersBuilder().toJobParameters());
+
+        assertThat(execution.getStatus()).isEqualTo(BatchStatus.FAILED);
+        assertThat(jobExplorer.getJobExecution(execution.getId()).getStepExecutions())
+                .filteredOn(stepExecution -> stepExecution.getStepName().startsWith("idleWorkerStep:"))
+                .hasSize(3)
+                .allMatch(stepExecution -> stepExecution.getStatus() == BatchStatus.FAILED
+                        && stepExecution.getEndTime() != null);
+    }
+
+    @Test
+    void remoteChunksAreProcessedByWorkerConsumers() throws Exception {
+        Set<Integer> written = ConcurrentHashMap.newKeySet();
+
+        RemoteChunkWorker<Integer, Integer> worker = new RemoteChunkWorker<>("remoteChunkStep",
+                item -> item % 10 == 0 ? null : item,
+                chunk -> written.addAll(chunk.getItems()),
+                transactionManager);
+        beanFactory.addBean("remoteChunkWorker", worker);
+        workerRegistry.start();
+
+        List<Integer> items = IntStream.rangeClosed(1, 100).boxed().toList();
+        RemoteChunkWriter<Integer> writer = remoteStepFactory.chunkWriter("remoteChunkStep");
+        Step managerStep = new StepBuilder("remoteChunkStep", jobRepository)
+                .<Integer, Integer>chunk(7, transactionManager)
+                .reader(new ListItemReader<>(items))
+                .writer(writer)
+                .listener(writer)
+                .build();
+        Job job = new JobBuilder("remoteChunkJob", jobRepository).start(managerStep).build();
+
+        JobExecution execution = jobLauncher.run(job, new JobParametersBuilder().toJobParameters());
+
+        StepExecution stepExecution = execution.getStepExecutions().iterator().next();
+        assertThat(execution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(written).hasSize(90).doesNotContain(10, 20, 100);
+        assertThat(stepExecution.getReadCount()).isEqualTo(100);
+        assertThat(stepExecution.getWriteCount()).isEqualTo(90);
+        assertThat(stepExecution.getFilterCount()).isEqualTo(10);
+    }
+
+    @Test
+    void failedRemoteChunkFailsManagerStep() throws Exception {
+        RemoteChunkWorker<Integer, Integer> worker = new RemoteChunkWorker<>("failingChunkStep",
+                null,
+                chunk -> {
+                    if (chunk.getItems().contains(42)) throw new IllegalArgumentException("boom");
+                },
+                transactionManager);
+        beanFactory.addBean("failingChunkWorker", worker);
+        workerRegistry.start();
+
+        RemoteChunkWriter<Integer> writer = remoteStepFactory.chunkWriter("failingChunkStep");
+        Step managerStep = new StepBuilder("failingChunkStep", jobRepository)
+                .<Integer, Integer>chunk(10, transactionManager)
+                .reader(new ListItemReader<>(IntStream.rangeClosed(1, 100).boxed().toList()))
+                .writer(writer)
+                .listener(writer)
+                .build();
+        Job job = new JobBuilder("failingChunkJob", jobRepository).start(managerStep).build();
+
+        JobExecution execution = jobLauncher.run(job, new JobParametersBuilder().toJobParameters());
+
+        assertThat(execution.getStatus()).isEqualTo(BatchStatus.FAILED);
+    }
+
+    @Test
+    void failedRemoteChunkIsReadAgainOnRestart() throws Exception {
+        Set<Integer> written = ConcurrentHashMap.newKeySet();
+        AtomicBoolean failOnce = new AtomicBoolean(true);
+
+        RemoteChunkWorker<Integer, Integer> worker = new RemoteChunkWorker<>("restartChunkStep",
+                null,
+                chunk -> {
+                    if (chunk.getItems().contains(42) && failOnce.getAndSet(false)) throw new IllegalArgumentException("boom");
+                    written.addAll(chunk.getItems());
+                },
+                transactionManager);
+        beanFactory.addBean("restartChunkWorker", worker);
+        workerRegistry.start();
+
+        List<Integer> items = IntStream.rangeClosed(1, 100).boxed().toList();
+        RemoteChunkWriter<Integer> writer = remoteStepFactory.chunkWriter("restartChunkStep");
+        Step managerStep = new StepBuilder("restartChunkStep", jobRepository)
+                .<Integer, Integer>chunk(10, transactionManager)
+                .reader(restartableReader(items))
+                .writer(writer)
+                .listener(writer)
+                .build();
+        Job job = new JobBuilder("restartChunkJob", jobRepository).start(managerStep).build();
+
+        JobExecution failed = jobLauncher.run(job, new JobParametersBuilder().toJobParameters());
+
+        // 실패한 chunk(41~50)는 커밋되지 않아 reader 상태도 40에 머문다.
+        assertThat(failed.getStatus()).isEqualTo(BatchStatus.FAILED);
+        assertThat(failed.getStepExecutions().iterator().next().getWriteCount()).isEqualTo(40);
+
+        JobExecution restarted = jobLauncher.run(job, new JobParametersBuilder().toJobParameters());
+
+        assertThat(restarted.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(restarted.getStepExecutions().iterator().next().getReadCount()).isEqualTo(60);
+        assertThat(written).containsExactlyInAnyOrderElementsOf(items);
+    }
+
+    private static ItemStreamReader<Integer> restartableReader(List<Integer> items) {
+        AbstractItemCountingItemStreamItemReader<Integer> reader = new AbstractItemCountingItemStreamItemReader<>() {
+            @Override
+            protected Integer doRead() {
+                int index = getCurrentItemCount() - 1;
+                return index < items.size() ? items.get(index) : null;
+            }
+
+            @Override
+            protected void doOpen() {
+            }
+
+            @Override
+            protected void doClose() {
+            }
+        };
+        reader.setName("restartableReader");
+        return reader;
+    }
+}
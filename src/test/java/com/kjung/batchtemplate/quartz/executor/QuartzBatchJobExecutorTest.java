@@ -0,0 +1,169 @@
+package com.kjung.batchtemplate.quartz.executor;
+
+import com.kjung.batchtemplate.core.batch.AsyncJobLauncher;
+import com.kjung.batchtemplate.core.batch.BatchJobRegistry;
+import com.kjung.batchtemplate.core.batch.BatchJobRunner;
+import com.kjung.batchtemplate.core.batch.JobConcurrencyLimiter;
+import com.kjung.batchtemplate.core.batch.JobLaunchThrottle;
+import com.kjung.batchtemplate.core.batch.param.JobIdentityResolver;
+import com.kjung.batchtemplate.core.batch.param.JobParametersFactory;
+import com.kjung.batchtemplate.core.property.BatchApiProperties;
+import com.kjung.batchtemplate.core.property.BatchClusterProperties;
+import com.kjung.batchtemplate.core.property.BatchLauncherProperties;
+import com.kjung.batchtemplate.core.property.BatchThreadProperties;
+import com.kjung.batchtemplate.core.thread.BatchTaskExecutorFactory;
+import com.kjung.batchtemplate.quartz.cluster.NodeLoadMonitor;
+import com.kjung.batchtemplate.quartz.registrar.QuartzBatchJobRegistrar;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.quartz.JobDataMap;
+import org.quartz.JobDetail;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.support.JobRepositoryFactoryBean;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+
+import java.util.Date;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 비동기 실행({@code batch.launcher.async.quartz-enabled=true})에서 노드 부하가 Batch Job 종료까지 유지되는지 검증합니다.
+ */
+class QuartzBatchJobExecutorTest {
+
+    private static final int WEIGHT = 3;
+
+    private final CountDownLatch started = new CountDownLatch(1);
+
+    private final CountDownLatch finish = new CountDownLatch(1);
+
+    private EmbeddedDatabase dataSource;
+
+    private AsyncJobLauncher asyncJobLauncher;
+
+    private NodeLoadMonitor nodeLoadMonitor;
+
+    private QuartzBatchJobExecutor executor;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("org/springframework/batch/core/schema-h2.sql")
+                .build();
+        JdbcTransactionManager transactionManager = new JdbcTransactionManager(dataSource);
+
+        JobRepositoryFactoryBean jobRepositoryFactory = new JobRepositoryFactoryBean();
+        jobRepositoryFactory.setDataSource(dataSource);
+        jobRepositoryFactory.setTransactionManager(transactionManager);
+        jobRepositoryFactory.afterPropertiesSet();
+        JobRepository jobRepository = jobRepositoryFactory.getObject();
+
+        // Job이 종료 신호를 받을 때까지 실행 중 상태로 남는다.
+        Job job = new JobBuilder("testJob", jobRepository)
+                .start(new StepBuilder("blockingStep", jobRepository)
+                        .tasklet((contribution, chunkContext) -> {
+                            started.countDown();
+                            finish.await(10, TimeUnit.SECONDS);
+                            return RepeatStatus.FINISHED;
+                        }, transactionManager)
+                        .build())
+                .build();
+
+        BatchLauncherProperties launcherProperties = new BatchLauncherProperties();
+        launcherProperties.getAsync().setQuartzEnabled(true);
+
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("testJob", job);
+
+        TaskExecutorJobLauncher jobLauncher = new TaskExecutorJobLauncher();
+        jobLauncher.setJobRepository(jobRepository);
+        jobLauncher.afterPropertiesSet();
+
+        asyncJobLauncher = new AsyncJobLauncher(jobRepository, launcherProperties,
+                new BatchTaskExecutorFactory(new BatchThreadProperties()));
+        asyncJobLauncher.afterPropertiesSet();
+
+        StaticApplicationContext applicationContext = new StaticApplicationContext();
+        applicationContext.refresh();
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BatchJobRunner batchJobRunner = new BatchJobRunner(applicationContext,
+                new BatchJobRegistry(beanFactory, launcherProperties),
+                jobLauncher,
+                asyncJobLauncher,
+                new JobConcurrencyLimiter(launcherProperties),
+                new JobParametersFactory(),
+                new JobIdentityResolver(launcherProperties, null),
+                new JobLaunchThrottle(new BatchApiProperties(), meterRegistry));
+
+        nodeLoadMonitor = new NodeLoadMonitor(new BatchClusterProperties(), meterRegistry);
+        executor = new QuartzBatchJobExecutor(batchJobRunner, launcherProperties, nodeLoadMonitor);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        finish.countDown();
+        asyncJobLauncher.destroy();
+        dataSource.shutdown();
+    }
+
+    @Test
+    void asyncLaunchHoldsNodeLoadUntilJobCompletes() throws Exception {
+        executor.execute(context());
+
+        // Quartz 실행은 반환되었지만 Batch Job은 실행 중
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(nodeLoadMonitor.getCurrentLoad()).isEqualTo(WEIGHT);
+
+        finish.countDown();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (nodeLoadMonitor.getCurrentLoad() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(nodeLoadMonitor.getCurrentLoad()).isZero();
+    }
+
+    @Test
+    void failedLaunchReleasesNodeLoad() {
+        JobExecutionContext context = context();
+        context.getMergedJobDataMap().put(QuartzBatchJobRegistrar.JOB_NAME, "unknownJob");
+
+        // 등록되지 않은 Job은 실행 전에 거부된다.
+        assertThatThrownBy(() -> executor.execute(context)).isInstanceOf(JobExecutionException.class);
+        assertThat(nodeLoadMonitor.getCurrentLoad()).isZero();
+    }
+
+    private static JobExecutionContext context() {
+        JobDataMap jobDataMap = new JobDataMap();
+        jobDataMap.put(QuartzBatchJobRegistrar.JOB_NAME, "testJob");
+        jobDataMap.put(QuartzBatchJobRegistrar.JOB_WEIGHT, WEIGHT);
+
+        JobExecutionContext context = mock(JobExecutionContext.class);
+        when(context.getMergedJobDataMap()).thenReturn(jobDataMap);
+        when(context.getScheduledFireTime()).thenReturn(new Date());
+        when(context.getJobDetail()).thenReturn(mock(JobDetail.class)); // 동시 실행 허용 (overlap: allow)
+        return context;
+    }
+}
@@ -0,0 +1,114 @@
+package com.kjung.batchtemplate.quartz.listener;
+
+import com.kjung.batchtemplate.core.batch.JobConcurrencyLimiter;
+import com.kjung.batchtemplate.core.property.QuartzJobProperties;
+import com.kjung.batchtemplate.quartz.registrar.QuartzBatchJobRegistrar;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.quartz.CronScheduleBuilder;
+import org.quartz.Job;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.JobExecutionContext;
+import org.quartz.TriggerBuilder;
+import org.quartz.spi.OperableTrigger;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * overlap: skip 거부 조건과 misfire 지표 기록을 검증합니다.
+ */
+class QuartzJobPolicyListenerTest {
+
+    private final JobExplorer jobExplorer = mock(JobExplorer.class);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final JobConcurrencyLimiter concurrencyLimiter = mock(JobConcurrencyLimiter.class);
+
+    private final QuartzJobPolicyListener listener =
+            new QuartzJobPolicyListener(jobExplorer, concurrencyLimiter, new QuartzJobProperties(), meterRegistry);
+
+    @Test
+    void skipPolicyVetoesWhenRunningExecutionsReachLimit() {
+        JobExecutionContext context = context("SKIP", 2);
+
+        when(jobExplorer.findRunningJobExecutions("testJob")).thenReturn(Set.of(execution(1L, 0)));
+        assertThat(listener.vetoJobExecution(null, context)).isFalse();
+
+        when(jobExplorer.findRunningJobExecutions("testJob")).thenReturn(Set.of(execution(1L, 0), execution(2L, 0)));
+        assertThat(listener.vetoJobExecution(null, context)).isTrue();
+
+        assertThat(meterRegistry.get("batch.quartz.job.skipped").tag("reason", "overlap").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void staleExecutionsAreCountedAsOrphans() {
+        JobExecutionContext context = context("SKIP", 1);
+
+        // 기본 기준(1시간)보다 오래 갱신되지 않은 실행은 실행 중으로 보지 않는다.
+        when(jobExplorer.findRunningJobExecutions("testJob")).thenReturn(Set.of(execution(1L, 120)));
+        assertThat(listener.vetoJobExecution(null, context)).isFalse();
+        assertThat(meterRegistry.get("batch.quartz.job.orphaned").tag("job", "testJob").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    void queuedLaunchesOnThisNodeAreCounted() {
+        JobExecutionContext context = context("SKIP", 1);
+
+        // 비동기 대기열에 있어 아직 JobExecution이 없는 실행
+        when(jobExplorer.findRunningJobExecutions("testJob")).thenReturn(Set.of());
+        when(concurrencyLimiter.inFlight("testJob")).thenReturn(1);
+        assertThat(listener.vetoJobExecution(null, context)).isTrue();
+    }
+
+    @Test
+    void allowPolicyNeverVetoes() {
+        assertThat(listener.vetoJobExecution(null, context("ALLOW", 1))).isFalse();
+    }
+
+    @Test
+    void coalescedMisfiresAreCounted() {
+        OperableTrigger trigger = (OperableTrigger) TriggerBuilder.newTrigger()
+                .withIdentity("testJob_trigger")
+                .forJob("testJob", QuartzBatchJobRegistrar.BATCH_GROUP)
+                .withSchedule(CronScheduleBuilder.cronSchedule("0/10 * * * * ?").withMisfireHandlingInstructionFireAndProceed())
+                .build();
+        // 현재 시각 이전의 10초 단위 실행 시각 3회를 놓친 상태
+        Date missedSince = new Date(((System.currentTimeMillis() - 1) / 10_000) * 10_000 - 20_000);
+        trigger.setNextFireTime(missedSince);
+
+        listener.triggerMisfired(trigger);
+
+        assertThat(meterRegistry.get("batch.quartz.job.misfires").tag("policy", "fire-once-now").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("batch.quartz.job.skipped").tag("reason", "coalesced").counter().count()).isEqualTo(2);
+    }
+
+    private static JobExecution execution(long id, int minutesSinceUpdate) {
+        JobExecution execution = new JobExecution(id);
+        execution.setLastUpdated(LocalDateTime.now().minusMinutes(minutesSinceUpdate));
+        return execution;
+    }
+
+    private static JobExecutionContext context(String overlap, int maxConcurrent) {
+        JobDetail jobDetail = JobBuilder.newJob(Job.class)
+                .withIdentity("testJob", QuartzBatchJobRegistrar.BATCH_GROUP)
+                .usingJobData(QuartzBatchJobRegistrar.JOB_NAME, "testJob")
+                .usingJobData(QuartzBatchJobRegistrar.OVERLAP_POLICY, overlap)
+                .usingJobData(QuartzBatchJobRegistrar.MAX_CONCURRENT, maxConcurrent)
+                .build();
+
+        JobExecutionContext context = mock(JobExecutionContext.class);
+        when(context.getJobDetail()).thenReturn(jobDetail);
+        when(context.getScheduledFireTime()).thenReturn(new Date());
+        return context;
+    }
+}
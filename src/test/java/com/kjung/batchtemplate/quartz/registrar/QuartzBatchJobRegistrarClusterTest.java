@@ -0,0 +1,308 @@
+package com.kjung.batchtemplate.quartz.registrar;
+
+import com.kjung.batchtemplate.core.batch.BatchJobRegistry;
+import com.kjung.batchtemplate.core.property.BatchLauncherProperties;
+import com.kjung.batchtemplate.core.property.QuartzJobProperties;
+import com.kjung.batchtemplate.quartz.listener.QuartzJobMonitoringListener;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.quartz.CronTrigger;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.TriggerKey;
+import org.quartz.impl.matchers.GroupMatcher;
+import org.springframework.batch.core.Job;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.scheduling.quartz.SchedulerFactoryBean;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 같은 JDBC JobStore를 공유하는 두 스케줄러 노드가 동시에 Job을 등록해도 결과가 하나로 수렴하는지 검증합니다.
+ */
+class QuartzBatchJobRegistrarClusterTest {
+
+    private static final JobKey TEST_JOB_KEY = new JobKey("testJob", QuartzBatchJobRegistrar.BATCH_GROUP);
+
+    private static final List<String> BATCH_JOBS = List.of("testJob", "disabledJob", "newJob", "downstreamJob", "jobA", "jobB");
+
+    private DataSource dataSource;
+
+    private final List<SchedulerFactoryBean> nodes = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:quartz-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("org/quartz/impl/jdbcjobstore/tables_h2.sql"))
+                .execute(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (SchedulerFactoryBean node : nodes) {
+            node.destroy();
+        }
+    }
+
+    @Test
+    void concurrentRegistrationFromMultipleNodesConvergesToSingleJob() throws Exception {
+        Scheduler node1 = createNode("node1");
+        Scheduler node2 = createNode("node2");
+        QuartzJobProperties properties = properties(
+                job("testJob", "0/10 * * * * ?", true),
+                job("disabledJob", "0 0 * * * ?", false));
+
+        CompletableFuture.allOf(
+                CompletableFuture.runAsync(() -> registrar(node1, properties).init()),
+                CompletableFuture.runAsync(() -> registrar(node2, properties).init())
+        ).get(30, TimeUnit.SECONDS);
+
+        assertSingleJob(node1);
+        assertSingleJob(node2);
+
+        // 노드 재기동으로 등록이 반복되어도 결과는 같아야 한다.
+        registrar(node2, properties).init();
+
+        assertSingleJob(node1);
+    }
+
+    @Test
+    void unregisteredJobIsRemovedForAllNodes() throws Exception {
+        Scheduler node1 = createNode("node1");
+        Scheduler node2 = createNode("node2");
+
+        registrar(node1, properties(job("testJob", "0/10 * * * * ?", true))).init();
+        assertSingleJob(node2);
+
+        registrar(node2, properties(job("testJob", "0/10 * * * * ?", false))).init();
+
+        assertThat(node1.checkExists(TEST_JOB_KEY)).isFalse();
+    }
+
+    @Test
+    void onlyChangedJobsAreRescheduled() throws Exception {
+        Scheduler node1 = createNode("node1");
+        TriggerKey triggerKey = new TriggerKey("testJob_trigger", QuartzBatchJobRegistrar.TRIGGER_GROUP);
+
+        registrar(node1, properties(job("testJob", "0/10 * * * * ?", true))).init();
+        Date startTime = node1.getTrigger(triggerKey).getStartTime();
+
+        // 설정이 같으면 Trigger를 교체하지 않아 상태가 유지된다.
+        Thread.sleep(10);
+        registrar(node1, properties(job("testJob", "0/10 * * * * ?", true))).init();
+        assertThat(node1.getTrigger(triggerKey).getStartTime()).isEqualTo(startTime);
+
+        // cron이 바뀌면 교체된다.
+        registrar(node1, properties(job("testJob", "0/30 * * * * ?", true))).init();
+        assertThat(((CronTrigger) node1.getTrigger(triggerKey)).getCronExpression()).isEqualTo("0/30 * * * * ?");
+    }
+
+    @Test
+    void configHashesAreStoredTogether() throws Exception {
+        Scheduler node1 = createNode("node1");
+
+        registrar(node1, properties(job("testJob", "0/10 * * * * ?", true), job("newJob", "0 0 * * * ?", true))).init();
+        assertThat(node1.getJobDetail(QuartzBatchJobRegistrar.CONFIG_HASHES_KEY).getJobDataMap().keySet())
+                .containsExactlyInAnyOrder("testJob", "newJob");
+
+        // 변경 없는 Job은 그대로 두고, 삭제된 Job의 해시는 함께 제거된다.
+        ScheduleSyncResult result = registrar(node1, properties(job("testJob", "0/10 * * * * ?", true)))
+                .reload(List.of(job("testJob", "0/10 * * * * ?", true)));
+        assertThat(result.unchanged()).isEqualTo(1);
+        assertThat(result.removed()).containsExactly("newJob");
+        assertThat(node1.getJobDetail(QuartzBatchJobRegistrar.CONFIG_HASHES_KEY).getJobDataMap().keySet())
+                .containsExactly("testJob");
+        assertSingleJob(node1);
+    }
+
+    @Test
+    void initFailsFastForUnknownBatchJob() throws Exception {
+        Scheduler node1 = createNode("node1");
+        QuartzBatchJobRegistrar registrar = registrar(node1,
+                properties(job("testJob", "0/10 * * * * ?", true), job("typoJob", "0 0 * * * ?", true)));
+
+        assertThatThrownBy(registrar::init)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("typoJob");
+
+        assertThat(node1.getJobKeys(GroupMatcher.jobGroupEquals(QuartzBatchJobRegistrar.BATCH_GROUP))).isEmpty();
+    }
+
+    @Test
+    void reloadWithUnknownBatchJobKeepsCurrentSchedule() throws Exception {
+        Scheduler node1 = createNode("node1");
+        QuartzBatchJobRegistrar registrar = registrar(node1, properties(job("testJob", "0/10 * * * * ?", true)));
+        registrar.init();
+
+        assertThatThrownBy(() -> registrar.reload(List.of(job("testJob", "0/10 * * * * ?", true), job("typoJob", "0 0 * * * ?", true))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("typoJob: no such batch job");
+
+        assertSingleJob(node1);
+    }
+
+    @Test
+    void reloadWithInvalidCronKeepsCurrentSchedule() throws Exception {
+        Scheduler node1 = createNode("node1");
+        QuartzJobProperties properties = properties(job("testJob", "0/10 * * * * ?", true));
+        QuartzBatchJobRegistrar registrar = registrar(node1, properties);
+        registrar.init();
+
+        List<QuartzJobProperties.JobDetailProperties> invalid = List.of(
+                job("testJob", "0/30 * * * * ?", true),
+                job("newJob", "not-a-cron", true));
+
+        assertThatThrownBy(() -> registrar.reload(invalid)).isInstanceOf(IllegalArgumentException.class);
+
+        assertSingleJob(node1);
+        assertThat(properties.getJobs()).extracting(QuartzJobProperties.JobDetailProperties::getCron)
+                .containsExactly("0/10 * * * * ?");
+
+        ScheduleSyncResult result = registrar.reload(List.of(job("testJob", "0/30 * * * * ?", true)));
+
+        assertThat(result.scheduled()).containsExactly("testJob");
+        assertThat(properties.getJobs()).extracting(QuartzJobProperties.JobDetailProperties::getCron)
+                .containsExactly("0/30 * * * * ?");
+    }
+
+    @Test
+    void dependentJobIsStoredDurablyWithoutTrigger() throws Exception {
+        Scheduler node1 = createNode("node1");
+        JobKey downstreamKey = new JobKey("downstreamJob", QuartzBatchJobRegistrar.BATCH_GROUP);
+
+        QuartzJobProperties.JobDetailProperties downstream = job("downstreamJob", "0/10 * * * * ?", true);
+        registrar(node1, properties(job("testJob", "0/10 * * * * ?", true), downstream)).init();
+        assertThat(node1.getTriggersOfJob(downstreamKey)).hasSize(1);
+
+        // cron Job이 후행 Job으로 바뀌면 Trigger를 제거하고 durable Job으로 남긴다.
+        downstream.setCron(null);
+        downstream.setDependsOn(List.of("testJob"));
+        ScheduleSyncResult result = registrar(node1, properties(job("testJob", "0/10 * * * * ?", true), downstream))
+                .reload(List.of(job("testJob", "0/10 * * * * ?", true), downstream));
+
+        assertThat(result.scheduled()).containsExactly("downstreamJob");
+        assertThat(node1.getJobDetail(downstreamKey).isDurable()).isTrue();
+        assertThat(node1.getTriggersOfJob(downstreamKey)).isEmpty();
+        assertThat(node1.getTriggersOfJob(TEST_JOB_KEY)).hasSize(1);
+    }
+
+    @Test
+    void schedulingPoliciesAreAppliedToJobAndTrigger() throws Exception {
+        Scheduler node1 = createNode("node1");
+        TriggerKey triggerKey = new TriggerKey("testJob_trigger", QuartzBatchJobRegistrar.TRIGGER_GROUP);
+
+        QuartzJobProperties.JobDetailProperties job = job("testJob", "0/10 * * * * ?", true);
+        job.setMisfirePolicy(QuartzJobProperties.MisfirePolicy.DO_NOTHING);
+        job.setOverlap(QuartzJobProperties.OverlapPolicy.QUEUE);
+        job.setPriority(8);
+        registrar(node1, properties(job)).init();
+
+        assertThat(node1.getJobDetail(TEST_JOB_KEY).isConcurrentExectionDisallowed()).isTrue();
+        assertThat(node1.getTrigger(triggerKey).getMisfireInstruction()).isEqualTo(CronTrigger.MISFIRE_INSTRUCTION_DO_NOTHING);
+        assertThat(node1.getTrigger(triggerKey).getPriority()).isEqualTo(8);
+
+        // queue는 한 번에 하나만 실행하므로 max-concurrent > 1은 거부된다.
+        job.setMaxConcurrent(2);
+        assertThatThrownBy(() -> registrar(node1, properties(job)).reload(List.of(job)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        job.setOverlap(QuartzJobProperties.OverlapPolicy.SKIP);
+        registrar(node1, properties(job)).reload(List.of(job));
+
+        assertThat(node1.getJobDetail(TEST_JOB_KEY).isConcurrentExectionDisallowed()).isFalse();
+        assertThat(node1.getJobDetail(TEST_JOB_KEY).getJobDataMap().getInt(QuartzBatchJobRegistrar.MAX_CONCURRENT)).isEqualTo(2);
+    }
+
+    @Test
+    void reloadWithDependencyCycleIsRejected() throws Exception {
+        Scheduler node1 = createNode("node1");
+        QuartzBatchJobRegistrar registrar = registrar(node1, properties(job("testJob", "0/10 * * * * ?", true)));
+        registrar.init();
+
+        QuartzJobProperties.JobDetailProperties jobA = job("jobA", null, true);
+        jobA.setDependsOn(List.of("jobB"));
+        QuartzJobProperties.JobDetailProperties jobB = job("jobB", null, true);
+        jobB.setDependsOn(List.of("jobA"));
+
+        assertThatThrownBy(() -> registrar.reload(List.of(job("testJob", "0/10 * * * * ?", true), jobA, jobB)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("cycle");
+
+        assertSingleJob(node1);
+    }
+
+    private void assertSingleJob(Scheduler scheduler) throws Exception {
+        assertThat(scheduler.getJobKeys(GroupMatcher.jobGroupEquals(QuartzBatchJobRegistrar.BATCH_GROUP)))
+                .containsExactly(TEST_JOB_KEY);
+        assertThat(scheduler.getTriggersOfJob(TEST_JOB_KEY)).hasSize(1);
+    }
+
+    private Scheduler createNode(String instanceId) throws Exception {
+        Properties quartzProperties = new Properties();
+        quartzProperties.put("org.quartz.scheduler.instanceId", instanceId);
+        quartzProperties.put("org.quartz.jobStore.isClustered", "true");
+        quartzProperties.put("org.quartz.jobStore.clusterCheckinInterval", "1000");
+        quartzProperties.put("org.quartz.jobStore.driverDelegateClass", "org.quartz.impl.jdbcjobstore.StdJDBCDelegate");
+        quartzProperties.put("org.quartz.threadPool.threadCount", "1");
+
+        SchedulerFactoryBean factory = new SchedulerFactoryBean();
+        factory.setSchedulerName("ClusterTestScheduler");
+        factory.setBeanName(instanceId);
+        factory.setDataSource(dataSource);
+        factory.setTransactionManager(new DataSourceTransactionManager(dataSource));
+        factory.setQuartzProperties(quartzProperties);
+        factory.setExposeSchedulerInRepository(false);
+        factory.setAutoStartup(false);
+        factory.afterPropertiesSet();
+        nodes.add(factory);
+
+        return factory.getScheduler();
+    }
+
+    private QuartzBatchJobRegistrar registrar(Scheduler scheduler, QuartzJobProperties properties) {
+        return new QuartzBatchJobRegistrar(scheduler, properties,
+                new QuartzJobMonitoringListener(new SimpleMeterRegistry()),
+                new DataSourceTransactionManager(dataSource),
+                jobRegistry());
+    }
+
+    private static BatchJobRegistry jobRegistry() {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        BATCH_JOBS.forEach(name -> beanFactory.addBean(name, mock(Job.class)));
+        return new BatchJobRegistry(beanFactory, new BatchLauncherProperties());
+    }
+
+    private static QuartzJobProperties properties(QuartzJobProperties.JobDetailProperties... jobs) {
+        QuartzJobProperties properties = new QuartzJobProperties();
+        properties.setJobs(List.of(jobs));
+        return properties;
+    }
+
+    private static QuartzJobProperties.JobDetailProperties job(String name, String cron, boolean registered) {
+        QuartzJobProperties.JobDetailProperties job = new QuartzJobProperties.JobDetailProperties();
+        job.setName(name);
+        job.setCron(cron);
+        job.setRegistered(registered);
+        job.setParams(Map.of("requestDate", "2025-01-01"));
+        return job;
+    }
+}
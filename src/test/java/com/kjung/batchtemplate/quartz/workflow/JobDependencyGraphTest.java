@@ -0,0 +1,76 @@
+package com.kjung.batchtemplate.quartz.workflow;
+
+import com.kjung.batchtemplate.core.property.QuartzJobProperties.JobDetailProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@code depends-on} 그래프의 선행/후행 관계 계산과 설정 검증을 확인합니다.
+ */
+class JobDependencyGraphTest {
+
+    @Test
+    void diamondDependenciesFormOneComponent() {
+        List<JobDetailProperties> jobs = List.of(
+                job("extract", "0 0 1 * * ?"),
+                job("transformA", null, "extract"),
+                job("transformB", null, "extract"),
+                job("load", null, "transformA", "transformB"),
+                job("independent", "0 0 2 * * ?"));
+
+        JobDependencyGraph graph = JobDependencyGraph.of(jobs);
+
+        assertThat(JobDependencyGraph.validate(jobs)).isEmpty();
+        assertThat(graph.downstreams("extract")).containsExactly("transformA", "transformB");
+        assertThat(graph.upstreams("load")).containsExactly("transformA", "transformB");
+        assertThat(graph.component("load")).containsExactlyInAnyOrder("extract", "transformA", "transformB", "load");
+        assertThat(graph.isWorkflowJob("independent")).isFalse();
+    }
+
+    @Test
+    void cycleIsReported() {
+        List<JobDetailProperties> jobs = List.of(
+                job("root", "0 0 1 * * ?"),
+                job("a", null, "root", "c"),
+                job("b", null, "a"),
+                job("c", null, "b"));
+
+        assertThat(JobDependencyGraph.validate(jobs))
+                .singleElement()
+                .asString()
+                .contains("cycle")
+                .contains("a -> c -> b -> a");
+    }
+
+    @Test
+    void invalidDependencyConfigurationsAreReported() {
+        List<JobDetailProperties> jobs = List.of(
+                job("rootA", "0 0 1 * * ?"),
+                job("withCron", "0 0 3 * * ?", "rootA"),
+                job("unknownUpstream", null, "missing"));
+
+        assertThat(JobDependencyGraph.validate(jobs)).hasSize(2);
+
+        List<JobDetailProperties> mismatchedRoots = List.of(
+                job("rootA", "0 0 1 * * ?"),
+                job("rootB", "0 0 2 * * ?"),
+                job("join", null, "rootA", "rootB"));
+
+        assertThat(JobDependencyGraph.validate(mismatchedRoots))
+                .singleElement()
+                .asString()
+                .contains("must share one cron");
+    }
+
+    private static JobDetailProperties job(String name, String cron, String... dependsOn) {
+        JobDetailProperties job = new JobDetailProperties();
+        job.setName(name);
+        job.setCron(cron);
+        job.setRegistered(true);
+        job.setDependsOn(dependsOn.length == 0 ? null : List.of(dependsOn));
+        return job;
+    }
+}